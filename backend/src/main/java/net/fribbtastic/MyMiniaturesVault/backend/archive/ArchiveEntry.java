@@ -0,0 +1,74 @@
+package net.fribbtastic.MyMiniaturesVault.backend.archive;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.zip.ZipEntry;
+
+/**
+ * The location of a file inside a ZIP archive, enough to read the file without the central directory of the archive
+ *
+ * @author Frederic Eßer
+ */
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class ArchiveEntry {
+
+    /**
+     * the separator between the path of an archive and the name of an entry in the path of the entry
+     */
+    public static final String SEPARATOR = "!/";
+
+    /**
+     * the absolute path of the archive
+     */
+    @Column(name = "archive_path", length = 4096)
+    private String archivePath;
+
+    /**
+     * the compression method of the entry ({@link ZipEntry#STORED} or {@link ZipEntry#DEFLATED})
+     */
+    @Column(name = "entry_method")
+    private int method;
+
+    /**
+     * the size of the compressed data in the archive
+     */
+    @Column(name = "entry_compressed_size")
+    private long compressedSize;
+
+    /**
+     * the offset of the local header of the entry in the archive
+     */
+    @Column(name = "entry_offset")
+    private long headerOffset;
+
+    /**
+     * the CRC-32 of the uncompressed content
+     */
+    @Column(name = "entry_crc")
+    private long crc;
+
+    /**
+     * create the path of an entry, e.g. {@code /library/Creator/Bundle/archive.zip!/folder/model.stl}
+     *
+     * @param archive the absolute path of the archive
+     * @param name the name of the entry in the archive
+     * @return the path of the entry
+     */
+    public static String path(String archive, String name) {
+        return archive + SEPARATOR + name;
+    }
+
+    /**
+     * @return 'true' if the entry is stored without compression, its content is a range of the archive
+     */
+    public boolean isStored() {
+        return this.method == ZipEntry.STORED;
+    }
+}
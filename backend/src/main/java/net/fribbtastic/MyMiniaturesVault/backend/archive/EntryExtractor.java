@@ -0,0 +1,66 @@
+package net.fribbtastic.MyMiniaturesVault.backend.archive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Extracts entries of ZIP archives for readers that need a file ({@link ZipArchive#extracted}).
+ * <p>
+ * The entries are extracted into {@code <storage.path>/extracted} instead of the temporary folder of the system,
+ * which is often a small file system in memory. Files that were left behind by a crash are deleted on startup.
+ *
+ * @author Frederic Eßer
+ */
+@Component
+public class EntryExtractor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntryExtractor.class);
+
+    private final Path directory;
+
+    /**
+     * @param root the root folder of the vault
+     */
+    public EntryExtractor(@Value("${storage.path:vault}") Path root) throws IOException {
+        this.directory = root.toAbsolutePath().normalize().resolve("extracted");
+
+        this.deleteLeftovers();
+    }
+
+    /**
+     * delete the extracted files of the last run
+     */
+    private void deleteLeftovers() throws IOException {
+        if (!Files.isDirectory(this.directory)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path file : files.toList()) {
+                LOGGER.debug("delete the extracted file {}", file);
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * extract an entry for a reader, the extracted file is deleted when the reader returns
+     *
+     * @param entry the {@link ArchiveEntry}
+     * @param size the uncompressed size of the entry
+     * @param reader the {@link ZipArchive.EntryReader} of the extracted file
+     * @return the result of the reader
+     * @throws IOException when the entry can't be extracted or read
+     * @see ZipArchive#extracted(ArchiveEntry, long, Path, ZipArchive.EntryReader)
+     */
+    public <T> T extracted(ArchiveEntry entry, long size, ZipArchive.EntryReader<T> reader) throws IOException {
+        return ZipArchive.extracted(entry, size, this.directory, reader);
+    }
+}
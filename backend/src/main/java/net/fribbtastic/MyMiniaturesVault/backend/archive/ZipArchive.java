@@ -0,0 +1,414 @@
+package net.fribbtastic.MyMiniaturesVault.backend.archive;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * Reads ZIP archives in place, without extracting them.
+ * <p>
+ * The entries are listed from the central directory at the end of the archive, which is memory-mapped, so listing an
+ * archive reads a few kilobytes per thousand entries and never touches the compressed data. Single entries are read
+ * from their offset in the archive, stored entries are a plain range of the archive file.
+ * ZIP64 archives (more than 65535 entries or more than 4 GB) are supported, encrypted entries are skipped.
+ *
+ * @author Frederic Eßer
+ */
+public final class ZipArchive {
+
+    private static final int LOCAL_HEADER = 0x04034b50;
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int END_RECORD = 0x06054b50;
+    private static final int ZIP64_END_RECORD = 0x06064b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_RECORD_SIZE = 22;
+    private static final int ZIP64_END_RECORD_SIZE = 56;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+    private static final int ZIP64_EXTRA = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final int FLAG_ENCRYPTED = 1;
+
+    /**
+     * the size of the buffers an entry is read through
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ZipArchive() {
+    }
+
+    /**
+     * A file in a ZIP archive as listed by the central directory
+     *
+     * @param name the name of the entry, folders are separated by '/'
+     * @param method the compression method
+     * @param crc the CRC-32 of the uncompressed content
+     * @param compressedSize the size of the compressed data
+     * @param size the size of the uncompressed content
+     * @param headerOffset the offset of the local header in the archive
+     * @param lastModified the modification time in milliseconds since the epoch, '0' if it is not valid
+     */
+    public record Entry(String name, int method, long crc, long compressedSize, long size, long headerOffset, long lastModified) {
+
+        /**
+         * @param archive the absolute path of the archive
+         * @return the {@link ArchiveEntry} to read the entry later
+         */
+        public ArchiveEntry toArchiveEntry(String archive) {
+            return new ArchiveEntry(archive, this.method, this.compressedSize, this.headerOffset, this.crc);
+        }
+    }
+
+    /**
+     * list the files of an archive, folders and encrypted files are skipped
+     *
+     * @param archive the {@link Path} of the archive
+     * @return the {@link Entry}s in the order of the central directory
+     * @throws ZipException when the file is not a ZIP archive
+     * @throws IOException when the archive can't be read
+     */
+    public static List<Entry> readEntries(Path archive) throws IOException {
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            long[] directory = findCentralDirectory(channel);
+            long count = directory[0], size = directory[1], offset = directory[2];
+
+            if (size > Integer.MAX_VALUE || offset + size > channel.size()) {
+                throw new ZipException("the central directory of " + archive + " is not valid");
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            List<Entry> entries = new ArrayList<>((int) Math.min(count, 1 << 20));
+            byte[] name = new byte[256];
+
+            for (long i = 0; i < count; i++) {
+                int header = buffer.position();
+
+                if (buffer.remaining() < CENTRAL_HEADER_SIZE || buffer.getInt(header) != CENTRAL_HEADER) {
+                    throw new ZipException("the central directory of " + archive + " ends after " + i + " of " + count + " entries");
+                }
+
+                int flags = Short.toUnsignedInt(buffer.getShort(header + 8));
+                int method = Short.toUnsignedInt(buffer.getShort(header + 10));
+                int time = Short.toUnsignedInt(buffer.getShort(header + 12));
+                int date = Short.toUnsignedInt(buffer.getShort(header + 14));
+                long crc = Integer.toUnsignedLong(buffer.getInt(header + 16));
+                long compressedSize = Integer.toUnsignedLong(buffer.getInt(header + 20));
+                long uncompressedSize = Integer.toUnsignedLong(buffer.getInt(header + 24));
+                int nameLength = Short.toUnsignedInt(buffer.getShort(header + 28));
+                int extraLength = Short.toUnsignedInt(buffer.getShort(header + 30));
+                int commentLength = Short.toUnsignedInt(buffer.getShort(header + 32));
+                long headerOffset = Integer.toUnsignedLong(buffer.getInt(header + 42));
+
+                int next = header + CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+
+                if (next > buffer.limit()) {
+                    throw new ZipException("the entry " + i + " of " + archive + " is outside of the central directory");
+                }
+
+                if (name.length < nameLength) {
+                    name = new byte[nameLength];
+                }
+
+                buffer.get(header + CENTRAL_HEADER_SIZE, name, 0, nameLength);
+                String entryName = new String(name, 0, nameLength, StandardCharsets.UTF_8);
+
+                if (uncompressedSize == ZIP64_MAGIC || compressedSize == ZIP64_MAGIC || headerOffset == ZIP64_MAGIC) {
+                    long[] values = {uncompressedSize, compressedSize, headerOffset};
+                    readZip64Extra(buffer, header + CENTRAL_HEADER_SIZE + nameLength, extraLength, values);
+                    uncompressedSize = values[0];
+                    compressedSize = values[1];
+                    headerOffset = values[2];
+                }
+
+                buffer.position(next);
+
+                if (entryName.endsWith("/") || (flags & FLAG_ENCRYPTED) != 0) {
+                    continue;
+                }
+
+                entries.add(new Entry(entryName, method, crc, compressedSize, uncompressedSize, headerOffset, dosTimeToMillis(date, time)));
+            }
+
+            return entries;
+        }
+    }
+
+    /**
+     * find the end record and return the number of entries, the size and the offset of the central directory
+     */
+    private static long[] findCentralDirectory(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int tailSize = (int) Math.min(size, END_RECORD_SIZE + MAX_COMMENT_SIZE + ZIP64_LOCATOR_SIZE);
+        ByteBuffer tail = read(channel, size - tailSize, tailSize);
+
+        for (int position = tailSize - END_RECORD_SIZE; position >= 0; position--) {
+            if (tail.getInt(position) != END_RECORD || position + END_RECORD_SIZE + Short.toUnsignedInt(tail.getShort(position + 20)) != tailSize) {
+                continue;
+            }
+
+            long count = Short.toUnsignedInt(tail.getShort(position + 10));
+            long directorySize = Integer.toUnsignedLong(tail.getInt(position + 12));
+            long directoryOffset = Integer.toUnsignedLong(tail.getInt(position + 16));
+
+            if (position >= ZIP64_LOCATOR_SIZE && tail.getInt(position - ZIP64_LOCATOR_SIZE) == ZIP64_LOCATOR) {
+                ByteBuffer record = read(channel, tail.getLong(position - ZIP64_LOCATOR_SIZE + 8), ZIP64_END_RECORD_SIZE);
+
+                if (record.getInt(0) != ZIP64_END_RECORD) {
+                    throw new ZipException("the ZIP64 end record is not valid");
+                }
+
+                count = record.getLong(32);
+                directorySize = record.getLong(40);
+                directoryOffset = record.getLong(48);
+            }
+
+            return new long[]{count, directorySize, directoryOffset};
+        }
+
+        throw new ZipException("the file is not a ZIP archive");
+    }
+
+    /**
+     * replace the values that are too large for the header with the values of the ZIP64 extra field
+     *
+     * @param values the uncompressed size, the compressed size and the offset of the local header
+     */
+    private static void readZip64Extra(ByteBuffer buffer, int start, int length, long[] values) throws ZipException {
+        int end = start + length;
+
+        for (int position = start; position + 4 <= end; ) {
+            int id = Short.toUnsignedInt(buffer.getShort(position));
+            int size = Short.toUnsignedInt(buffer.getShort(position + 2));
+
+            if (id == ZIP64_EXTRA) {
+                int field = position + 4;
+
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] == ZIP64_MAGIC) {
+                        if (field + 8 > position + 4 + size) {
+                            throw new ZipException("the ZIP64 extra field is too short");
+                        }
+
+                        values[i] = buffer.getLong(field);
+                        field += 8;
+                    }
+                }
+
+                return;
+            }
+
+            position += 4 + size;
+        }
+
+        throw new ZipException("the ZIP64 extra field is missing");
+    }
+
+    /**
+     * convert an MS-DOS date and time in the local time zone into milliseconds since the epoch
+     */
+    static long dosTimeToMillis(int date, int time) {
+        try {
+            return LocalDateTime.of(1980 + (date >> 9), date >> 5 & 0xF, date & 0x1F, time >> 11, time >> 5 & 0x3F, (time & 0x1F) * 2)
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } catch (DateTimeException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * find the start of the data of an entry behind its local header
+     *
+     * @param channel the {@link FileChannel} of the archive
+     * @param entry the {@link ArchiveEntry}
+     * @return the offset of the data in the archive
+     * @throws ZipException when there is no local header at the offset of the entry
+     * @throws IOException when the archive can't be read
+     */
+    public static long dataOffset(FileChannel channel, ArchiveEntry entry) throws IOException {
+        ByteBuffer header = read(channel, entry.getHeaderOffset(), LOCAL_HEADER_SIZE);
+
+        if (header.getInt(0) != LOCAL_HEADER) {
+            throw new ZipException("there is no entry at offset " + entry.getHeaderOffset() + " of " + entry.getArchivePath());
+        }
+
+        long offset = entry.getHeaderOffset() + LOCAL_HEADER_SIZE + Short.toUnsignedInt(header.getShort(26)) + Short.toUnsignedInt(header.getShort(28));
+
+        if (offset + entry.getCompressedSize() > channel.size()) {
+            throw new ZipException("the entry at offset " + entry.getHeaderOffset() + " is outside of " + entry.getArchivePath());
+        }
+
+        return offset;
+    }
+
+    /**
+     * open the uncompressed content of an entry, only the data of this entry is read and decompressed
+     *
+     * @param channel the {@link FileChannel} of the archive, it is not closed with the stream
+     * @param entry the {@link ArchiveEntry}
+     * @return an {@link InputStream} of the content
+     * @throws ZipException when the entry isn't stored or deflated
+     * @throws IOException when the archive can't be read
+     */
+    public static InputStream open(FileChannel channel, ArchiveEntry entry) throws IOException {
+        InputStream data = new RangeInputStream(channel, dataOffset(channel, entry), entry.getCompressedSize());
+
+        return switch (entry.getMethod()) {
+            case ZipEntry.STORED -> data;
+            case ZipEntry.DEFLATED -> new InflaterInputStream(data, new Inflater(true), BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    // an Inflater that was passed in isn't ended by the stream
+                    this.inf.end();
+                    super.close();
+                }
+            };
+            default -> throw new ZipException("the compression method " + entry.getMethod() + " is not supported");
+        };
+    }
+
+    /**
+     * extract an entry into a temporary file for a reader that needs a file, e.g. to map it into memory.
+     * The content is checked against the size and the CRC-32 of the entry, so a damaged or manipulated archive can't
+     * fill the disk with more than the declared size. The file is deleted when the reader returns.
+     *
+     * @param entry the {@link ArchiveEntry}
+     * @param size the uncompressed size of the entry
+     * @param directory the folder of the temporary file
+     * @param reader the {@link EntryReader} of the extracted file
+     * @return the result of the reader
+     * @throws ZipException when the content doesn't match the size or the CRC-32 of the entry
+     * @throws IOException when the entry can't be extracted or read
+     */
+    public static <T> T extracted(ArchiveEntry entry, long size, Path directory, EntryReader<T> reader) throws IOException {
+        Files.createDirectories(directory);
+        Path file = Files.createTempFile(directory, "entry-", ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(Path.of(entry.getArchivePath()), StandardOpenOption.READ);
+                 InputStream input = open(channel, entry);
+                 OutputStream output = Files.newOutputStream(file)) {
+                CRC32 crc = new CRC32();
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long written = 0;
+
+                for (int read = input.read(buffer); read >= 0; read = input.read(buffer)) {
+                    written += read;
+
+                    if (written > size) {
+                        throw new ZipException("the entry at offset " + entry.getHeaderOffset() + " of " + entry.getArchivePath() + " is larger than " + size + " bytes");
+                    }
+
+                    crc.update(buffer, 0, read);
+                    output.write(buffer, 0, read);
+                }
+
+                if (written != size || crc.getValue() != entry.getCrc()) {
+                    throw new ZipException("the entry at offset " + entry.getHeaderOffset() + " of " + entry.getArchivePath() + " is damaged");
+                }
+            }
+
+            return reader.read(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Reads the extracted file of an entry
+     */
+    @FunctionalInterface
+    public interface EntryReader<T> {
+
+        T read(Path file) throws IOException;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("the archive ends at " + (position + buffer.position()));
+            }
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Reads a range of a file with positional reads, so several streams can share one {@link FileChannel}
+     */
+    private static final class RangeInputStream extends InputStream {
+
+        private final FileChannel channel;
+
+        private long position;
+
+        private final long end;
+
+        private RangeInputStream(FileChannel channel, long start, long length) {
+            this.channel = channel;
+            this.position = start;
+            this.end = start + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+
+            return this.read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+
+            if (this.position >= this.end) {
+                return -1;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, (int) Math.min(length, this.end - this.position));
+            int read = this.channel.read(buffer, this.position);
+
+            if (read < 0) {
+                throw new EOFException("the archive ends at " + this.position);
+            }
+
+            this.position += read;
+
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, this.end - this.position);
+        }
+    }
+}
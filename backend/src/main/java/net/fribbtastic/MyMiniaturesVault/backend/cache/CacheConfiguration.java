@@ -0,0 +1,94 @@
+package net.fribbtastic.MyMiniaturesVault.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the bounded in-memory Caches
+ *
+ * @author Frederic Eßer
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    /**
+     * the name of the Cache holding the Creators by their ID
+     */
+    public static final String CREATORS = "creators";
+
+    /**
+     * the name of the Cache holding the encoded responses of the {@link ResponseCache}
+     */
+    public static final String RESPONSES = "responses";
+
+    /**
+     * Create the {@link CacheManager} with all Caches of the application.
+     * The Caches are registered up front so no other Caches can be created at runtime.
+     *
+     * @param maximumSize the maximum number of entries in the Creator Cache
+     * @param expireAfterWrite the duration after which a found Creator is removed from the Cache
+     * @param expireMissingAfterWrite the duration after which a missing Creator is removed from the Cache
+     * @param responsesSize the maximum size of the encoded responses in the response Cache
+     * @return the {@link CacheManager}
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.creators.maximum-size:10000}") long maximumSize,
+                                     @Value("${cache.creators.expire-after-write:10m}") Duration expireAfterWrite,
+                                     @Value("${cache.creators.expire-missing-after-write:30s}") Duration expireMissingAfterWrite,
+                                     @Value("${cache.responses.maximum-size:64MB}") DataSize responsesSize) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CREATORS, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new MissingValueExpiry(expireAfterWrite, expireMissingAfterWrite))
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(RESPONSES, Caffeine.newBuilder()
+                .maximumWeight(responsesSize.toBytes())
+                .weigher((key, value) -> ((CachedResponse) value).getSize())
+                .recordStats()
+                .build());
+
+        return cacheManager;
+    }
+
+    /**
+     * {@link Expiry} that removes cached 'null' values (lookups that didn't find anything)
+     * earlier than actual values, so they can't hide newly added entries for long.
+     */
+    static class MissingValueExpiry implements Expiry<Object, Object> {
+
+        private final long expireAfterWrite;
+        private final long expireMissingAfterWrite;
+
+        MissingValueExpiry(Duration expireAfterWrite, Duration expireMissingAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite.toNanos();
+            this.expireMissingAfterWrite = expireMissingAfterWrite.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return value == NullValue.INSTANCE ? this.expireMissingAfterWrite : this.expireAfterWrite;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return this.expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
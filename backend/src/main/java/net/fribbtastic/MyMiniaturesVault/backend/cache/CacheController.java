@@ -0,0 +1,51 @@
+package net.fribbtastic.MyMiniaturesVault.backend.cache;
+
+import com.github.lkqm.spring.api.version.ApiVersion;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * @author Frederic Eßer
+ */
+@RestController
+@RequestMapping(path = "/cache", produces = "application/json")
+@ApiVersion("1")
+public class CacheController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheController.class);
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Get the hit, miss and eviction statistics of all Caches
+     *
+     * @return the {@link ApiResponse} with the list of {@link CacheStatistics} wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<CacheStatistics>>> getCacheStatistics() {
+        LOGGER.debug("get Cache statistics");
+
+        List<CacheStatistics> statistics = this.cacheManager.getCacheNames().stream()
+                .map(this.cacheManager::getCache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(cache -> CacheStatistics.of(cache.getName(), cache.getNativeCache().estimatedSize(), cache.getNativeCache().stats()))
+                .toList();
+
+        ApiResponse<List<CacheStatistics>> response = ApiResponse.createSuccessResponse(HttpStatus.OK, statistics);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
@@ -0,0 +1,57 @@
+package net.fribbtastic.MyMiniaturesVault.backend.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The usage statistics of a single Cache
+ *
+ * @author Frederic Eßer
+ */
+@Getter
+@AllArgsConstructor
+public class CacheStatistics {
+
+    /**
+     * the name of the Cache
+     */
+    private final String name;
+
+    /**
+     * the (estimated) number of entries in the Cache
+     */
+    private final long size;
+
+    /**
+     * the number of lookups that were answered from the Cache
+     */
+    private final long hitCount;
+
+    /**
+     * the number of lookups that had to load the value
+     */
+    private final long missCount;
+
+    /**
+     * the number of entries that were removed because of the size limit or their expiration
+     */
+    private final long evictionCount;
+
+    /**
+     * the ratio of lookups that were answered from the Cache
+     */
+    private final double hitRate;
+
+    /**
+     * Create the CacheStatistics from the statistics recorded by Caffeine
+     *
+     * @param name the name of the Cache
+     * @param size the (estimated) number of entries in the Cache
+     * @param stats the recorded {@link CacheStats}
+     * @return the {@link CacheStatistics}
+     */
+    public static CacheStatistics of(String name, long size, CacheStats stats) {
+        return new CacheStatistics(name, size, stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.hitRate());
+    }
+}
@@ -0,0 +1,144 @@
+package net.fribbtastic.MyMiniaturesVault.backend.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * A response body that was encoded once and is sent as it is, optionally compressed with gzip.
+ * The ETag and Last-Modified headers are kept with it, so a request that is answered from the Cache doesn't have to
+ * look up the version of the data.
+ *
+ * @author Frederic Eßer
+ */
+@Getter
+@AllArgsConstructor
+public class CachedResponse {
+
+    /**
+     * the bytes of the body
+     */
+    private final byte[] body;
+
+    /**
+     * the bytes of the body compressed with gzip, 'null' if it is too small to be compressed
+     */
+    private final byte[] gzipBody;
+
+    /**
+     * the strong ETag of the data in the body, the gzip encoding has its own ETag ({@link #gzipETag(String)})
+     */
+    private final String eTag;
+
+    /**
+     * the time of the last change of the data in the body in milliseconds since the epoch, -1 if it is unknown
+     */
+    private final long lastModified;
+
+    /**
+     * get the number of bytes the response takes in the Cache
+     *
+     * @return the size in bytes
+     */
+    public int getSize() {
+        return this.body.length + (this.gzipBody == null ? 0 : this.gzipBody.length);
+    }
+
+    /**
+     * get the ETag of the encoding that is sent to a client, a strong ETag has to differ between the plain and the
+     * compressed bytes of the same data
+     *
+     * @param acceptEncoding the Accept-Encoding header of the request, may be 'null'
+     * @return the ETag of the body that {@link #toResponseEntity(String)} sends
+     */
+    public String getETag(String acceptEncoding) {
+        return this.isGzip(acceptEncoding) ? gzipETag(this.eTag) : this.eTag;
+    }
+
+    /**
+     * create the {@link ResponseEntity} that sends the body, compressed if the client accepts gzip.
+     * The ETag of the encoding ({@link #getETag(String)}) is set by the check of the conditional headers.
+     *
+     * @param acceptEncoding the Accept-Encoding header of the request, may be 'null'
+     * @return the {@link ResponseEntity} with the bytes of the body
+     */
+    public ResponseEntity<byte[]> toResponseEntity(String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (this.isGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(this.gzipBody);
+        }
+
+        return builder.body(this.body);
+    }
+
+    private boolean isGzip(String acceptEncoding) {
+        return this.gzipBody != null && acceptsGzip(acceptEncoding);
+    }
+
+    /**
+     * get the ETag of the gzip encoding of the data, e.g. {@code "2-5-0-gzip"}
+     *
+     * @param eTag the strong ETag of the data
+     * @return the strong ETag of the compressed body
+     */
+    public static String gzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
+
+    /**
+     * find the ETag of the data in the If-None-Match header of a request, in either encoding.
+     * A client that switches the encoding still has the current data and doesn't need it again.
+     *
+     * @param eTag the strong ETag of the data
+     * @param ifNoneMatch the values of the If-None-Match header, may be 'null'
+     * @return the ETag of the data or of its gzip encoding that the client sent, 'null' if it sent neither
+     */
+    public static String matchingETag(String eTag, String[] ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+
+        String gzipETag = gzipETag(eTag);
+
+        for (String value : ifNoneMatch) {
+            for (String tag : value.split(",")) {
+                String trimmed = tag.trim();
+                String opaque = trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed;
+
+                if (opaque.equals(eTag) || opaque.equals(gzipETag)) {
+                    return opaque;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * check if gzip is one of the accepted encodings and not excluded with 'q=0'
+     *
+     * @param acceptEncoding the Accept-Encoding header, may be 'null'
+     * @return true if the client accepts gzip
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+
+        return false;
+    }
+}
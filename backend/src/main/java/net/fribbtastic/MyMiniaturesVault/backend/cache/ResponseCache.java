@@ -0,0 +1,168 @@
+package net.fribbtastic.MyMiniaturesVault.backend.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.Transactions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A Cache of the encoded responses of read endpoints, so a request that was answered before is answered with the same
+ * bytes without loading or serializing anything.
+ * <p>
+ * The responses are stored by endpoint, query and the version of the data of the endpoint. Every write increases the
+ * version after it was committed, so a response that was encoded from older data is never found again, even when it
+ * is stored while the data changes.
+ *
+ * @author Frederic Eßer
+ */
+@Service
+public class ResponseCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResponseCache.class);
+
+    /**
+     * the endpoint with the list of all Creators
+     */
+    public static final String CREATORS = "creators";
+
+    /**
+     * The key of a response
+     *
+     * @param endpoint the endpoint of the response
+     * @param version the version of the data of the endpoint
+     * @param query the parameters of the request
+     */
+    record Key(String endpoint, long version, String query) {
+    }
+
+    private final Cache<Object, Object> cache;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * the minimum size of a body to be compressed with gzip
+     */
+    private final long compressMinSize;
+
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /**
+     * @param cacheManager the {@link CacheManager} with the {@value CacheConfiguration#RESPONSES} Cache
+     * @param objectMapper the {@link ObjectMapper} that encodes the responses
+     * @param compressMinSize the minimum size of a body to be compressed with gzip
+     */
+    @SuppressWarnings("unchecked")
+    public ResponseCache(CacheManager cacheManager, ObjectMapper objectMapper,
+                         @Value("${cache.responses.compress-min-size:1KB}") DataSize compressMinSize) {
+        this.cache = ((CaffeineCache) Objects.requireNonNull(cacheManager.getCache(CacheConfiguration.RESPONSES))).getNativeCache();
+        this.objectMapper = objectMapper;
+        this.compressMinSize = compressMinSize.toBytes();
+    }
+
+    /**
+     * get the current version of the data of an endpoint.
+     * It has to be read before the data is loaded, so a response is stored with the version it was loaded at.
+     *
+     * @param endpoint the endpoint
+     * @return the version
+     */
+    public long getVersion(String endpoint) {
+        return this.versions.computeIfAbsent(endpoint, key -> new AtomicLong()).get();
+    }
+
+    /**
+     * get a response that was stored for the version of the data
+     *
+     * @param endpoint the endpoint
+     * @param version the version of the data from {@link #getVersion(String)}
+     * @param query the parameters of the request
+     * @return the {@link CachedResponse} or 'null' if there is none
+     */
+    public CachedResponse get(String endpoint, long version, String query) {
+        return (CachedResponse) this.cache.getIfPresent(new Key(endpoint, version, query));
+    }
+
+    /**
+     * encode a response and store it for the version of the data it was loaded at
+     *
+     * @param endpoint the endpoint
+     * @param version the version of the data from {@link #getVersion(String)} before it was loaded
+     * @param query the parameters of the request
+     * @param response the response that is encoded as JSON
+     * @param eTag the strong ETag of the data
+     * @param lastModified the time of the last change of the data in milliseconds since the epoch, -1 if it is unknown
+     * @return the {@link CachedResponse}
+     */
+    public CachedResponse put(String endpoint, long version, String query, Object response, String eTag, long lastModified) {
+        CachedResponse cached = this.encode(response, eTag, lastModified);
+
+        LOGGER.debug("store the response of {} for version {} with {} bytes", endpoint, version, cached.getSize());
+
+        this.cache.put(new Key(endpoint, version, query), cached);
+
+        return cached;
+    }
+
+    /**
+     * increase the version of the data of an endpoint after the current transaction was committed
+     * and remove the responses of the older versions
+     *
+     * @param endpoint the endpoint whose data was changed
+     */
+    public void invalidate(String endpoint) {
+        Transactions.afterCommit(() -> {
+            long version = this.versions.computeIfAbsent(endpoint, key -> new AtomicLong()).incrementAndGet();
+
+            LOGGER.debug("invalidate the responses of {}, version {}", endpoint, version);
+
+            this.cache.asMap().keySet().removeIf(key -> ((Key) key).endpoint().equals(endpoint) && ((Key) key).version() < version);
+        });
+    }
+
+    private CachedResponse encode(Object response, String eTag, long lastModified) {
+        byte[] body;
+
+        try {
+            body = this.objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        byte[] gzipBody = body.length >= this.compressMinSize ? gzip(body) : null;
+
+        // keep the compressed body only if it is actually smaller
+        if (gzipBody != null && gzipBody.length >= body.length) {
+            gzipBody = null;
+        }
+
+        return new CachedResponse(body, gzipBody, eTag, lastModified);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,76 @@
+package net.fribbtastic.MyMiniaturesVault.backend.docs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the API documentation by springdoc.
+ * <p>
+ * Springdoc scans all controllers and creates a few dozen beans on startup, although the documentation is only ever
+ * requested by developers. With 'api-docs.lazy-initialization=true' its beans are created when the documentation is
+ * requested first (or a bean that is created on startup needs them), which takes that work off the start of the
+ * application. The definitions are changed before any bean is created, so this works with AOT processing as well.
+ *
+ * @author Frederic Eßer
+ */
+@Configuration
+public class ApiDocsConfiguration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiDocsConfiguration.class);
+
+    /**
+     * the package of springdoc, the classes of its beans and of the configurations that define them are in it
+     */
+    public static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    /**
+     * mark the beans of springdoc as lazy.
+     * The method is static, so the post processor is created before this configuration and everything else.
+     *
+     * @return the {@link BeanFactoryPostProcessor}
+     */
+    @Bean
+    @ConditionalOnProperty("api-docs.lazy-initialization")
+    public static BeanFactoryPostProcessor lazyApiDocs() {
+        return beanFactory -> {
+            int count = 0;
+
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+
+                if (isSpringdoc(definition.getBeanClassName()) || isSpringdoc(factoryBeanClassName(beanFactory, definition))) {
+                    definition.setLazyInit(true);
+                    count++;
+                }
+            }
+
+            LOGGER.debug("initialize {} beans of the API documentation lazily", count);
+        };
+    }
+
+    /**
+     * get the class of the configuration whose @Bean method creates a bean, the name of the configuration bean is
+     * only its class name when it was imported by the auto-configuration
+     *
+     * @return the class name or 'null' when the bean isn't created by a factory bean
+     */
+    private static String factoryBeanClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBeanName = definition.getFactoryBeanName();
+
+        if (factoryBeanName == null || !beanFactory.containsBeanDefinition(factoryBeanName)) {
+            return null;
+        }
+
+        return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+    }
+
+    private static boolean isSpringdoc(String className) {
+        return className != null && className.startsWith(SPRINGDOC_PACKAGE);
+    }
+}
@@ -0,0 +1,59 @@
+package net.fribbtastic.MyMiniaturesVault.backend.download;
+
+import com.github.lkqm.spring.api.version.ApiVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Downloads of the files in the library and of whole Bundles as ZIP archives.
+ * The responses are written directly to the {@link HttpServletResponse}, they are never held in memory.
+ *
+ * @author Frederic Eßer
+ */
+@RestController
+@ApiVersion("1")
+public class DownloadController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DownloadController.class);
+
+    @Autowired
+    private DownloadService service;
+
+    /**
+     * Download a file, resumable with the 'Range' and 'If-Range' headers
+     *
+     * @param id the {@link UUID} of the file
+     * @param request the {@link HttpServletRequest}
+     * @param response the {@link HttpServletResponse} the file is written to
+     * @throws IOException when the response can't be written
+     */
+    @GetMapping("/file/{id}/download")
+    public void downloadFile(@PathVariable UUID id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        LOGGER.debug("download file with ID={}, range={}", id, request.getHeader("Range"));
+
+        this.service.sendFile(id, request, response);
+    }
+
+    /**
+     * Download all files of a Bundle as a ZIP archive that is created while it is sent
+     *
+     * @param id the {@link UUID} of the Bundle
+     * @param response the {@link HttpServletResponse} the archive is written to
+     * @throws IOException when the response can't be written
+     */
+    @GetMapping("/bundle/{id}/download")
+    public void downloadBundle(@PathVariable UUID id, HttpServletResponse response) throws IOException {
+        LOGGER.debug("download Bundle with ID={}", id);
+
+        this.service.sendBundle(id, response);
+    }
+}
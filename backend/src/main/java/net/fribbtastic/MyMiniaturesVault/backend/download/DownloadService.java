@@ -0,0 +1,319 @@
+package net.fribbtastic.MyMiniaturesVault.backend.download;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.fribbtastic.MyMiniaturesVault.backend.archive.ArchiveEntry;
+import net.fribbtastic.MyMiniaturesVault.backend.archive.ZipArchive;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.FileUnavailableException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.RangeNotSatisfiableException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.bundle.Bundle;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.bundle.BundleRepository;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFile;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.ZipException;
+
+/**
+ * Streams the files of the library to the clients without buffering them.
+ * <p>
+ * A single file is sent by Tomcat with sendfile (the kernel copies the file to the socket) when the connector supports
+ * it, otherwise with {@link FileChannel#transferTo}. Single byte ranges are supported to resume downloads.
+ * Files inside archives are read from the archive: stored entries are a range of the archive and are sent like a file,
+ * compressed entries are decompressed while they are sent.
+ * The files of a Bundle are streamed as a ZIP archive that is written while the files are read.
+ *
+ * @author Frederic Eßer
+ */
+@Service
+public class DownloadService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DownloadService.class);
+
+    /**
+     * the request attributes of Tomcat to send a file with sendfile after the request was handled
+     */
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private ModelFileRepository fileRepository;
+
+    @Autowired
+    private BundleRepository bundleRepository;
+
+    /**
+     * Send a file or a single byte range of it.
+     * Requests with a matching ETag or modification time are answered with '304 Not Modified', the 'Range' header is
+     * ignored when the 'If-Range' header doesn't match the file anymore. Multiple ranges are answered with the whole file.
+     * Compressed files inside archives are always sent completely.
+     *
+     * @param id the ID of the file
+     * @param request the {@link HttpServletRequest}
+     * @param response the {@link HttpServletResponse}
+     * @throws ResourceNotFoundException when there is no file with the ID
+     * @throws FileUnavailableException when the file can't be read
+     * @throws RangeNotSatisfiableException when the range is outside of the file
+     * @throws IOException when the response can't be written
+     */
+    public void sendFile(UUID id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ModelFile file = this.fileRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException(id));
+        ArchiveEntry entry = file.getEntry();
+        Path path = Path.of(entry == null ? file.getPath() : entry.getArchivePath());
+
+        try (FileChannel channel = open(id, path)) {
+            long size = channel.size();
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            String etag = "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+            long offset = 0;
+            // the decompressed content of an entry can't be sent from an offset
+            boolean ranges = entry == null || entry.isStored();
+
+            if (entry != null) {
+                offset = dataOffset(id, channel, entry);
+                size = file.getSize();
+                etag = "\"" + Long.toHexString(channel.size()) + "-" + Long.toHexString(lastModified) + "-" + Long.toHexString(entry.getHeaderOffset()) + "\"";
+            }
+
+            if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+                return;
+            }
+
+            long start = 0;
+            long length = size;
+            String range = request.getHeader(HttpHeaders.RANGE);
+
+            if (range != null && ranges && matchesIfRange(request, etag, lastModified)) {
+                HttpRange byteRange = parseRange(range);
+
+                if (byteRange != null) {
+                    start = byteRange.getRangeStart(size);
+                    long end = byteRange.getRangeEnd(size);
+
+                    if (start >= size || end < start) {
+                        throw new RangeNotSatisfiableException(range, size);
+                    }
+
+                    length = end - start + 1;
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+                }
+            }
+
+            response.setContentType(file.getFormat().getContentType());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, ranges ? "bytes" : "none");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, attachment(Path.of(file.getPath()).getFileName().toString()));
+            response.setContentLengthLong(length);
+
+            if (length > 0 && !HttpMethod.HEAD.matches(request.getMethod())) {
+                if (ranges) {
+                    transfer(channel, path, offset + start, length, request, response);
+                } else {
+                    inflate(channel, entry, length, response);
+                }
+            }
+        }
+    }
+
+    /**
+     * Send all files of a Bundle as a ZIP archive, below a folder with the name of the Bundle.
+     * The files keep their paths below the folder of the Bundle in the library. Already compressed files
+     * (3MF, ZIP) are stored as they are, all others are compressed. Files inside archives are only sent with their archive.
+     *
+     * @param id the ID of the Bundle
+     * @param response the {@link HttpServletResponse}
+     * @throws ResourceNotFoundException when there is no Bundle with the ID
+     * @throws FileUnavailableException when one of the files can't be read
+     * @throws IOException when the response can't be written
+     */
+    public void sendBundle(UUID id, HttpServletResponse response) throws IOException {
+        Bundle bundle = this.bundleRepository.findWithCreatorById(id).orElseThrow(() -> new ResourceNotFoundException(id));
+        List<ModelFile> files = this.fileRepository.findAllByBundleIdOrderByPathAsc(id, Limit.unlimited()).stream()
+                .filter(file -> file.getEntry() == null)
+                .toList();
+
+        // the response can't be turned into an error anymore once the archive is written
+        for (ModelFile file : files) {
+            if (!Files.isReadable(Path.of(file.getPath()))) {
+                throw new FileUnavailableException(file.getId());
+            }
+        }
+
+        String folder = folderName(bundle.getName());
+
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, attachment(folder + ".zip"));
+
+        try (ZipStreamWriter zip = new ZipStreamWriter(Channels.newChannel(response.getOutputStream()))) {
+            for (ModelFile file : files) {
+                zip.putFile(entryName(bundle, Path.of(file.getPath())), Path.of(file.getPath()), !file.getFormat().isCompressed());
+            }
+
+            zip.finish();
+
+            LOGGER.debug("sent {} files of Bundle {} with {} bytes", files.size(), id, zip.getWritten());
+        }
+    }
+
+    private static FileChannel open(UUID id, Path path) {
+        try {
+            return FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            LOGGER.warn("could not open {}: {}", path, e.getMessage());
+
+            throw new FileUnavailableException(id);
+        }
+    }
+
+    /**
+     * find the data of an entry in its archive
+     */
+    private static long dataOffset(UUID id, FileChannel channel, ArchiveEntry entry) throws IOException {
+        try {
+            return ZipArchive.dataOffset(channel, entry);
+        } catch (ZipException e) {
+            LOGGER.warn("could not find the entry of file {}: {}", id, e.getMessage());
+
+            throw new FileUnavailableException(id);
+        }
+    }
+
+    /**
+     * decompress a compressed entry into the output stream of the response
+     */
+    private static void inflate(FileChannel channel, ArchiveEntry entry, long length, HttpServletResponse response) throws IOException {
+        try (InputStream input = ZipArchive.open(channel, entry)) {
+            long sent = input.transferTo(response.getOutputStream());
+
+            if (sent != length) {
+                throw new EOFException("the entry at offset " + entry.getHeaderOffset() + " of " + entry.getArchivePath() + " has " + sent + " instead of " + length + " bytes");
+            }
+        }
+    }
+
+    /**
+     * send a part of the file, with sendfile when Tomcat supports it or through the output stream of the response
+     */
+    private static void transfer(FileChannel channel, Path path, long start, long length, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            LOGGER.debug("send {} bytes of {} with sendfile", length, path);
+
+            return;
+        }
+
+        WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+        long end = start + length;
+
+        for (long position = start; position < end; ) {
+            long transferred = channel.transferTo(position, end - position, target);
+
+            if (transferred <= 0) {
+                throw new EOFException("the file " + path + " ended at " + position + " while it was sent");
+            }
+
+            position += transferred;
+        }
+    }
+
+    /**
+     * @return the single range of the header or 'null' if the header is invalid or has more than one range
+     */
+    private static HttpRange parseRange(String header) {
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+
+            return ranges.size() == 1 ? ranges.getFirst() : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * check if the 'If-Range' header (an ETag or a date) matches the file, a missing header always matches
+     */
+    private static boolean matchesIfRange(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        if (ifRange == null) {
+            return true;
+        }
+
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * the 'Content-Disposition' header of a download, names that aren't ASCII are encoded as UTF-8
+     */
+    private static String attachment(String fileName) {
+        ContentDisposition.Builder builder = ContentDisposition.attachment();
+
+        if (StandardCharsets.US_ASCII.newEncoder().canEncode(fileName)) {
+            builder.filename(fileName);
+        } else {
+            builder.filename(fileName, StandardCharsets.UTF_8);
+        }
+
+        return builder.build().toString();
+    }
+
+    /**
+     * the name of the entry of a file in the ZIP archive of its Bundle, the path below the folder of the Bundle
+     * in the library ({@code <root>/<Creator>/<Bundle>/.../<file>}) or only the file name if the file is somewhere else
+     */
+    static String entryName(Bundle bundle, Path file) {
+        String creator = bundle.getCreator().getName();
+
+        for (int i = 1; i < file.getNameCount() - 1; i++) {
+            if (file.getName(i).toString().equals(bundle.getName()) && file.getName(i - 1).toString().equals(creator)) {
+                return folderName(bundle.getName()) + "/" + file.subpath(i + 1, file.getNameCount()).toString().replace(File.separatorChar, '/');
+            }
+        }
+
+        return folderName(bundle.getName()) + "/" + file.getFileName();
+    }
+
+    /**
+     * a name of a Bundle that can be used as a folder name on all systems
+     */
+    static String folderName(String name) {
+        String folder = name.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_").strip();
+
+        return folder.isEmpty() || folder.equals(".") || folder.equals("..") ? "_" : folder;
+    }
+}
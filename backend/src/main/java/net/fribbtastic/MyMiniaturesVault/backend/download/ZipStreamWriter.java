@@ -0,0 +1,320 @@
+package net.fribbtastic.MyMiniaturesVault.backend.download;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipException;
+
+/**
+ * Writes a ZIP archive of files to a channel while the files are read, without knowing their CRC or compressed size
+ * in advance. Every entry is followed by a data descriptor with its CRC and sizes, the central directory is written
+ * at the end. Archives and entries larger than 4 GB and archives with more than 65535 entries use the ZIP64 records,
+ * the local header of an entry announces them when its file has 4 GB or more.
+ * <p>
+ * The files are read through two fixed buffers, so the memory doesn't depend on the size of the files,
+ * only the central directory (a few bytes per entry) is kept until the end.
+ *
+ * @author Frederic Eßer
+ */
+final class ZipStreamWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 << 10;
+
+    private static final int LOCAL_HEADER = 0x04034b50;
+    private static final int DATA_DESCRIPTOR = 0x08074b50;
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int ZIP64_END = 0x06064b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+    private static final int END = 0x06054b50;
+
+    private static final short VERSION = 20;
+    private static final short VERSION_ZIP64 = 45;
+    private static final short ZIP64_EXTRA = 0x0001;
+
+    /**
+     * the sizes are written in a data descriptor after the data (bit 3) and the names are UTF-8 (bit 11)
+     */
+    private static final short FLAGS = 0x0808;
+
+    private static final short STORED = 0;
+    private static final short DEFLATED = 8;
+
+    private static final byte[] NO_INPUT = new byte[0];
+
+    private static final long MAX_SIZE = 0xFFFFFFFFL;
+    private static final int MAX_ENTRIES = 0xFFFF;
+
+    private final WritableByteChannel target;
+
+    private final ByteBuffer input = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    private final ByteBuffer output = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    private final CRC32 crc = new CRC32();
+
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * the number of bytes written to the target
+     */
+    private long written;
+
+    private record Entry(byte[] name, short method, int time, long crc, long compressedSize, long size, long offset) {
+
+        private boolean isZip64() {
+            return this.compressedSize >= MAX_SIZE || this.size >= MAX_SIZE || this.offset >= MAX_SIZE;
+        }
+    }
+
+    /**
+     * @param target the channel of the archive, it isn't closed by the writer
+     */
+    ZipStreamWriter(WritableByteChannel target) {
+        this.target = target;
+    }
+
+    /**
+     * add a file to the archive
+     *
+     * @param name the name of the entry, with '/' between the folders
+     * @param file the {@link Path} of the file
+     * @param compress 'true' to deflate the file, 'false' to store it as it is (for files that are already compressed)
+     * @throws IOException when the file can't be read or the archive can't be written
+     */
+    void putFile(String name, Path file, boolean compress) throws IOException {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        short method = compress ? DEFLATED : STORED;
+        int time = dosTime(Files.getLastModifiedTime(file).toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime());
+        long offset = this.written;
+
+        // the sizes follow the data, so the local header already has to announce the 8 byte sizes of a ZIP64 data
+        // descriptor when the entry may reach 4 GB, a deflated entry can be a little larger than its file
+        long expectedSize = Files.size(file);
+        boolean zip64 = (compress ? expectedSize + (expectedSize >> 11) + 64 : expectedSize) >= MAX_SIZE;
+
+        ByteBuffer header = buffer(30 + nameBytes.length + (zip64 ? 20 : 0))
+                .putInt(LOCAL_HEADER)
+                .putShort(zip64 ? VERSION_ZIP64 : VERSION)
+                .putShort(FLAGS)
+                .putShort(method)
+                .putInt(time)
+                .putInt(0)
+                .putInt(zip64 ? (int) MAX_SIZE : 0)
+                .putInt(zip64 ? (int) MAX_SIZE : 0)
+                .putShort((short) nameBytes.length)
+                .putShort((short) (zip64 ? 20 : 0))
+                .put(nameBytes);
+
+        if (zip64) {
+            header.putShort(ZIP64_EXTRA)
+                    .putShort((short) 16)
+                    .putLong(0)
+                    .putLong(0);
+        }
+
+        this.write(header.flip());
+
+        this.crc.reset();
+        long size = 0;
+        long start = this.written;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(this.input.clear()) >= 0) {
+                this.input.flip();
+                size += this.input.remaining();
+                this.crc.update(this.input);
+                this.input.rewind();
+
+                if (compress) {
+                    this.deflater.setInput(this.input);
+                    this.deflate();
+                } else {
+                    this.write(this.input);
+                }
+            }
+        }
+
+        if (compress) {
+            this.finishDeflate();
+        }
+
+        Entry entry = new Entry(nameBytes, method, time, this.crc.getValue(), this.written - start, size, offset);
+
+        if (!zip64 && (entry.compressedSize() >= MAX_SIZE || entry.size() >= MAX_SIZE)) {
+            throw new ZipException("The file '" + file + "' grew to 4 GB while it was added to the archive");
+        }
+
+        this.entries.add(entry);
+
+        ByteBuffer descriptor = buffer(zip64 ? 24 : 16)
+                .putInt(DATA_DESCRIPTOR)
+                .putInt((int) entry.crc());
+
+        if (zip64) {
+            descriptor.putLong(entry.compressedSize()).putLong(entry.size());
+        } else {
+            descriptor.putInt((int) entry.compressedSize()).putInt((int) entry.size());
+        }
+
+        this.write(descriptor.flip());
+    }
+
+    /**
+     * write the compressed data until the deflater needs more input
+     */
+    private void deflate() throws IOException {
+        while (!this.deflater.needsInput()) {
+            this.deflater.deflate(this.output.clear());
+            this.write(this.output.flip());
+        }
+    }
+
+    /**
+     * write the rest of the compressed data of an entry and reset the deflater for the next one
+     */
+    private void finishDeflate() throws IOException {
+        // the deflater still references the input buffer, which was cleared for the last read at the end of the file
+        this.deflater.setInput(NO_INPUT);
+        this.deflater.finish();
+
+        while (!this.deflater.finished()) {
+            this.deflater.deflate(this.output.clear());
+            this.write(this.output.flip());
+        }
+
+        this.deflater.reset();
+    }
+
+    /**
+     * write the central directory, the archive is complete afterwards
+     *
+     * @throws IOException when the archive can't be written
+     */
+    void finish() throws IOException {
+        long directoryOffset = this.written;
+
+        for (Entry entry : this.entries) {
+            boolean zip64 = entry.isZip64();
+            ByteBuffer header = buffer(46 + entry.name().length + (zip64 ? 28 : 0))
+                    .putInt(CENTRAL_HEADER)
+                    .putShort(VERSION_ZIP64)
+                    .putShort(zip64 ? VERSION_ZIP64 : VERSION)
+                    .putShort(FLAGS)
+                    .putShort(entry.method())
+                    .putInt(entry.time())
+                    .putInt((int) entry.crc())
+                    .putInt(zip64 ? (int) MAX_SIZE : (int) entry.compressedSize())
+                    .putInt(zip64 ? (int) MAX_SIZE : (int) entry.size())
+                    .putShort((short) entry.name().length)
+                    .putShort((short) (zip64 ? 28 : 0))
+                    .putShort((short) 0)
+                    .putShort((short) 0)
+                    .putShort((short) 0)
+                    .putInt(0)
+                    .putInt(zip64 ? (int) MAX_SIZE : (int) entry.offset())
+                    .put(entry.name());
+
+            if (zip64) {
+                header.putShort(ZIP64_EXTRA)
+                        .putShort((short) 24)
+                        .putLong(entry.size())
+                        .putLong(entry.compressedSize())
+                        .putLong(entry.offset());
+            }
+
+            this.write(header.flip());
+        }
+
+        long directorySize = this.written - directoryOffset;
+        int count = this.entries.size();
+
+        if (count >= MAX_ENTRIES || directorySize >= MAX_SIZE || directoryOffset >= MAX_SIZE) {
+            long endOffset = this.written;
+
+            this.write(buffer(76)
+                    .putInt(ZIP64_END)
+                    .putLong(44)
+                    .putShort(VERSION_ZIP64)
+                    .putShort(VERSION_ZIP64)
+                    .putInt(0)
+                    .putInt(0)
+                    .putLong(count)
+                    .putLong(count)
+                    .putLong(directorySize)
+                    .putLong(directoryOffset)
+                    .putInt(ZIP64_LOCATOR)
+                    .putInt(0)
+                    .putLong(endOffset)
+                    .putInt(1)
+                    .flip());
+        }
+
+        this.write(buffer(22)
+                .putInt(END)
+                .putShort((short) 0)
+                .putShort((short) 0)
+                .putShort((short) Math.min(count, MAX_ENTRIES))
+                .putShort((short) Math.min(count, MAX_ENTRIES))
+                .putInt((int) Math.min(directorySize, MAX_SIZE))
+                .putInt((int) Math.min(directoryOffset, MAX_SIZE))
+                .putShort((short) 0)
+                .flip());
+    }
+
+    /**
+     * release the deflater
+     */
+    @Override
+    public void close() {
+        this.deflater.end();
+    }
+
+    /**
+     * @return the number of bytes written to the archive
+     */
+    long getWritten() {
+        return this.written;
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            this.written += this.target.write(buffer);
+        }
+    }
+
+    private static ByteBuffer buffer(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * convert a time into the MS-DOS format of ZIP files (date in the upper 16 bits, time in the lower 16 bits,
+     * with 2 seconds precision), times before 1980 are stored as 1980-01-01
+     */
+    static int dosTime(LocalDateTime time) {
+        if (time.getYear() < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+
+        return (time.getYear() - 1980) << 25
+                | time.getMonthValue() << 21
+                | time.getDayOfMonth() << 16
+                | time.getHour() << 11
+                | time.getMinute() << 5
+                | time.getSecond() >> 1;
+    }
+}
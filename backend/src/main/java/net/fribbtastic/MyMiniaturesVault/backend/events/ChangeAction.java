@@ -0,0 +1,12 @@
+package net.fribbtastic.MyMiniaturesVault.backend.events;
+
+/**
+ * The kinds of changes of an entity
+ *
+ * @author Frederic Eßer
+ */
+public enum ChangeAction {
+    CREATED,
+    UPDATED,
+    DELETED
+}
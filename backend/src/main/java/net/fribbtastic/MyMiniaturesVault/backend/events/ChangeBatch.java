@@ -0,0 +1,14 @@
+package net.fribbtastic.MyMiniaturesVault.backend.events;
+
+import java.util.List;
+
+/**
+ * The pending changes of a {@link ChangeSubscriber} that are sent together
+ *
+ * @param reset true if the subscriber missed changes and has to load everything again, the events are empty then
+ * @param sequence the sequence number of the latest change the batch covers
+ * @param events the {@link ChangeEvent}s in the order of their sequence numbers
+ * @author Frederic Eßer
+ */
+record ChangeBatch(boolean reset, long sequence, List<ChangeEvent> events) {
+}
@@ -0,0 +1,11 @@
+package net.fribbtastic.MyMiniaturesVault.backend.events;
+
+/**
+ * The kinds of entities whose changes are published in the {@link ChangeFeed}
+ *
+ * @author Frederic Eßer
+ */
+public enum ChangeEntity {
+    CREATOR,
+    BUNDLE
+}
@@ -0,0 +1,15 @@
+package net.fribbtastic.MyMiniaturesVault.backend.events;
+
+import java.util.UUID;
+
+/**
+ * The change of an entity in the {@link ChangeFeed}
+ *
+ * @param sequence the number of the change, every change gets a higher number than the ones before
+ * @param entity the {@link ChangeEntity}
+ * @param action the {@link ChangeAction}
+ * @param id the ID of the entity
+ * @author Frederic Eßer
+ */
+public record ChangeEvent(long sequence, ChangeEntity entity, ChangeAction action, UUID id) {
+}
@@ -0,0 +1,302 @@
+package net.fribbtastic.MyMiniaturesVault.backend.events;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.Transactions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * Publishes the changes of Creators and Bundles to subscribers as Server-Sent Events.
+ * <p>
+ * Every change gets a sequence number and is kept in a history of the latest changes, so a subscriber that reconnects
+ * with the number of the last change it has seen gets the changes it missed. The subscribers only keep their position
+ * in the history, the changes are sent in batches after a short window and repeated changes of the same entity within
+ * the window are sent once. Publishing a change doesn't depend on the number of subscribers.
+ * <p>
+ * Subscribers don't hold a thread while they wait: the responses are asynchronous, the batches are sent on virtual
+ * threads and one scheduler thread starts them.
+ *
+ * @author Frederic Eßer
+ */
+@Service
+public class ChangeFeed implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeFeed.class);
+
+    /**
+     * the name of the gauge with the number of subscribers
+     */
+    public static final String SUBSCRIBERS_METRIC = "events.subscribers";
+
+    /**
+     * the name of the events with a change
+     */
+    public static final String CHANGE_EVENT = "change";
+
+    /**
+     * the name of the events that tell a subscriber to load everything again, because it missed changes
+     */
+    public static final String RESET_EVENT = "reset";
+
+    /**
+     * the latest changes by their sequence number modulo the length
+     */
+    private final ChangeEvent[] history;
+
+    /**
+     * the sequence number of the latest change, guarded by this
+     */
+    private long sequence;
+
+    /**
+     * true while the subscribers are scheduled to get the latest changes, guarded by this
+     */
+    private boolean flushing;
+
+    private final Set<ChangeSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final int bufferSize;
+    private final Duration window;
+    private final Duration timeout;
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * @param historySize the number of changes a subscriber can resume from
+     * @param bufferSize the number of entities in a batch before the subscriber gets a reset instead
+     * @param window the time changes are collected before they are sent
+     * @param timeout the time after which a subscription ends, the client reconnects then
+     * @param heartbeat the time between comments that keep idle connections open
+     */
+    public ChangeFeed(@Value("${events.history-size:10000}") int historySize,
+                      @Value("${events.buffer-size:1000}") int bufferSize,
+                      @Value("${events.coalesce-window:250ms}") Duration window,
+                      @Value("${events.timeout:30m}") Duration timeout,
+                      @Value("${events.heartbeat:30s}") Duration heartbeat) {
+        this.history = new ChangeEvent[historySize];
+        this.bufferSize = bufferSize;
+        this.window = window;
+        this.timeout = timeout;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("change-feed").daemon().factory());
+        this.scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(SUBSCRIBERS_METRIC, this.subscribers, Set::size)
+                .description("the number of subscribers of the change feed")
+                .register(registry);
+    }
+
+    /**
+     * end all subscriptions when the application shuts down, before the web server waits for the open requests.
+     * The clients reconnect to the next instance and resume where they were.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void close() {
+        LOGGER.debug("end {} subscriptions", this.subscribers.size());
+
+        this.subscribers.forEach(subscriber -> subscriber.getEmitter().complete());
+        this.subscribers.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.scheduler.shutdownNow();
+        this.senders.shutdownNow();
+    }
+
+    /**
+     * get the number of subscribers
+     *
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount() {
+        return this.subscribers.size();
+    }
+
+    /**
+     * publish the changes of entities after the current transaction was committed
+     *
+     * @param entity the {@link ChangeEntity}
+     * @param action the {@link ChangeAction}
+     * @param ids the IDs of the changed entities
+     */
+    public void publish(ChangeEntity entity, ChangeAction action, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        List<UUID> changed = List.copyOf(ids);
+
+        Transactions.afterCommit(() -> this.append(entity, action, changed));
+    }
+
+    /**
+     * publish the change of an entity after the current transaction was committed
+     *
+     * @param entity the {@link ChangeEntity}
+     * @param action the {@link ChangeAction}
+     * @param id the ID of the changed entity
+     */
+    public void publish(ChangeEntity entity, ChangeAction action, UUID id) {
+        this.publish(entity, action, List.of(id));
+    }
+
+    /**
+     * subscribe to the changes. A new subscriber gets a reset with the current sequence number first, so it knows
+     * where it started. A subscriber that resumes gets the changes after the sequence number it has seen, or a reset
+     * if they aren't in the history anymore.
+     *
+     * @param after the sequence number of the last change the subscriber has seen, or null
+     * @return the {@link SseEmitter} of the subscription
+     */
+    public SseEmitter subscribe(Long after) {
+        SseEmitter emitter = new SseEmitter(this.timeout.toMillis());
+        ChangeSubscriber subscriber;
+
+        synchronized (this) {
+            if (after == null || after < this.sequence - this.history.length || after > this.sequence) {
+                subscriber = new ChangeSubscriber(emitter, this.sequence, true);
+            } else {
+                subscriber = new ChangeSubscriber(emitter, after, false);
+            }
+
+            this.subscribers.add(subscriber);
+        }
+
+        LOGGER.debug("subscribed to the changes after {}, {} subscribers", after, this.subscribers.size());
+
+        emitter.onCompletion(() -> this.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> this.subscribers.remove(subscriber));
+        emitter.onError(exception -> this.subscribers.remove(subscriber));
+
+        if (subscriber.schedule(this.latest())) {
+            this.senders.execute(() -> this.send(subscriber));
+        }
+
+        return emitter;
+    }
+
+    /**
+     * number the changes and add them to the history, the subscribers get them after the window.
+     * Both happen under the same lock as a subscription, so no subscriber misses a change or gets it out of order.
+     */
+    synchronized void append(ChangeEntity entity, ChangeAction action, List<UUID> ids) {
+        for (UUID id : ids) {
+            this.sequence++;
+            this.history[(int) (this.sequence % this.history.length)] = new ChangeEvent(this.sequence, entity, action, id);
+        }
+
+        if (!this.flushing) {
+            this.flushing = true;
+            this.scheduler.schedule(this::flush, this.window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized long latest() {
+        return this.sequence;
+    }
+
+    /**
+     * send the changes of the window to every subscriber that doesn't have a batch on its way already,
+     * the others get them when their batch was sent
+     */
+    private void flush() {
+        long latest;
+
+        synchronized (this) {
+            this.flushing = false;
+            latest = this.sequence;
+        }
+
+        for (ChangeSubscriber subscriber : this.subscribers) {
+            if (subscriber.schedule(latest)) {
+                this.senders.execute(() -> this.send(subscriber));
+            }
+        }
+    }
+
+    /**
+     * send the pending changes of a subscriber, a subscriber whose connection is gone is removed.
+     * The subscriber is finished even if there was nothing to send, otherwise it would never be scheduled again
+     */
+    private void send(ChangeSubscriber subscriber) {
+        ChangeBatch batch = subscriber.drain(this.history, this.latest(), this.bufferSize);
+
+        try {
+            if (batch != null) {
+                this.sendBatch(subscriber, batch);
+            }
+        } catch (IOException | IllegalStateException exception) {
+            this.disconnect(subscriber, exception);
+
+            return;
+        }
+
+        if (subscriber.finish(this.latest())) {
+            this.scheduler.schedule(() -> this.senders.execute(() -> this.send(subscriber)), this.window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * send a batch of changes to a subscriber, a reset is sent before the changes
+     *
+     * @throws IOException if the connection of the subscriber is gone
+     */
+    private void sendBatch(ChangeSubscriber subscriber, ChangeBatch batch) throws IOException {
+        if (batch.reset()) {
+            subscriber.getEmitter().send(SseEmitter.event()
+                    .id(String.valueOf(batch.sequence()))
+                    .name(RESET_EVENT)
+                    .data(batch.sequence()));
+        }
+
+        for (ChangeEvent event : batch.events()) {
+            subscriber.getEmitter().send(SseEmitter.event()
+                    .id(String.valueOf(event.sequence()))
+                    .name(CHANGE_EVENT)
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    /**
+     * send a comment to all subscribers, so proxies don't close idle connections and closed ones are noticed
+     */
+    private void heartbeat() {
+        for (ChangeSubscriber subscriber : this.subscribers) {
+            this.senders.execute(() -> {
+                try {
+                    subscriber.getEmitter().send(SseEmitter.event().comment(""));
+                } catch (IOException | IllegalStateException exception) {
+                    this.disconnect(subscriber, exception);
+                }
+            });
+        }
+    }
+
+    private void disconnect(ChangeSubscriber subscriber, Exception exception) {
+        LOGGER.debug("subscriber disconnected: {}", exception.getMessage());
+
+        this.subscribers.remove(subscriber);
+        subscriber.getEmitter().completeWithError(exception);
+    }
+}
@@ -0,0 +1,43 @@
+package net.fribbtastic.MyMiniaturesVault.backend.events;
+
+import com.github.lkqm.spring.api.version.ApiVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Streams the changes of Creators and Bundles as Server-Sent Events, so clients don't have to poll the lists
+ *
+ * @author Frederic Eßer
+ */
+@RestController
+@RequestMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+@ApiVersion("1")
+public class ChangeFeedController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeFeedController.class);
+
+    @Autowired
+    private ChangeFeed feed;
+
+    /**
+     * Subscribe to the changes. Every change is a '{@value ChangeFeed#CHANGE_EVENT}' event with the sequence number
+     * as its ID and the {@link ChangeEvent} as JSON. A '{@value ChangeFeed#RESET_EVENT}' event tells the client to load
+     * its lists again, it is sent first to a new subscriber and when a subscriber missed changes.
+     * An EventSource resumes with the 'Last-Event-ID' header when it reconnects, other clients can pass 'after'.
+     *
+     * @param lastEventId the sequence number of the last change the client has seen
+     * @param after the sequence number of the last change the client has seen, if there is no 'Last-Event-ID'
+     * @return the {@link SseEmitter} of the subscription
+     */
+    @GetMapping("/events")
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                                @RequestParam(required = false) Long after) {
+        LOGGER.debug("subscribe to the changes after Last-Event-ID={}, after={}", lastEventId, after);
+
+        return this.feed.subscribe(lastEventId != null ? lastEventId : after);
+    }
+}
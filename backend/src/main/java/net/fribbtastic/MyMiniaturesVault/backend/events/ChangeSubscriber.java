@@ -0,0 +1,130 @@
+package net.fribbtastic.MyMiniaturesVault.backend.events;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A subscriber of the {@link ChangeFeed} with the position of the last change it got in the history.
+ * <p>
+ * The changes aren't copied to every subscriber, a batch is collected from the shared history when it is sent. It
+ * keeps only the latest change of every entity, so a burst of updates of the same Creator is sent as one event. When
+ * more entities changed than a batch holds, or the changes aren't in the history anymore, the subscriber gets a reset
+ * instead, it has to load everything again anyway. An idle subscriber only keeps its {@link SseEmitter} and a number.
+ *
+ * @author Frederic Eßer
+ */
+final class ChangeSubscriber {
+
+    private final SseEmitter emitter;
+
+    /**
+     * the sequence number of the latest change the subscriber got
+     */
+    private long cursor;
+
+    /**
+     * true if the subscriber gets a reset with the next batch
+     */
+    private boolean reset;
+
+    /**
+     * true while a batch is scheduled or sent, so there is at most one batch on its way
+     */
+    private boolean scheduled;
+
+    /**
+     * @param emitter the {@link SseEmitter} of the subscription
+     * @param cursor the sequence number of the latest change the subscriber has seen
+     * @param reset true if the subscriber gets a reset first
+     */
+    ChangeSubscriber(SseEmitter emitter, long cursor, boolean reset) {
+        this.emitter = emitter;
+        this.cursor = cursor;
+        this.reset = reset;
+    }
+
+    SseEmitter getEmitter() {
+        return this.emitter;
+    }
+
+    /**
+     * mark the subscriber as scheduled if there is something to send and no batch on its way
+     *
+     * @param sequence the sequence number of the latest change
+     * @return true if a batch has to be scheduled
+     */
+    synchronized boolean schedule(long sequence) {
+        if (this.scheduled || (!this.reset && this.cursor >= sequence)) {
+            return false;
+        }
+
+        this.scheduled = true;
+
+        return true;
+    }
+
+    /**
+     * collect the changes after the cursor up to the latest change from the history
+     *
+     * @param history the latest changes by their sequence number modulo the length
+     * @param sequence the sequence number of the latest change
+     * @param bufferSize the maximum number of entities in a batch
+     * @return the {@link ChangeBatch}, or null if nothing is pending
+     */
+    synchronized ChangeBatch drain(ChangeEvent[] history, long sequence, int bufferSize) {
+        if (!this.reset && this.cursor >= sequence) {
+            return null;
+        }
+
+        long after = this.cursor;
+        this.cursor = sequence;
+
+        if (this.reset || sequence - after > history.length) {
+            this.reset = false;
+
+            return new ChangeBatch(true, sequence, List.of());
+        }
+
+        LinkedHashMap<UUID, ChangeEvent> pending = new LinkedHashMap<>();
+
+        for (long next = after + 1; next <= sequence; next++) {
+            ChangeEvent event = history[(int) (next % history.length)];
+
+            // the history was overwritten while the batch was collected
+            if (event == null || event.sequence() != next) {
+                return new ChangeBatch(true, sequence, List.of());
+            }
+
+            ChangeEvent previous = pending.remove(event.id());
+
+            // the subscriber hasn't seen the entity yet, an update is still its creation
+            if (previous != null && previous.action() == ChangeAction.CREATED && event.action() == ChangeAction.UPDATED) {
+                event = new ChangeEvent(event.sequence(), event.entity(), ChangeAction.CREATED, event.id());
+            }
+
+            pending.put(event.id(), event);
+
+            if (pending.size() > bufferSize) {
+                return new ChangeBatch(true, sequence, List.of());
+            }
+        }
+
+        return new ChangeBatch(false, sequence, new ArrayList<>(pending.values()));
+    }
+
+    /**
+     * the batch was sent, the subscriber can be scheduled again
+     *
+     * @param sequence the sequence number of the latest change
+     * @return true if changes arrived while the batch was sent and another batch has to be scheduled
+     */
+    synchronized boolean finish(long sequence) {
+        this.scheduled = false;
+
+        return this.schedule(sequence);
+    }
+}
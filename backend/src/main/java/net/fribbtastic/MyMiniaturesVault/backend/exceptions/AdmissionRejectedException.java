@@ -0,0 +1,24 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class AdmissionRejectedException extends ApiException {
+
+    private final Duration timeout;
+
+    public AdmissionRejectedException(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return "The request could not be admitted within " + this.timeout.toMillis() + " ms";
+    }
+}
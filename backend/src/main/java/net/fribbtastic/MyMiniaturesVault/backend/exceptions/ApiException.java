@@ -0,0 +1,38 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+/**
+ * Base class of the exceptions that are expected while handling a request (e.g. an unknown ID)
+ * and are answered with an error response by the {@link ApiExceptionHandler}.
+ * They don't fill in a stack trace and build their message only when it is requested.
+ *
+ * @author Frederic Eßer
+ */
+public abstract class ApiException extends RuntimeException {
+
+    private String message;
+
+    protected ApiException() {
+        super(null, null, false, false);
+    }
+
+    /**
+     * get the message of the exception, it is built on the first call
+     *
+     * @return the message
+     */
+    @Override
+    public String getMessage() {
+        if (this.message == null) {
+            this.message = this.buildMessage();
+        }
+
+        return this.message;
+    }
+
+    /**
+     * build the message of the exception
+     *
+     * @return the message
+     */
+    protected abstract String buildMessage();
+}
@@ -1,11 +1,24 @@
 package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolationException;
 import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.util.stream.Collectors;
 
 /**
  * @author Frederic Eßer
@@ -13,6 +26,14 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class ApiExceptionHandler {
 
+    /**
+     * the name of the counter of handled exceptions, tagged with the exception type and the status code
+     */
+    public static final String EXCEPTIONS_METRIC = "api.exceptions";
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
     /**
      * Method to handle {@link ResourceNotFoundException} and respond with an {@link ApiResponse}
      *
@@ -22,8 +43,353 @@ public class ApiExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ResponseEntity<ApiResponse<?>> handleNotFoundException(ResourceNotFoundException exception) {
+        this.count(exception, HttpStatus.NOT_FOUND);
+
         ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.NOT_FOUND, "Resource not found", exception);
 
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
+
+    /**
+     * Method to handle {@link InvalidCursorException} and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link InvalidCursorException}
+     * @return a {@link ResponseEntity} with the 400 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ApiResponse<?>> handleInvalidCursorException(InvalidCursorException exception) {
+        this.count(exception, HttpStatus.BAD_REQUEST);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.BAD_REQUEST, "Invalid cursor", exception);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Method to handle {@link OptimisticLockingFailureException} (a concurrent update of the same resource)
+     * and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link OptimisticLockingFailureException}
+     * @return a {@link ResponseEntity} with the 409 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ApiResponse<?>> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception) {
+        this.count(exception, HttpStatus.CONFLICT);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.CONFLICT, "Resource was modified concurrently", exception);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * Method to handle {@link PreconditionFailedException} (an If-Match header with an outdated ETag)
+     * and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link PreconditionFailedException}
+     * @return a {@link ResponseEntity} with the 412 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ResponseEntity<ApiResponse<?>> handlePreconditionFailedException(PreconditionFailedException exception) {
+        this.count(exception, HttpStatus.PRECONDITION_FAILED);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.PRECONDITION_FAILED, "Precondition failed", exception);
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+    }
+
+    /**
+     * Method to handle {@link DuplicateResourceException} (a resource with the same name exists already)
+     * and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link DuplicateResourceException}
+     * @return a {@link ResponseEntity} with the 409 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(DuplicateResourceException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ApiResponse<?>> handleDuplicateResourceException(DuplicateResourceException exception) {
+        this.count(exception, HttpStatus.CONFLICT);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.CONFLICT, "Resource already exists", exception);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * Method to handle {@link DataIntegrityViolationException} (e.g. a unique column that rejected a concurrent write)
+     * and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link DataIntegrityViolationException}
+     * @return a {@link ResponseEntity} with the 409 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ApiResponse<?>> handleDataIntegrityViolationException(DataIntegrityViolationException exception) {
+        this.count(exception, HttpStatus.CONFLICT);
+
+        // the message of the exception contains the SQL statement and the name of the constraint
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.CONFLICT, "Resource conflicts with the stored data",
+                new DataIntegrityViolationException("The resource conflicts with an existing resource"));
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * Method to handle {@link AdmissionRejectedException} and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link AdmissionRejectedException}
+     * @return a {@link ResponseEntity} with the 503 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(AdmissionRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ApiResponse<?>> handleAdmissionRejectedException(AdmissionRejectedException exception) {
+        this.count(exception, HttpStatus.SERVICE_UNAVAILABLE);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service unavailable", exception);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    /**
+     * Method to handle {@link ScanInProgressException} and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link ScanInProgressException}
+     * @return a {@link ResponseEntity} with the 409 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(ScanInProgressException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ApiResponse<?>> handleScanInProgressException(ScanInProgressException exception) {
+        this.count(exception, HttpStatus.CONFLICT);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.CONFLICT, "Scan already running", exception);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * Method to handle {@link BackupUnavailableException} and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link BackupUnavailableException}
+     * @return a {@link ResponseEntity} with the 409 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(BackupUnavailableException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ApiResponse<?>> handleBackupUnavailableException(BackupUnavailableException exception) {
+        this.count(exception, HttpStatus.CONFLICT);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.CONFLICT, "Backup not available", exception);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * Method to handle {@link FileUnavailableException} and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link FileUnavailableException}
+     * @return a {@link ResponseEntity} with the 404 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(FileUnavailableException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ApiResponse<?>> handleFileUnavailableException(FileUnavailableException exception) {
+        this.count(exception, HttpStatus.NOT_FOUND);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.NOT_FOUND, "File not available", exception);
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    /**
+     * Method to handle {@link ThumbnailUnavailableException} and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link ThumbnailUnavailableException}
+     * @return a {@link ResponseEntity} with the 404 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(ThumbnailUnavailableException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ApiResponse<?>> handleThumbnailUnavailableException(ThumbnailUnavailableException exception) {
+        this.count(exception, HttpStatus.NOT_FOUND);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.NOT_FOUND, "Thumbnail not available", exception);
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    /**
+     * Method to handle {@link RangeNotSatisfiableException} and respond with an {@link ApiResponse},
+     * the 'Content-Range' header tells the client the size of the file
+     *
+     * @param exception the {@link RangeNotSatisfiableException}
+     * @return a {@link ResponseEntity} with the 416 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(RangeNotSatisfiableException.class)
+    @ResponseStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+    public ResponseEntity<ApiResponse<?>> handleRangeNotSatisfiableException(RangeNotSatisfiableException exception) {
+        this.count(exception, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, "Range not satisfiable", exception);
+
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + exception.getSize())
+                .body(response);
+    }
+
+    /**
+     * Method to handle {@link ChecksumMismatchException} and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link ChecksumMismatchException}
+     * @return a {@link ResponseEntity} with the 400 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(ChecksumMismatchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ApiResponse<?>> handleChecksumMismatchException(ChecksumMismatchException exception) {
+        this.count(exception, HttpStatus.BAD_REQUEST);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.BAD_REQUEST, "Checksum mismatch", exception);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Method to handle {@link UploadConflictException} and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link UploadConflictException}
+     * @return a {@link ResponseEntity} with the 409 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(UploadConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ApiResponse<?>> handleUploadConflictException(UploadConflictException exception) {
+        this.count(exception, HttpStatus.CONFLICT);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.CONFLICT, "Upload conflict", exception);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * Method to handle {@link InsufficientStorageException} and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link InsufficientStorageException}
+     * @return a {@link ResponseEntity} with the 507 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(InsufficientStorageException.class)
+    @ResponseStatus(HttpStatus.INSUFFICIENT_STORAGE)
+    public ResponseEntity<ApiResponse<?>> handleInsufficientStorageException(InsufficientStorageException exception) {
+        this.count(exception, HttpStatus.INSUFFICIENT_STORAGE);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.INSUFFICIENT_STORAGE, "Insufficient storage", exception);
+
+        return ResponseEntity.status(HttpStatus.INSUFFICIENT_STORAGE).body(response);
+    }
+
+    /**
+     * Method to handle {@link MethodArgumentTypeMismatchException} (e.g. a malformed UUID in the path)
+     * and respond with an {@link ApiResponse} for an {@link InvalidParameterException}
+     *
+     * @param exception the {@link MethodArgumentTypeMismatchException}
+     * @return a {@link ResponseEntity} with the 400 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ApiResponse<?>> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException exception) {
+        InvalidParameterException invalidParameter = new InvalidParameterException(exception.getName(), exception.getValue());
+
+        this.count(invalidParameter, HttpStatus.BAD_REQUEST);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.BAD_REQUEST, "Invalid parameter", invalidParameter);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Method to handle {@link InvalidParameterException} and respond with an {@link ApiResponse}
+     *
+     * @param exception the {@link InvalidParameterException}
+     * @return a {@link ResponseEntity} with the 400 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(InvalidParameterException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ApiResponse<?>> handleInvalidParameterException(InvalidParameterException exception) {
+        this.count(exception, HttpStatus.BAD_REQUEST);
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.BAD_REQUEST, "Invalid parameter", exception);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Method to handle {@link HttpMessageNotReadableException} (e.g. a malformed UUID in a JSON body)
+     * and respond with an {@link ApiResponse} for an {@link InvalidParameterException}.
+     * The parameter is the path of the value in the body, or the body itself if it isn't valid JSON.
+     *
+     * @param exception the {@link HttpMessageNotReadableException}
+     * @return a {@link ResponseEntity} with the 400 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ApiResponse<?>> handleHttpMessageNotReadableException(HttpMessageNotReadableException exception) {
+        InvalidParameterException invalidParameter = exception.getCause() instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()
+                ? new InvalidParameterException(path(mapping), mapping instanceof InvalidFormatException format ? format.getValue() : null)
+                : new InvalidParameterException("body", null);
+
+        return this.handleInvalidParameterException(invalidParameter);
+    }
+
+    /**
+     * Method to handle {@link ConstraintViolationException} (a resource that failed the validation)
+     * and respond with an {@link ApiResponse} listing the violations
+     *
+     * @param exception the {@link ConstraintViolationException}
+     * @return a {@link ResponseEntity} with the 400 Status Code and the {@link ApiResponse} as body
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ApiResponse<?>> handleConstraintViolationException(ConstraintViolationException exception) {
+        this.count(exception, HttpStatus.BAD_REQUEST);
+
+        // the message of violations found by Hibernate at persist time contains internal class names
+        String details = exception.getConstraintViolations().stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.BAD_REQUEST, "Invalid resource",
+                new ConstraintViolationException(details, exception.getConstraintViolations()));
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * get the path of the value in the JSON body that couldn't be read, e.g. 'creators[1].name'
+     *
+     * @param exception the {@link JsonMappingException}
+     * @return the path
+     */
+    private static String path(JsonMappingException exception) {
+        StringBuilder path = new StringBuilder();
+
+        for (JsonMappingException.Reference reference : exception.getPath()) {
+            if (reference.getFieldName() != null) {
+                path.append(path.isEmpty() ? "" : ".").append(reference.getFieldName());
+            } else {
+                path.append('[').append(reference.getIndex()).append(']');
+            }
+        }
+
+        return path.toString();
+    }
+
+    /**
+     * count the handled exception by its type and the status code of the response.
+     * Nothing is counted when there is no {@link MeterRegistry} (e.g. in sliced tests)
+     *
+     * @param exception the handled {@link Exception}
+     * @param status the {@link HttpStatus} of the response
+     */
+    private void count(Exception exception, HttpStatus status) {
+        this.meterRegistry.ifAvailable(registry -> registry.counter(EXCEPTIONS_METRIC,
+                "exception", exception.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())).increment());
+    }
 }
@@ -0,0 +1,22 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class BackupUnavailableException extends ApiException {
+
+    private final String reason;
+
+    public BackupUnavailableException(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return this.reason;
+    }
+}
@@ -0,0 +1,25 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class ChecksumMismatchException extends ApiException {
+
+    private final String algorithm;
+
+    private final long offset;
+
+    public ChecksumMismatchException(String algorithm, long offset) {
+        this.algorithm = algorithm;
+        this.offset = offset;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return "The " + this.algorithm + " checksum of the chunk at offset " + this.offset + " doesn't match its content";
+    }
+}
@@ -0,0 +1,22 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateResourceException extends ApiException {
+
+    private final String name;
+
+    public DuplicateResourceException(String name) {
+        this.name = name;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return "Resource with the name '" + this.name + "' already exists";
+    }
+}
@@ -0,0 +1,24 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class FileUnavailableException extends ApiException {
+
+    private final UUID id;
+
+    public FileUnavailableException(UUID id) {
+        this.id = id;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return "The file with the id '" + this.id + "' can't be read from the library";
+    }
+}
@@ -0,0 +1,25 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.INSUFFICIENT_STORAGE)
+public class InsufficientStorageException extends ApiException {
+
+    private final long required;
+
+    private final long usable;
+
+    public InsufficientStorageException(long required, long usable) {
+        this.required = required;
+        this.usable = usable;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return "The upload needs " + this.required + " bytes but only " + this.usable + " bytes are free in the vault";
+    }
+}
@@ -0,0 +1,22 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends ApiException {
+
+    private final String cursor;
+
+    public InvalidCursorException(String cursor) {
+        this.cursor = cursor;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return "The cursor '" + this.cursor + "' is not valid";
+    }
+}
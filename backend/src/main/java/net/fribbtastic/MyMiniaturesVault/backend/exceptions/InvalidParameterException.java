@@ -0,0 +1,25 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidParameterException extends ApiException {
+
+    private final String name;
+
+    private final Object value;
+
+    public InvalidParameterException(String name, Object value) {
+        this.name = name;
+        this.value = value;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return "The value '" + this.value + "' is not valid for the parameter '" + this.name + "'";
+    }
+}
@@ -0,0 +1,27 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends ApiException {
+
+    private final UUID id;
+
+    private final long version;
+
+    public PreconditionFailedException(UUID id, long version) {
+        this.id = id;
+        this.version = version;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return "The resource with the id '" + this.id + "' doesn't have the expected version " + this.version + " anymore";
+    }
+}
@@ -0,0 +1,30 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+public class RangeNotSatisfiableException extends ApiException {
+
+    private final String range;
+
+    /**
+     * the size of the file in bytes
+     */
+    @Getter
+    private final long size;
+
+    public RangeNotSatisfiableException(String range, long size) {
+        this.range = range;
+        this.size = size;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return "The range '" + this.range + "' is outside of the file with " + this.size + " bytes";
+    }
+}
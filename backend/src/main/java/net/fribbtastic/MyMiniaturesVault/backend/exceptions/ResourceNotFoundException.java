@@ -9,9 +9,16 @@ import java.util.UUID;
  * @author Frederic Eßer
  */
 @ResponseStatus(HttpStatus.NOT_FOUND)
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends ApiException {
+
+    private final UUID id;
 
     public ResourceNotFoundException(UUID id) {
-        super(String.format("Resource with the id '%s' could not be found", id));
+        this.id = id;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return "Resource with the id '" + this.id + "' could not be found";
     }
 }
@@ -0,0 +1,16 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ScanInProgressException extends ApiException {
+
+    @Override
+    protected String buildMessage() {
+        return "A scan of the library is already running";
+    }
+}
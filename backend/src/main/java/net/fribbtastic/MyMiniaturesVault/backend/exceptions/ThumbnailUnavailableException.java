@@ -0,0 +1,25 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ThumbnailUnavailableException extends ApiException {
+
+    private final String hash;
+
+    private final String reason;
+
+    public ThumbnailUnavailableException(String hash, String reason) {
+        this.hash = hash;
+        this.reason = reason;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return "No thumbnail can be rendered for the content '" + this.hash + "': " + this.reason;
+    }
+}
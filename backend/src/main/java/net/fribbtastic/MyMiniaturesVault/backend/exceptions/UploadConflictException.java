@@ -0,0 +1,27 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class UploadConflictException extends ApiException {
+
+    private final UUID id;
+
+    private final String reason;
+
+    public UploadConflictException(UUID id, String reason) {
+        this.id = id;
+        this.reason = reason;
+    }
+
+    @Override
+    protected String buildMessage() {
+        return "The upload with the id '" + this.id + "' can't be changed: " + this.reason;
+    }
+}
@@ -0,0 +1,80 @@
+package net.fribbtastic.MyMiniaturesVault.backend.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the resource handlers that serve the bundled Angular frontend.
+ * <p>
+ * The build writes gzip and brotli variants next to the files, they are sent instead of the files when the client
+ * accepts them. The bundles carry a hash of their content in their names, so they never change and are cached for a
+ * year. Everything else, most of all the index.html that references the bundles, is only cached for a short time.
+ * Paths of the frontend's routes that aren't files are answered with the index.html.
+ *
+ * @author Frederic Eßer
+ */
+@Configuration
+public class FrontendConfiguration implements WebMvcConfigurer {
+
+    /**
+     * the files with a hash of their content in their names (e.g. 'main-ABCD1234.js')
+     */
+    public static final String[] HASHED_PATTERNS = {"/*-????????.js", "/*-????????.css", "/media/**"};
+
+    private final String[] locations;
+
+    /**
+     * the time the files without a hash in their names are cached
+     */
+    private final Duration maxAge;
+
+    /**
+     * the prefix of the API, requests below it are never answered with the index.html
+     */
+    private final String apiPrefix;
+
+    /**
+     * @param webProperties the {@link WebProperties} with the locations of the static resources
+     * @param maxAge the time the files without a hash in their names are cached
+     * @param apiPrefix the prefix of the API
+     */
+    public FrontendConfiguration(WebProperties webProperties,
+                                 @Value("${frontend.max-age:60s}") Duration maxAge,
+                                 @Value("${api.version.uri-prefix:/api}") String apiPrefix) {
+        this.locations = webProperties.getResources().getStaticLocations();
+        this.maxAge = maxAge;
+        this.apiPrefix = apiPrefix;
+    }
+
+    /**
+     * Add the handler for the hashed bundles and the one for all other files of the frontend.
+     * The resolved bundles are cached, the other handler resolves every request again because any path of a route
+     * resolves to the index.html.
+     *
+     * @param registry the {@link ResourceHandlerRegistry}
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(HASHED_PATTERNS)
+                .addResourceLocations(this.locations)
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
+
+        registry.addResourceHandler("/**")
+                .addResourceLocations(this.locations)
+                .setCacheControl(CacheControl.maxAge(this.maxAge).cachePublic().mustRevalidate())
+                .resourceChain(false)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new SinglePageResourceResolver(this.apiPrefix));
+    }
+}
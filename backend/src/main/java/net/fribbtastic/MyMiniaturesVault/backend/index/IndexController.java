@@ -4,6 +4,9 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 
 /**
+ * The resource handlers ignore the empty path, so the root is forwarded to the index.html of the frontend.
+ * All other routes of the frontend are resolved to it by the {@link SinglePageResourceResolver}.
+ *
  * @author Frederic Eßer
  */
 @Controller
@@ -0,0 +1,52 @@
+package net.fribbtastic.MyMiniaturesVault.backend.index;
+
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+import java.io.IOException;
+
+/**
+ * {@link PathResourceResolver} that resolves the paths of the frontend's routes (e.g. '/bundle') to the index.html,
+ * so a deep link loads the frontend directly instead of being forwarded.
+ * Paths below the API and paths of files (with an extension in the last segment) that don't exist stay unresolved.
+ *
+ * @author Frederic Eßer
+ */
+class SinglePageResourceResolver extends PathResourceResolver {
+
+    static final String INDEX = "index.html";
+
+    private final String apiPath;
+
+    /**
+     * @param apiPrefix the prefix of the API (e.g. '/api')
+     */
+    SinglePageResourceResolver(String apiPrefix) {
+        this.apiPath = apiPrefix.replaceAll("^/+|/+$", "") + "/";
+    }
+
+    @Override
+    protected Resource getResource(String resourcePath, Resource location) throws IOException {
+        Resource resource = super.getResource(resourcePath, location);
+
+        if (resource != null || !this.isRoute(resourcePath)) {
+            return resource;
+        }
+
+        return super.getResource(INDEX, location);
+    }
+
+    /**
+     * check if a path can be a route of the frontend
+     *
+     * @param resourcePath the path relative to the location
+     * @return true if the path isn't below the API and its last segment has no extension
+     */
+    boolean isRoute(String resourcePath) {
+        if (resourcePath.startsWith(this.apiPath) || resourcePath.equals(this.apiPath.substring(0, this.apiPath.length() - 1))) {
+            return false;
+        }
+
+        return resourcePath.indexOf('.', resourcePath.lastIndexOf('/') + 1) < 0;
+    }
+}
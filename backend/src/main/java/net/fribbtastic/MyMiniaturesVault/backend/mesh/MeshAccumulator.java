@@ -0,0 +1,85 @@
+package net.fribbtastic.MyMiniaturesVault.backend.mesh;
+
+/**
+ * Accumulates the bounding box, the surface area and the signed volume of triangles without allocating anything per triangle.
+ * One accumulator is used per chunk of a file, the accumulators of all chunks are combined afterward.
+ *
+ * @author Frederic Eßer
+ */
+final class MeshAccumulator implements TriangleConsumer {
+
+    private long triangles;
+
+    private double minX = Double.POSITIVE_INFINITY;
+    private double minY = Double.POSITIVE_INFINITY;
+    private double minZ = Double.POSITIVE_INFINITY;
+    private double maxX = Double.NEGATIVE_INFINITY;
+    private double maxY = Double.NEGATIVE_INFINITY;
+    private double maxZ = Double.NEGATIVE_INFINITY;
+
+    /**
+     * twice the surface area
+     */
+    private double area;
+
+    /**
+     * six times the signed volume
+     */
+    private double volume;
+
+    @Override
+    public void accept(double x1, double y1, double z1, double x2, double y2, double z2, double x3, double y3, double z3) {
+        this.triangles++;
+
+        this.minX = Math.min(this.minX, Math.min(x1, Math.min(x2, x3)));
+        this.minY = Math.min(this.minY, Math.min(y1, Math.min(y2, y3)));
+        this.minZ = Math.min(this.minZ, Math.min(z1, Math.min(z2, z3)));
+        this.maxX = Math.max(this.maxX, Math.max(x1, Math.max(x2, x3)));
+        this.maxY = Math.max(this.maxY, Math.max(y1, Math.max(y2, y3)));
+        this.maxZ = Math.max(this.maxZ, Math.max(z1, Math.max(z2, z3)));
+
+        // the length of the cross product of two edges is twice the area of the triangle
+        double ux = x2 - x1, uy = y2 - y1, uz = z2 - z1;
+        double vx = x3 - x1, vy = y3 - y1, vz = z3 - z1;
+        double cx = uy * vz - uz * vy;
+        double cy = uz * vx - ux * vz;
+        double cz = ux * vy - uy * vx;
+        this.area += Math.sqrt(cx * cx + cy * cy + cz * cz);
+
+        // the triple product is six times the signed volume of the tetrahedron with the origin
+        this.volume += x1 * (y2 * z3 - z2 * y3) - y1 * (x2 * z3 - z2 * x3) + z1 * (x2 * y3 - y2 * x3);
+    }
+
+    /**
+     * combine the triangles of another accumulator into this one
+     *
+     * @param other the other {@link MeshAccumulator}
+     * @return this accumulator
+     */
+    MeshAccumulator combine(MeshAccumulator other) {
+        this.triangles += other.triangles;
+        this.minX = Math.min(this.minX, other.minX);
+        this.minY = Math.min(this.minY, other.minY);
+        this.minZ = Math.min(this.minZ, other.minZ);
+        this.maxX = Math.max(this.maxX, other.maxX);
+        this.maxY = Math.max(this.maxY, other.maxY);
+        this.maxZ = Math.max(this.maxZ, other.maxZ);
+        this.area += other.area;
+        this.volume += other.volume;
+
+        return this;
+    }
+
+    /**
+     * create the metadata of all added triangles, a mesh without triangles has no size
+     *
+     * @return the {@link MeshMetadata}
+     */
+    MeshMetadata toMetadata() {
+        if (this.triangles == 0) {
+            return new MeshMetadata(0, 0, 0, 0, 0, 0);
+        }
+
+        return new MeshMetadata(this.triangles, this.maxX - this.minX, this.maxY - this.minY, this.maxZ - this.minZ, this.area / 2, this.volume / 6);
+    }
+}
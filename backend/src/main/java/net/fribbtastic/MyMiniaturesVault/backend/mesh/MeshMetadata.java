@@ -0,0 +1,56 @@
+package net.fribbtastic.MyMiniaturesVault.backend.mesh;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * The geometry of a mesh, in the units of the file (usually millimeters).
+ * The size of the mesh is the size of its axis-aligned bounding box.
+ *
+ * @author Frederic Eßer
+ */
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class MeshMetadata {
+
+    /**
+     * the number of triangles
+     */
+    @Column(name = "triangles")
+    private long triangles;
+
+    /**
+     * the size along the X axis
+     */
+    @Column(name = "width")
+    private double width;
+
+    /**
+     * the size along the Y axis
+     */
+    @Column(name = "depth")
+    private double depth;
+
+    /**
+     * the size along the Z axis (the height of a miniature standing on its base)
+     */
+    @Column(name = "height")
+    private double height;
+
+    /**
+     * the sum of the areas of all triangles
+     */
+    @Column(name = "surface_area")
+    private double surfaceArea;
+
+    /**
+     * the signed volume enclosed by the triangles, it is negative when the triangles are oriented inwards
+     */
+    @Column(name = "volume")
+    private double volume;
+}
@@ -0,0 +1,425 @@
+package net.fribbtastic.MyMiniaturesVault.backend.mesh;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+/**
+ * Reads the {@link MeshMetadata} of binary and ASCII STL files.
+ * <p>
+ * The file is memory-mapped and read in place, the triangles are never copied into objects, so one pass over a file
+ * only allocates one {@link MeshAccumulator} per chunk. Large files are split into chunks that are read in parallel
+ * (in the current {@link java.util.concurrent.ForkJoinPool} or the common pool). Every chunk is mapped separately,
+ * so files larger than 2 GB can be read as well.
+ * <p>
+ * A binary STL has an 80 byte header, the number of triangles as unsigned 32-bit integer and 50 bytes per triangle
+ * (normal, 3 vertices and an attribute), all little-endian. Files that start with {@code solid} are only read as ASCII
+ * when their size doesn't match a binary STL, because some exporters write {@code solid} into binary headers as well.
+ *
+ * @author Frederic Eßer
+ */
+public final class StlParser {
+
+    /**
+     * reads large files in parallel
+     */
+    public static final StlParser PARALLEL = new StlParser(Runtime.getRuntime().availableProcessors(), 8L << 20);
+
+    /**
+     * reads every file in one chunk on the calling thread
+     */
+    public static final StlParser SEQUENTIAL = new StlParser(1, Long.MAX_VALUE);
+
+    private static final int HEADER_SIZE = 84;
+    private static final int TRIANGLE_SIZE = 50;
+    private static final int VERTICES_OFFSET = 12;
+
+    /**
+     * the maximum size of one mapped chunk
+     */
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    /**
+     * the number of bytes that are searched for the end of a facet when an ASCII file is split
+     */
+    private static final int FACET_SEARCH_WINDOW = 4096;
+
+    private static final byte[] SOLID = {'s', 'o', 'l', 'i', 'd'};
+    private static final byte[] VERTEX = {'v', 'e', 'r', 't', 'e', 'x'};
+    private static final byte[] END_FACET = {'e', 'n', 'd', 'f', 'a', 'c', 'e', 't'};
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final int parallelism;
+
+    private final long minChunkSize;
+
+    /**
+     * @param parallelism the maximum number of chunks that are read in parallel
+     * @param minChunkSize the minimum size of a chunk in bytes, smaller files are read in one chunk
+     */
+    StlParser(int parallelism, long minChunkSize) {
+        this.parallelism = parallelism;
+        this.minChunkSize = minChunkSize;
+    }
+
+    /**
+     * read the {@link MeshMetadata} of an STL file
+     *
+     * @param file the {@link Path} of the file
+     * @return the {@link MeshMetadata}
+     * @throws IOException when the file can't be read or is not an STL file
+     */
+    public MeshMetadata parse(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Chunks chunks = split(channel, file, this.parallelism, this.minChunkSize);
+            IntStream indices = IntStream.range(0, chunks.count());
+
+            return (chunks.count() > 1 ? indices.parallel() : indices)
+                    .mapToObj(chunk -> {
+                        MeshAccumulator accumulator = new MeshAccumulator();
+
+                        try {
+                            chunks.reader().read(chunk, accumulator);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+
+                        return accumulator;
+                    })
+                    .reduce(MeshAccumulator::combine)
+                    .orElseGet(MeshAccumulator::new)
+                    .toMetadata();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * read all triangles of an STL file in the order of the file on the calling thread
+     *
+     * @param file the {@link Path} of the file
+     * @param consumer the {@link TriangleConsumer} that receives the triangles
+     * @throws IOException when the file can't be read or is not an STL file
+     */
+    public static void read(Path file, TriangleConsumer consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Chunks chunks = split(channel, file, 1, Long.MAX_VALUE);
+
+            for (int chunk = 0; chunk < chunks.count(); chunk++) {
+                chunks.reader().read(chunk, consumer);
+            }
+        }
+    }
+
+    /**
+     * split a binary or ASCII STL into chunks of whole triangles
+     */
+    private static Chunks split(FileChannel channel, Path file, int parallelism, long minChunkSize) throws IOException {
+        long size = channel.size();
+
+        if (isBinary(channel, size)) {
+            return splitBinary(channel, (size - HEADER_SIZE) / TRIANGLE_SIZE, parallelism, minChunkSize);
+        }
+
+        if (startsWith(channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, SOLID.length)), 0, SOLID)) {
+            return splitAscii(channel, size, parallelism, minChunkSize);
+        }
+
+        throw new IOException("'" + file + "' is not an STL file");
+    }
+
+    /**
+     * check if the number of triangles in the header matches the size of the file
+     */
+    private static boolean isBinary(FileChannel channel, long size) throws IOException {
+        if (size < HEADER_SIZE) {
+            return false;
+        }
+
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        long triangles = Integer.toUnsignedLong(header.order(ByteOrder.LITTLE_ENDIAN).getInt(80));
+
+        return HEADER_SIZE + triangles * TRIANGLE_SIZE == size;
+    }
+
+    /**
+     * get the number of chunks for a file, the chunks are as large as possible but not larger than {@link #MAX_CHUNK_SIZE}
+     */
+    private static int chunks(long size, int parallelism, long minChunkSize) {
+        long parts = Math.clamp(size / minChunkSize, 1, parallelism);
+
+        return (int) Math.max(parts, (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * split a binary STL, every chunk contains a whole number of triangles
+     */
+    private static Chunks splitBinary(FileChannel channel, long triangles, int parallelism, long minChunkSize) {
+        int chunks = chunks(triangles * TRIANGLE_SIZE, parallelism, minChunkSize);
+
+        return new Chunks(chunks, (chunk, consumer) -> {
+            long first = triangles * chunk / chunks;
+            long last = triangles * (chunk + 1) / chunks;
+
+            readBinary(channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * TRIANGLE_SIZE, (last - first) * TRIANGLE_SIZE), (int) (last - first), consumer);
+        });
+    }
+
+    /**
+     * read the triangles of a mapped chunk of a binary STL
+     */
+    private static void readBinary(MappedByteBuffer buffer, int triangles, TriangleConsumer consumer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        for (int i = 0, offset = VERTICES_OFFSET; i < triangles; i++, offset += TRIANGLE_SIZE) {
+            consumer.accept(
+                    buffer.getFloat(offset), buffer.getFloat(offset + 4), buffer.getFloat(offset + 8),
+                    buffer.getFloat(offset + 12), buffer.getFloat(offset + 16), buffer.getFloat(offset + 20),
+                    buffer.getFloat(offset + 24), buffer.getFloat(offset + 28), buffer.getFloat(offset + 32));
+        }
+    }
+
+    /**
+     * split an ASCII STL, the chunks end directly after an {@code endfacet} so every chunk contains whole facets
+     */
+    private static Chunks splitAscii(FileChannel channel, long size, int parallelism, long minChunkSize) throws IOException {
+        int chunks = chunks(size, parallelism, minChunkSize);
+        long[] boundaries = new long[chunks + 1];
+        boundaries[chunks] = size;
+
+        for (int chunk = 1; chunk < chunks; chunk++) {
+            boundaries[chunk] = Math.max(boundaries[chunk - 1], endOfFacet(channel, size * chunk / chunks, size));
+        }
+
+        return new Chunks(chunks, (chunk, consumer) -> {
+            long start = boundaries[chunk];
+            long end = boundaries[chunk + 1];
+
+            new AsciiReader(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start)).read(consumer);
+        });
+    }
+
+    /**
+     * find the position directly after the next {@code endfacet} keyword
+     *
+     * @return the position or the size of the file if there is no further facet
+     */
+    private static long endOfFacet(FileChannel channel, long position, long size) throws IOException {
+        while (position < size) {
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(FACET_SEARCH_WINDOW, size - position));
+            int limit = window.limit();
+
+            for (int i = 0; i + END_FACET.length <= limit; i++) {
+                if (startsWith(window, i, END_FACET)) {
+                    return position + i + END_FACET.length;
+                }
+            }
+
+            // continue with some overlap in case the keyword crosses the end of the window
+            position += Math.max(1, limit - END_FACET.length);
+
+            if (limit < FACET_SEARCH_WINDOW) {
+                break;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * check if the buffer contains the bytes at the position
+     */
+    private static boolean startsWith(MappedByteBuffer buffer, int position, byte[] bytes) {
+        if (position + bytes.length > buffer.limit()) {
+            return false;
+        }
+
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(position + i) != bytes[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * reads one chunk of a file
+     */
+    @FunctionalInterface
+    private interface ChunkReader {
+        void read(int chunk, TriangleConsumer consumer) throws IOException;
+    }
+
+    /**
+     * the chunks of a file
+     *
+     * @param count the number of chunks
+     * @param reader the {@link ChunkReader} of the chunks
+     */
+    private record Chunks(int count, ChunkReader reader) {
+    }
+
+    /**
+     * Reads the vertices of a mapped chunk of an ASCII STL.
+     * Only the {@code vertex} lines are read, every three vertices form a triangle.
+     * The numbers are parsed directly from the bytes without creating Strings.
+     */
+    private static final class AsciiReader {
+
+        private final MappedByteBuffer buffer;
+
+        private final int limit;
+
+        private int position;
+
+        private AsciiReader(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+            this.limit = buffer.limit();
+        }
+
+        private void read(TriangleConsumer consumer) throws IOException {
+            while (this.nextVertex()) {
+                double x1 = this.nextNumber(), y1 = this.nextNumber(), z1 = this.nextNumber();
+
+                if (!this.nextVertex()) {
+                    throw new IOException("incomplete facet in ASCII STL");
+                }
+
+                double x2 = this.nextNumber(), y2 = this.nextNumber(), z2 = this.nextNumber();
+
+                if (!this.nextVertex()) {
+                    throw new IOException("incomplete facet in ASCII STL");
+                }
+
+                double x3 = this.nextNumber(), y3 = this.nextNumber(), z3 = this.nextNumber();
+
+                consumer.accept(x1, y1, z1, x2, y2, z2, x3, y3, z3);
+            }
+        }
+
+        /**
+         * move behind the next {@code vertex} keyword
+         *
+         * @return 'false' if there are no more vertices in the chunk
+         */
+        private boolean nextVertex() {
+            for (int i = this.position; i + VERTEX.length <= this.limit; i++) {
+                if (this.buffer.get(i) == 'v' && startsWith(this.buffer, i, VERTEX) && (i == 0 || isWhitespace(this.buffer.get(i - 1)))) {
+                    this.position = i + VERTEX.length;
+                    return true;
+                }
+            }
+
+            this.position = this.limit;
+
+            return false;
+        }
+
+        /**
+         * parse the next decimal number (with an optional sign, fraction and exponent)
+         */
+        private double nextNumber() throws IOException {
+            while (this.position < this.limit && isWhitespace(this.buffer.get(this.position))) {
+                this.position++;
+            }
+
+            boolean negative = false;
+
+            if (this.position < this.limit && (this.buffer.get(this.position) == '-' || this.buffer.get(this.position) == '+')) {
+                negative = this.buffer.get(this.position) == '-';
+                this.position++;
+            }
+
+            long mantissa = 0;
+            int significantDigits = 0;
+            int digits = 0;
+            int exponent = 0;
+            boolean fraction = false;
+
+            for (; this.position < this.limit; this.position++) {
+                byte current = this.buffer.get(this.position);
+
+                if (current == '.' && !fraction) {
+                    fraction = true;
+                    continue;
+                }
+
+                if (current < '0' || current > '9') {
+                    break;
+                }
+
+                digits++;
+
+                // the remaining digits don't fit into the mantissa and don't change a float value anymore
+                if (significantDigits < 18) {
+                    if (mantissa != 0 || current != '0') {
+                        significantDigits++;
+                    }
+
+                    mantissa = mantissa * 10 + (current - '0');
+
+                    if (fraction) {
+                        exponent--;
+                    }
+                } else if (!fraction) {
+                    exponent++;
+                }
+            }
+
+            if (digits == 0) {
+                throw new IOException("invalid number in ASCII STL");
+            }
+
+            if (this.position < this.limit && (this.buffer.get(this.position) == 'e' || this.buffer.get(this.position) == 'E')) {
+                this.position++;
+                exponent += this.nextExponent();
+            }
+
+            double value = exponent >= 0
+                    ? mantissa * (exponent < POWERS_OF_TEN.length ? POWERS_OF_TEN[exponent] : Math.pow(10, exponent))
+                    : mantissa / (-exponent < POWERS_OF_TEN.length ? POWERS_OF_TEN[-exponent] : Math.pow(10, -exponent));
+
+            return negative ? -value : value;
+        }
+
+        /**
+         * parse the integer exponent after the 'e'
+         */
+        private int nextExponent() throws IOException {
+            boolean negative = false;
+
+            if (this.position < this.limit && (this.buffer.get(this.position) == '-' || this.buffer.get(this.position) == '+')) {
+                negative = this.buffer.get(this.position) == '-';
+                this.position++;
+            }
+
+            int exponent = 0;
+            int start = this.position;
+
+            while (this.position < this.limit && this.buffer.get(this.position) >= '0' && this.buffer.get(this.position) <= '9') {
+                exponent = Math.min(exponent * 10 + (this.buffer.get(this.position) - '0'), 1000);
+                this.position++;
+            }
+
+            if (this.position == start) {
+                throw new IOException("invalid exponent in ASCII STL");
+            }
+
+            return negative ? -exponent : exponent;
+        }
+
+        private static boolean isWhitespace(byte value) {
+            return value == ' ' || value == '\t' || value == '\r' || value == '\n';
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package net.fribbtastic.MyMiniaturesVault.backend.mesh;
+
+/**
+ * Receives the triangles of a mesh one after another, the vertices are passed as primitives so no objects are created per triangle
+ *
+ * @author Frederic Eßer
+ */
+@FunctionalInterface
+public interface TriangleConsumer {
+
+    /**
+     * accept one triangle
+     */
+    void accept(double x1, double y1, double z1, double x2, double y2, double z2, double x3, double y3, double z3);
+}
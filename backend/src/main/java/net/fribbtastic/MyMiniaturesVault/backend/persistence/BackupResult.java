@@ -0,0 +1,15 @@
+package net.fribbtastic.MyMiniaturesVault.backend.persistence;
+
+import java.time.Instant;
+
+/**
+ * A backup of the Database written by {@link DatabaseBackup}
+ *
+ * @param name the name of the archive in the folder of the backups
+ * @param size the size of the archive in bytes
+ * @param startedAt the time the backup was started, the archive contains the Database of this time
+ * @param durationMillis the duration of the backup in milliseconds
+ * @author Frederic Eßer
+ */
+public record BackupResult(String name, long size, Instant startedAt, long durationMillis) {
+}
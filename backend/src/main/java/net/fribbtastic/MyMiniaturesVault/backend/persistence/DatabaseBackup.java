@@ -0,0 +1,141 @@
+package net.fribbtastic.MyMiniaturesVault.backend.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.BackupUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Backs up the Database file while the application keeps running.
+ * <p>
+ * H2 copies the pages of the Database file into a ZIP archive in 'database.backup-path' without locking any table, so
+ * requests and scans continue during the backup. The archive is consistent, because the pages written during the
+ * backup are never the ones that are copied. Only the latest 'database.backup-count' archives are kept. A Database in
+ * memory has no file and can't be backed up.
+ *
+ * @author Frederic Eßer
+ */
+@Service
+public class DatabaseBackup implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseBackup.class);
+
+    /**
+     * the name of the timer with the duration of the backups
+     */
+    public static final String DURATION_METRIC = "database.backup.duration";
+
+    /**
+     * the prefix of the names of the archives, followed by the time of the backup
+     */
+    public static final String FILE_PREFIX = "vault-";
+
+    public static final String FILE_SUFFIX = ".zip";
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * the folder of the archives
+     */
+    @Value("${database.backup-path:backups}")
+    private Path path;
+
+    /**
+     * the number of archives that are kept
+     */
+    @Value("${database.backup-count:7}")
+    private int count;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile MeterRegistry registry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * back up the Database file into a new archive and delete the oldest archives
+     *
+     * @return the {@link BackupResult} with the archive
+     */
+    public BackupResult backup() {
+        String url = this.jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getURL());
+
+        if (url == null || url.startsWith("jdbc:h2:mem:")) {
+            throw new BackupUnavailableException("The Database is kept in memory and has no file to back up");
+        }
+
+        if (!this.running.compareAndSet(false, true)) {
+            throw new BackupUnavailableException("A backup of the Database is already running");
+        }
+
+        try {
+            Instant startedAt = Instant.now();
+            Path file = this.path.resolve(FILE_PREFIX + TIME_FORMAT.format(startedAt) + FILE_SUFFIX).toAbsolutePath();
+
+            LOGGER.debug("back up the Database to {}", file);
+
+            Files.createDirectories(this.path);
+            this.jdbcTemplate.execute("BACKUP TO '" + file.toString().replace("'", "''") + "'");
+
+            Duration duration = Duration.between(startedAt, Instant.now());
+            MeterRegistry registry = this.registry;
+
+            if (registry != null) {
+                registry.timer(DURATION_METRIC).record(duration);
+            }
+
+            this.deleteOldBackups();
+
+            return new BackupResult(file.getFileName().toString(), Files.size(file), startedAt, duration.toMillis());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            this.running.set(false);
+        }
+    }
+
+    /**
+     * delete the oldest archives above the number of archives that are kept, their names sort by their time
+     */
+    private void deleteOldBackups() throws IOException {
+        List<Path> backups;
+
+        try (Stream<Path> files = Files.list(this.path)) {
+            backups = files
+                    .filter(file -> file.getFileName().toString().startsWith(FILE_PREFIX) && file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                    .toList();
+        }
+
+        for (Path backup : backups.subList(Math.min(this.count, backups.size()), backups.size())) {
+            LOGGER.debug("delete the old backup {}", backup);
+
+            Files.deleteIfExists(backup);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package net.fribbtastic.MyMiniaturesVault.backend.persistence;
+
+import com.github.lkqm.spring.api.version.ApiVersion;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author Frederic Eßer
+ */
+@RestController
+@RequestMapping(path = "/database", produces = "application/json")
+@ApiVersion("1")
+public class DatabaseController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseController.class);
+
+    @Autowired
+    private DatabaseBackup backup;
+
+    /**
+     * Back up the Database into a new archive, the application keeps serving requests meanwhile
+     *
+     * @return the {@link ApiResponse} with the {@link BackupResult} wrapped in a {@link ResponseEntity}
+     */
+    @PostMapping("/backup")
+    public ResponseEntity<ApiResponse<BackupResult>> backup() {
+        LOGGER.debug("back up the Database");
+
+        ApiResponse<BackupResult> response = ApiResponse.createSuccessResponse(HttpStatus.CREATED, this.backup.backup());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
@@ -0,0 +1,41 @@
+package net.fribbtastic.MyMiniaturesVault.backend.persistence;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Applies the settings of the H2 Database that can't be part of the URL in the properties.
+ * <p>
+ * The page cache of the Database file holds the most recently used pages of the tables and indexes in memory. The
+ * default of H2 (16 MB per GB of heap) is too small to keep the index of a large library in memory, so the size is
+ * set explicitly with 'database.cache-size'. It is applied to a Database in memory as well, where it has no effect.
+ *
+ * @author Frederic Eßer
+ */
+@Component
+public class DatabaseSettings {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseSettings.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * the size of the page cache of the Database
+     */
+    @Value("${database.cache-size:64MB}")
+    private DataSize cacheSize;
+
+    @PostConstruct
+    public void apply() {
+        LOGGER.debug("set the page cache of the Database to {}", this.cacheSize);
+
+        this.jdbcTemplate.execute("SET CACHE_SIZE " + this.cacheSize.toKilobytes());
+    }
+}
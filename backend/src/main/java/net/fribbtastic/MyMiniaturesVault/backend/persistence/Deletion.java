@@ -0,0 +1,44 @@
+package net.fribbtastic.MyMiniaturesVault.backend.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeEntity;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.Instant;
+
+/**
+ * The time and the number of the deletions of entities of one kind.
+ * A deletion doesn't leave an updated row behind, so the version of a list can't be derived from the remaining rows alone.
+ *
+ * @author Frederic Eßer
+ */
+@Entity
+@Table(name = "DELETIONS")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class Deletion {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private ChangeEntity entity;
+
+    /**
+     * the time of the last deletion
+     */
+    @Column(nullable = false)
+    private Instant deletedAt;
+
+    /**
+     * the number of recorded deletions, only ever incremented so that it tells two versions of a list apart
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long total;
+}
@@ -0,0 +1,31 @@
+package net.fribbtastic.MyMiniaturesVault.backend.persistence;
+
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+/**
+ * @author Frederic Eßer
+ */
+public interface DeletionRepository extends JpaRepository<Deletion, ChangeEntity> {
+
+    /**
+     * Record the deletion of entities with a single statement, the row of the kind is created with the first deletion.
+     * The time of the last deletion never moves back, even if an earlier deletion is committed later,
+     * and the number of deletions is incremented with every recorded deletion.
+     * Has to be called inside a transaction.
+     *
+     * @param entity the name of the {@link ChangeEntity} of the deleted entities
+     * @param deletedAt the time of the deletion
+     * @return the number of changed rows
+     */
+    @Modifying
+    @Query(value = "MERGE INTO DELETIONS d USING (VALUES (CAST(:entity AS VARCHAR(32)), CAST(:deletedAt AS TIMESTAMP(6) WITH TIME ZONE))) s(entity, deleted_at) ON d.entity = s.entity " +
+            "WHEN MATCHED THEN UPDATE SET d.deleted_at = GREATEST(d.deleted_at, s.deleted_at), d.total = d.total + 1 " +
+            "WHEN NOT MATCHED THEN INSERT (entity, deleted_at, total) VALUES (s.entity, s.deleted_at, 1)", nativeQuery = true)
+    int record(@Param("entity") String entity, @Param("deletedAt") Instant deletedAt);
+}
@@ -0,0 +1,35 @@
+package net.fribbtastic.MyMiniaturesVault.backend.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers for the in-memory indexes that follow the changes of the Database
+ *
+ * @author Frederic Eßer
+ */
+public final class Transactions {
+
+    private Transactions() {
+    }
+
+    /**
+     * run a change after the current transaction was committed, or immediately without a transaction.
+     * A change of a transaction that is rolled back is never run.
+     *
+     * @param change the change
+     */
+    public static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package net.fribbtastic.MyMiniaturesVault.backend.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the ID of an Entity to be generated as time-ordered version 7 {@link java.util.UUID}
+ * by the {@link UuidV7Generator}.
+ * Replaces {@code @GeneratedValue(strategy = GenerationType.UUID)}, which generates random version 4 UUIDs.
+ *
+ * @author Frederic Eßer
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
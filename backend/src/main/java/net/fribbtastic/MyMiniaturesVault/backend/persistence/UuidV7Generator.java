@@ -0,0 +1,62 @@
+package net.fribbtastic.MyMiniaturesVault.backend.persistence;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator for time-ordered version 7 {@link UUID}s (RFC 9562).
+ * <p>
+ * The first 48 bits are the Unix timestamp in milliseconds, followed by a 12-bit counter (in the 'rand_a' field)
+ * and 62 random bits. New IDs are therefore always inserted at the end of the primary key index instead of
+ * at random positions.
+ * <p>
+ * The timestamp and the counter are kept in a single {@link AtomicLong}, so the generated UUIDs are strictly
+ * increasing within the JVM without any locking. If more than 4096 UUIDs are generated within one millisecond,
+ * the counter overflows into the timestamp, which then runs slightly ahead of the clock until it catches up.
+ *
+ * @author Frederic Eßer
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    /**
+     * the timestamp (in milliseconds) and the counter of the last generated UUID
+     */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    /**
+     * Generate the next version 7 UUID
+     *
+     * @return the {@link UUID}
+     */
+    public static UUID generateUuid() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long next = LAST.updateAndGet(last -> Math.max(last + 1, now));
+
+        long mostSignificantBits = (next >>> COUNTER_BITS) << 16 | VERSION | (next & 0xFFFL);
+        long leastSignificantBits = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return generateUuid();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -27,6 +27,12 @@ public class ApiResponse<T> {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private T data;
 
+    /**
+     * the Cursor to request the next page of data, only set for paginated responses that have more data
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String next;
+
     /**
      * the Error Objects, containing information about the error
      */
@@ -50,6 +56,22 @@ public class ApiResponse<T> {
         return response;
     }
 
+    /**
+     * Create a SuccessResponse with the data Object and the Cursor of the next page
+     *
+     * @param status the {@link HttpStatus}
+     * @param data the data Object
+     * @param next the Cursor of the next page or 'null' if there is none
+     * @param <T> Generic Type of the {@link ApiResponse} to be able to handle different types
+     * @return an {@link ApiResponse} Object with the data and next element set
+     */
+    public static <T> ApiResponse<T> createSuccessResponse(HttpStatus status, T data, String next) {
+        ApiResponse<T> response = createSuccessResponse(status, data);
+        response.setNext(next);
+
+        return response;
+    }
+
     /**
      * Create a Failure response with an error Element
      *
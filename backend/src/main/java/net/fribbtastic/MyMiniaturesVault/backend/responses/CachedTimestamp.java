@@ -0,0 +1,56 @@
+package net.fribbtastic.MyMiniaturesVault.backend.responses;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * The current time formatted as ISO-8601 timestamp with offset, in seconds precision.
+ * The formatted timestamp is kept for the whole second so that it is only formatted (and encoded as JSON string) once per second.
+ *
+ * @author Frederic Eßer
+ */
+public class CachedTimestamp {
+
+    /**
+     * the shared instance using the system clock
+     */
+    public static final CachedTimestamp SYSTEM = new CachedTimestamp(Clock.systemDefaultZone());
+
+    private final Clock clock;
+
+    private volatile Entry current = new Entry(Long.MIN_VALUE, null);
+
+    public CachedTimestamp(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * get the current timestamp
+     *
+     * @return the timestamp as pre-serialized JSON string
+     */
+    public SerializedString now() {
+        long epochSecond = Math.floorDiv(this.clock.millis(), 1000);
+        Entry entry = this.current;
+
+        if (entry.epochSecond() != epochSecond) {
+            String timestamp = DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(Instant.ofEpochSecond(epochSecond).atZone(this.clock.getZone()));
+            entry = new Entry(epochSecond, new SerializedString(timestamp));
+            this.current = entry;
+        }
+
+        return entry.timestamp();
+    }
+
+    /**
+     * the formatted timestamp of one second
+     *
+     * @param epochSecond the second since the epoch
+     * @param timestamp the formatted timestamp
+     */
+    private record Entry(long epochSecond, SerializedString timestamp) {
+    }
+}
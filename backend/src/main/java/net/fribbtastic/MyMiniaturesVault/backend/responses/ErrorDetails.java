@@ -1,17 +1,31 @@
 package net.fribbtastic.MyMiniaturesVault.backend.responses;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.AccessLevel;
 import lombok.Getter;
 
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Frederic Eßer
  */
 @Getter
+@JsonSerialize(using = ErrorDetailsSerializer.class)
 public class ErrorDetails {
 
+    /**
+     * the maximum number of distinct messages and exception types that are kept pre-serialized
+     */
+    private static final int MAX_FRAGMENTS = 256;
+
+    /**
+     * the pre-serialized messages and exception types, they are constants of the error handling
+     */
+    private static final Map<String, SerializedString> FRAGMENTS = new ConcurrentHashMap<>();
+
     /**
      * the Type of the exception
      */
@@ -33,9 +47,18 @@ public class ErrorDetails {
      */
     private final String timestamp;
 
+    @Getter(AccessLevel.PACKAGE)
+    private final SerializedString serializedExceptionType;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final SerializedString serializedMessage;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final SerializedString serializedTimestamp;
+
     /**
      * Construct an ErrorDetails Element by setting the message, a detailed error description and the type of the Exception.
-     * This will add the current {@link java.sql.Timestamp} on Creation
+     * This will add the current timestamp (in seconds precision) on Creation
      *
      * @param message a short message of the error
      * @param details a more detailed description about the error
@@ -45,6 +68,33 @@ public class ErrorDetails {
         this.message = message;
         this.details = details;
         this.exceptionType = type;
-        this.timestamp = ZonedDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        this.serializedMessage = fragment(message);
+        this.serializedExceptionType = fragment(type);
+        this.serializedTimestamp = CachedTimestamp.SYSTEM.now();
+        this.timestamp = this.serializedTimestamp.getValue();
+    }
+
+    /**
+     * get the pre-serialized JSON string of a constant part of the error
+     *
+     * @param value the value
+     * @return the {@link SerializedString} or 'null' if the value is 'null'
+     */
+    private static SerializedString fragment(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        SerializedString fragment = FRAGMENTS.get(value);
+
+        if (fragment == null) {
+            fragment = new SerializedString(value);
+
+            if (FRAGMENTS.size() < MAX_FRAGMENTS) {
+                FRAGMENTS.putIfAbsent(value, fragment);
+            }
+        }
+
+        return fragment;
     }
 }
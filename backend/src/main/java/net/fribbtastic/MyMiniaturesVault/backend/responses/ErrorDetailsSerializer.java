@@ -0,0 +1,67 @@
+package net.fribbtastic.MyMiniaturesVault.backend.responses;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Serializer for {@link ErrorDetails} that writes the field names, the message, the exception type and the timestamp
+ * from their pre-serialized form, only the details are encoded for every error.
+ *
+ * @author Frederic Eßer
+ */
+public class ErrorDetailsSerializer extends StdSerializer<ErrorDetails> {
+
+    private static final SerializedString EXCEPTION_TYPE = new SerializedString("exceptionType");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DETAILS = new SerializedString("details");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+    public ErrorDetailsSerializer() {
+        super(ErrorDetails.class);
+    }
+
+    @Override
+    public void serialize(ErrorDetails value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(value);
+
+        if (value.getSerializedExceptionType() != null) {
+            generator.writeFieldName(EXCEPTION_TYPE);
+            generator.writeString(value.getSerializedExceptionType());
+        }
+
+        generator.writeFieldName(MESSAGE);
+        writeString(generator, value.getSerializedMessage());
+
+        generator.writeFieldName(DETAILS);
+
+        if (value.getDetails() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value.getDetails());
+        }
+
+        generator.writeFieldName(TIMESTAMP);
+        generator.writeString(value.getSerializedTimestamp());
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * write a pre-serialized string or 'null'
+     *
+     * @param generator the {@link JsonGenerator}
+     * @param value the {@link SerializedString}, may be 'null'
+     * @throws IOException when writing fails
+     */
+    private static void writeString(JsonGenerator generator, SerializedString value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package net.fribbtastic.MyMiniaturesVault.backend.scanner;
+
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.MeshMetadata;
+
+import java.util.UUID;
+
+/**
+ * A file of the index whose size or modification time changed on disk
+ *
+ * @param id the ID of the file
+ * @param size the new size of the file in bytes
+ * @param lastModified the new modification time of the file in milliseconds since the epoch
+ * @param mesh the new {@link MeshMetadata} of the file or 'null'
+ *
+ * @author Frederic Eßer
+ */
+record ChangedFile(UUID id, long size, long lastModified, MeshMetadata mesh) {
+}
@@ -0,0 +1,16 @@
+package net.fribbtastic.MyMiniaturesVault.backend.scanner;
+
+import java.util.UUID;
+
+/**
+ * A file as it is known in the index of the vault
+ *
+ * @param id the ID of the file
+ * @param path the absolute path of the file
+ * @param size the size of the file in bytes
+ * @param lastModified the last modification time of the file in milliseconds since the epoch
+ *
+ * @author Frederic Eßer
+ */
+record IndexedFile(UUID id, String path, long size, long lastModified) {
+}
@@ -0,0 +1,394 @@
+package net.fribbtastic.MyMiniaturesVault.backend.scanner;
+
+import net.fribbtastic.MyMiniaturesVault.backend.archive.ArchiveEntry;
+import net.fribbtastic.MyMiniaturesVault.backend.cache.ResponseCache;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeAction;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeEntity;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeFeed;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.MeshMetadata;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.UuidV7Generator;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchResult;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchService;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * The index of the print files in the Database, read and written with plain JDBC.
+ * All changes of a scan are written with JDBC batches instead of one statement per entity.
+ * The names of new Creators, Bundles and files and the IDs of deleted files are passed on to the {@link SearchService},
+ * new Creators and Bundles to the {@link ChangeFeed}. New Creators invalidate the list of Creators in the {@link ResponseCache}.
+ *
+ * @author Frederic Eßer
+ */
+@Repository
+public class LibraryIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryIndex.class);
+
+    /**
+     * the columns of the {@link MeshMetadata} in the order of {@link #setMesh(PreparedStatement, int, MeshMetadata)}
+     */
+    private static final String MESH_COLUMNS = "triangles, width, depth, height, surface_area, volume";
+
+    /**
+     * the columns of the {@link ArchiveEntry} in the order of {@link #setEntry(PreparedStatement, int, ArchiveEntry)}
+     */
+    private static final String ENTRY_COLUMNS = "archive_path, entry_method, entry_compressed_size, entry_offset, entry_crc";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SearchService search;
+
+    @Autowired
+    private ChangeFeed changes;
+
+    @Autowired
+    private ResponseCache responses;
+
+    /**
+     * the number of rows per JDBC batch
+     */
+    @Value("${scanner.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * load all indexed files below a root folder with a range query on the unique path index.
+     * The files inside archives are not loaded, they are only changed together with their archive.
+     *
+     * @param root the absolute root folder
+     * @return a modifiable, thread-safe {@link Map} of the {@link IndexedFile}s by their path
+     */
+    Map<String, IndexedFile> load(Path root) {
+        String from = root.toString() + root.getFileSystem().getSeparator();
+        String to = from.substring(0, from.length() - 1) + (char) (from.charAt(from.length() - 1) + 1);
+
+        Map<String, IndexedFile> files = new ConcurrentHashMap<>();
+
+        this.jdbcTemplate.query("SELECT id, path, size, last_modified FROM MODEL_FILES WHERE path >= ? AND path < ? AND archive_path IS NULL",
+                resultSet -> {
+                    IndexedFile file = indexedFile(resultSet, 0);
+                    files.put(file.path(), file);
+                }, from, to);
+
+        LOGGER.debug("loaded {} indexed files below {}", files.size(), root);
+
+        return files;
+    }
+
+    /**
+     * write the changes of a scan in one transaction.
+     * The Creators and Bundles of new files are looked up by their names and created when they don't exist yet.
+     * The entries of changed archives are deleted before the new entries are added.
+     *
+     * @param changes the {@link ScanChanges}
+     */
+    @Transactional
+    void write(ScanChanges changes) {
+        LOGGER.debug("write {} new, {} changed and {} deleted files", changes.getAdded().size(), changes.getChanged().size(), changes.getDeleted().size());
+
+        List<SearchResult> documents = new ArrayList<>();
+        List<UUID> removedIds = new ArrayList<>();
+
+        for (List<String> archives : this.chunks(List.copyOf(changes.getReplacedArchives()))) {
+            String in = "archive_path IN (" + placeholders(archives.size(), "?") + ")";
+
+            removedIds.addAll(this.jdbcTemplate.queryForList("SELECT id FROM MODEL_FILES WHERE " + in, UUID.class, archives.toArray()));
+            this.jdbcTemplate.update("DELETE FROM MODEL_FILES WHERE " + in, archives.toArray());
+        }
+
+        if (!changes.getAdded().isEmpty()) {
+            Map<String, UUID> bundles = this.resolveBundles(changes.getAdded(), documents);
+
+            this.jdbcTemplate.batchUpdate("INSERT INTO MODEL_FILES (id, bundle_id, path, size, last_modified, format, " + MESH_COLUMNS + ", " + ENTRY_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    changes.getAdded(), this.batchSize, (statement, file) -> {
+                        UUID id = UuidV7Generator.generateUuid();
+                        UUID bundle = bundles.get(bundleKey(file.creator(), file.bundle()));
+                        documents.add(new SearchResult(SearchType.FILE, id, SearchService.fileName(file.path()), bundle));
+
+                        statement.setObject(1, id);
+                        statement.setObject(2, bundle);
+                        statement.setString(3, file.path());
+                        statement.setLong(4, file.size());
+                        statement.setLong(5, file.lastModified());
+                        statement.setString(6, file.format().name());
+                        setMesh(statement, 7, file.mesh());
+                        setEntry(statement, 13, file.entry());
+                    });
+        }
+
+        if (!changes.getChanged().isEmpty()) {
+            this.jdbcTemplate.batchUpdate("UPDATE MODEL_FILES SET size = ?, last_modified = ?, triangles = ?, width = ?, depth = ?, height = ?, surface_area = ?, volume = ?, partial_hash = NULL, content_hash = NULL WHERE id = ?",
+                    changes.getChanged(), this.batchSize, (statement, file) -> {
+                        statement.setLong(1, file.size());
+                        statement.setLong(2, file.lastModified());
+                        setMesh(statement, 3, file.mesh());
+                        statement.setObject(9, file.id());
+                    });
+        }
+
+        if (!changes.getDeleted().isEmpty()) {
+            // the entries of deleted archives are deleted with them
+            for (List<UUID> ids : this.chunks(changes.getDeleted())) {
+                String in = "archive_path IN (SELECT path FROM MODEL_FILES WHERE id IN (" + placeholders(ids.size(), "?") + "))";
+
+                removedIds.addAll(ids);
+                removedIds.addAll(this.jdbcTemplate.queryForList("SELECT id FROM MODEL_FILES WHERE " + in, UUID.class, ids.toArray()));
+                this.jdbcTemplate.update("DELETE FROM MODEL_FILES WHERE " + in, ids.toArray());
+            }
+
+            this.jdbcTemplate.batchUpdate("DELETE FROM MODEL_FILES WHERE id = ?",
+                    changes.getDeleted(), this.batchSize, (statement, id) -> statement.setObject(1, id));
+        }
+
+        this.search.update(documents, removedIds);
+
+        List<UUID> creators = idsOf(documents, SearchType.CREATOR);
+
+        if (!creators.isEmpty()) {
+            this.responses.invalidate(ResponseCache.CREATORS);
+        }
+
+        this.changes.publish(ChangeEntity.CREATOR, ChangeAction.CREATED, creators);
+        this.changes.publish(ChangeEntity.BUNDLE, ChangeAction.CREATED, idsOf(documents, SearchType.BUNDLE));
+    }
+
+    private static List<UUID> idsOf(List<SearchResult> documents, SearchType type) {
+        return documents.stream().filter(document -> document.type() == type).map(SearchResult::id).toList();
+    }
+
+    /**
+     * get the files without a partial hash that have the same size as another file, files inside archives are not hashed
+     *
+     * @return the {@link IndexedFile}s
+     */
+    List<IndexedFile> findPartialHashCandidates() {
+        return this.jdbcTemplate.query("SELECT id, path, size, last_modified FROM MODEL_FILES f WHERE partial_hash IS NULL AND archive_path IS NULL " +
+                "AND EXISTS (SELECT 1 FROM MODEL_FILES o WHERE o.size = f.size AND o.id <> f.id AND o.archive_path IS NULL)", LibraryIndex::indexedFile);
+    }
+
+    /**
+     * get the files without a content hash that have the same size and partial hash as another file
+     *
+     * @return the {@link IndexedFile}s
+     */
+    List<IndexedFile> findContentHashCandidates() {
+        return this.jdbcTemplate.query("SELECT id, path, size, last_modified FROM MODEL_FILES f WHERE content_hash IS NULL AND partial_hash IS NOT NULL " +
+                "AND EXISTS (SELECT 1 FROM MODEL_FILES o WHERE o.size = f.size AND o.partial_hash = f.partial_hash AND o.id <> f.id)", LibraryIndex::indexedFile);
+    }
+
+    /**
+     * write the partial hashes of files
+     *
+     * @param hashes the partial hashes by the IDs of the files
+     */
+    @Transactional
+    void writePartialHashes(Map<UUID, String> hashes) {
+        this.writeHashes("partial_hash", hashes);
+    }
+
+    /**
+     * write the content hashes of files
+     *
+     * @param hashes the content hashes by the IDs of the files
+     */
+    @Transactional
+    void writeContentHashes(Map<UUID, String> hashes) {
+        this.writeHashes("content_hash", hashes);
+    }
+
+    private void writeHashes(String column, Map<UUID, String> hashes) {
+        LOGGER.debug("write {} hashes to {}", hashes.size(), column);
+
+        this.jdbcTemplate.batchUpdate("UPDATE MODEL_FILES SET " + column + " = ? WHERE id = ?",
+                hashes.entrySet(), this.batchSize, (statement, hash) -> {
+                    statement.setString(1, hash.getValue());
+                    statement.setObject(2, hash.getKey());
+                });
+    }
+
+    /**
+     * get the IDs of the Bundles of the files, missing Creators and Bundles are inserted.
+     * Only the Creators and Bundles with the names of the files are read, not the whole tables.
+     *
+     * @param files the new {@link ScannedFile}s
+     * @param documents the {@link SearchResult}s the inserted Creators and Bundles are added to
+     * @return the IDs of the Bundles by their Creator and Bundle name
+     */
+    private Map<String, UUID> resolveBundles(Collection<ScannedFile> files, List<SearchResult> documents) {
+        Map<String, UUID> creators = new HashMap<>();
+
+        for (List<String> names : this.chunks(files.stream().map(ScannedFile::creator).distinct().toList())) {
+            this.jdbcTemplate.query("SELECT id, name FROM CREATORS WHERE name IN (" + placeholders(names.size(), "?") + ")",
+                    resultSet -> {
+                        creators.put(resultSet.getString(2), resultSet.getObject(1, UUID.class));
+                    }, names.toArray());
+        }
+
+        // only the existing Creators can have Bundles already
+        Map<String, ScannedFile> existingBundles = new LinkedHashMap<>();
+        files.stream()
+                .filter(file -> creators.containsKey(file.creator()))
+                .forEach(file -> existingBundles.putIfAbsent(bundleKey(file.creator(), file.bundle()), file));
+
+        Map<String, UUID> newCreators = new LinkedHashMap<>();
+        files.stream().map(ScannedFile::creator).distinct()
+                .filter(name -> !creators.containsKey(name))
+                .forEach(name -> newCreators.put(name, UuidV7Generator.generateUuid()));
+
+        this.jdbcTemplate.batchUpdate("INSERT INTO CREATORS (id, name) VALUES (?, ?)",
+                newCreators.entrySet(), this.batchSize, (statement, creator) -> {
+                    statement.setObject(1, creator.getValue());
+                    statement.setString(2, creator.getKey());
+                });
+        creators.putAll(newCreators);
+        newCreators.forEach((name, id) -> documents.add(new SearchResult(SearchType.CREATOR, id, name, null)));
+
+        Map<String, UUID> bundles = new HashMap<>();
+
+        for (List<ScannedFile> chunk : this.chunks(List.copyOf(existingBundles.values()))) {
+            Object[] arguments = chunk.stream()
+                    .flatMap(file -> Stream.of(creators.get(file.creator()), file.bundle()))
+                    .toArray();
+
+            this.jdbcTemplate.query("SELECT b.id, c.name, b.name FROM BUNDLES b JOIN CREATORS c ON c.id = b.creator_id " +
+                            "WHERE (b.creator_id, b.name) IN (" + placeholders(chunk.size(), "(?, ?)") + ")",
+                    resultSet -> {
+                        bundles.putIfAbsent(bundleKey(resultSet.getString(2), resultSet.getString(3)), resultSet.getObject(1, UUID.class));
+                    }, arguments);
+        }
+
+        List<ScannedFile> newBundles = new ArrayList<>();
+        for (ScannedFile file : files) {
+            if (!bundles.containsKey(bundleKey(file.creator(), file.bundle()))) {
+                bundles.put(bundleKey(file.creator(), file.bundle()), UuidV7Generator.generateUuid());
+                newBundles.add(file);
+            }
+        }
+
+        this.jdbcTemplate.batchUpdate("INSERT INTO BUNDLES (id, name, creator_id) VALUES (?, ?, ?)",
+                newBundles, this.batchSize, (statement, file) -> {
+                    statement.setObject(1, bundles.get(bundleKey(file.creator(), file.bundle())));
+                    statement.setString(2, file.bundle());
+                    statement.setObject(3, creators.get(file.creator()));
+                });
+        newBundles.forEach(file -> documents.add(new SearchResult(SearchType.BUNDLE, bundles.get(bundleKey(file.creator(), file.bundle())), file.bundle(), creators.get(file.creator()))));
+
+        LOGGER.debug("added {} Creators and {} Bundles", newCreators.size(), newBundles.size());
+
+        return bundles;
+    }
+
+    /**
+     * split the values into chunks of the batch size, so the 'IN' lists of the statements stay small
+     *
+     * @param values the values
+     * @return the chunks of the values
+     */
+    private <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < values.size(); from += this.batchSize) {
+            chunks.add(values.subList(from, Math.min(from + this.batchSize, values.size())));
+        }
+
+        return chunks;
+    }
+
+    /**
+     * create the placeholders of an 'IN' list
+     *
+     * @param count the number of values
+     * @param placeholder the placeholder of one value, e.g. '?' or '(?, ?)'
+     * @return the comma separated placeholders
+     */
+    private static String placeholders(int count, String placeholder) {
+        return String.join(", ", Collections.nCopies(count, placeholder));
+    }
+
+    /**
+     * set the six {@link #MESH_COLUMNS} starting at the index, all of them are 'null' without a mesh
+     *
+     * @param statement the {@link PreparedStatement}
+     * @param index the index of the first mesh column
+     * @param mesh the {@link MeshMetadata} or 'null'
+     */
+    private static void setMesh(PreparedStatement statement, int index, MeshMetadata mesh) throws SQLException {
+        if (mesh == null) {
+            statement.setNull(index, Types.BIGINT);
+
+            for (int i = index + 1; i < index + 6; i++) {
+                statement.setNull(i, Types.DOUBLE);
+            }
+
+            return;
+        }
+
+        statement.setLong(index, mesh.getTriangles());
+        statement.setDouble(index + 1, mesh.getWidth());
+        statement.setDouble(index + 2, mesh.getDepth());
+        statement.setDouble(index + 3, mesh.getHeight());
+        statement.setDouble(index + 4, mesh.getSurfaceArea());
+        statement.setDouble(index + 5, mesh.getVolume());
+    }
+
+    /**
+     * set the five {@link #ENTRY_COLUMNS} starting at the index, all of them are 'null' without an entry
+     *
+     * @param statement the {@link PreparedStatement}
+     * @param index the index of the first entry column
+     * @param entry the {@link ArchiveEntry} or 'null'
+     */
+    private static void setEntry(PreparedStatement statement, int index, ArchiveEntry entry) throws SQLException {
+        if (entry == null) {
+            statement.setNull(index, Types.VARCHAR);
+            statement.setNull(index + 1, Types.INTEGER);
+
+            for (int i = index + 2; i < index + 5; i++) {
+                statement.setNull(i, Types.BIGINT);
+            }
+
+            return;
+        }
+
+        statement.setString(index, entry.getArchivePath());
+        statement.setInt(index + 1, entry.getMethod());
+        statement.setLong(index + 2, entry.getCompressedSize());
+        statement.setLong(index + 3, entry.getHeaderOffset());
+        statement.setLong(index + 4, entry.getCrc());
+    }
+
+    /**
+     * map the columns {@code id, path, size, last_modified} of a row
+     */
+    private static IndexedFile indexedFile(ResultSet resultSet, int row) throws SQLException {
+        return new IndexedFile(resultSet.getObject(1, UUID.class), resultSet.getString(2), resultSet.getLong(3), resultSet.getLong(4));
+    }
+
+    /**
+     * create the key of a Bundle from the names of the Creator and the Bundle
+     *
+     * @param creator the name of the Creator
+     * @param bundle the name of the Bundle
+     * @return the key
+     */
+    private static String bundleKey(String creator, String bundle) {
+        return creator + '\u0000' + bundle;
+    }
+}
@@ -0,0 +1,369 @@
+package net.fribbtastic.MyMiniaturesVault.backend.scanner;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ScanInProgressException;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.MeshMetadata;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.StlParser;
+import net.fribbtastic.MyMiniaturesVault.backend.storage.ContentHash;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Scans the root folders of the library for print files and keeps the index of the vault up to date.
+ * The folders below a root are mapped to Creators and Bundles: {@code <root>/<Creator>/<Bundle>/.../<file>}.
+ * <p>
+ * The folders are walked in parallel with a {@link ForkJoinPool} and every file is only compared by its path,
+ * size and modification time with the index, so a scan without changes doesn't write anything.
+ * Afterward, files with the same size are hashed to find duplicates ({@link ContentHash}).
+ * Only one scan runs at a time.
+ *
+ * @author Frederic Eßer
+ */
+@Service
+public class LibraryScanner implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryScanner.class);
+
+    /**
+     * the name of the counter of scanned files, tagged with the result (new, changed, unchanged, deleted, skipped)
+     */
+    public static final String FILES_METRIC = "scanner.files";
+
+    /**
+     * the name of the counter of hashed files, tagged with the hash (partial, content)
+     */
+    public static final String HASHES_METRIC = "scanner.hashes";
+
+    /**
+     * the name of the timer of the scans
+     */
+    public static final String DURATION_METRIC = "scanner.duration";
+
+    /**
+     * the name of the gauge with the number of files visited by the current (or last) scan
+     */
+    public static final String PROGRESS_METRIC = "scanner.progress.files";
+
+    @Autowired
+    private LibraryIndex index;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor executor;
+
+    /**
+     * the root folders of the library
+     */
+    @Value("${scanner.roots:}")
+    private List<Path> roots;
+
+    /**
+     * the number of folders that are read at the same time
+     */
+    @Value("${scanner.parallelism:8}")
+    private int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile ScanProgress progress = ScanProgress.NONE;
+
+    private volatile MeterRegistry registry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(PROGRESS_METRIC, this, scanner -> scanner.progress.getFiles())
+                .description("the number of files visited by the current or last scan of the library")
+                .register(registry);
+
+        this.registry = registry;
+    }
+
+    /**
+     * get the progress of the current or last scan
+     *
+     * @return the {@link ScanProgress}
+     */
+    public ScanProgress getProgress() {
+        return this.progress;
+    }
+
+    /**
+     * start a scan of the configured root folders in the background
+     *
+     * @return the {@link ScanProgress} of the started scan
+     * @throws ScanInProgressException when a scan is already running
+     * @throws RejectedExecutionException when the executor doesn't accept the scan, no scan is running afterward
+     */
+    public ScanProgress startScan() {
+        ScanProgress previous = this.progress;
+        ScanProgress started = this.begin(this.roots);
+
+        try {
+            this.executor.execute(() -> this.run(this.roots, started));
+        } catch (RejectedExecutionException e) {
+            // the scan never runs, so it can't end itself
+            this.progress = previous;
+            this.running.set(false);
+            throw e;
+        }
+
+        return started;
+    }
+
+    /**
+     * scan the root folders and wait until the scan is finished
+     *
+     * @param roots the root folders
+     * @return the {@link ScanProgress} of the finished scan
+     * @throws ScanInProgressException when a scan is already running
+     */
+    public ScanProgress scan(List<Path> roots) {
+        ScanProgress started = this.begin(roots);
+
+        this.run(roots, started);
+
+        return started;
+    }
+
+    /**
+     * add a single file to the index without scanning its root folder, e.g. a file that the vault itself put into
+     * the library. The file is mapped to its Creator and Bundle like a new file found by a scan, the print files
+     * inside an archive are added with it.
+     *
+     * @param root the root folder of the library
+     * @param file the {@link Path} of the file below the root
+     * @return 'true' if the file was added, 'false' if it isn't a print file, not inside a Bundle or already indexed
+     * @throws IOException when the attributes of the file can't be read
+     */
+    public boolean addFile(Path root, Path file) throws IOException {
+        Path absoluteRoot = root.toAbsolutePath().normalize();
+        Path absoluteFile = file.toAbsolutePath().normalize();
+        Path relative = absoluteRoot.relativize(absoluteFile);
+        ModelFormat format = ModelFormat.fromFileName(absoluteFile.getFileName().toString());
+
+        // <root>/<Creator>/<Bundle>/.../<file>
+        if (format == null || !absoluteFile.startsWith(absoluteRoot) || relative.getNameCount() < 3) {
+            return false;
+        }
+
+        BasicFileAttributes attributes = Files.readAttributes(absoluteFile, BasicFileAttributes.class);
+        MeshMetadata mesh = null;
+
+        if (format == ModelFormat.STL) {
+            try {
+                mesh = StlParser.PARALLEL.parse(absoluteFile);
+            } catch (IOException e) {
+                LOGGER.warn("could not read the mesh of {}: {}", absoluteFile, e.getMessage());
+            }
+        }
+
+        ScanChanges changes = new ScanChanges();
+        changes.getAdded().add(new ScannedFile(absoluteFile.toString(), attributes.size(), attributes.lastModifiedTime().toMillis(),
+                format, relative.getName(0).toString(), relative.getName(1).toString(), mesh, null));
+
+        if (format.isArchive()) {
+            try {
+                changes.getAdded().addAll(LibraryWalker.archiveEntries(absoluteFile, relative.getName(0).toString(), relative.getName(1).toString()));
+            } catch (IOException e) {
+                LOGGER.warn("could not list the archive {}: {}", absoluteFile, e.getMessage());
+            }
+        }
+
+        try {
+            this.index.write(changes);
+        } catch (DuplicateKeyException e) {
+            // a scan of the same root found the file first
+            LOGGER.debug("{} is already indexed", absoluteFile);
+
+            return false;
+        }
+
+        LOGGER.debug("added {} to the index", absoluteFile);
+
+        return true;
+    }
+
+    /**
+     * mark a new scan as running
+     *
+     * @param roots the root folders
+     * @return the new {@link ScanProgress}
+     */
+    private ScanProgress begin(List<Path> roots) {
+        if (!this.running.compareAndSet(false, true)) {
+            throw new ScanInProgressException();
+        }
+
+        this.progress = new ScanProgress(roots.stream().map(Path::toString).toList(), Instant.now());
+
+        return this.progress;
+    }
+
+    /**
+     * scan all root folders one after another, a root that isn't a folder is counted as an error and skipped
+     *
+     * @param roots the root folders
+     * @param progress the {@link ScanProgress} of the scan
+     */
+    private void run(List<Path> roots, ScanProgress progress) {
+        try {
+            List<String> scanned = new ArrayList<>();
+
+            for (Path configuredRoot : roots) {
+                Path root = configuredRoot.toAbsolutePath().normalize();
+
+                if (!Files.isDirectory(root)) {
+                    LOGGER.warn("the library root {} is not a folder", root);
+                    progress.error();
+                    continue;
+                }
+
+                this.scanRoot(root, progress);
+                scanned.add(root.toString() + root.getFileSystem().getSeparator());
+            }
+
+            this.hashDuplicates(scanned, progress);
+        } catch (RuntimeException e) {
+            LOGGER.error("the scan of the library failed", e);
+            progress.error();
+            throw e;
+        } finally {
+            progress.finish();
+            this.running.set(false);
+            this.record(progress);
+        }
+
+        LOGGER.debug("scanned {} files in {} folders", progress.getFiles(), progress.getDirectories());
+    }
+
+    /**
+     * walk one root folder and write the differences to the index
+     *
+     * @param root the absolute root folder
+     * @param progress the {@link ScanProgress} of the scan
+     */
+    private void scanRoot(Path root, ScanProgress progress) {
+        LOGGER.debug("scan the library root {}", root);
+
+        Map<String, IndexedFile> known = this.index.load(root);
+        ScanChanges changes = new ScanChanges();
+
+        try (ForkJoinPool pool = new ForkJoinPool(this.parallelism)) {
+            pool.invoke(new LibraryWalker(root, known, changes, progress));
+        }
+
+        // all files that were found on disk have been removed from the known files
+        known.values().forEach(file -> changes.getDeleted().add(file.id()));
+        progress.deletedFiles(changes.getDeleted().size());
+
+        if (!changes.isEmpty()) {
+            this.index.write(changes);
+        }
+    }
+
+    /**
+     * find duplicate files in the index. Only files with the same size get a partial hash and only files
+     * with the same size and partial hash get a content hash, so most files are never read.
+     * Files outside the scanned root folders are not hashed.
+     *
+     * @param roots the scanned root folders, ending with a separator
+     * @param progress the {@link ScanProgress} of the scan
+     */
+    private void hashDuplicates(List<String> roots, ScanProgress progress) {
+        try (ForkJoinPool pool = new ForkJoinPool(this.parallelism)) {
+            Map<UUID, String> partialHashes = pool.submit(() -> hash(this.index.findPartialHashCandidates(), roots, ContentHash::partial, progress, progress::partiallyHashedFile)).join();
+
+            if (!partialHashes.isEmpty()) {
+                this.index.writePartialHashes(partialHashes);
+            }
+
+            Map<UUID, String> contentHashes = pool.submit(() -> hash(this.index.findContentHashCandidates(), roots, ContentHash::full, progress, progress::hashedFile)).join();
+
+            if (!contentHashes.isEmpty()) {
+                this.index.writeContentHashes(contentHashes);
+            }
+        }
+    }
+
+    /**
+     * hash files in parallel, files that can't be read are counted as errors and skipped
+     *
+     * @param files the {@link IndexedFile}s
+     * @param roots the scanned root folders
+     * @param hasher the hash function
+     * @param progress the {@link ScanProgress} of the scan
+     * @param hashed called for every hashed file
+     * @return the hashes by the IDs of the files
+     */
+    private static Map<UUID, String> hash(List<IndexedFile> files, List<String> roots, Hasher hasher, ScanProgress progress, Runnable hashed) {
+        Map<UUID, String> hashes = new ConcurrentHashMap<>();
+
+        files.parallelStream()
+                .filter(file -> roots.stream().anyMatch(file.path()::startsWith))
+                .forEach(file -> {
+                    try {
+                        hashes.put(file.id(), hasher.hash(Path.of(file.path())));
+                        hashed.run();
+                    } catch (IOException e) {
+                        LOGGER.warn("could not hash {}: {}", file.path(), e.getMessage());
+                        progress.error();
+                    }
+                });
+
+        return hashes;
+    }
+
+    /**
+     * a hash function of files
+     */
+    @FunctionalInterface
+    private interface Hasher {
+        String hash(Path file) throws IOException;
+    }
+
+    /**
+     * record the duration and the results of a scan, nothing is recorded without a {@link MeterRegistry}
+     *
+     * @param progress the {@link ScanProgress} of the finished scan
+     */
+    private void record(ScanProgress progress) {
+        MeterRegistry registry = this.registry;
+
+        if (registry == null) {
+            return;
+        }
+
+        registry.timer(DURATION_METRIC).record(Duration.between(progress.getStartedAt(), progress.getFinishedAt()));
+        registry.counter(FILES_METRIC, "result", "new").increment(progress.getNewFiles());
+        registry.counter(FILES_METRIC, "result", "changed").increment(progress.getChangedFiles());
+        registry.counter(FILES_METRIC, "result", "unchanged").increment(progress.getUnchangedFiles());
+        registry.counter(FILES_METRIC, "result", "deleted").increment(progress.getDeletedFiles());
+        registry.counter(FILES_METRIC, "result", "skipped").increment(progress.getSkippedFiles());
+        registry.counter(HASHES_METRIC, "hash", "partial").increment(progress.getPartiallyHashedFiles());
+        registry.counter(HASHES_METRIC, "hash", "content").increment(progress.getHashedFiles());
+    }
+}
@@ -0,0 +1,204 @@
+package net.fribbtastic.MyMiniaturesVault.backend.scanner;
+
+import net.fribbtastic.MyMiniaturesVault.backend.archive.ArchiveEntry;
+import net.fribbtastic.MyMiniaturesVault.backend.archive.ZipArchive;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.MeshMetadata;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.StlParser;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task that visits one folder of the library and forks a new task for every sub folder.
+ * Every print file is compared with the index by its path, size and modification time, only new and
+ * changed files are collected and only their meshes are read. Files that are found are removed from the known files, so whatever
+ * remains there after all tasks completed was deleted from disk.
+ * The print files inside new and changed archives are listed from their central directory.
+ * Symbolic links are not followed.
+ *
+ * @author Frederic Eßer
+ */
+class LibraryWalker extends RecursiveAction {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryWalker.class);
+
+    private final Path root;
+    private final Path directory;
+    private final Map<String, IndexedFile> known;
+    private final ScanChanges changes;
+    private final ScanProgress progress;
+
+    LibraryWalker(Path root, Map<String, IndexedFile> known, ScanChanges changes, ScanProgress progress) {
+        this(root, root, known, changes, progress);
+    }
+
+    private LibraryWalker(Path root, Path directory, Map<String, IndexedFile> known, ScanChanges changes, ScanProgress progress) {
+        this.root = root;
+        this.directory = directory;
+        this.known = known;
+        this.changes = changes;
+        this.progress = progress;
+    }
+
+    @Override
+    protected void compute() {
+        List<LibraryWalker> subdirectories = new ArrayList<>();
+
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(this.directory)) {
+            for (Path entry : entries) {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+
+                    if (attributes.isDirectory()) {
+                        subdirectories.add(new LibraryWalker(this.root, entry, this.known, this.changes, this.progress));
+                    } else if (attributes.isRegularFile()) {
+                        this.visit(entry, attributes);
+                    }
+                } catch (IOException e) {
+                    LOGGER.warn("could not read the attributes of {}", entry, e);
+                    this.progress.error();
+                }
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            LOGGER.warn("could not read the folder {}", this.directory, e);
+            this.progress.error();
+        }
+
+        this.progress.directory();
+
+        invokeAll(subdirectories);
+    }
+
+    /**
+     * compare a file with the index
+     *
+     * @param file the {@link Path} of the file
+     * @param attributes the {@link BasicFileAttributes} of the file
+     */
+    private void visit(Path file, BasicFileAttributes attributes) {
+        ModelFormat format = ModelFormat.fromFileName(file.getFileName().toString());
+
+        if (format == null) {
+            return;
+        }
+
+        this.progress.file();
+
+        String path = file.toString();
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+
+        IndexedFile indexed = this.known.remove(path);
+
+        if (indexed == null) {
+            Path relative = this.root.relativize(file);
+
+            // <root>/<Creator>/<Bundle>/.../<file>
+            if (relative.getNameCount() < 3) {
+                this.progress.skippedFile();
+                return;
+            }
+
+            this.changes.getAdded().add(new ScannedFile(path, size, lastModified, format, relative.getName(0).toString(), relative.getName(1).toString(), this.readMesh(file, format), null));
+            this.progress.newFile();
+            this.listArchive(file, format, relative);
+        } else if (indexed.size() == size && indexed.lastModified() == lastModified) {
+            this.progress.unchangedFile();
+        } else {
+            this.changes.getChanged().add(new ChangedFile(indexed.id(), size, lastModified, this.readMesh(file, format)));
+            this.progress.changedFile();
+
+            if (format.isArchive()) {
+                this.changes.getReplacedArchives().add(path);
+                this.listArchive(file, format, this.root.relativize(file));
+            }
+        }
+    }
+
+    /**
+     * add the print files inside a new or changed archive, an archive that can't be read is counted as an error
+     * but still added to the index without its entries
+     *
+     * @param file the {@link Path} of the file
+     * @param format the {@link ModelFormat} of the file
+     * @param relative the path of the file relative to the root
+     */
+    private void listArchive(Path file, ModelFormat format, Path relative) {
+        if (!format.isArchive() || relative.getNameCount() < 3) {
+            return;
+        }
+
+        try {
+            List<ScannedFile> entries = archiveEntries(file, relative.getName(0).toString(), relative.getName(1).toString());
+
+            this.changes.getAdded().addAll(entries);
+            this.progress.archiveEntries(entries.size());
+        } catch (IOException e) {
+            LOGGER.warn("could not list the archive {}: {}", file, e.getMessage());
+            this.progress.error();
+        }
+    }
+
+    /**
+     * list the print files inside an archive from its central directory, without decompressing them.
+     * They belong to the Bundle of the archive, archives inside the archive are not opened.
+     *
+     * @param archive the absolute {@link Path} of the archive
+     * @param creator the name of the Creator of the archive
+     * @param bundle the name of the Bundle of the archive
+     * @return the {@link ScannedFile}s of the entries
+     * @throws IOException when the archive can't be read
+     */
+    static List<ScannedFile> archiveEntries(Path archive, String creator, String bundle) throws IOException {
+        String path = archive.toString();
+        Set<String> names = new HashSet<>();
+        List<ScannedFile> entries = new ArrayList<>();
+
+        for (ZipArchive.Entry entry : ZipArchive.readEntries(archive)) {
+            ModelFormat format = ModelFormat.fromFileName(entry.name());
+
+            // the same name can appear twice in a broken archive, but a path is only indexed once
+            if (format == null || format.isArchive() || !names.add(entry.name())) {
+                continue;
+            }
+
+            entries.add(new ScannedFile(ArchiveEntry.path(path, entry.name()), entry.size(), entry.lastModified(), format,
+                    creator, bundle, null, entry.toArchiveEntry(path)));
+        }
+
+        return entries;
+    }
+
+    /**
+     * read the geometry of a file, a file that can't be read is counted as an error but still added to the index
+     *
+     * @param file the {@link Path} of the file
+     * @param format the {@link ModelFormat} of the file
+     * @return the {@link MeshMetadata} or 'null' if the format isn't supported or the file couldn't be read
+     */
+    private MeshMetadata readMesh(Path file, ModelFormat format) {
+        if (format != ModelFormat.STL) {
+            return null;
+        }
+
+        try {
+            // the chunks of large files are read by the workers of the same pool
+            return StlParser.PARALLEL.parse(file);
+        } catch (IOException e) {
+            LOGGER.warn("could not read the mesh of {}: {}", file, e.getMessage());
+            this.progress.error();
+
+            return null;
+        }
+    }
+}
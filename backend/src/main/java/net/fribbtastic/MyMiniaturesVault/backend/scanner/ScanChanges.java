@@ -0,0 +1,48 @@
+package net.fribbtastic.MyMiniaturesVault.backend.scanner;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The differences between the files on disk and the index of one root folder.
+ * Files are added concurrently by the {@link LibraryWalker}s, unchanged files are not collected at all.
+ *
+ * @author Frederic Eßer
+ */
+@Getter
+class ScanChanges {
+
+    /**
+     * the files that are not in the index yet
+     */
+    private final Queue<ScannedFile> added = new ConcurrentLinkedQueue<>();
+
+    /**
+     * the files of the index whose size or modification time changed, with the new values
+     */
+    private final Queue<ChangedFile> changed = new ConcurrentLinkedQueue<>();
+
+    /**
+     * the paths of the changed archives, their entries in the index are replaced by the entries in {@link #added}
+     */
+    private final Queue<String> replacedArchives = new ConcurrentLinkedQueue<>();
+
+    /**
+     * the IDs of the files of the index that don't exist anymore, the entries of deleted archives are deleted with them
+     */
+    private final List<UUID> deleted = new ArrayList<>();
+
+    /**
+     * check if the index has to be changed at all
+     *
+     * @return 'true' if there are no changes
+     */
+    boolean isEmpty() {
+        return this.added.isEmpty() && this.changed.isEmpty() && this.replacedArchives.isEmpty() && this.deleted.isEmpty();
+    }
+}
@@ -0,0 +1,210 @@
+package net.fribbtastic.MyMiniaturesVault.backend.scanner;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The progress of one scan of the library.
+ * The counters are updated concurrently while the scan is running and can be read at any time.
+ *
+ * @author Frederic Eßer
+ */
+public class ScanProgress {
+
+    /**
+     * the progress before the first scan
+     */
+    static final ScanProgress NONE = new ScanProgress(List.of(), null);
+
+    private final List<String> roots;
+
+    private final Instant startedAt;
+
+    private volatile Instant finishedAt;
+
+    private final LongAdder directories = new LongAdder();
+    private final LongAdder files = new LongAdder();
+    private final LongAdder newFiles = new LongAdder();
+    private final LongAdder changedFiles = new LongAdder();
+    private final LongAdder unchangedFiles = new LongAdder();
+    private final LongAdder deletedFiles = new LongAdder();
+    private final LongAdder skippedFiles = new LongAdder();
+    private final LongAdder archiveEntries = new LongAdder();
+    private final LongAdder partiallyHashedFiles = new LongAdder();
+    private final LongAdder hashedFiles = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    ScanProgress(List<String> roots, Instant startedAt) {
+        this.roots = roots;
+        this.startedAt = startedAt;
+    }
+
+    void directory() {
+        this.directories.increment();
+    }
+
+    void file() {
+        this.files.increment();
+    }
+
+    void newFile() {
+        this.newFiles.increment();
+    }
+
+    void changedFile() {
+        this.changedFiles.increment();
+    }
+
+    void unchangedFile() {
+        this.unchangedFiles.increment();
+    }
+
+    void deletedFiles(long count) {
+        this.deletedFiles.add(count);
+    }
+
+    void skippedFile() {
+        this.skippedFiles.increment();
+    }
+
+    void archiveEntries(long count) {
+        this.archiveEntries.add(count);
+    }
+
+    void partiallyHashedFile() {
+        this.partiallyHashedFiles.increment();
+    }
+
+    void hashedFile() {
+        this.hashedFiles.increment();
+    }
+
+    void error() {
+        this.errors.increment();
+    }
+
+    void finish() {
+        this.finishedAt = Instant.now();
+    }
+
+    /**
+     * @return the root folders of the scan
+     */
+    public List<String> getRoots() {
+        return this.roots;
+    }
+
+    /**
+     * @return the start of the scan or 'null' if there never was a scan
+     */
+    public Instant getStartedAt() {
+        return this.startedAt;
+    }
+
+    /**
+     * @return the end of the scan or 'null' if the scan is still running
+     */
+    public Instant getFinishedAt() {
+        return this.finishedAt;
+    }
+
+    /**
+     * @return 'true' while the scan is running
+     */
+    public boolean isRunning() {
+        return this.startedAt != null && this.finishedAt == null;
+    }
+
+    /**
+     * @return the number of visited folders
+     */
+    public long getDirectories() {
+        return this.directories.sum();
+    }
+
+    /**
+     * @return the number of visited print files
+     */
+    public long getFiles() {
+        return this.files.sum();
+    }
+
+    /**
+     * @return the number of print files that were added to the index
+     */
+    public long getNewFiles() {
+        return this.newFiles.sum();
+    }
+
+    /**
+     * @return the number of print files whose size or modification time changed
+     */
+    public long getChangedFiles() {
+        return this.changedFiles.sum();
+    }
+
+    /**
+     * @return the number of print files that didn't change since the last scan
+     */
+    public long getUnchangedFiles() {
+        return this.unchangedFiles.sum();
+    }
+
+    /**
+     * @return the number of print files that were removed from the index because they don't exist anymore
+     */
+    public long getDeletedFiles() {
+        return this.deletedFiles.sum();
+    }
+
+    /**
+     * @return the number of print files that are not inside a Creator and Bundle folder
+     */
+    public long getSkippedFiles() {
+        return this.skippedFiles.sum();
+    }
+
+    /**
+     * @return the number of print files that were listed in new or changed archives
+     */
+    public long getArchiveEntries() {
+        return this.archiveEntries.sum();
+    }
+
+    /**
+     * @return the number of print files whose partial hash was computed because another file has the same size
+     */
+    public long getPartiallyHashedFiles() {
+        return this.partiallyHashedFiles.sum();
+    }
+
+    /**
+     * @return the number of print files whose content hash was computed because another file has the same partial hash
+     */
+    public long getHashedFiles() {
+        return this.hashedFiles.sum();
+    }
+
+    /**
+     * @return the number of folders and files that could not be read
+     */
+    public long getErrors() {
+        return this.errors.sum();
+    }
+
+    /**
+     * @return the number of visited print files per second since the start of the scan
+     */
+    public double getFilesPerSecond() {
+        if (this.startedAt == null) {
+            return 0;
+        }
+
+        Instant end = this.finishedAt == null ? Instant.now() : this.finishedAt;
+        long millis = Math.max(1, Duration.between(this.startedAt, end).toMillis());
+
+        return this.getFiles() * 1000.0 / millis;
+    }
+}
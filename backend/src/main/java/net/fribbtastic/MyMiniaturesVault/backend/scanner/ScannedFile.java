@@ -0,0 +1,22 @@
+package net.fribbtastic.MyMiniaturesVault.backend.scanner;
+
+import net.fribbtastic.MyMiniaturesVault.backend.archive.ArchiveEntry;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.MeshMetadata;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFormat;
+
+/**
+ * A file that was found on disk and is not yet known in the index of the vault
+ *
+ * @param path the absolute path of the file
+ * @param size the size of the file in bytes
+ * @param lastModified the last modification time of the file in milliseconds since the epoch
+ * @param format the {@link ModelFormat} of the file
+ * @param creator the name of the Creator (the first folder below the root)
+ * @param bundle the name of the Bundle (the second folder below the root)
+ * @param mesh the {@link MeshMetadata} of the file or 'null'
+ * @param entry the {@link ArchiveEntry} of a file inside an archive or 'null'
+ *
+ * @author Frederic Eßer
+ */
+record ScannedFile(String path, long size, long lastModified, ModelFormat format, String creator, String bundle, MeshMetadata mesh, ArchiveEntry entry) {
+}
@@ -0,0 +1,57 @@
+package net.fribbtastic.MyMiniaturesVault.backend.scanner;
+
+import com.github.lkqm.spring.api.version.ApiVersion;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * @author Frederic Eßer
+ */
+@RestController
+@RequestMapping(path = "/scan", produces = "application/json")
+@ApiVersion("1")
+public class ScannerController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScannerController.class);
+
+    @Autowired
+    private LibraryScanner scanner;
+
+    /**
+     * Get the progress of the current or last scan of the library
+     *
+     * @return the {@link ApiResponse} with the {@link ScanProgress} wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<ScanProgress>> getProgress() {
+        LOGGER.debug("get the progress of the library scan");
+
+        ApiResponse<ScanProgress> response = ApiResponse.createSuccessResponse(HttpStatus.OK, this.scanner.getProgress());
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Start a scan of the library in the background, the progress can be followed with the GET endpoint
+     *
+     * @return the {@link ApiResponse} with the {@link ScanProgress} of the started scan wrapped in a {@link ResponseEntity}
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<ScanProgress>> startScan() {
+        LOGGER.debug("start a library scan");
+
+        ScanProgress progress = this.scanner.startScan();
+
+        ApiResponse<ScanProgress> response = ApiResponse.createSuccessResponse(HttpStatus.ACCEPTED, progress);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+}
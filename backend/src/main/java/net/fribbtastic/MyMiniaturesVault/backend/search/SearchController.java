@@ -0,0 +1,80 @@
+package net.fribbtastic.MyMiniaturesVault.backend.search;
+
+import com.github.lkqm.spring.api.version.ApiVersion;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Searches the names of Creators, Bundles and files in the index in memory
+ *
+ * @author Frederic Eßer
+ */
+@RestController
+@RequestMapping(path = "/search", produces = "application/json")
+@ApiVersion("1")
+public class SearchController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchController.class);
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int DEFAULT_SUGGESTIONS = 10;
+    public static final int MAX_LIMIT = 100;
+
+    @Autowired
+    private SearchService service;
+
+    /**
+     * Search the names of Creators, Bundles and files, e.g. '?q=dragon&type=BUNDLE'.
+     * Terms with at least three characters match anywhere in a name, shorter terms match the start of words.
+     *
+     * @param q the query, an empty query has no results
+     * @param type the {@link SearchType}s of the results, all types without it
+     * @param limit the maximum number of results (between 1 and {@value #MAX_LIMIT})
+     * @return the {@link ApiResponse} with the list of {@link SearchResult}s (the best first) wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SearchResult>>> search(@RequestParam(defaultValue = "") String q,
+                                                                  @RequestParam(required = false) Set<SearchType> type,
+                                                                  @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        LOGGER.debug("search '{}' in {} with limit={}", q, type, limit);
+
+        List<SearchResult> results = this.service.search(q, type, Math.clamp(limit, 1, MAX_LIMIT));
+
+        ApiResponse<List<SearchResult>> response = ApiResponse.createSuccessResponse(HttpStatus.OK, results);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Complete the words that were typed so far to names of Creators, Bundles and files.
+     * Every term matches the start of a word, so 'ancient dr' finds 'Ancient Dragon'.
+     *
+     * @param q the words that were typed so far
+     * @param type the {@link SearchType}s of the results, all types without it
+     * @param limit the maximum number of results (between 1 and {@value #MAX_LIMIT})
+     * @return the {@link ApiResponse} with the list of {@link SearchResult}s (the best first) wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<SearchResult>>> autocomplete(@RequestParam(defaultValue = "") String q,
+                                                                        @RequestParam(required = false) Set<SearchType> type,
+                                                                        @RequestParam(defaultValue = "" + DEFAULT_SUGGESTIONS) int limit) {
+        LOGGER.debug("autocomplete '{}' in {} with limit={}", q, type, limit);
+
+        List<SearchResult> results = this.service.autocomplete(q, type, Math.clamp(limit, 1, MAX_LIMIT));
+
+        ApiResponse<List<SearchResult>> response = ApiResponse.createSuccessResponse(HttpStatus.OK, results);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
@@ -0,0 +1,798 @@
+package net.fribbtastic.MyMiniaturesVault.backend.search;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+
+/**
+ * An in-memory trigram index over the names of Creators, Bundles and files.
+ * <p>
+ * Names are normalized (lower case, without accents, words separated by single spaces) and their words are collected
+ * in a vocabulary. Every word of the vocabulary is split into its trigrams, plus two trigrams that mark the start of
+ * the word so that one or two letters can be searched as prefix. A term of a query is first matched against the much
+ * smaller vocabulary by intersecting the posting lists of its trigrams, then the documents of the matching words are
+ * ranked. Words and documents get increasing numbers, so all posting lists stay sorted by appending to them.
+ * <p>
+ * The ranking only needs the word numbers of a document and the length of its name, both are kept in plain arrays
+ * that are read in the order of the posting lists, a candidate is ranked without comparing strings or allocating
+ * objects. Only the best candidates are kept in a sorted array. The names starting with a word of the query are
+ * ranked first from their own posting lists, when they fill the results the other documents are skipped.
+ * <p>
+ * Removed and replaced documents are only marked and skipped, the index is compacted when more documents are removed
+ * than left.
+ * Searches run at the same time, changes are exclusive.
+ *
+ * @author Frederic Eßer
+ */
+public class SearchIndex {
+
+    /**
+     * marks the start of a word in a trigram
+     */
+    private static final char START = '\u0001';
+
+    /**
+     * terms with fewer characters only match the start of words
+     */
+    private static final int MIN_SUBSTRING_LENGTH = 3;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * the number of removed documents before the index is compacted at the earliest
+     */
+    private static final int MIN_COMPACTION = 1024;
+
+    /**
+     * longer names are ranked like names with this length, the length is ranked in 26 bits
+     */
+    private static final int MAX_RANKED_LENGTH = (1 << 26) - 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * the numbers of the documents by their ID
+     */
+    private final Map<UUID, Integer> documents = new HashMap<>();
+
+    /**
+     * the numbers of the words in the vocabulary
+     */
+    private final Map<String, Integer> wordNumbers = new HashMap<>();
+
+    /**
+     * the posting lists of the word numbers by their trigram
+     */
+    private final Map<Long, Postings> trigrams = new HashMap<>();
+
+    private final BitSet removed = new BitSet();
+
+    private SearchType[] types = new SearchType[INITIAL_CAPACITY];
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private UUID[] parents = new UUID[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] normalizedNames = new String[INITIAL_CAPACITY];
+
+    /**
+     * the lengths of the normalized names
+     */
+    private int[] lengths = new int[INITIAL_CAPACITY];
+
+    /**
+     * the word numbers of all documents one after another in the order of their names, the words of a document
+     * start at its offset and end at the offset of the next document
+     */
+    private int[] documentWords = new int[INITIAL_CAPACITY * 4];
+    private int[] wordOffsets = new int[INITIAL_CAPACITY + 1];
+
+    private String[] words = new String[INITIAL_CAPACITY];
+
+    /**
+     * the posting lists of the document numbers by their word number
+     */
+    private Postings[] wordDocuments = new Postings[INITIAL_CAPACITY];
+
+    /**
+     * the posting lists of the documents whose name starts with a word by the word number
+     */
+    private Postings[] firstDocuments = new Postings[INITIAL_CAPACITY];
+
+    /**
+     * the number of words in the vocabulary
+     */
+    private int wordCount;
+
+    /**
+     * the number of document numbers in use, including removed documents
+     */
+    private int count;
+
+    /**
+     * get the number of documents in the index
+     *
+     * @return the number of documents
+     */
+    public int size() {
+        this.lock.readLock().lock();
+
+        try {
+            return this.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * get the number of document numbers in use, including the removed documents that weren't compacted yet
+     *
+     * @return the number of document numbers
+     */
+    int documentNumbers() {
+        this.lock.readLock().lock();
+
+        try {
+            return this.count;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * add a document or replace the document with the same ID
+     *
+     * @param type the {@link SearchType}
+     * @param id the ID of the Creator, Bundle or file
+     * @param name the name
+     * @param parent the ID of the Creator of a Bundle or the Bundle of a file
+     */
+    public void put(SearchType type, UUID id, String name, UUID parent) {
+        String normalized = normalize(name);
+
+        this.lock.writeLock().lock();
+
+        try {
+            Integer existing = this.documents.get(id);
+
+            if (existing != null) {
+                if (this.types[existing] == type && Objects.equals(this.names[existing], name) && Objects.equals(this.parents[existing], parent)) {
+                    return;
+                }
+
+                this.removeDocument(existing);
+            }
+
+            this.insert(type, id, name, normalized, parent);
+
+            // a replaced document is removed as well, renaming the same documents again and again fills the index
+            this.compactIfRemoved();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * remove documents together with their children: the Bundles of a Creator and the files of a Bundle,
+     * like they are deleted by the Database
+     *
+     * @param ids the IDs of the documents
+     */
+    public void remove(Collection<UUID> ids) {
+        this.lock.writeLock().lock();
+
+        try {
+            Set<UUID> parentIds = new HashSet<>();
+
+            for (UUID id : ids) {
+                Integer document = this.documents.get(id);
+
+                if (document != null) {
+                    if (this.types[document] != SearchType.FILE) {
+                        parentIds.add(id);
+                    }
+
+                    this.removeDocument(document);
+                }
+            }
+
+            // every level of children needs one pass over all documents, files are removed without one
+            while (!parentIds.isEmpty()) {
+                Set<UUID> children = new HashSet<>();
+
+                for (int document = this.removed.nextClearBit(0); document < this.count; document = this.removed.nextClearBit(document + 1)) {
+                    if (this.parents[document] != null && parentIds.contains(this.parents[document])) {
+                        if (this.types[document] != SearchType.FILE) {
+                            children.add(this.ids[document]);
+                        }
+
+                        this.removeDocument(document);
+                    }
+                }
+
+                parentIds = children;
+            }
+
+            this.compactIfRemoved();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * remove all documents
+     */
+    public void clear() {
+        this.lock.writeLock().lock();
+
+        try {
+            this.documents.clear();
+            this.removed.clear();
+            this.allocate(INITIAL_CAPACITY);
+            this.count = 0;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * search the names, every term of the query has to match. Terms with at least three characters match anywhere
+     * in a name, shorter terms only at the start of a word.
+     *
+     * @param query the query
+     * @param types the {@link SearchType}s of the results, all types without them
+     * @param limit the maximum number of results
+     * @return the best {@link SearchResult}s, the best first
+     */
+    public List<SearchResult> search(String query, Set<SearchType> types, int limit) {
+        return this.find(query, types, limit, false);
+    }
+
+    /**
+     * complete the words of a query, every term has to match the start of a word of a name
+     *
+     * @param query the words that were typed so far
+     * @param types the {@link SearchType}s of the results, all types without them
+     * @param limit the maximum number of results
+     * @return the best {@link SearchResult}s, the best first
+     */
+    public List<SearchResult> autocomplete(String query, Set<SearchType> types, int limit) {
+        return this.find(query, types, limit, true);
+    }
+
+    private List<SearchResult> find(String query, Set<SearchType> types, int limit, boolean prefixes) {
+        String normalizedQuery = normalize(query);
+
+        if (normalizedQuery.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        String[] terms = normalizedQuery.split(" ");
+        boolean filtered = types != null && !types.isEmpty();
+
+        this.lock.readLock().lock();
+
+        try {
+            // the words of the vocabulary that start with a term, and that contain it for the terms matching anywhere
+            BitSet[] starting = new BitSet[terms.length];
+            BitSet[] matching = new BitSet[terms.length];
+            // the numbers of the words that are equal to the terms, or -1
+            int[] equal = new int[terms.length];
+            int driver = 0;
+            long driverCost = Long.MAX_VALUE;
+
+            for (int i = 0; i < terms.length; i++) {
+                starting[i] = this.words(terms[i], true);
+                matching[i] = !prefixes && terms[i].length() >= MIN_SUBSTRING_LENGTH ? this.words(terms[i], false) : starting[i];
+                equal[i] = this.wordNumbers.getOrDefault(terms[i], -1);
+
+                if (matching[i].isEmpty()) {
+                    return List.of();
+                }
+
+                long cost = 0;
+
+                for (int word = matching[i].nextSetBit(0); word >= 0; word = matching[i].nextSetBit(word + 1)) {
+                    cost += this.wordDocuments[word].size();
+                }
+
+                if (cost < driverCost) {
+                    driver = i;
+                    driverCost = cost;
+                }
+            }
+
+            Ranking ranking = new Ranking(normalizedQuery, terms, starting, matching, equal, filtered ? types : null, limit);
+
+            // only names that start with a word of the first term can start with the query and are ranked first
+            BitSet firstWords = new BitSet();
+
+            if (terms.length == 1) {
+                firstWords.or(starting[0]);
+            } else if (equal[0] >= 0) {
+                firstWords.set(equal[0]);
+            }
+
+            for (int word = firstWords.nextSetBit(0); word >= 0; word = firstWords.nextSetBit(word + 1)) {
+                Postings list = this.firstDocuments[word];
+
+                for (int i = 0; i < list.size(); i++) {
+                    ranking.rank(list.documents[i], -1, -1);
+                }
+            }
+
+            // the other candidates are the documents of the words of the term with the fewest documents,
+            // they are not needed when enough names start with the query
+            if (!ranking.startWithQuery()) {
+                for (int word = matching[driver].nextSetBit(0); word >= 0; word = matching[driver].nextSetBit(word + 1)) {
+                    Postings list = this.wordDocuments[word];
+
+                    for (int i = 0; i < list.size(); i++) {
+                        int document = list.documents[i];
+
+                        if (!firstWords.get(this.documentWords[this.wordOffsets[document]])) {
+                            ranking.rank(document, driver, word);
+                        }
+                    }
+                }
+            }
+
+            long[] best = ranking.best;
+            int found = ranking.found;
+
+            List<SearchResult> results = new ArrayList<>(found);
+
+            for (int i = 0; i < found; i++) {
+                int document = (int) best[i];
+
+                results.add(new SearchResult(this.types[document], this.ids[document], this.names[document], this.parents[document]));
+            }
+
+            return results;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * check if the name of a document starts with the query: its first words are equal to the terms, and the last
+     * term is the start of the following word
+     *
+     * @param from the offset of the words of the document
+     * @param to the offset of the words of the next document
+     * @param terms the number of terms
+     * @param equal the numbers of the words that are equal to the terms
+     * @param last the numbers of the words that start with the last term
+     */
+    private boolean startsWith(int from, int to, int terms, int[] equal, BitSet last) {
+        if (to - from < terms) {
+            return false;
+        }
+
+        for (int i = 0; i < terms - 1; i++) {
+            if (this.documentWords[from + i] != equal[i]) {
+                return false;
+            }
+        }
+
+        return last.get(this.documentWords[from + terms - 1]);
+    }
+
+    /**
+     * compare two ranked candidates: the better results first are exact names, names starting with the query,
+     * names whose words start with the terms, shorter names, then by name
+     *
+     * @param first the rank, the length of the name and the document number of the first candidate
+     * @param second the rank, the length of the name and the document number of the second candidate
+     */
+    private int compare(long first, long second) {
+        int compared = Long.compare(first >>> 32, second >>> 32);
+
+        if (compared == 0) {
+            compared = this.normalizedNames[(int) first].compareTo(this.normalizedNames[(int) second]);
+        }
+
+        return compared == 0 ? Integer.compare((int) first, (int) second) : compared;
+    }
+
+    /**
+     * find the words of the vocabulary that start with a term or contain it
+     *
+     * @param term the normalized term without spaces
+     * @param prefix if the words have to start with the term
+     * @return the numbers of the words
+     */
+    private BitSet words(String term, boolean prefix) {
+        BitSet words = new BitSet();
+        List<Postings> lists = new ArrayList<>();
+        boolean[] missing = new boolean[1];
+
+        forEachTrigram(term, prefix, trigram -> {
+            Postings list = this.trigrams.get(trigram);
+
+            if (list == null) {
+                missing[0] = true;
+            } else {
+                lists.add(list);
+            }
+        });
+
+        if (missing[0]) {
+            return words;
+        }
+
+        lists.sort(Comparator.comparingInt(Postings::size));
+
+        Postings smallest = lists.getFirst();
+        int[] cursors = new int[lists.size()];
+
+        candidates:
+        for (int i = 0; i < smallest.size(); i++) {
+            int word = smallest.documents[i];
+
+            for (int j = 1; j < lists.size(); j++) {
+                Postings list = lists.get(j);
+                int position = Arrays.binarySearch(list.documents, cursors[j], list.size(), word);
+
+                if (position < 0) {
+                    cursors[j] = -position - 1;
+                    continue candidates;
+                }
+
+                cursors[j] = position;
+            }
+
+            // trigrams in the wrong order don't match
+            if (prefix ? this.words[word].startsWith(term) : this.words[word].contains(term)) {
+                words.set(word);
+            }
+        }
+
+        return words;
+    }
+
+    /**
+     * find the first word of a document in a set of words
+     *
+     * @param from the offset of the words of the document
+     * @param to the offset of the words of the next document
+     * @param words the numbers of the words
+     * @return the offset of the word, or -1
+     */
+    private int find(int from, int to, BitSet words) {
+        for (int position = from; position < to; position++) {
+            if (words.get(this.documentWords[position])) {
+                return position;
+            }
+        }
+
+        return -1;
+    }
+
+    private void insert(SearchType type, UUID id, String name, String normalized, UUID parent) {
+        if (this.count == this.ids.length) {
+            this.grow(this.ids.length * 2);
+        }
+
+        int document = this.count++;
+        String[] split = normalized.isEmpty() ? new String[0] : normalized.split(" ");
+        int offset = this.wordOffsets[document];
+
+        if (offset + split.length > this.documentWords.length) {
+            this.documentWords = Arrays.copyOf(this.documentWords, Math.max(this.documentWords.length * 2, offset + split.length));
+        }
+
+        for (String word : split) {
+            int number = this.word(word);
+
+            this.documentWords[offset++] = number;
+            this.wordDocuments[number].add(document);
+        }
+
+        this.wordOffsets[document + 1] = offset;
+
+        if (split.length > 0) {
+            this.firstDocuments[this.documentWords[this.wordOffsets[document]]].add(document);
+        }
+
+        this.types[document] = type;
+        this.ids[document] = id;
+        this.parents[document] = parent;
+        this.names[document] = name;
+        this.normalizedNames[document] = normalized;
+        this.lengths[document] = normalized.length();
+        this.documents.put(id, document);
+    }
+
+    /**
+     * get the number of a word in the vocabulary, a new word is added with its trigrams
+     */
+    private int word(String word) {
+        Integer existing = this.wordNumbers.get(word);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        if (this.wordCount == this.words.length) {
+            this.words = Arrays.copyOf(this.words, this.wordCount * 2);
+            this.wordDocuments = Arrays.copyOf(this.wordDocuments, this.wordCount * 2);
+            this.firstDocuments = Arrays.copyOf(this.firstDocuments, this.wordCount * 2);
+        }
+
+        int number = this.wordCount++;
+
+        this.words[number] = word;
+        this.wordDocuments[number] = new Postings();
+        this.firstDocuments[number] = new Postings();
+        this.wordNumbers.put(word, number);
+
+        forEachTrigram(word, true, trigram -> this.trigrams.computeIfAbsent(trigram, key -> new Postings()).add(number));
+
+        return number;
+    }
+
+    /**
+     * mark a document as removed, it stays in the posting lists until the index is compacted
+     */
+    private void removeDocument(int document) {
+        this.documents.remove(this.ids[document]);
+        this.removed.set(document);
+        this.names[document] = null;
+        this.normalizedNames[document] = null;
+    }
+
+    /**
+     * compact the index when more documents are removed than left
+     */
+    private void compactIfRemoved() {
+        int removedDocuments = this.count - this.documents.size();
+
+        if (removedDocuments > MIN_COMPACTION && removedDocuments > this.documents.size()) {
+            this.compact();
+        }
+    }
+
+    /**
+     * index all documents that are not removed again with new numbers, words without documents are dropped
+     */
+    private void compact() {
+        SearchType[] oldTypes = this.types;
+        UUID[] oldIds = this.ids;
+        UUID[] oldParents = this.parents;
+        String[] oldNames = this.names;
+        String[] oldNormalizedNames = this.normalizedNames;
+        BitSet oldRemoved = (BitSet) this.removed.clone();
+        int oldCount = this.count;
+
+        this.documents.clear();
+        this.removed.clear();
+        this.allocate(Math.max(INITIAL_CAPACITY, (oldCount - oldRemoved.cardinality()) * 2));
+        this.count = 0;
+
+        for (int document = oldRemoved.nextClearBit(0); document < oldCount; document = oldRemoved.nextClearBit(document + 1)) {
+            this.insert(oldTypes[document], oldIds[document], oldNames[document], oldNormalizedNames[document], oldParents[document]);
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.types = new SearchType[capacity];
+        this.ids = new UUID[capacity];
+        this.parents = new UUID[capacity];
+        this.names = new String[capacity];
+        this.normalizedNames = new String[capacity];
+        this.lengths = new int[capacity];
+        this.documentWords = new int[capacity * 4];
+        this.wordOffsets = new int[capacity + 1];
+
+        this.wordNumbers.clear();
+        this.trigrams.clear();
+        this.words = new String[INITIAL_CAPACITY];
+        this.wordDocuments = new Postings[INITIAL_CAPACITY];
+        this.firstDocuments = new Postings[INITIAL_CAPACITY];
+        this.wordCount = 0;
+    }
+
+    private void grow(int capacity) {
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.ids = Arrays.copyOf(this.ids, capacity);
+        this.parents = Arrays.copyOf(this.parents, capacity);
+        this.names = Arrays.copyOf(this.names, capacity);
+        this.normalizedNames = Arrays.copyOf(this.normalizedNames, capacity);
+        this.lengths = Arrays.copyOf(this.lengths, capacity);
+        this.wordOffsets = Arrays.copyOf(this.wordOffsets, capacity + 1);
+    }
+
+    /**
+     * normalize a name for the index: lower case without accents, letters and digits are separate words,
+     * everything else separates words
+     *
+     * @param name the name
+     * @return the normalized name, words are separated by single spaces
+     */
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        StringBuilder builder = new StringBuilder(decomposed.length());
+        // 0 after a separator, 1 after a letter, 2 after a digit
+        int previous = 0;
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            char character = decomposed.charAt(i);
+
+            if (Character.getType(character) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+
+            int kind = Character.isDigit(character) ? 2 : Character.isLetter(character) ? 1 : 0;
+
+            if (kind == 0) {
+                if (previous != 0) {
+                    builder.append(' ');
+                }
+            } else {
+                if (previous != 0 && previous != kind) {
+                    builder.append(' ');
+                }
+
+                builder.append(Character.toLowerCase(character));
+            }
+
+            previous = kind;
+        }
+
+        int length = builder.length();
+
+        return length > 0 && builder.charAt(length - 1) == ' ' ? builder.substring(0, length - 1) : builder.toString();
+    }
+
+    /**
+     * pass the trigrams of a word to the consumer
+     *
+     * @param word the normalized word
+     * @param prefix if the trigrams of the start of the word are passed as well
+     * @param consumer the consumer of the trigrams
+     */
+    private static void forEachTrigram(String word, boolean prefix, LongConsumer consumer) {
+        int length = word.length();
+
+        if (prefix) {
+            consumer.accept(trigram(START, START, word.charAt(0)));
+
+            if (length > 1) {
+                consumer.accept(trigram(START, word.charAt(0), word.charAt(1)));
+            }
+        }
+
+        for (int i = 0; i + 2 < length; i++) {
+            consumer.accept(trigram(word.charAt(i), word.charAt(i + 1), word.charAt(i + 2)));
+        }
+    }
+
+    private static long trigram(char first, char second, char third) {
+        return (long) first << 32 | (long) second << 16 | third;
+    }
+
+    /**
+     * The best candidates of a search, sorted by their rank, the lower the better: exact names, names starting with
+     * the query, names whose words start with the terms, then all others. The rank, the length of the name and the
+     * document number of a candidate are kept in one {@code long}.
+     */
+    private final class Ranking {
+
+        private final String query;
+        private final String[] terms;
+        private final BitSet[] starting;
+        private final BitSet[] matching;
+        private final int[] equal;
+        private final Set<SearchType> types;
+
+        private final long[] best;
+        private int found;
+
+        private Ranking(String query, String[] terms, BitSet[] starting, BitSet[] matching, int[] equal, Set<SearchType> types, int limit) {
+            this.query = query;
+            this.terms = terms;
+            this.starting = starting;
+            this.matching = matching;
+            this.equal = equal;
+            this.types = types;
+            this.best = new long[limit];
+        }
+
+        /**
+         * check if the best candidates are full with names that start with the query, no other name can replace them
+         */
+        private boolean startWithQuery() {
+            return this.found == this.best.length && this.best[this.found - 1] >>> 58 <= 1;
+        }
+
+        /**
+         * rank a document if all terms match it, and keep it when it is one of the best
+         *
+         * @param document the document number
+         * @param driver the term that the document was found with, or -1
+         * @param word the word of the term that the document was found with, or -1
+         */
+        private void rank(int document, int driver, int word) {
+            if (SearchIndex.this.removed.get(document) || (this.types != null && !this.types.contains(SearchIndex.this.types[document]))) {
+                return;
+            }
+
+            int from = SearchIndex.this.wordOffsets[document];
+            int to = SearchIndex.this.wordOffsets[document + 1];
+            boolean wordStarts = true;
+
+            for (int j = 0; j < this.terms.length; j++) {
+                int position = SearchIndex.this.find(from, to, this.starting[j]);
+                boolean startsWord = position >= 0;
+
+                if (!startsWord) {
+                    position = SearchIndex.this.find(from, to, this.matching[j]);
+
+                    if (position < 0) {
+                        return;
+                    }
+                }
+
+                // a document with several words of the term is found through each of them, it's only ranked for one
+                if (j == driver && SearchIndex.this.documentWords[position] != word) {
+                    return;
+                }
+
+                wordStarts &= startsWord;
+            }
+
+            int length = SearchIndex.this.lengths[document];
+            int rank = SearchIndex.this.startsWith(from, to, this.terms.length, this.equal, this.starting[this.terms.length - 1])
+                    ? length == this.query.length() ? 0 : 1
+                    : wordStarts ? 2 : 3;
+            long key = (long) rank << 58 | (long) Math.min(length, MAX_RANKED_LENGTH) << 32 | document;
+
+            if (this.found < this.best.length) {
+                this.found++;
+            } else if (SearchIndex.this.compare(key, this.best[this.found - 1]) >= 0) {
+                return;
+            }
+
+            // insert the candidate into the sorted best candidates, the last one drops out when they are full
+            int position = this.found - 1;
+
+            for (; position > 0 && SearchIndex.this.compare(key, this.best[position - 1]) < 0; position--) {
+                this.best[position] = this.best[position - 1];
+            }
+
+            this.best[position] = key;
+        }
+    }
+
+    /**
+     * The sorted numbers of the words with a trigram or of the documents with a word
+     */
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+
+        private int size;
+
+        private void add(int document) {
+            // the trigrams of one word and the words of one document are added one after another, repeats are only added once
+            if (this.size > 0 && this.documents[this.size - 1] == document) {
+                return;
+            }
+
+            if (this.size == this.documents.length) {
+                this.documents = Arrays.copyOf(this.documents, this.size * 2);
+            }
+
+            this.documents[this.size++] = document;
+        }
+
+        private int size() {
+            return this.size;
+        }
+    }
+}
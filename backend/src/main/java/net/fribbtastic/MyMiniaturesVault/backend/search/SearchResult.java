@@ -0,0 +1,15 @@
+package net.fribbtastic.MyMiniaturesVault.backend.search;
+
+import java.util.UUID;
+
+/**
+ * A Creator, Bundle or file whose name matches a search
+ *
+ * @param type the {@link SearchType}
+ * @param id the ID of the Creator, Bundle or file
+ * @param name the name, the file name without its folders for files
+ * @param parent the ID of the Creator of a Bundle or the Bundle of a file, 'null' for Creators
+ * @author Frederic Eßer
+ */
+public record SearchResult(SearchType type, UUID id, String name, UUID parent) {
+}
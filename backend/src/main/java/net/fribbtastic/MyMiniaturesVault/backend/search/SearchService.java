@@ -0,0 +1,166 @@
+package net.fribbtastic.MyMiniaturesVault.backend.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.Transactions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Searches the names of Creators, Bundles and files in a {@link SearchIndex} in memory.
+ * <p>
+ * The index is built from the Database on startup and changed together with the Database: the changes are applied
+ * after the transaction that wrote them was committed, so a rolled back change never shows up in the results.
+ *
+ * @author Frederic Eßer
+ */
+@Service
+public class SearchService implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchService.class);
+
+    /**
+     * the name of the gauge with the number of names in the index
+     */
+    public static final String DOCUMENTS_METRIC = "search.documents";
+
+    /**
+     * the name of the timer of the searches, tagged with the kind (search, autocomplete)
+     */
+    public static final String DURATION_METRIC = "search.duration";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final SearchIndex index = new SearchIndex();
+
+    private volatile Timer searches;
+    private volatile Timer completions;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(DOCUMENTS_METRIC, this.index, SearchIndex::size)
+                .description("the number of Creator, Bundle and file names in the search index")
+                .register(registry);
+
+        this.searches = registry.timer(DURATION_METRIC, "kind", "search");
+        this.completions = registry.timer(DURATION_METRIC, "kind", "autocomplete");
+    }
+
+    /**
+     * build the index from all Creators, Bundles and files in the Database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+
+        this.index.clear();
+        this.jdbcTemplate.query("SELECT id, name FROM CREATORS",
+                resultSet -> {
+                    this.index.put(SearchType.CREATOR, resultSet.getObject(1, UUID.class), resultSet.getString(2), null);
+                });
+        this.jdbcTemplate.query("SELECT id, name, creator_id FROM BUNDLES",
+                resultSet -> {
+                    this.index.put(SearchType.BUNDLE, resultSet.getObject(1, UUID.class), resultSet.getString(2), resultSet.getObject(3, UUID.class));
+                });
+        this.jdbcTemplate.query("SELECT id, path, bundle_id FROM MODEL_FILES",
+                resultSet -> {
+                    this.index.put(SearchType.FILE, resultSet.getObject(1, UUID.class), fileName(resultSet.getString(2)), resultSet.getObject(3, UUID.class));
+                });
+
+        LOGGER.debug("indexed {} names in {} ms", this.index.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * search the names of Creators, Bundles and files
+     *
+     * @param query the query, terms with at least three characters match anywhere in the names, shorter ones at the start of words
+     * @param types the {@link SearchType}s of the results, all types without them
+     * @param limit the maximum number of results
+     * @return the {@link SearchResult}s, the best first
+     */
+    public List<SearchResult> search(String query, Set<SearchType> types, int limit) {
+        LOGGER.debug("search '{}' in {} with limit={}", query, types, limit);
+
+        return record(this.searches, () -> this.index.search(query, types, limit));
+    }
+
+    /**
+     * complete the words that were typed so far to names of Creators, Bundles and files
+     *
+     * @param query the query, every term matches the start of a word
+     * @param types the {@link SearchType}s of the results, all types without them
+     * @param limit the maximum number of results
+     * @return the {@link SearchResult}s, the best first
+     */
+    public List<SearchResult> autocomplete(String query, Set<SearchType> types, int limit) {
+        LOGGER.debug("autocomplete '{}' in {} with limit={}", query, types, limit);
+
+        return record(this.completions, () -> this.index.autocomplete(query, types, limit));
+    }
+
+    /**
+     * add or replace a name in the index after the current transaction was committed
+     *
+     * @param type the {@link SearchType}
+     * @param id the ID of the Creator, Bundle or file
+     * @param name the name
+     * @param parent the ID of the Creator of a Bundle or the Bundle of a file
+     */
+    public void put(SearchType type, UUID id, String name, UUID parent) {
+        this.update(List.of(new SearchResult(type, id, name, parent)), List.of());
+    }
+
+    /**
+     * remove names together with their Bundles and files from the index after the current transaction was committed
+     *
+     * @param ids the IDs of the Creators, Bundles or files
+     */
+    public void remove(Collection<UUID> ids) {
+        this.update(List.of(), ids);
+    }
+
+    /**
+     * remove and add names in the index after the current transaction was committed
+     *
+     * @param documents the names that are added or replaced
+     * @param removedIds the IDs of the Creators, Bundles or files that are removed with their Bundles and files
+     */
+    public void update(Collection<SearchResult> documents, Collection<UUID> removedIds) {
+        Transactions.afterCommit(() -> {
+            if (!removedIds.isEmpty()) {
+                this.index.remove(removedIds);
+            }
+
+            documents.forEach(document -> this.index.put(document.type(), document.id(), document.name(), document.parent()));
+        });
+    }
+
+    /**
+     * get the name of a file from its path, files inside archives are named after their entry
+     *
+     * @param path the path of the file
+     * @return the file name without its folders
+     */
+    public static String fileName(String path) {
+        return path.substring(Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\')) + 1);
+    }
+
+    private static <T> T record(Timer timer, Supplier<T> search) {
+        return timer == null ? search.get() : timer.record(search);
+    }
+}
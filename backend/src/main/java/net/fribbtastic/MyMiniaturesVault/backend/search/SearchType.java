@@ -0,0 +1,10 @@
+package net.fribbtastic.MyMiniaturesVault.backend.search;
+
+/**
+ * The kinds of names that can be searched
+ *
+ * @author Frederic Eßer
+ */
+public enum SearchType {
+    CREATOR, BUNDLE, FILE
+}
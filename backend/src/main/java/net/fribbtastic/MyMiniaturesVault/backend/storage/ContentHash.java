@@ -0,0 +1,132 @@
+package net.fribbtastic.MyMiniaturesVault.backend.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.stream.IntStream;
+
+/**
+ * Hashes the content of files to find and store identical files only once.
+ * <p>
+ * The content hash is a SHA-256 hash tree of one level: the file is split into chunks of {@value #CHUNK_SIZE} bytes
+ * which are memory-mapped and hashed in parallel, the hash of the file is the SHA-256 of the size and the hashes of
+ * the chunks. It is not the same as the plain SHA-256 of the file.
+ * <p>
+ * The partial hash only reads the first and last {@value #PARTIAL_SIZE} bytes of a file. Files with different
+ * partial hashes can't be identical, so only files whose size and partial hash match need a content hash.
+ *
+ * @author Frederic Eßer
+ */
+public final class ContentHash {
+
+    /**
+     * the size of the chunks that are hashed in parallel, changing it changes all content hashes
+     */
+    public static final int CHUNK_SIZE = 4 << 20;
+
+    /**
+     * the number of bytes at the start and the end of a file that are read for the partial hash
+     */
+    public static final int PARTIAL_SIZE = 64 << 10;
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private ContentHash() {
+    }
+
+    /**
+     * compute the content hash of a file
+     *
+     * @param file the {@link Path} of the file
+     * @return the hash as 64 hex digits
+     * @throws IOException when the file can't be read
+     */
+    public static String full(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunks = (int) Math.max(1, (size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            IntStream indices = IntStream.range(0, chunks);
+
+            byte[][] hashes = (chunks > 1 ? indices.parallel() : indices)
+                    .mapToObj(chunk -> {
+                        long position = (long) chunk * CHUNK_SIZE;
+
+                        try {
+                            MessageDigest digest = sha256();
+                            digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(CHUNK_SIZE, size - position)));
+
+                            return digest.digest();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .toArray(byte[][]::new);
+
+            MessageDigest digest = sha256();
+            digest.update(ByteBuffer.allocate(Long.BYTES).putLong(0, size));
+
+            for (byte[] hash : hashes) {
+                digest.update(hash);
+            }
+
+            return HEX.formatHex(digest.digest());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * compute the partial hash of a file from its size and its first and last {@value #PARTIAL_SIZE} bytes
+     *
+     * @param file the {@link Path} of the file
+     * @return the hash as 64 hex digits
+     * @throws IOException when the file can't be read
+     */
+    public static String partial(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+
+            MessageDigest digest = sha256();
+            digest.update(ByteBuffer.allocate(Long.BYTES).putLong(0, size));
+
+            ByteBuffer buffer = ByteBuffer.allocate(PARTIAL_SIZE);
+            digest.update(read(channel, 0, buffer));
+
+            if (size > PARTIAL_SIZE) {
+                digest.update(read(channel, Math.max(PARTIAL_SIZE, size - PARTIAL_SIZE), buffer));
+            }
+
+            return HEX.formatHex(digest.digest());
+        }
+    }
+
+    /**
+     * read from the position until the buffer is full or the end of the file is reached
+     *
+     * @return the flipped buffer
+     */
+    private static ByteBuffer read(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+
+        for (int read = 0; buffer.hasRemaining() && read >= 0; ) {
+            read = channel.read(buffer, position + buffer.position());
+        }
+
+        return buffer.flip();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform has to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package net.fribbtastic.MyMiniaturesVault.backend.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * The content-addressable store of the vault: files are stored under their content hash in
+ * {@code <storage.path>/content/<first two digits>/<hash>}, so every content is only stored once
+ * and identical files are linked to the same stored file.
+ *
+ * @author Frederic Eßer
+ */
+@Component
+public class ContentStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContentStore.class);
+
+    private final Path root;
+
+    /**
+     * @param root the root folder of the vault
+     */
+    public ContentStore(@Value("${storage.path:vault}") Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    /**
+     * move a file into the store, the file is deleted instead when the store already contains its content.
+     * The file should be on the same file system as the store so it can be moved without copying it.
+     *
+     * @param file the {@link Path} of the file
+     * @return the {@link StoredContent}
+     * @throws IOException when the file can't be read or moved
+     */
+    public StoredContent store(Path file) throws IOException {
+        String hash = ContentHash.full(file);
+        long size = Files.size(file);
+        Path target = this.resolve(hash);
+
+        if (Files.exists(target)) {
+            LOGGER.debug("the content of {} is already stored as {}", file, hash);
+            Files.delete(file);
+
+            return new StoredContent(hash, target, size, true);
+        }
+
+        Files.createDirectories(target.getParent());
+
+        try {
+            Files.move(file, target);
+        } catch (FileAlreadyExistsException e) {
+            // the same content was stored at the same time
+            Files.delete(file);
+
+            return new StoredContent(hash, target, size, true);
+        }
+
+        LOGGER.debug("stored {} as {}", file, hash);
+
+        return new StoredContent(hash, target, size, false);
+    }
+
+    /**
+     * delete a content that was just stored when no file of the library is linked to it, e.g. because linking it
+     * failed. A duplicate content was stored before and is kept. The stored file has no other hard link then,
+     * on file systems without hard links the library only contains copies of it.
+     *
+     * @param content the {@link StoredContent}
+     * @return 'true' when the content was deleted
+     * @throws IOException when the file can't be deleted
+     */
+    public boolean deleteUnreferenced(StoredContent content) throws IOException {
+        if (content.duplicate() || links(content.path()) > 1) {
+            return false;
+        }
+
+        LOGGER.debug("delete the unreferenced content {}", content.hash());
+
+        return Files.deleteIfExists(content.path());
+    }
+
+    /**
+     * @return the number of hard links of a file, 1 on file systems that can't count them
+     */
+    private static int links(Path file) throws IOException {
+        try {
+            return (Integer) Files.getAttribute(file, "unix:nlink");
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return 1;
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * get the path of a content hash in the store, the file doesn't have to exist
+     *
+     * @param hash the content hash
+     * @return the {@link Path} in the store
+     */
+    public Path resolve(String hash) {
+        return this.root.resolve("content").resolve(hash.substring(0, 2)).resolve(hash);
+    }
+}
@@ -0,0 +1,15 @@
+package net.fribbtastic.MyMiniaturesVault.backend.storage;
+
+import java.nio.file.Path;
+
+/**
+ * A file in the {@link ContentStore}
+ *
+ * @param hash the content hash of the file ({@link ContentHash#full(Path)})
+ * @param path the path of the file in the store
+ * @param size the size of the file in bytes
+ * @param duplicate 'true' when the store already contained the same content and the file was not stored again
+ * @author Frederic Eßer
+ */
+public record StoredContent(String hash, Path path, long size, boolean duplicate) {
+}
@@ -0,0 +1,577 @@
+package net.fribbtastic.MyMiniaturesVault.backend.tag;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A compressed bitmap of non-negative {@code int} values in the style of a Roaring bitmap.
+ * <p>
+ * The values are split into chunks by their upper 16 bits. A chunk with up to {@value #MAX_ARRAY} values keeps
+ * their lower 16 bits in a sorted {@code char} array, a chunk with more values in a bitmap of 65536 bits, so no chunk
+ * needs more than 8 KiB. Intersections only visit the chunks that both bitmaps have and compare arrays by merging
+ * them, or bitmaps word by word.
+ * <p>
+ * Not thread-safe, the {@link TagIndex} guards its bitmaps.
+ *
+ * @author Frederic Eßer
+ */
+final class Bitmap {
+
+    /**
+     * the maximum number of values of a chunk that are kept in an array
+     */
+    static final int MAX_ARRAY = 4096;
+
+    /**
+     * the upper 16 bits of the values of every chunk, sorted
+     */
+    private char[] keys = new char[4];
+
+    private Container[] containers = new Container[4];
+
+    /**
+     * the number of chunks
+     */
+    private int size;
+
+    /**
+     * add a value
+     *
+     * @param value the non-negative value
+     */
+    void add(int value) {
+        char key = (char) (value >>> 16);
+        int index = this.index(key);
+
+        if (index < 0) {
+            index = -index - 1;
+            this.insert(index, key, new ArrayContainer());
+        }
+
+        this.containers[index] = this.containers[index].add((char) value);
+    }
+
+    /**
+     * remove a value
+     *
+     * @param value the value
+     */
+    void remove(int value) {
+        int index = this.index((char) (value >>> 16));
+
+        if (index < 0) {
+            return;
+        }
+
+        Container container = this.containers[index].remove((char) value);
+
+        if (container.cardinality() == 0) {
+            System.arraycopy(this.keys, index + 1, this.keys, index, this.size - index - 1);
+            System.arraycopy(this.containers, index + 1, this.containers, index, this.size - index - 1);
+            this.containers[--this.size] = null;
+        } else {
+            this.containers[index] = container;
+        }
+    }
+
+    /**
+     * check if the bitmap contains a value
+     *
+     * @param value the value
+     * @return true if the value was added
+     */
+    boolean contains(int value) {
+        int index = this.index((char) (value >>> 16));
+
+        return index >= 0 && this.containers[index].contains((char) value);
+    }
+
+    /**
+     * get the number of values
+     *
+     * @return the number of values
+     */
+    int cardinality() {
+        int cardinality = 0;
+
+        for (int i = 0; i < this.size; i++) {
+            cardinality += this.containers[i].cardinality();
+        }
+
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * intersect two bitmaps
+     *
+     * @param other the other bitmap
+     * @return a new bitmap with the values that both bitmaps contain
+     */
+    Bitmap and(Bitmap other) {
+        Bitmap result = new Bitmap();
+
+        for (int i = 0, j = 0; i < this.size && j < other.size; ) {
+            int compared = Character.compare(this.keys[i], other.keys[j]);
+
+            if (compared < 0) {
+                i++;
+            } else if (compared > 0) {
+                j++;
+            } else {
+                Container container = this.containers[i].and(other.containers[j]);
+
+                if (container.cardinality() > 0) {
+                    result.insert(result.size, this.keys[i], container);
+                }
+
+                i++;
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * unite two bitmaps
+     *
+     * @param other the other bitmap
+     * @return a new bitmap with the values of both bitmaps
+     */
+    Bitmap or(Bitmap other) {
+        Bitmap result = new Bitmap();
+        int i = 0;
+        int j = 0;
+
+        while (i < this.size || j < other.size) {
+            int compared = i == this.size ? 1 : j == other.size ? -1 : Character.compare(this.keys[i], other.keys[j]);
+
+            if (compared < 0) {
+                result.insert(result.size, this.keys[i], this.containers[i].copy());
+                i++;
+            } else if (compared > 0) {
+                result.insert(result.size, other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.insert(result.size, this.keys[i], this.containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * count the values that both bitmaps contain without building their intersection
+     *
+     * @param other the other bitmap
+     * @return the number of values in both bitmaps
+     */
+    int andCardinality(Bitmap other) {
+        int cardinality = 0;
+
+        for (int i = 0, j = 0; i < this.size && j < other.size; ) {
+            int compared = Character.compare(this.keys[i], other.keys[j]);
+
+            if (compared < 0) {
+                i++;
+            } else if (compared > 0) {
+                j++;
+            } else {
+                cardinality += this.containers[i].andCardinality(other.containers[j]);
+                i++;
+                j++;
+            }
+        }
+
+        return cardinality;
+    }
+
+    /**
+     * pass all values in ascending order to the consumer
+     *
+     * @param consumer the consumer of the values
+     */
+    void forEach(IntConsumer consumer) {
+        for (int i = 0; i < this.size; i++) {
+            this.containers[i].forEach(this.keys[i] << 16, consumer);
+        }
+    }
+
+    private int index(char key) {
+        return Arrays.binarySearch(this.keys, 0, this.size, key);
+    }
+
+    private void insert(int index, char key, Container container) {
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.size * 2);
+            this.containers = Arrays.copyOf(this.containers, this.size * 2);
+        }
+
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.size - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.size - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.size++;
+    }
+
+    /**
+     * The lower 16 bits of the values of one chunk
+     */
+    private abstract static sealed class Container permits ArrayContainer, BitmapContainer {
+
+        /**
+         * @return this container, or a new one when the values don't fit into it anymore
+         */
+        abstract Container add(char value);
+
+        /**
+         * @return this container, or a new one when the values fit into a smaller one
+         */
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract int andCardinality(Container other);
+
+        /**
+         * pass the values together with the upper 16 bits of the chunk to the consumer
+         */
+        abstract void forEach(int high, IntConsumer consumer);
+
+        abstract Container copy();
+    }
+
+    /**
+     * A chunk with few values in a sorted array
+     */
+    private static final class ArrayContainer extends Container {
+
+        private char[] values;
+
+        private int size;
+
+        private ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        private ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(this.values, 0, this.size, value);
+
+            if (index >= 0) {
+                return this;
+            }
+
+            if (this.size == MAX_ARRAY) {
+                return this.toBitmap().add(value);
+            }
+
+            index = -index - 1;
+
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, Math.min(Math.max(this.size * 2, 4), MAX_ARRAY));
+            }
+
+            System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+            this.values[index] = value;
+            this.size++;
+
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(this.values, 0, this.size, value);
+
+            if (index >= 0) {
+                System.arraycopy(this.values, index + 1, this.values, index, this.size - index - 1);
+                this.size--;
+            }
+
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(this.values, 0, this.size, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return this.size;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[Math.min(this.size, other.cardinality())];
+            int size = 0;
+
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0, j = 0; i < this.size && j < array.size; ) {
+                    char value = this.values[i];
+                    char otherValue = array.values[j];
+
+                    result[size] = value;
+                    size += value == otherValue ? 1 : 0;
+                    i += value <= otherValue ? 1 : 0;
+                    j += value >= otherValue ? 1 : 0;
+                }
+            } else {
+                long[] words = ((BitmapContainer) other).words;
+
+                // branch-free: every value is written, but only kept when its bit is set
+                for (int i = 0; i < this.size; i++) {
+                    char value = this.values[i];
+                    result[size] = value;
+                    size += (int) (words[value >>> 6] >>> value) & 1;
+                }
+            }
+
+            return new ArrayContainer(result, size);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                Container result = other.copy();
+
+                for (int i = 0; i < this.size; i++) {
+                    result = result.add(this.values[i]);
+                }
+
+                return result;
+            }
+
+            ArrayContainer array = (ArrayContainer) other;
+            char[] result = new char[this.size + array.size];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+
+            while (i < this.size || j < array.size) {
+                if (j == array.size || (i < this.size && this.values[i] < array.values[j])) {
+                    result[size++] = this.values[i++];
+                } else if (i == this.size || this.values[i] > array.values[j]) {
+                    result[size++] = array.values[j++];
+                } else {
+                    result[size++] = this.values[i];
+                    i++;
+                    j++;
+                }
+            }
+
+            ArrayContainer united = new ArrayContainer(result, size);
+
+            return size > MAX_ARRAY ? united.toBitmap() : united;
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            int cardinality = 0;
+
+            if (other instanceof ArrayContainer array) {
+                // branch-free merge, the order of the values of two arrays can't be predicted
+                for (int i = 0, j = 0; i < this.size && j < array.size; ) {
+                    char value = this.values[i];
+                    char otherValue = array.values[j];
+
+                    cardinality += value == otherValue ? 1 : 0;
+                    i += value <= otherValue ? 1 : 0;
+                    j += value >= otherValue ? 1 : 0;
+                }
+            } else {
+                long[] words = ((BitmapContainer) other).words;
+
+                for (int i = 0; i < this.size; i++) {
+                    char value = this.values[i];
+                    cardinality += (int) (words[value >>> 6] >>> value) & 1;
+                }
+            }
+
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer consumer) {
+            for (int i = 0; i < this.size; i++) {
+                consumer.accept(high | this.values[i]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(this.values, Math.max(this.size, 4)), this.size);
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+
+            for (int i = 0; i < this.size; i++) {
+                bitmap.add(this.values[i]);
+            }
+
+            return bitmap;
+        }
+    }
+
+    /**
+     * A chunk with many values in a bitmap of 65536 bits
+     */
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words;
+
+        private int cardinality;
+
+        private BitmapContainer() {
+            this(new long[1024], 0);
+        }
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            long word = this.words[value >>> 6];
+            long bit = 1L << value;
+
+            if ((word & bit) == 0) {
+                this.words[value >>> 6] = word | bit;
+                this.cardinality++;
+            }
+
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long word = this.words[value >>> 6];
+            long bit = 1L << value;
+
+            if ((word & bit) != 0) {
+                this.words[value >>> 6] = word & ~bit;
+                this.cardinality--;
+            }
+
+            return this.cardinality <= MAX_ARRAY ? this.toArray() : this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (this.words[value >>> 6] & 1L << value) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return this.cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+
+            long[] otherWords = ((BitmapContainer) other).words;
+            int cardinality = this.andCardinality(other);
+
+            if (cardinality > MAX_ARRAY) {
+                long[] result = new long[this.words.length];
+
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = this.words[i] & otherWords[i];
+                }
+
+                return new BitmapContainer(result, cardinality);
+            }
+
+            // count first, so a small intersection goes straight into an array
+            char[] values = new char[Math.max(cardinality, 4)];
+            int size = 0;
+
+            for (int i = 0; i < this.words.length; i++) {
+                for (long word = this.words[i] & otherWords[i]; word != 0; word &= word - 1) {
+                    values[size++] = (char) (i << 6 | Long.numberOfTrailingZeros(word));
+                }
+            }
+
+            return new ArrayContainer(values, size);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.or(this);
+            }
+
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[this.words.length];
+            int cardinality = 0;
+
+            for (int i = 0; i < result.length; i++) {
+                result[i] = this.words[i] | otherWords[i];
+                cardinality += Long.bitCount(result[i]);
+            }
+
+            return new BitmapContainer(result, cardinality);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.andCardinality(this);
+            }
+
+            long[] otherWords = ((BitmapContainer) other).words;
+            int cardinality = 0;
+
+            for (int i = 0; i < this.words.length; i++) {
+                cardinality += Long.bitCount(this.words[i] & otherWords[i]);
+            }
+
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer consumer) {
+            for (int i = 0; i < this.words.length; i++) {
+                for (long word = this.words[i]; word != 0; word &= word - 1) {
+                    consumer.accept(high | i << 6 | Long.numberOfTrailingZeros(word));
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(this.words.clone(), this.cardinality);
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[Math.max(this.cardinality, 4)];
+            int[] size = new int[1];
+
+            this.forEach(0, value -> values[size[0]++] = (char) value);
+
+            return new ArrayContainer(values, size[0]);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package net.fribbtastic.MyMiniaturesVault.backend.tag;
+
+import java.util.Map;
+
+/**
+ * The number of Miniatures that match a filter and the number of Miniatures of every tag, e.g. for a sidebar
+ *
+ * @param total the number of Miniatures that match the filter
+ * @param facets the number of Miniatures by the value of every tag by its facet, e.g. {"faction": {"orc": 12}}
+ * @author Frederic Eßer
+ */
+public record FacetCounts(int total, Map<String, Map<String, Integer>> facets) {
+}
@@ -0,0 +1,56 @@
+package net.fribbtastic.MyMiniaturesVault.backend.tag;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.UuidV7;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.bundle.Miniature;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.UUID;
+
+/**
+ * A tag of a {@link Miniature}, e.g. 'faction:undead', 'scale:32mm' or 'supported'.
+ * The part before the first ':' is the facet of the tag, tags without one belong to the facet {@value TagIndex#DEFAULT_FACET}.
+ *
+ * @author Frederic Eßer
+ */
+@Entity
+@Table(name = "MINIATURE_TAGS",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"miniature_id", "tag"}),
+        indexes = @Index(columnList = "tag"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class MiniatureTag {
+
+    /**
+     * the maximum length of a tag
+     */
+    public static final int MAX_LENGTH = 100;
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    /**
+     * the tagged Miniature, deleting the Miniature deletes all of its tags
+     */
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "miniature_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Miniature miniature;
+
+    /**
+     * the normalized tag
+     */
+    @NotNull
+    @NotEmpty
+    @Column(length = MAX_LENGTH)
+    private String tag;
+}
@@ -0,0 +1,25 @@
+package net.fribbtastic.MyMiniaturesVault.backend.tag;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+public interface MiniatureTagRepository extends JpaRepository<MiniatureTag, UUID> {
+
+    /**
+     * Delete all tags of a Miniature with a single statement.
+     * Has to be called inside a transaction.
+     *
+     * @param miniatureId the ID of the Miniature
+     * @return the number of deleted tags
+     */
+    @Modifying
+    @Query("DELETE FROM MiniatureTag t WHERE t.miniature.id = :miniatureId")
+    int deleteAllOfMiniature(@Param("miniatureId") UUID miniatureId);
+}
@@ -0,0 +1,88 @@
+package net.fribbtastic.MyMiniaturesVault.backend.tag;
+
+import com.github.lkqm.spring.api.version.ApiVersion;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filters the Miniatures by their tags and counts them by facet, both from the tag index in memory
+ *
+ * @author Frederic Eßer
+ */
+@RestController
+@RequestMapping(produces = "application/json")
+@ApiVersion("1")
+public class TagController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TagController.class);
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    @Autowired
+    private TagService service;
+
+    /**
+     * Get the Miniatures with tags (ordered by name), e.g. '?tags=faction:orc,faction:undead,scale:32mm' for orcs
+     * or undead in 32mm. Tags of the same facet are alternatives, tags of different facets all have to match.
+     *
+     * @param tags the tags, all Miniatures without them
+     * @param limit the maximum number of Miniatures (between 1 and {@value #MAX_LIMIT})
+     * @return the {@link ApiResponse} with the list of {@link TaggedMiniature}s wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping("/miniature")
+    public ResponseEntity<ApiResponse<List<TaggedMiniature>>> getMiniatures(@RequestParam(required = false) List<String> tags,
+                                                                            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        LOGGER.debug("get Miniatures with tags {} and limit={}", tags, limit);
+
+        List<TaggedMiniature> miniatures = this.service.getMiniatures(tags, Math.clamp(limit, 1, MAX_LIMIT));
+
+        ApiResponse<List<TaggedMiniature>> response = ApiResponse.createSuccessResponse(HttpStatus.OK, miniatures);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Replace the tags of a Miniature
+     *
+     * @param id the ID of the Miniature
+     * @param tags the new tags, e.g. ["faction:undead", "scale:32mm", "supported"]
+     * @return the {@link ApiResponse} with the {@link TaggedMiniature} wrapped in a {@link ResponseEntity}
+     */
+    @PutMapping("/miniature/{id}/tags")
+    public ResponseEntity<ApiResponse<TaggedMiniature>> setTags(@PathVariable UUID id, @RequestBody List<String> tags) {
+        LOGGER.debug("set the tags of Miniature with ID={} to {}", id, tags);
+
+        TaggedMiniature miniature = this.service.setTags(id, tags);
+
+        ApiResponse<TaggedMiniature> response = ApiResponse.createSuccessResponse(HttpStatus.OK, miniature);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Count the Miniatures with tags and the Miniatures of every tag among them by facet.
+     * The counts of a facet with selected tags show how many Miniatures another tag of the facet would add.
+     *
+     * @param tags the selected tags, all Miniatures without them
+     * @return the {@link ApiResponse} with the {@link FacetCounts} wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<FacetCounts>> getFacets(@RequestParam(required = false) List<String> tags) {
+        LOGGER.debug("get the facets of the Miniatures with tags {}", tags);
+
+        FacetCounts facets = this.service.getFacets(tags);
+
+        ApiResponse<FacetCounts> response = ApiResponse.createSuccessResponse(HttpStatus.OK, facets);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
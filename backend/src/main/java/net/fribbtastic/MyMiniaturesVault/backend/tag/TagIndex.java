@@ -0,0 +1,430 @@
+package net.fribbtastic.MyMiniaturesVault.backend.tag;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory index of the tags of all Miniatures in compressed {@link Bitmap}s.
+ * <p>
+ * Every Miniature gets a compact number, the numbers of removed Miniatures are reused. Every tag maps to the bitmap of
+ * the numbers of its Miniatures, so a filter and the counts of all facets are answered by intersecting bitmaps instead
+ * of joining the tags in the Database. Tags of the same facet are alternatives ('faction:orc' or 'faction:undead'),
+ * tags of different facets all have to match.
+ * <p>
+ * Filters and counts run at the same time, changes are exclusive.
+ *
+ * @author Frederic Eßer
+ */
+public class TagIndex {
+
+    /**
+     * the facet of tags without a facet
+     */
+    public static final String DEFAULT_FACET = "tag";
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * the numbers of the Miniatures by their ID
+     */
+    private final Map<UUID, Integer> numbers = new HashMap<>();
+
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+
+    /**
+     * the first 4 characters of the names packed into a number, so most names are ordered without comparing them
+     */
+    private long[] nameKeys = new long[INITIAL_CAPACITY];
+
+    private UUID[] bundles = new UUID[INITIAL_CAPACITY];
+    private UUID[] creators = new UUID[INITIAL_CAPACITY];
+
+    /**
+     * the tag numbers of every Miniature
+     */
+    private int[][] tags = new int[INITIAL_CAPACITY][];
+
+    /**
+     * the number of Miniature numbers in use, including the free ones
+     */
+    private int count;
+
+    /**
+     * the numbers of removed Miniatures that are used again first
+     */
+    private int[] free = new int[16];
+    private int freeCount;
+
+    /**
+     * the numbers of all Miniatures in the index
+     */
+    private Bitmap all = new Bitmap();
+
+    /**
+     * the numbers of the tags
+     */
+    private final Map<String, Integer> tagNumbers = new HashMap<>();
+    private final List<String> tagNames = new ArrayList<>();
+
+    /**
+     * the Miniatures of every tag by the tag number
+     */
+    private final List<Bitmap> tagBitmaps = new ArrayList<>();
+
+    /**
+     * get the number of Miniatures in the index
+     *
+     * @return the number of Miniatures
+     */
+    public int size() {
+        this.lock.readLock().lock();
+
+        try {
+            return this.numbers.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * add a Miniature or replace the Miniature with the same ID
+     *
+     * @param id the ID of the Miniature
+     * @param name the name of the Miniature
+     * @param bundle the ID of the Bundle of the Miniature
+     * @param creator the ID of the Creator of the Bundle
+     * @param tags the normalized tags of the Miniature
+     */
+    public void put(UUID id, String name, UUID bundle, UUID creator, Collection<String> tags) {
+        this.lock.writeLock().lock();
+
+        try {
+            Integer existing = this.numbers.get(id);
+
+            if (existing != null) {
+                this.removeNumber(existing);
+            }
+
+            int number = this.freeCount > 0 ? this.free[--this.freeCount] : this.count++;
+
+            if (number == this.ids.length) {
+                this.grow(this.ids.length * 2);
+            }
+
+            int[] tagNumbers = tags.stream().distinct().mapToInt(this::tagNumber).toArray();
+
+            this.ids[number] = id;
+            this.names[number] = name;
+            this.nameKeys[number] = nameKey(name);
+            this.bundles[number] = bundle;
+            this.creators[number] = creator;
+            this.tags[number] = tagNumbers;
+            this.numbers.put(id, number);
+            this.all.add(number);
+
+            for (int tag : tagNumbers) {
+                this.tagBitmaps.get(tag).add(number);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * remove Miniatures by their ID or by the ID of their Bundle or Creator, like they are deleted by the Database
+     *
+     * @param ids the IDs of Miniatures, Bundles or Creators
+     */
+    public void remove(Collection<UUID> ids) {
+        Set<UUID> removed = new HashSet<>(ids);
+
+        this.lock.writeLock().lock();
+
+        try {
+            List<Integer> removedNumbers = new ArrayList<>();
+
+            this.all.forEach(number -> {
+                if (removed.contains(this.ids[number]) || removed.contains(this.bundles[number]) || removed.contains(this.creators[number])) {
+                    removedNumbers.add(number);
+                }
+            });
+
+            removedNumbers.forEach(this::removeNumber);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * remove all Miniatures and tags
+     */
+    public void clear() {
+        this.lock.writeLock().lock();
+
+        try {
+            this.numbers.clear();
+            this.ids = new UUID[INITIAL_CAPACITY];
+            this.names = new String[INITIAL_CAPACITY];
+            this.nameKeys = new long[INITIAL_CAPACITY];
+            this.bundles = new UUID[INITIAL_CAPACITY];
+            this.creators = new UUID[INITIAL_CAPACITY];
+            this.tags = new int[INITIAL_CAPACITY][];
+            this.count = 0;
+            this.freeCount = 0;
+            this.all = new Bitmap();
+            this.tagNumbers.clear();
+            this.tagNames.clear();
+            this.tagBitmaps.clear();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * get the Miniatures with the tags, ordered by name and ID
+     *
+     * @param tags the normalized tags, all Miniatures without them
+     * @param limit the maximum number of Miniatures
+     * @return the {@link TaggedMiniature}s
+     */
+    public List<TaggedMiniature> find(Collection<String> tags, int limit) {
+        this.lock.readLock().lock();
+
+        try {
+            Comparator<Integer> order = this::compare;
+            // the worst of the best Miniatures first, so it's the one that is replaced
+            PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, order.reversed());
+            // the name key of the worst of the best Miniatures, most Miniatures are skipped with it
+            long[] worstKey = {-1L};
+
+            this.filter(this.selection(tags), null).forEach(number -> {
+                if (Long.compareUnsigned(this.nameKeys[number], worstKey[0]) > 0) {
+                    return;
+                }
+
+                if (best.size() < limit) {
+                    best.add(number);
+                } else if (this.compare(number, best.peek()) < 0) {
+                    best.poll();
+                    best.add(number);
+                } else {
+                    return;
+                }
+
+                if (best.size() == limit) {
+                    worstKey[0] = this.nameKeys[best.peek()];
+                }
+            });
+
+            return best.stream().sorted(order).map(this::miniature).toList();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * count the Miniatures with the tags and the Miniatures of every tag among them.
+     * The counts of a facet with selected tags ignore the selected tags of the same facet, so they show how many
+     * Miniatures a filter with another tag of the facet would have.
+     *
+     * @param tags the normalized tags, all Miniatures without them
+     * @return the {@link FacetCounts}
+     */
+    public FacetCounts facets(Collection<String> tags) {
+        this.lock.readLock().lock();
+
+        try {
+            Map<String, Bitmap> selection = this.selection(tags);
+            Bitmap matching = this.filter(selection, null);
+            Map<String, Bitmap> facetFilters = new HashMap<>();
+            Map<String, Map<String, Integer>> facets = new TreeMap<>();
+
+            for (int tag = 0; tag < this.tagNames.size(); tag++) {
+                String name = this.tagNames.get(tag);
+                String facet = facet(name);
+                Bitmap filter = selection.containsKey(facet)
+                        ? facetFilters.computeIfAbsent(facet, key -> this.filter(selection, key))
+                        : matching;
+                int count = this.tagBitmaps.get(tag).andCardinality(filter);
+
+                if (count > 0 || tags.contains(name)) {
+                    facets.computeIfAbsent(facet, key -> new TreeMap<>()).put(value(name), count);
+                }
+            }
+
+            return new FacetCounts(matching.cardinality(), facets);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * get the facet of a tag
+     *
+     * @param tag the normalized tag
+     * @return the part before the first ':' or {@value #DEFAULT_FACET}
+     */
+    public static String facet(String tag) {
+        int separator = tag.indexOf(':');
+
+        return separator < 0 ? DEFAULT_FACET : tag.substring(0, separator);
+    }
+
+    /**
+     * get the value of a tag in its facet
+     *
+     * @param tag the normalized tag
+     * @return the part after the first ':' or the whole tag
+     */
+    public static String value(String tag) {
+        return tag.substring(tag.indexOf(':') + 1);
+    }
+
+    /**
+     * normalize a tag: lower case, single spaces, no spaces around the ':' of its facet.
+     * The facet {@value #DEFAULT_FACET} is dropped, 'tag:supported' and 'supported' are the same tag.
+     *
+     * @param tag the tag
+     * @return the normalized tag, empty if it has no value
+     */
+    public static String normalize(String tag) {
+        if (tag == null) {
+            return "";
+        }
+
+        String normalized = tag.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        int separator = normalized.indexOf(':');
+
+        if (separator < 0) {
+            return normalized;
+        }
+
+        String facet = normalized.substring(0, separator).strip();
+        String value = normalized.substring(separator + 1).strip();
+
+        return value.isEmpty() ? "" : facet.isEmpty() || facet.equals(DEFAULT_FACET) ? value : facet + ":" + value;
+    }
+
+    /**
+     * unite the Miniatures of the selected tags of every facet
+     *
+     * @return the Miniatures with any of the selected tags by facet
+     */
+    private Map<String, Bitmap> selection(Collection<String> tags) {
+        Map<String, Bitmap> selection = new HashMap<>();
+
+        for (String tag : tags) {
+            Integer number = this.tagNumbers.get(tag);
+            Bitmap bitmap = number == null ? new Bitmap() : this.tagBitmaps.get(number);
+
+            selection.merge(facet(tag), bitmap, Bitmap::or);
+        }
+
+        return selection;
+    }
+
+    /**
+     * intersect the Miniatures of the selected facets
+     *
+     * @param selection the Miniatures with any of the selected tags by facet
+     * @param ignored the facet whose selection is ignored, or null
+     * @return the matching Miniatures, must not be changed
+     */
+    private Bitmap filter(Map<String, Bitmap> selection, String ignored) {
+        List<Bitmap> filters = selection.entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(ignored))
+                .map(Map.Entry::getValue)
+                .sorted(Comparator.comparingInt(Bitmap::cardinality))
+                .toList();
+
+        if (filters.isEmpty()) {
+            return this.all;
+        }
+
+        // start with the fewest Miniatures, every intersection is at most as large as the smallest bitmap
+        Bitmap result = filters.getFirst();
+
+        for (int i = 1; i < filters.size() && !result.isEmpty(); i++) {
+            result = result.and(filters.get(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * compare two Miniatures by name and ID
+     */
+    private int compare(int number, int other) {
+        int compared = Long.compareUnsigned(this.nameKeys[number], this.nameKeys[other]);
+
+        if (compared == 0) {
+            compared = this.names[number].compareTo(this.names[other]);
+        }
+
+        return compared != 0 ? compared : this.ids[number].compareTo(this.ids[other]);
+    }
+
+    /**
+     * pack the first 4 characters of a name into a number with the same order as the names
+     */
+    private static long nameKey(String name) {
+        long key = 0;
+
+        for (int i = 0; i < 4; i++) {
+            key = key << 16 | (i < name.length() ? name.charAt(i) : 0);
+        }
+
+        return key;
+    }
+
+    private TaggedMiniature miniature(int number) {
+        List<String> tags = Arrays.stream(this.tags[number]).mapToObj(this.tagNames::get).sorted().toList();
+
+        return new TaggedMiniature(this.ids[number], this.names[number], this.bundles[number], tags);
+    }
+
+    /**
+     * get the number of a tag, a new tag gets the next number
+     */
+    private int tagNumber(String tag) {
+        return this.tagNumbers.computeIfAbsent(tag, key -> {
+            this.tagNames.add(key);
+            this.tagBitmaps.add(new Bitmap());
+
+            return this.tagNames.size() - 1;
+        });
+    }
+
+    private void removeNumber(int number) {
+        for (int tag : this.tags[number]) {
+            this.tagBitmaps.get(tag).remove(number);
+        }
+
+        this.all.remove(number);
+        this.numbers.remove(this.ids[number]);
+        this.ids[number] = null;
+        this.names[number] = null;
+        this.bundles[number] = null;
+        this.creators[number] = null;
+        this.tags[number] = null;
+
+        if (this.freeCount == this.free.length) {
+            this.free = Arrays.copyOf(this.free, this.freeCount * 2);
+        }
+
+        this.free[this.freeCount++] = number;
+    }
+
+    private void grow(int capacity) {
+        this.ids = Arrays.copyOf(this.ids, capacity);
+        this.names = Arrays.copyOf(this.names, capacity);
+        this.nameKeys = Arrays.copyOf(this.nameKeys, capacity);
+        this.bundles = Arrays.copyOf(this.bundles, capacity);
+        this.creators = Arrays.copyOf(this.creators, capacity);
+        this.tags = Arrays.copyOf(this.tags, capacity);
+    }
+}
@@ -0,0 +1,170 @@
+package net.fribbtastic.MyMiniaturesVault.backend.tag;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidParameterException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.Transactions;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.bundle.Miniature;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.bundle.MiniatureRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filters the Miniatures by their tags and counts the Miniatures of every tag with a {@link TagIndex} in memory.
+ * <p>
+ * The index is built from the MINIATURE_TAGS on startup. Tags set through {@link #setTags} and the Miniatures of
+ * Bundles and Creators that are saved or deleted are queued with {@link Transactions#afterCommit}, so a rolled back
+ * change never shows up in the facet counts.
+ *
+ * @author Frederic Eßer
+ */
+@Service
+public class TagService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TagService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MiniatureRepository miniatureRepository;
+
+    @Autowired
+    private MiniatureTagRepository repository;
+
+    private final TagIndex index = new TagIndex();
+
+    /**
+     * build the index from all Miniatures and their tags in the Database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        Map<UUID, List<String>> tags = new HashMap<>();
+
+        this.jdbcTemplate.query("SELECT miniature_id, tag FROM MINIATURE_TAGS",
+                resultSet -> {
+                    tags.computeIfAbsent(resultSet.getObject(1, UUID.class), id -> new ArrayList<>()).add(resultSet.getString(2));
+                });
+
+        this.index.clear();
+        this.jdbcTemplate.query("SELECT m.id, m.name, m.bundle_id, b.creator_id FROM MINIATURES m JOIN BUNDLES b ON b.id = m.bundle_id",
+                resultSet -> {
+                    UUID id = resultSet.getObject(1, UUID.class);
+
+                    this.index.put(id, resultSet.getString(2), resultSet.getObject(3, UUID.class), resultSet.getObject(4, UUID.class),
+                            tags.getOrDefault(id, List.of()));
+                });
+
+        LOGGER.debug("indexed {} Miniatures with {} tags in {} ms", this.index.size(), tags.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * get the Miniatures with tags, tags of the same facet are alternatives
+     *
+     * @param tags the tags, all Miniatures without them
+     * @param limit the maximum number of Miniatures
+     * @return the {@link TaggedMiniature}s ordered by name
+     */
+    public List<TaggedMiniature> getMiniatures(Collection<String> tags, int limit) {
+        LOGGER.debug("get {} Miniatures with tags {}", limit, tags);
+
+        return this.index.find(normalize(tags), limit);
+    }
+
+    /**
+     * count the Miniatures with tags and the Miniatures of every tag among them
+     *
+     * @param tags the tags, all Miniatures without them
+     * @return the {@link FacetCounts}
+     */
+    public FacetCounts getFacets(Collection<String> tags) {
+        LOGGER.debug("get the facets of the Miniatures with tags {}", tags);
+
+        return this.index.facets(normalize(tags));
+    }
+
+    /**
+     * replace the tags of a Miniature
+     *
+     * @param id the ID of the Miniature
+     * @param tags the new tags
+     * @return the {@link TaggedMiniature} with the new tags
+     */
+    @Transactional
+    public TaggedMiniature setTags(UUID id, Collection<String> tags) {
+        LOGGER.debug("set the tags of Miniature with ID={} to {}", id, tags);
+
+        List<String> normalized = normalize(tags);
+        Miniature miniature = this.miniatureRepository.findWithBundleById(id).orElseThrow(() -> new ResourceNotFoundException(id));
+
+        this.repository.deleteAllOfMiniature(id);
+        this.repository.saveAll(normalized.stream()
+                .map(tag -> MiniatureTag.builder().miniature(miniature).tag(tag).build())
+                .toList());
+
+        UUID bundleId = miniature.getBundle().getId();
+        UUID creatorId = miniature.getBundle().getCreator().getId();
+
+        this.put(id, miniature.getName(), bundleId, creatorId, normalized);
+
+        return new TaggedMiniature(id, miniature.getName(), bundleId, normalized.stream().sorted().toList());
+    }
+
+    /**
+     * add or replace a Miniature in the index after the current transaction was committed
+     *
+     * @param id the ID of the Miniature
+     * @param name the name of the Miniature
+     * @param bundle the ID of the Bundle of the Miniature
+     * @param creator the ID of the Creator of the Bundle
+     * @param tags the normalized tags
+     */
+    public void put(UUID id, String name, UUID bundle, UUID creator, Collection<String> tags) {
+        Transactions.afterCommit(() -> this.index.put(id, name, bundle, creator, tags));
+    }
+
+    /**
+     * remove Miniatures from the index after the current transaction was committed
+     *
+     * @param ids the IDs of the Miniatures, or of the Bundles or Creators whose Miniatures are removed
+     */
+    public void remove(Collection<UUID> ids) {
+        Transactions.afterCommit(() -> this.index.remove(ids));
+    }
+
+    /**
+     * normalize tags and drop the repeated ones
+     *
+     * @param tags the tags
+     * @return the normalized tags
+     * @throws InvalidParameterException if a tag is empty or longer than {@value MiniatureTag#MAX_LENGTH} characters
+     */
+    private static List<String> normalize(Collection<String> tags) {
+        if (tags == null) {
+            return List.of();
+        }
+
+        return tags.stream()
+                .map(tag -> {
+                    String normalized = TagIndex.normalize(tag);
+
+                    if (normalized.isEmpty() || normalized.length() > MiniatureTag.MAX_LENGTH) {
+                        throw new InvalidParameterException("tags", tag);
+                    }
+
+                    return normalized;
+                })
+                .distinct()
+                .toList();
+    }
+}
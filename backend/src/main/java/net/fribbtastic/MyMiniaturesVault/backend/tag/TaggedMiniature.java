@@ -0,0 +1,16 @@
+package net.fribbtastic.MyMiniaturesVault.backend.tag;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A Miniature with its tags from the {@link TagIndex}
+ *
+ * @param id the ID of the Miniature
+ * @param name the name of the Miniature
+ * @param bundle the ID of the Bundle of the Miniature
+ * @param tags the tags of the Miniature, sorted
+ * @author Frederic Eßer
+ */
+public record TaggedMiniature(UUID id, String name, UUID bundle, List<String> tags) {
+}
@@ -0,0 +1,89 @@
+package net.fribbtastic.MyMiniaturesVault.backend.threads;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.AdmissionRejectedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of requests that are handled at the same time.
+ * Requests that can't be admitted within the timeout are rejected with an {@link AdmissionRejectedException}.
+ * The permit of an asynchronous request (e.g. a streamed response) is held until the request is completed.
+ *
+ * @author Frederic Eßer
+ */
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdmissionInterceptor.class);
+
+    /**
+     * the request attribute that marks a request that holds a permit
+     */
+    private static final String ADMITTED = AdmissionInterceptor.class.getName() + ".ADMITTED";
+
+    private final Semaphore permits;
+
+    private final Duration timeout;
+
+    public AdmissionInterceptor(int maxConcurrentRequests, Duration timeout) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.timeout = timeout;
+    }
+
+    /**
+     * acquire a permit for the request, the async dispatch of an already admitted request doesn't need another one
+     *
+     * @param request the current request
+     * @param response the current response
+     * @param handler the handler of the request
+     * @return always 'true', a request that isn't admitted is rejected with an exception
+     * @throws InterruptedException when the thread was interrupted while waiting for a permit
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws InterruptedException {
+        if (request.getDispatcherType() == DispatcherType.ASYNC && request.getAttribute(ADMITTED) != null) {
+            return true;
+        }
+
+        if (!this.permits.tryAcquire(this.timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            LOGGER.warn("rejected request to '{}', no permit within {}", request.getRequestURI(), this.timeout);
+            throw new AdmissionRejectedException(this.timeout);
+        }
+
+        request.setAttribute(ADMITTED, Boolean.TRUE);
+
+        return true;
+    }
+
+    /**
+     * release the permit of the request when it was completed
+     *
+     * @param request the current request
+     * @param response the current response
+     * @param handler the handler of the request
+     * @param exception the exception thrown by the handler, if any
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        if (request.getAttribute(ADMITTED) != null) {
+            request.removeAttribute(ADMITTED);
+            this.permits.release();
+        }
+    }
+
+    /**
+     * get the number of currently available permits
+     *
+     * @return the number of available permits
+     */
+    public int getAvailablePermits() {
+        return this.permits.availablePermits();
+    }
+}
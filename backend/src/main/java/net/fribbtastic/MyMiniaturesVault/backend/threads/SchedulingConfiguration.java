@@ -0,0 +1,15 @@
+package net.fribbtastic.MyMiniaturesVault.backend.threads;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration that runs the {@link org.springframework.scheduling.annotation.Scheduled} methods of the services,
+ * e.g. the removal of expired uploads. They run one after another on the task scheduler of Spring Boot.
+ *
+ * @author Frederic Eßer
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,58 @@
+package net.fribbtastic.MyMiniaturesVault.backend.threads;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Configuration that is only active when requests are handled on virtual threads ('spring.threads.virtual.enabled=true').
+ * Tomcat, the task executors and the asynchronous request handling then use virtual threads, so the number of
+ * concurrent requests isn't limited by a thread pool anymore.
+ * The {@link AdmissionInterceptor} limits the concurrent API requests instead, so they don't pile up
+ * waiting for a connection of the datasource pool.
+ *
+ * @author Frederic Eßer
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration implements WebMvcConfigurer {
+
+    /**
+     * the maximum number of API requests that are handled at the same time
+     */
+    @Value("${threads.admission.max-concurrent-requests:20}")
+    private int maxConcurrentRequests;
+
+    /**
+     * the maximum time a request waits to be admitted
+     */
+    @Value("${threads.admission.timeout:1s}")
+    private Duration timeout;
+
+    /**
+     * the prefix of the API, the same one the versioned controllers are mapped below
+     */
+    @Value("${api.version.uri-prefix:/api}")
+    private String apiPrefix;
+
+    /**
+     * Add the {@link AdmissionInterceptor} for all API requests except the downloads, the chunks of uploads and the
+     * change feed, they don't need a connection while the files or changes are sent and would hold a permit for minutes
+     *
+     * @param registry the {@link InterceptorRegistry}
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        String prefix = StringUtils.trimTrailingCharacter(this.apiPrefix, '/');
+
+        registry.addInterceptor(new AdmissionInterceptor(this.maxConcurrentRequests, this.timeout))
+                .addPathPatterns(prefix + "/**")
+                .excludePathPatterns(prefix + "/*/file/*/download", prefix + "/*/bundle/*/download", prefix + "/*/upload/*", prefix + "/*/events");
+    }
+}
@@ -0,0 +1,263 @@
+package net.fribbtastic.MyMiniaturesVault.backend.thumbnail;
+
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.StlParser;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.TriangleConsumer;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Renders a shaded image of an STL mesh on the CPU.
+ * <p>
+ * The file is read twice: the first pass finds the bounding box, the second one rasterizes every triangle into a
+ * depth buffer, so the mesh never has to fit into memory. The mesh is seen from the front right and slightly above,
+ * with flat shading from a fixed light. The image is rendered at {@value #SUPERSAMPLING}x the size and scaled down
+ * to smooth the edges, the background is transparent.
+ *
+ * @author Frederic Eßer
+ */
+final class MeshRenderer {
+
+    /**
+     * the number of samples per pixel in each direction
+     */
+    static final int SUPERSAMPLING = 2;
+
+    private static final double AZIMUTH = Math.toRadians(-30);
+    private static final double ELEVATION = Math.toRadians(25);
+
+    /**
+     * the part of the mesh's bounding sphere diameter that fills the image
+     */
+    private static final double FILL = 0.9;
+
+    private static final double AMBIENT = 0.25;
+
+    /**
+     * the direction of the light in view coordinates (right, up, away from the viewer), from the upper left front
+     */
+    private static final double[] LIGHT = normalize(-0.4, 0.6, -0.7);
+
+    private static final int RED = 190;
+    private static final int GREEN = 196;
+    private static final int BLUE = 210;
+
+    private MeshRenderer() {
+    }
+
+    /**
+     * render an STL file
+     *
+     * @param file the {@link Path} of the STL file
+     * @param size the width and height of the image in pixels
+     * @return the {@link BufferedImage} with an alpha channel
+     * @throws IOException when the file can't be read or is not an STL file
+     */
+    static BufferedImage render(Path file, int size) throws IOException {
+        double[] bounds = {
+                Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY
+        };
+
+        StlParser.read(file, (x1, y1, z1, x2, y2, z2, x3, y3, z3) -> {
+            bounds[0] = Math.min(bounds[0], Math.min(x1, Math.min(x2, x3)));
+            bounds[1] = Math.min(bounds[1], Math.min(y1, Math.min(y2, y3)));
+            bounds[2] = Math.min(bounds[2], Math.min(z1, Math.min(z2, z3)));
+            bounds[3] = Math.max(bounds[3], Math.max(x1, Math.max(x2, x3)));
+            bounds[4] = Math.max(bounds[4], Math.max(y1, Math.max(y2, y3)));
+            bounds[5] = Math.max(bounds[5], Math.max(z1, Math.max(z2, z3)));
+        });
+
+        Rasterizer rasterizer = new Rasterizer(size * SUPERSAMPLING, bounds);
+
+        if (bounds[0] <= bounds[3]) {
+            StlParser.read(file, rasterizer);
+        }
+
+        return rasterizer.toImage(size);
+    }
+
+    private static double[] normalize(double x, double y, double z) {
+        double length = Math.sqrt(x * x + y * y + z * z);
+
+        return new double[]{x / length, y / length, z / length};
+    }
+
+    /**
+     * Rasterizes triangles into a square depth and color buffer
+     */
+    private static final class Rasterizer implements TriangleConsumer {
+
+        private final int size;
+
+        private final float[] depths;
+
+        private final int[] colors;
+
+        private final double centerX;
+        private final double centerY;
+        private final double centerZ;
+        private final double scale;
+
+        private final double cosAzimuth = Math.cos(AZIMUTH);
+        private final double sinAzimuth = Math.sin(AZIMUTH);
+        private final double cosElevation = Math.cos(ELEVATION);
+        private final double sinElevation = Math.sin(ELEVATION);
+
+        /**
+         * the screen coordinates (x, y) and the depth of the vertices of the current triangle
+         */
+        private final double[] screen = new double[9];
+
+        /**
+         * the view coordinates (right, up, depth) of the vertices of the current triangle
+         */
+        private final double[] view = new double[9];
+
+        private Rasterizer(int size, double[] bounds) {
+            this.size = size;
+            this.depths = new float[size * size];
+            this.colors = new int[size * size];
+            Arrays.fill(this.depths, Float.POSITIVE_INFINITY);
+
+            this.centerX = (bounds[0] + bounds[3]) / 2;
+            this.centerY = (bounds[1] + bounds[4]) / 2;
+            this.centerZ = (bounds[2] + bounds[5]) / 2;
+
+            double dx = bounds[3] - bounds[0], dy = bounds[4] - bounds[1], dz = bounds[5] - bounds[2];
+            double diameter = Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+            this.scale = size * FILL / (diameter > 0 && Double.isFinite(diameter) ? diameter : 1);
+        }
+
+        @Override
+        public void accept(double x1, double y1, double z1, double x2, double y2, double z2, double x3, double y3, double z3) {
+            this.project(0, x1, y1, z1);
+            this.project(3, x2, y2, z2);
+            this.project(6, x3, y3, z3);
+
+            double[] v = this.view;
+            double ux = v[3] - v[0], uy = v[4] - v[1], uz = v[5] - v[2];
+            double wx = v[6] - v[0], wy = v[7] - v[1], wz = v[8] - v[2];
+            double nx = uy * wz - uz * wy, ny = uz * wx - ux * wz, nz = ux * wy - uy * wx;
+            double length = Math.sqrt(nx * nx + ny * ny + nz * nz);
+
+            if (length == 0 || !Double.isFinite(length)) {
+                return;
+            }
+
+            // both sides of a triangle are lit, the orientation in STL files is not reliable
+            double light = Math.abs(nx * LIGHT[0] + ny * LIGHT[1] + nz * LIGHT[2]) / length;
+            double intensity = AMBIENT + (1 - AMBIENT) * light;
+            int color = 0xFF000000 | (int) (RED * intensity) << 16 | (int) (GREEN * intensity) << 8 | (int) (BLUE * intensity);
+
+            this.fill(color);
+        }
+
+        /**
+         * transform a vertex into view and screen coordinates
+         */
+        private void project(int index, double x, double y, double z) {
+            x -= this.centerX;
+            y -= this.centerY;
+            z -= this.centerZ;
+
+            double right = x * this.cosAzimuth - y * this.sinAzimuth;
+            double forward = x * this.sinAzimuth + y * this.cosAzimuth;
+            double up = z * this.cosElevation + forward * this.sinElevation;
+            double depth = forward * this.cosElevation - z * this.sinElevation;
+
+            this.view[index] = right;
+            this.view[index + 1] = up;
+            this.view[index + 2] = depth;
+
+            this.screen[index] = this.size / 2.0 + right * this.scale;
+            this.screen[index + 1] = this.size / 2.0 - up * this.scale;
+            this.screen[index + 2] = depth;
+        }
+
+        /**
+         * fill the pixels whose centers are inside the current triangle and closer than the pixels drawn before
+         */
+        private void fill(int color) {
+            double[] s = this.screen;
+            double area = edge(s[0], s[1], s[3], s[4], s[6], s[7]);
+
+            if (area == 0) {
+                return;
+            }
+
+            int minX = Math.max(0, (int) Math.floor(Math.min(s[0], Math.min(s[3], s[6]))));
+            int maxX = Math.min(this.size - 1, (int) Math.ceil(Math.max(s[0], Math.max(s[3], s[6]))));
+            int minY = Math.max(0, (int) Math.floor(Math.min(s[1], Math.min(s[4], s[7]))));
+            int maxY = Math.min(this.size - 1, (int) Math.ceil(Math.max(s[1], Math.max(s[4], s[7]))));
+
+            for (int y = minY; y <= maxY; y++) {
+                double py = y + 0.5;
+
+                for (int x = minX; x <= maxX; x++) {
+                    double px = x + 0.5;
+
+                    double w0 = edge(s[3], s[4], s[6], s[7], px, py) / area;
+                    double w1 = edge(s[6], s[7], s[0], s[1], px, py) / area;
+                    double w2 = edge(s[0], s[1], s[3], s[4], px, py) / area;
+
+                    if (w0 < 0 || w1 < 0 || w2 < 0) {
+                        continue;
+                    }
+
+                    float depth = (float) (w0 * s[2] + w1 * s[5] + w2 * s[8]);
+                    int pixel = y * this.size + x;
+
+                    if (depth < this.depths[pixel]) {
+                        this.depths[pixel] = depth;
+                        this.colors[pixel] = color;
+                    }
+                }
+            }
+        }
+
+        /**
+         * twice the signed area of the triangle (a, b, p)
+         */
+        private static double edge(double ax, double ay, double bx, double by, double px, double py) {
+            return (bx - ax) * (py - ay) - (by - ay) * (px - ax);
+        }
+
+        /**
+         * scale the samples down to the image by averaging them, transparent samples don't darken the edges
+         */
+        private BufferedImage toImage(int size) {
+            BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+            int samples = this.size / size;
+
+            for (int y = 0; y < size; y++) {
+                for (int x = 0; x < size; x++) {
+                    int covered = 0, red = 0, green = 0, blue = 0;
+
+                    for (int sy = 0; sy < samples; sy++) {
+                        for (int sx = 0; sx < samples; sx++) {
+                            int color = this.colors[(y * samples + sy) * this.size + x * samples + sx];
+
+                            if (color != 0) {
+                                covered++;
+                                red += color >> 16 & 0xFF;
+                                green += color >> 8 & 0xFF;
+                                blue += color & 0xFF;
+                            }
+                        }
+                    }
+
+                    if (covered > 0) {
+                        int alpha = 255 * covered / (samples * samples);
+                        image.setRGB(x, y, alpha << 24 | red / covered << 16 | green / covered << 8 | blue / covered);
+                    }
+                }
+            }
+
+            return image;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package net.fribbtastic.MyMiniaturesVault.backend.thumbnail;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * A folder of rendered thumbnails that is limited in size, the least recently used thumbnails are deleted first.
+ * <p>
+ * The order of use is only kept in memory. After a restart the existing files are ordered by the time they were
+ * written, so the oldest thumbnails are deleted first.
+ *
+ * @author Frederic Eßer
+ */
+final class ThumbnailCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThumbnailCache.class);
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+
+    private final long maxBytes;
+
+    /**
+     * the sizes of the cached files by their names, in the order of their last use
+     */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long bytes;
+
+    /**
+     * @param directory the folder of the thumbnails, it is created with the first thumbnail
+     * @param maxBytes the maximum size of all thumbnails
+     */
+    ThumbnailCache(Path directory, long maxBytes) throws IOException {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+
+        if (Files.isDirectory(directory)) {
+            this.restore();
+        }
+    }
+
+    /**
+     * add the existing thumbnails in the order they were written and delete files of unfinished renders
+     */
+    private void restore() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path file : files.sorted(Comparator.comparing(ThumbnailCache::lastModified)).toList()) {
+                String name = file.getFileName().toString();
+
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                } else {
+                    long size = Files.size(file);
+                    this.entries.put(name, size);
+                    this.bytes += size;
+                }
+            }
+        }
+
+        LOGGER.debug("restored {} thumbnails with {} bytes", this.entries.size(), this.bytes);
+        this.evict();
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * get a cached thumbnail and mark it as used
+     *
+     * @param name the file name of the thumbnail
+     * @return the {@link Path} of the thumbnail or 'null' if it isn't cached
+     */
+    synchronized Path get(String name) {
+        return this.entries.get(name) == null ? null : this.directory.resolve(name);
+    }
+
+    /**
+     * read a cached thumbnail and mark it as used. The file is read outside the lock, a thumbnail that was evicted
+     * (or deleted) in the meantime is a cache miss.
+     *
+     * @param name the file name of the thumbnail
+     * @return the PNG of the thumbnail or 'null' if it isn't cached
+     */
+    byte[] read(String name) throws IOException {
+        Path file = this.get(name);
+
+        if (file == null) {
+            return null;
+        }
+
+        try {
+            return Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            LOGGER.debug("the thumbnail {} was deleted while it was read", name);
+            this.remove(name);
+
+            return null;
+        }
+    }
+
+    /**
+     * forget a thumbnail whose file is gone, an entry that was replaced or evicted already is kept
+     */
+    private synchronized void remove(String name) {
+        if (Files.notExists(this.directory.resolve(name))) {
+            Long size = this.entries.remove(name);
+            this.bytes -= size == null ? 0 : size;
+        }
+    }
+
+    /**
+     * create an empty temporary file in the folder of the cache to render a thumbnail into
+     *
+     * @param name the file name of the thumbnail
+     * @return the {@link Path} of the temporary file
+     */
+    Path createTempFile(String name) throws IOException {
+        Files.createDirectories(this.directory);
+
+        return Files.createTempFile(this.directory, name, TEMP_SUFFIX);
+    }
+
+    /**
+     * move a rendered thumbnail into the cache and delete the least recently used thumbnails when the cache is full
+     *
+     * @param name the file name of the thumbnail
+     * @param file the temporary file with the thumbnail
+     * @return the {@link Path} of the cached thumbnail
+     */
+    synchronized Path put(String name, Path file) throws IOException {
+        long size = Files.size(file);
+        Path target = Files.move(file, this.directory.resolve(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Long previous = this.entries.put(name, size);
+        this.bytes += size - (previous == null ? 0 : previous);
+        this.evict();
+
+        return target;
+    }
+
+    /**
+     * delete the least recently used thumbnails until the cache isn't larger than the maximum, the newest one is always kept
+     */
+    private void evict() throws IOException {
+        Iterator<Map.Entry<String, Long>> iterator = this.entries.entrySet().iterator();
+
+        while (this.bytes > this.maxBytes && this.entries.size() > 1) {
+            Map.Entry<String, Long> eldest = iterator.next();
+
+            Files.deleteIfExists(this.directory.resolve(eldest.getKey()));
+            this.bytes -= eldest.getValue();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * @return the number of cached thumbnails
+     */
+    synchronized int getCount() {
+        return this.entries.size();
+    }
+
+    /**
+     * @return the size of all cached thumbnails in bytes
+     */
+    synchronized long getBytes() {
+        return this.bytes;
+    }
+}
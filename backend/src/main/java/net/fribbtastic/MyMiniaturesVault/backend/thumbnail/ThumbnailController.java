@@ -0,0 +1,76 @@
+package net.fribbtastic.MyMiniaturesVault.backend.thumbnail;
+
+import com.github.lkqm.spring.api.version.ApiVersion;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidParameterException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+/**
+ * Serves the thumbnails by the content hash of the files.
+ * A thumbnail never changes for a content hash, so it can be cached by the clients forever.
+ *
+ * @author Frederic Eßer
+ */
+@RestController
+@RequestMapping(path = "/thumbnail")
+@ApiVersion("1")
+public class ThumbnailController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThumbnailController.class);
+
+    static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    @Autowired
+    private ThumbnailService service;
+
+    /**
+     * Get the PNG thumbnail of a content, it is rendered on the first request.
+     * Requests with a matching ETag are answered with '304 Not Modified' without looking at the thumbnail.
+     * The request doesn't hold a thread while the thumbnail is rendered.
+     *
+     * @param hash the content hash of the file
+     * @param size the width and height of the thumbnail (between {@value ThumbnailService#MIN_SIZE} and {@value ThumbnailService#MAX_SIZE})
+     * @param request the {@link WebRequest} to check the ETag
+     * @return a {@link CompletableFuture} with the PNG image wrapped in a {@link ResponseEntity}
+     * @throws IOException when a cached thumbnail can't be read
+     */
+    @GetMapping("/{hash}")
+    public CompletableFuture<ResponseEntity<Resource>> getThumbnail(@PathVariable String hash,
+                                                                    @RequestParam(defaultValue = "" + ThumbnailService.DEFAULT_SIZE) int size,
+                                                                    WebRequest request) throws IOException {
+        LOGGER.debug("get thumbnail of {} with size={}", hash, size);
+
+        if (!HASH.matcher(hash).matches()) {
+            throw new InvalidParameterException("hash", hash);
+        }
+
+        int clamped = Math.clamp(size, ThumbnailService.MIN_SIZE, ThumbnailService.MAX_SIZE);
+        String etag = hash + "-" + clamped;
+
+        if (request.checkNotModified(etag)) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(IMMUTABLE).build());
+        }
+
+        return this.service.getThumbnail(hash, clamped).thenApply(thumbnail -> ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.IMAGE_PNG)
+                .eTag(etag)
+                .cacheControl(IMMUTABLE)
+                .body(new ByteArrayResource(thumbnail)));
+    }
+}
@@ -0,0 +1,217 @@
+package net.fribbtastic.MyMiniaturesVault.backend.thumbnail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import net.fribbtastic.MyMiniaturesVault.backend.archive.EntryExtractor;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.AdmissionRejectedException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ThumbnailUnavailableException;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFile;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFileRepository;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Renders PNG thumbnails of STL files and keeps them in a {@link ThumbnailCache} on disk by the content hash of the file.
+ * <p>
+ * Thumbnails are rendered lazily on the first request on a fixed number of worker threads. Requests for a thumbnail
+ * that is already being rendered wait for the same render, so a page full of new thumbnails renders each one only once.
+ *
+ * @author Frederic Eßer
+ */
+@Service
+public class ThumbnailService implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThumbnailService.class);
+
+    public static final int DEFAULT_SIZE = 256;
+    public static final int MIN_SIZE = 32;
+    public static final int MAX_SIZE = 1024;
+
+    /**
+     * the name of the counter of thumbnail requests, tagged with the result (hit, render, coalesced)
+     */
+    public static final String REQUESTS_METRIC = "thumbnails.requests";
+
+    /**
+     * the name of the gauge with the size of all cached thumbnails in bytes
+     */
+    public static final String CACHE_SIZE_METRIC = "thumbnails.cache.size";
+
+    /**
+     * the number of renders that can wait for a worker thread
+     */
+    private static final int QUEUE_SIZE = 1000;
+
+    @Autowired
+    private ModelFileRepository repository;
+
+    @Autowired
+    private EntryExtractor extractor;
+
+    private final ThumbnailCache cache;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * the renders that are queued or running by the file name of their thumbnail
+     */
+    private final Map<String, CompletableFuture<byte[]>> renders = new ConcurrentHashMap<>();
+
+    private volatile Counter hits;
+    private volatile Counter rendered;
+    private volatile Counter coalesced;
+
+    /**
+     * @param directory the folder of the cached thumbnails
+     * @param cacheSize the maximum size of all cached thumbnails
+     * @param threads the number of thumbnails that are rendered at the same time
+     */
+    public ThumbnailService(@Value("${thumbnails.path:${storage.path:vault}/thumbnails}") Path directory,
+                            @Value("${thumbnails.cache-size:256MB}") DataSize cacheSize,
+                            @Value("${thumbnails.threads:2}") int threads) throws IOException {
+        this.cache = new ThumbnailCache(directory, cacheSize.toBytes());
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(QUEUE_SIZE),
+                Thread.ofPlatform().name("thumbnail-", 0).daemon().factory());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(CACHE_SIZE_METRIC, this.cache, ThumbnailCache::getBytes)
+                .description("the size of all cached thumbnails")
+                .baseUnit("bytes")
+                .register(registry);
+
+        this.hits = registry.counter(REQUESTS_METRIC, "result", "hit");
+        this.rendered = registry.counter(REQUESTS_METRIC, "result", "render");
+        this.coalesced = registry.counter(REQUESTS_METRIC, "result", "coalesced");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * get the thumbnail of a content, it is rendered from one of the files with this content if it isn't cached yet.
+     * The PNG is returned as bytes, so a thumbnail that is evicted after this call can still be sent.
+     *
+     * @param hash the content hash
+     * @param size the width and height of the thumbnail in pixels
+     * @return a {@link CompletableFuture} with the PNG, completed with a {@link ThumbnailUnavailableException} when no
+     *         STL file with this content can be rendered
+     * @throws AdmissionRejectedException when too many thumbnails are waiting to be rendered
+     * @throws IOException when a cached thumbnail can't be read
+     */
+    public CompletableFuture<byte[]> getThumbnail(String hash, int size) throws IOException {
+        String name = hash + "-" + size + ".png";
+        byte[] cached = this.cache.read(name);
+
+        if (cached != null) {
+            increment(this.hits);
+
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<byte[]> render = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = this.renders.putIfAbsent(name, render);
+
+        // the render is shared, a copy can't be completed or cancelled by one of the requests waiting for it
+        if (running != null) {
+            LOGGER.debug("wait for the running render of {}", name);
+            increment(this.coalesced);
+
+            return running.copy();
+        }
+
+        increment(this.rendered);
+
+        try {
+            this.executor.execute(() -> {
+                try {
+                    render.complete(this.render(hash, size, name));
+                } catch (Throwable e) {
+                    render.completeExceptionally(e);
+                } finally {
+                    this.renders.remove(name, render);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.renders.remove(name, render);
+
+            throw new AdmissionRejectedException(Duration.ZERO);
+        }
+
+        return render.copy();
+    }
+
+    /**
+     * render a thumbnail into the cache
+     */
+    private byte[] render(String hash, int size, String name) throws IOException {
+        // the thumbnail may have been cached by a render that finished after the lookup of this request
+        byte[] cached = this.cache.read(name);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        ModelFile file = this.repository.findFirstByContentHash(hash)
+                .orElseThrow(() -> new ThumbnailUnavailableException(hash, "there is no file with this content"));
+
+        if (file.getFormat() != ModelFormat.STL) {
+            throw new ThumbnailUnavailableException(hash, "only STL files can be rendered");
+        }
+
+        long start = System.nanoTime();
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+
+        try {
+            BufferedImage image = file.getEntry() == null
+                    ? MeshRenderer.render(Path.of(file.getPath()), size)
+                    : this.extractor.extracted(file.getEntry(), file.getSize(), extracted -> MeshRenderer.render(extracted, size));
+            ImageIO.write(image, "png", png);
+        } catch (IOException e) {
+            LOGGER.warn("could not render {}: {}", file.getPath(), e.getMessage());
+
+            throw new ThumbnailUnavailableException(hash, "the file can't be read");
+        }
+
+        LOGGER.debug("rendered {} in {} ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        byte[] thumbnail = png.toByteArray();
+        Path temp = this.cache.createTempFile(name);
+
+        try {
+            this.cache.put(name, Files.write(temp, thumbnail));
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        return thumbnail;
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package net.fribbtastic.MyMiniaturesVault.backend.upload;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidParameterException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * The expected checksum of a chunk from the {@value UploadController#CHECKSUM_HEADER} header,
+ * e.g. {@code sha256 <base64 digest>} like in the checksum extension of the tus protocol
+ *
+ * @param name the name of the algorithm in the header
+ * @param algorithm the name of the {@link MessageDigest} algorithm
+ * @param digest the expected digest
+ *
+ * @author Frederic Eßer
+ */
+record ChunkChecksum(String name, String algorithm, byte[] digest) {
+
+    /**
+     * the supported algorithms by their names in the header
+     */
+    private static final Map<String, String> ALGORITHMS = Map.of("sha1", "SHA-1", "sha256", "SHA-256", "md5", "MD5");
+
+    /**
+     * parse the value of the header
+     *
+     * @param header the value of the header or 'null'
+     * @return the {@link ChunkChecksum} or 'null' without a header
+     * @throws InvalidParameterException when the algorithm is not supported or the digest is not Base64
+     */
+    static ChunkChecksum parse(String header) {
+        if (header == null) {
+            return null;
+        }
+
+        String[] parts = header.trim().split(" +", 2);
+        String algorithm = ALGORITHMS.get(parts[0].toLowerCase());
+
+        if (algorithm == null || parts.length < 2) {
+            throw new InvalidParameterException(UploadController.CHECKSUM_HEADER, header);
+        }
+
+        try {
+            return new ChunkChecksum(parts[0].toLowerCase(), algorithm, Base64.getDecoder().decode(parts[1].trim()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException(UploadController.CHECKSUM_HEADER, header);
+        }
+    }
+
+    /**
+     * @return a new {@link MessageDigest} of the algorithm
+     */
+    MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(this.algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param digest the digest of the received chunk
+     * @return 'true' if it matches the expected digest
+     */
+    boolean matches(byte[] digest) {
+        return MessageDigest.isEqual(this.digest, digest);
+    }
+}
@@ -0,0 +1,14 @@
+package net.fribbtastic.MyMiniaturesVault.backend.upload;
+
+/**
+ * The file that a client wants to upload into the library: {@code <library>/<creator>/<bundle>/<name>}
+ *
+ * @param name the file name
+ * @param size the size of the file in bytes
+ * @param creator the name of the Creator folder
+ * @param bundle the name of the Bundle folder
+ *
+ * @author Frederic Eßer
+ */
+public record NewUpload(String name, long size, String creator, String bundle) {
+}
@@ -0,0 +1,12 @@
+package net.fribbtastic.MyMiniaturesVault.backend.upload;
+
+/**
+ * A range of bytes of an upload that was received completely
+ *
+ * @param start the offset of the first byte
+ * @param end the offset after the last byte
+ *
+ * @author Frederic Eßer
+ */
+public record ReceivedRange(long start, long end) {
+}
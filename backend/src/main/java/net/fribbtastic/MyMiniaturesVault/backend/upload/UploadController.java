@@ -0,0 +1,130 @@
+package net.fribbtastic.MyMiniaturesVault.backend.upload;
+
+import com.github.lkqm.spring.api.version.ApiVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@RestController
+@RequestMapping(path = "/upload", produces = "application/json")
+@ApiVersion("1")
+public class UploadController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UploadController.class);
+
+    /**
+     * the optional header with the checksum of a chunk, e.g. {@code sha256 <base64 digest>}
+     */
+    public static final String CHECKSUM_HEADER = "Upload-Checksum";
+
+    /**
+     * the header with the number of bytes before the first missing byte of an upload
+     */
+    public static final String OFFSET_HEADER = "Upload-Offset";
+
+    @Autowired
+    private UploadService service;
+
+    /**
+     * Create a new upload of a file into a Bundle of the library
+     *
+     * @param upload the {@link NewUpload} with the name and size of the file
+     * @return the {@link ApiResponse} with the new {@link UploadSession} wrapped in a {@link ResponseEntity}
+     * @throws IOException when the file of the upload can't be created
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<UploadSession>> createUpload(@RequestBody NewUpload upload) throws IOException {
+        LOGGER.debug("create an upload of '{}' with {} bytes", upload.name(), upload.size());
+
+        UploadSession session = this.service.create(upload);
+
+        ApiResponse<UploadSession> response = ApiResponse.createSuccessResponse(HttpStatus.CREATED, session);
+
+        return ResponseEntity.status(HttpStatus.CREATED).header(OFFSET_HEADER, "0").body(response);
+    }
+
+    /**
+     * Get the progress of an upload, the received ranges tell the client which chunks are missing
+     *
+     * @param id the {@link UUID} of the upload
+     * @return the {@link ApiResponse} with the {@link UploadSession} wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<UploadSession>> getUpload(@PathVariable UUID id) {
+        LOGGER.debug("get the upload with ID={}", id);
+
+        return respond(this.service.get(id));
+    }
+
+    /**
+     * Write a chunk of an upload at its offset, the body is streamed to the file. Chunks can be sent in any order and
+     * at the same time, a chunk that fails can be sent again.
+     *
+     * @param id the {@link UUID} of the upload
+     * @param offset the offset of the chunk in the file
+     * @param length the length of the chunk from the 'Content-Length' header
+     * @param checksum the optional checksum of the chunk ({@value #CHECKSUM_HEADER})
+     * @param request the {@link HttpServletRequest} with the chunk as body
+     * @return the {@link ApiResponse} with the {@link UploadSession} wrapped in a {@link ResponseEntity}
+     * @throws IOException when the chunk can't be read or written
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<UploadSession>> writeChunk(@PathVariable UUID id,
+                                                                 @RequestParam long offset,
+                                                                 @RequestHeader(HttpHeaders.CONTENT_LENGTH) long length,
+                                                                 @RequestHeader(name = CHECKSUM_HEADER, required = false) String checksum,
+                                                                 HttpServletRequest request) throws IOException {
+        LOGGER.debug("write {} bytes at offset {} of the upload with ID={}", length, offset, id);
+
+        return respond(this.service.write(id, offset, length, request.getInputStream(), checksum));
+    }
+
+    /**
+     * Complete an upload after all bytes were received, the file is added to the library and the index
+     *
+     * @param id the {@link UUID} of the upload
+     * @return the {@link ApiResponse} with the completed {@link UploadSession} wrapped in a {@link ResponseEntity}
+     * @throws IOException when the file can't be stored
+     */
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<ApiResponse<UploadSession>> completeUpload(@PathVariable UUID id) throws IOException {
+        LOGGER.debug("complete the upload with ID={}", id);
+
+        return respond(this.service.complete(id));
+    }
+
+    /**
+     * Cancel an upload and delete the received chunks
+     *
+     * @param id the {@link UUID} of the upload
+     * @return the {@link ApiResponse} (with 'null' data) wrapped in a {@link ResponseEntity}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<?>> cancelUpload(@PathVariable UUID id) {
+        LOGGER.debug("cancel the upload with ID={}", id);
+
+        this.service.cancel(id);
+
+        ApiResponse<?> response = ApiResponse.createSuccessResponse(HttpStatus.OK, null);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    private static ResponseEntity<ApiResponse<UploadSession>> respond(UploadSession session) {
+        ApiResponse<UploadSession> response = ApiResponse.createSuccessResponse(HttpStatus.OK, session);
+
+        return ResponseEntity.status(HttpStatus.OK).header(OFFSET_HEADER, String.valueOf(session.getOffset())).body(response);
+    }
+}
@@ -0,0 +1,386 @@
+package net.fribbtastic.MyMiniaturesVault.backend.upload;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InsufficientStorageException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidParameterException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.UploadConflictException;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.UuidV7Generator;
+import net.fribbtastic.MyMiniaturesVault.backend.scanner.LibraryScanner;
+import net.fribbtastic.MyMiniaturesVault.backend.storage.ContentStore;
+import net.fribbtastic.MyMiniaturesVault.backend.storage.StoredContent;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFile;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFileRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Receives files in resumable chunks and adds them to the library of the vault.
+ * <p>
+ * An upload is created with the size of the whole file, its chunks are written into {@code <uploads.path>/<id>.part}
+ * ({@link UploadSession}). A complete upload is moved into the {@link ContentStore} and linked into
+ * {@code <storage.library-path>/<Creator>/<Bundle>/<name>}, where it is added to the index like a file found by a scan.
+ * <p>
+ * The uploads are only kept in memory: files of unfinished uploads are deleted on startup and uploads expire when
+ * no chunk was written for {@code uploads.expire-after}. Expired uploads are removed every {@code uploads.purge-interval}.
+ *
+ * @author Frederic Eßer
+ */
+@Service
+public class UploadService implements MeterBinder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UploadService.class);
+
+    /**
+     * the name of the gauge with the number of uploads that were not completed yet
+     */
+    public static final String ACTIVE_METRIC = "uploads.active";
+
+    /**
+     * the name of the counter of the bytes written by chunks
+     */
+    public static final String RECEIVED_METRIC = "uploads.received";
+
+    /**
+     * the suffix of the files of unfinished uploads
+     */
+    static final String PART_SUFFIX = ".part";
+
+    /**
+     * the longest file or folder name
+     */
+    private static final int MAX_NAME_LENGTH = 255;
+
+    @Autowired
+    private ContentStore contentStore;
+
+    @Autowired
+    private LibraryScanner scanner;
+
+    @Autowired
+    private ModelFileRepository fileRepository;
+
+    private final Path directory;
+
+    private final Path library;
+
+    private final Duration expireAfter;
+
+    private final long maxSize;
+
+    private final Map<UUID, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    private volatile Counter received;
+
+    /**
+     * @param directory the folder of the files of unfinished uploads, it should be on the same file system as the vault
+     * @param library the root folder of the library that completed uploads are added to
+     * @param expireAfter the time after the last chunk until an upload expires
+     * @param maxSize the maximum size of an uploaded file
+     */
+    public UploadService(@Value("${uploads.path:${storage.path:vault}/uploads}") Path directory,
+                         @Value("${storage.library-path:${storage.path:vault}/library}") Path library,
+                         @Value("${uploads.expire-after:24h}") Duration expireAfter,
+                         @Value("${uploads.max-size:64GB}") DataSize maxSize) throws IOException {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.library = library.toAbsolutePath().normalize();
+        this.expireAfter = expireAfter;
+        this.maxSize = maxSize.toBytes();
+
+        this.deleteUnfinished();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(ACTIVE_METRIC, this, service -> service.sessions.values().stream()
+                        .filter(session -> session.getStatus() != UploadSession.Status.COMPLETED).count())
+                .description("the number of uploads that were not completed yet")
+                .register(registry);
+
+        this.received = Counter.builder(RECEIVED_METRIC)
+                .description("the bytes written by the chunks of uploads")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.sessions.values().forEach(this::delete);
+        this.sessions.clear();
+    }
+
+    /**
+     * delete the files of uploads that were not completed before the last shutdown
+     */
+    private void deleteUnfinished() throws IOException {
+        if (!Files.isDirectory(this.directory)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().endsWith(PART_SUFFIX)).toList()) {
+                LOGGER.debug("delete the unfinished upload {}", file);
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * create a new upload, its file is created with the full size
+     *
+     * @param upload the {@link NewUpload}
+     * @return the new {@link UploadSession}
+     * @throws InvalidParameterException when a name or the size is not valid
+     * @throws UploadConflictException when the Bundle already contains a file with the name
+     * @throws InsufficientStorageException when the missing bytes of all uploads don't fit on the disk
+     * @throws IOException when the file can't be created
+     */
+    public UploadSession create(NewUpload upload) throws IOException {
+        validateName("name", upload.name());
+        validateName("creator", upload.creator());
+        validateName("bundle", upload.bundle());
+
+        if (upload.size() < 0 || upload.size() > this.maxSize) {
+            throw new InvalidParameterException("size", upload.size());
+        }
+
+        this.purgeExpired();
+
+        UUID id = UuidV7Generator.generateUuid();
+
+        if (Files.exists(this.target(upload), LinkOption.NOFOLLOW_LINKS)) {
+            throw new UploadConflictException(id, "the Bundle already contains a file with this name");
+        }
+
+        Files.createDirectories(this.directory);
+
+        UploadSession session;
+
+        // the space is checked and reserved in one step, so concurrent uploads can't both count on the same free bytes
+        synchronized (this.sessions) {
+            // the files of the uploads are sparse, the disk has to hold the bytes that were not received yet as well
+            long missing = this.sessions.values().stream().mapToLong(existing -> existing.getSize() - existing.getReceivedBytes()).sum();
+            long usable = Files.getFileStore(this.directory).getUsableSpace() - missing;
+
+            if (upload.size() > usable) {
+                throw new InsufficientStorageException(upload.size(), Math.max(usable, 0));
+            }
+
+            session = new UploadSession(id, upload, this.directory.resolve(id + PART_SUFFIX), this.expireAfter);
+            this.sessions.put(id, session);
+        }
+
+        LOGGER.debug("created the upload {} of {} with {} bytes", id, upload.name(), upload.size());
+
+        return session;
+    }
+
+    /**
+     * get an upload
+     *
+     * @param id the ID of the upload
+     * @return the {@link UploadSession}
+     * @throws ResourceNotFoundException when there is no upload with the ID
+     */
+    public UploadSession get(UUID id) {
+        UploadSession session = this.sessions.get(id);
+
+        if (session == null) {
+            throw new ResourceNotFoundException(id);
+        }
+
+        return session;
+    }
+
+    /**
+     * write a chunk of an upload
+     *
+     * @param id the ID of the upload
+     * @param offset the offset of the chunk in the file
+     * @param length the number of bytes of the chunk
+     * @param input the {@link InputStream} with the chunk
+     * @param checksum the value of the checksum header or 'null'
+     * @return the {@link UploadSession}
+     * @throws IOException when the chunk can't be read or written
+     * @see UploadSession#write(long, long, InputStream, ChunkChecksum)
+     */
+    public UploadSession write(UUID id, long offset, long length, InputStream input, String checksum) throws IOException {
+        UploadSession session = this.get(id);
+
+        session.write(offset, length, input, ChunkChecksum.parse(checksum));
+
+        if (this.received != null) {
+            this.received.increment(length);
+        }
+
+        return session;
+    }
+
+    /**
+     * complete an upload: its file is moved into the {@link ContentStore}, linked into its Bundle folder of the
+     * library and added to the index. The completed upload is kept until it expires.
+     *
+     * @param id the ID of the upload
+     * @return the completed {@link UploadSession}
+     * @throws UploadConflictException when the upload is not complete or the Bundle already contains a file with the name
+     * @throws IOException when the file can't be stored
+     */
+    public UploadSession complete(UUID id) throws IOException {
+        UploadSession session = this.get(id);
+        Path target = this.target(session.getName(), session.getCreator(), session.getBundle());
+
+        if (Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+            throw new UploadConflictException(id, "the Bundle already contains a file with this name");
+        }
+
+        Path part = session.beginComplete();
+        StoredContent content = null;
+
+        try {
+            content = this.contentStore.store(part);
+            link(content.path(), target);
+        } catch (FileAlreadyExistsException e) {
+            this.cancel(id);
+            this.deleteUnreferenced(content);
+
+            throw new UploadConflictException(id, "the Bundle already contains a file with this name");
+        } catch (IOException | RuntimeException e) {
+            this.cancel(id);
+            this.deleteUnreferenced(content);
+
+            throw e;
+        }
+
+        UUID fileId = null;
+
+        if (this.scanner.addFile(this.library, target)) {
+            ModelFile file = this.fileRepository.findByPath(target.toString()).orElse(null);
+
+            if (file != null) {
+                // the content is known from storing it, the scans don't have to hash the file again
+                this.fileRepository.setContentHash(file.getId(), file.getLastModified(), content.hash());
+                fileId = file.getId();
+            }
+        }
+
+        session.completed(content.hash(), fileId);
+        LOGGER.debug("completed the upload {} as {}", id, target);
+
+        return session;
+    }
+
+    /**
+     * cancel an upload and delete its file
+     *
+     * @param id the ID of the upload
+     * @throws ResourceNotFoundException when there is no upload with the ID
+     */
+    public void cancel(UUID id) {
+        UploadSession session = this.sessions.remove(id);
+
+        if (session == null) {
+            throw new ResourceNotFoundException(id);
+        }
+
+        this.delete(session);
+    }
+
+    /**
+     * remove the uploads that expired, every {@code uploads.purge-interval} and before an upload is created
+     */
+    @Scheduled(fixedDelayString = "${uploads.purge-interval:1h}", initialDelayString = "${uploads.purge-interval:1h}")
+    void purgeExpired() {
+        Instant now = Instant.now();
+
+        this.sessions.values().removeIf(session -> {
+            if (!session.isExpired(now)) {
+                return false;
+            }
+
+            LOGGER.debug("the upload {} expired", session.getId());
+            this.delete(session);
+
+            return true;
+        });
+    }
+
+    private void delete(UploadSession session) {
+        try {
+            session.delete();
+        } catch (IOException e) {
+            LOGGER.warn("could not delete the file of the upload {}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * delete the stored content of an upload that could not be linked into the library
+     *
+     * @param content the {@link StoredContent} or 'null' when the upload wasn't stored
+     */
+    private void deleteUnreferenced(StoredContent content) {
+        if (content == null) {
+            return;
+        }
+
+        try {
+            this.contentStore.deleteUnreferenced(content);
+        } catch (IOException e) {
+            LOGGER.warn("could not delete the stored content {}: {}", content.hash(), e.getMessage());
+        }
+    }
+
+    /**
+     * link the stored content into the library, the content is copied on file systems without hard links
+     */
+    private static void link(Path content, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+
+        try {
+            Files.createLink(target, content);
+        } catch (UnsupportedOperationException e) {
+            Files.copy(content, target);
+        }
+    }
+
+    private Path target(NewUpload upload) {
+        return this.target(upload.name(), upload.creator(), upload.bundle());
+    }
+
+    private Path target(String name, String creator, String bundle) {
+        return this.library.resolve(creator).resolve(bundle).resolve(name);
+    }
+
+    /**
+     * check that a name is a single file or folder name that is valid on all common file systems
+     *
+     * @throws InvalidParameterException when the name is not valid
+     */
+    static void validateName(String parameter, String name) {
+        if (name == null || name.isBlank() || name.length() > MAX_NAME_LENGTH || name.equals(".") || name.equals("..")
+                || name.endsWith(".") || name.endsWith(" ") || name.chars().anyMatch(c -> c < 0x20 || "\\/:*?\"<>|".indexOf(c) >= 0)) {
+            throw new InvalidParameterException(parameter, name);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package net.fribbtastic.MyMiniaturesVault.backend.upload;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ChecksumMismatchException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidParameterException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.UploadConflictException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * One resumable upload of a file. The file is created with its final size up front and every chunk is written at its
+ * offset with positional writes, so chunks can arrive in any order and several of them at the same time.
+ * <p>
+ * Only chunks that were received completely (and match their checksum) are recorded, a client resumes an interrupted
+ * upload by sending the missing ranges again. Every chunk is streamed through one buffer of {@value #BUFFER_SIZE}
+ * bytes, the memory of an upload doesn't depend on the size of the file or its chunks.
+ *
+ * @author Frederic Eßer
+ */
+public class UploadSession {
+
+    /**
+     * the size of the buffer a chunk is copied through
+     */
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * the states of an upload
+     */
+    public enum Status {
+        UPLOADING, COMPLETING, COMPLETED
+    }
+
+    private final UUID id;
+
+    private final NewUpload upload;
+
+    private final Path part;
+
+    private final Duration expireAfter;
+
+    private final FileChannel channel;
+
+    /**
+     * the ends of the received ranges by their starts, adjacent and overlapping ranges are merged
+     */
+    private final TreeMap<Long, Long> received = new TreeMap<>();
+
+    private int writing;
+
+    private Status status = Status.UPLOADING;
+
+    private Instant expiresAt;
+
+    private String contentHash;
+
+    private UUID fileId;
+
+    /**
+     * create the file of a new upload with the size of the whole file
+     *
+     * @param id the ID of the upload
+     * @param upload the {@link NewUpload}
+     * @param part the {@link Path} of the file the chunks are written to, it must not exist
+     * @param expireAfter the time after the last chunk until the upload expires
+     * @throws IOException when the file can't be created
+     */
+    UploadSession(UUID id, NewUpload upload, Path part, Duration expireAfter) throws IOException {
+        this.id = id;
+        this.upload = upload;
+        this.part = part;
+        this.expireAfter = expireAfter;
+        this.expiresAt = Instant.now().plus(expireAfter);
+
+        Files.createDirectories(part.getParent());
+
+        try (RandomAccessFile file = new RandomAccessFile(Files.createFile(part).toFile(), "rw")) {
+            // the blocks are only allocated when they are written on file systems with sparse files
+            file.setLength(upload.size());
+        }
+
+        this.channel = FileChannel.open(part, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * write a chunk at its offset. The chunk is only recorded as received when all of its bytes were written and the
+     * checksum matches, a failed chunk can be sent again.
+     *
+     * @param offset the offset of the chunk in the file
+     * @param length the number of bytes of the chunk
+     * @param input the {@link InputStream} with the chunk, it is not closed
+     * @param checksum the expected {@link ChunkChecksum} or 'null'
+     * @throws InvalidParameterException when the chunk is outside the file
+     * @throws ChecksumMismatchException when the chunk doesn't match its checksum
+     * @throws UploadConflictException when the upload is already completed
+     * @throws EOFException when the input ends before the chunk
+     * @throws IOException when the chunk can't be read or written
+     */
+    void write(long offset, long length, InputStream input, ChunkChecksum checksum) throws IOException {
+        if (offset < 0 || offset > this.upload.size()) {
+            throw new InvalidParameterException("offset", offset);
+        }
+
+        if (length < 0 || length > this.upload.size() - offset) {
+            throw new InvalidParameterException("length", length);
+        }
+
+        this.beginWrite();
+        boolean written = false;
+
+        try {
+            MessageDigest digest = checksum == null ? null : checksum.newDigest();
+            byte[] bytes = new byte[(int) Math.min(BUFFER_SIZE, Math.max(length, 1))];
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            long position = offset;
+            long end = offset + length;
+
+            while (position < end) {
+                int read = input.readNBytes(bytes, 0, (int) Math.min(bytes.length, end - position));
+
+                if (read == 0) {
+                    throw new EOFException("the chunk at offset " + offset + " ended after " + (position - offset) + " of " + length + " bytes");
+                }
+
+                if (digest != null) {
+                    digest.update(bytes, 0, read);
+                }
+
+                buffer.clear().limit(read);
+
+                while (buffer.hasRemaining()) {
+                    position += this.channel.write(buffer, position);
+                }
+            }
+
+            if (digest != null && !checksum.matches(digest.digest())) {
+                throw new ChecksumMismatchException(checksum.name(), offset);
+            }
+
+            written = true;
+        } finally {
+            this.endWrite(offset, offset + length, written);
+        }
+    }
+
+    private synchronized void beginWrite() {
+        if (this.status != Status.UPLOADING) {
+            throw new UploadConflictException(this.id, "it is already " + this.status.name().toLowerCase());
+        }
+
+        this.writing++;
+    }
+
+    private synchronized void endWrite(long start, long end, boolean written) {
+        this.writing--;
+        this.expiresAt = Instant.now().plus(this.expireAfter);
+
+        if (written && start < end) {
+            this.addRange(start, end);
+        }
+    }
+
+    /**
+     * add a received range and merge it with the ranges it overlaps or touches
+     */
+    private void addRange(long start, long end) {
+        Map.Entry<Long, Long> previous = this.received.floorEntry(start);
+
+        if (previous != null && previous.getValue() >= start) {
+            start = previous.getKey();
+            end = Math.max(end, previous.getValue());
+        }
+
+        Map.Entry<Long, Long> next;
+
+        while ((next = this.received.ceilingEntry(start)) != null && next.getKey() <= end) {
+            end = Math.max(end, next.getValue());
+            this.received.remove(next.getKey());
+        }
+
+        this.received.put(start, end);
+    }
+
+    /**
+     * mark the upload as completing and close its file, no more chunks are accepted afterward
+     *
+     * @return the {@link Path} of the complete file
+     * @throws UploadConflictException when bytes are missing, chunks are still being written or the upload is already completing
+     * @throws IOException when the file can't be closed
+     */
+    Path beginComplete() throws IOException {
+        synchronized (this) {
+            if (this.status != Status.UPLOADING) {
+                throw new UploadConflictException(this.id, "it is already " + this.status.name().toLowerCase());
+            }
+
+            if (this.writing > 0) {
+                throw new UploadConflictException(this.id, this.writing + " chunks are still being written");
+            }
+
+            long missing = this.upload.size() - this.getReceivedBytes();
+
+            if (missing > 0) {
+                throw new UploadConflictException(this.id, missing + " bytes are missing");
+            }
+
+            this.status = Status.COMPLETING;
+        }
+
+        this.channel.close();
+
+        return this.part;
+    }
+
+    /**
+     * mark the upload as completed
+     *
+     * @param contentHash the content hash of the file
+     * @param fileId the ID of the indexed file or 'null' if the file is not indexed
+     */
+    synchronized void completed(String contentHash, UUID fileId) {
+        this.status = Status.COMPLETED;
+        this.contentHash = contentHash;
+        this.fileId = fileId;
+        this.expiresAt = Instant.now().plus(this.expireAfter);
+    }
+
+    /**
+     * close and delete the file of the upload, chunks that are still being written fail
+     *
+     * @throws IOException when the file can't be deleted
+     */
+    void delete() throws IOException {
+        this.channel.close();
+        Files.deleteIfExists(this.part);
+    }
+
+    /**
+     * @param now the current time
+     * @return 'true' if the upload wasn't changed for the expiry time
+     */
+    synchronized boolean isExpired(Instant now) {
+        return this.writing == 0 && this.status != Status.COMPLETING && now.isAfter(this.expiresAt);
+    }
+
+    /**
+     * @return the ID of the upload
+     */
+    public UUID getId() {
+        return this.id;
+    }
+
+    /**
+     * @return the file name
+     */
+    public String getName() {
+        return this.upload.name();
+    }
+
+    /**
+     * @return the name of the Creator folder
+     */
+    public String getCreator() {
+        return this.upload.creator();
+    }
+
+    /**
+     * @return the name of the Bundle folder
+     */
+    public String getBundle() {
+        return this.upload.bundle();
+    }
+
+    /**
+     * @return the size of the file in bytes
+     */
+    public long getSize() {
+        return this.upload.size();
+    }
+
+    /**
+     * @return the {@link Status} of the upload
+     */
+    public synchronized Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * @return the number of bytes before the first missing byte, a sequential upload continues here
+     */
+    public synchronized long getOffset() {
+        Long end = this.received.get(0L);
+
+        return end == null ? 0 : end;
+    }
+
+    /**
+     * @return the number of received bytes
+     */
+    public synchronized long getReceivedBytes() {
+        return this.received.entrySet().stream().mapToLong(range -> range.getValue() - range.getKey()).sum();
+    }
+
+    /**
+     * @return the received {@link ReceivedRange}s in the order of the file
+     */
+    public synchronized List<ReceivedRange> getReceived() {
+        List<ReceivedRange> ranges = new ArrayList<>(this.received.size());
+        this.received.forEach((start, end) -> ranges.add(new ReceivedRange(start, end)));
+
+        return ranges;
+    }
+
+    /**
+     * @return the time when the upload expires unless more chunks are written
+     */
+    public synchronized Instant getExpiresAt() {
+        return this.expiresAt;
+    }
+
+    /**
+     * @return the content hash of the completed file or 'null'
+     */
+    public synchronized String getContentHash() {
+        return this.contentHash;
+    }
+
+    /**
+     * @return the ID of the indexed file or 'null' if the upload isn't completed or its format isn't indexed
+     */
+    public synchronized UUID getFileId() {
+        return this.fileId;
+    }
+}
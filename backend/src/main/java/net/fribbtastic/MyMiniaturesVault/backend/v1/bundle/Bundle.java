@@ -0,0 +1,84 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.bundle;
+
+import jakarta.persistence.*;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.UuidV7;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A Bundle of {@link Miniature}s released by a {@link Creator}
+ *
+ * @author Frederic Eßer
+ */
+@Entity
+@Table(name = "BUNDLES", indexes = {
+        @Index(name = Bundle.CREATOR_INDEX, columnList = "creator_id, name, id"),
+        @Index(columnList = "name, id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class Bundle {
+
+    /**
+     * the name of the index on the Creator, name and ID, the order of the pages of Bundles of a Creator
+     */
+    public static final String CREATOR_INDEX = "IDX_BUNDLES_CREATOR_NAME_ID";
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @NotNull
+    @NotEmpty
+    private String name;
+
+    /**
+     * the Creator of the Bundle, deleting the Creator deletes all of its Bundles
+     */
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "creator_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Creator creator;
+
+    /**
+     * the Miniatures of the Bundle.
+     * When they are loaded lazily, the Miniatures of up to 50 other Bundles of the persistence context are loaded in the same statement.
+     */
+    @Valid
+    @Builder.Default
+    @OneToMany(mappedBy = "bundle", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("name ASC")
+    @BatchSize(size = 50)
+    private List<Miniature> miniatures = new ArrayList<>();
+
+    public Bundle(UUID id, String name, Creator creator) {
+        this.id = id;
+        this.name = name;
+        this.creator = creator;
+        this.miniatures = new ArrayList<>();
+    }
+
+    /**
+     * add a Miniature to this Bundle
+     *
+     * @param miniature the {@link Miniature}
+     */
+    public void addMiniature(Miniature miniature) {
+        miniature.setBundle(this);
+        this.miniatures.add(miniature);
+    }
+}
@@ -0,0 +1,118 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.bundle;
+
+import com.github.lkqm.spring.api.version.ApiVersion;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@RestController
+@RequestMapping(path = "/bundle", produces = "application/json")
+@ApiVersion("1")
+public class BundleController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BundleController.class);
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    @Autowired
+    private BundleServiceImpl service;
+
+    /**
+     * Get the Bundles (ordered by name) with their Creators and Miniatures from the Service layer.
+     * The number of SQL statements doesn't depend on the number of Bundles with their Creators and Miniatures.
+     *
+     * @param creator the ID of the Creator whose Bundles should be returned, the Bundles of all Creators are returned without it
+     * @param limit the maximum number of Bundles (between 1 and {@value #MAX_LIMIT})
+     * @return a {@link ResponseEntity} with the list of {@link Bundle}s wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<Bundle>>> getAllBundles(@RequestParam(required = false) UUID creator,
+                                                                   @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        LOGGER.debug("get Bundles of Creator with ID={} and limit={}", creator, limit);
+
+        List<Bundle> bundles = this.service.getAll(creator, Math.clamp(limit, 1, MAX_LIMIT));
+
+        ApiResponse<List<Bundle>> response = ApiResponse.createSuccessResponse(HttpStatus.OK, bundles);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Get the Creators (ordered by name) with the number of their Bundles from the Service layer, computed with a single SQL statement.
+     *
+     * @param limit the maximum number of Creators (between 1 and {@value #MAX_LIMIT})
+     * @return a {@link ResponseEntity} with the list of {@link CreatorBundleCount}s wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping("/counts")
+    public ResponseEntity<ApiResponse<List<CreatorBundleCount>>> getBundleCounts(@RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        LOGGER.debug("get the number of Bundles per Creator with limit={}", limit);
+
+        List<CreatorBundleCount> counts = this.service.getBundleCounts(Math.clamp(limit, 1, MAX_LIMIT));
+
+        ApiResponse<List<CreatorBundleCount>> response = ApiResponse.createSuccessResponse(HttpStatus.OK, counts);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Get a Bundle with its Creator and Miniatures by its unique ID from the Service Layer
+     *
+     * @param id the {@link UUID} of the {@link Bundle}
+     * @return the {@link ApiResponse} with the {@link Bundle} wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<Bundle>> getOneBundle(@PathVariable UUID id) {
+        LOGGER.debug("get Bundle with ID={}", id);
+
+        Bundle bundle = this.service.getOne(id);
+
+        ApiResponse<Bundle> response = ApiResponse.createSuccessResponse(HttpStatus.OK, bundle);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Add a new {@link Bundle} with its Miniatures from the POSTed data and return the newly created Bundle in the response
+     *
+     * @param bundle the {@link Bundle} that should be added, its Creator only needs the ID
+     * @return the {@link ApiResponse} with the newly added {@link Bundle} wrapped in a {@link ResponseEntity}
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<Bundle>> addNewBundle(@RequestBody Bundle bundle) {
+        LOGGER.debug("add a new Bundle with Name='{}'", bundle.getName());
+
+        Bundle newBundle = this.service.addBundle(bundle);
+
+        ApiResponse<Bundle> response = ApiResponse.createSuccessResponse(HttpStatus.CREATED, newBundle);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Delete the Bundle and its Miniatures with the specific ID
+     *
+     * @param id the ID of the Bundle that should be deleted
+     * @return the {@link ApiResponse} (with 'null' data) wrapped in a {@link ResponseEntity}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<?>> deleteBundle(@PathVariable UUID id) {
+        LOGGER.debug("delete Bundle with ID={}", id);
+
+        this.service.deleteBundle(id);
+
+        ApiResponse<?> response = ApiResponse.createSuccessResponse(HttpStatus.OK, null);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
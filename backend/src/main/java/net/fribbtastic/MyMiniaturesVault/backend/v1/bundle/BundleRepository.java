@@ -0,0 +1,89 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.bundle;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+public interface BundleRepository extends JpaRepository<Bundle, UUID> {
+
+    /**
+     * Get all Bundles ordered by name and ID, the Creator of every Bundle is fetched in the same statement
+     *
+     * @param limit the maximum number of Bundles to return
+     * @return a {@link List} of {@link Bundle}s
+     */
+    @EntityGraph(attributePaths = "creator")
+    List<Bundle> findAllByOrderByNameAscIdAsc(Limit limit);
+
+    /**
+     * Get all Bundles of one Creator ordered by name and ID, the Creator is fetched in the same statement
+     *
+     * @param creatorId the ID of the Creator
+     * @param limit the maximum number of Bundles to return
+     * @return a {@link List} of {@link Bundle}s
+     */
+    @EntityGraph(attributePaths = "creator")
+    List<Bundle> findAllByCreatorIdOrderByNameAscIdAsc(UUID creatorId, Limit limit);
+
+    /**
+     * Load the Miniatures of the given Bundles with a single statement.
+     * The Miniatures are set on the Bundles of the current persistence context, the returned Bundles are the same instances.
+     *
+     * @param ids the IDs of the Bundles
+     * @return a {@link List} of {@link Bundle}s with initialized Miniatures
+     */
+    @Query("SELECT b FROM Bundle b LEFT JOIN FETCH b.miniatures WHERE b.id IN :ids")
+    List<Bundle> fetchMiniatures(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Get a Bundle by its ID together with its Creator and Miniatures in a single statement
+     *
+     * @param id the ID of the Bundle
+     * @return an {@link Optional} with the {@link Bundle} or an empty one if there is no Bundle with the ID
+     */
+    @EntityGraph(attributePaths = {"creator", "miniatures"})
+    Optional<Bundle> findWithMiniaturesById(UUID id);
+
+    /**
+     * Get a Bundle by its ID together with its Creator, without its Miniatures
+     *
+     * @param id the ID of the Bundle
+     * @return an {@link Optional} with the {@link Bundle} or an empty one if there is no Bundle with the ID
+     */
+    @EntityGraph(attributePaths = "creator")
+    Optional<Bundle> findWithCreatorById(UUID id);
+
+    /**
+     * Get all Creators with the number of their Bundles ordered by name and ID in a single statement.
+     * Creators without any Bundles are included with a count of '0'.
+     *
+     * @param limit the maximum number of Creators to return
+     * @return a {@link List} of {@link CreatorBundleCount}s
+     */
+    @Query("SELECT new net.fribbtastic.MyMiniaturesVault.backend.v1.bundle.CreatorBundleCount(c.id, c.name, COUNT(b)) " +
+            "FROM Creator c LEFT JOIN Bundle b ON b.creator = c GROUP BY c.id, c.name ORDER BY c.name ASC, c.id ASC")
+    List<CreatorBundleCount> countBundlesByCreator(Limit limit);
+
+    /**
+     * Delete a Bundle with a single statement without loading it or its Miniatures first.
+     * The Miniatures are deleted by the Database through the foreign key.
+     * Has to be called inside a transaction.
+     *
+     * @param id the ID of the Bundle
+     * @return the number of deleted Bundles, '0' if there is no Bundle with the ID
+     */
+    @Modifying
+    @Query("DELETE FROM Bundle b WHERE b.id = :id")
+    int deleteOne(@Param("id") UUID id);
+}
@@ -0,0 +1,16 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.bundle;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+public interface BundleService {
+
+    List<Bundle> getAll(UUID creatorId, int limit);
+    List<CreatorBundleCount> getBundleCounts(int limit);
+    Bundle getOne(UUID id);
+    Bundle addBundle(Bundle bundle);
+    void deleteBundle(UUID id);
+}
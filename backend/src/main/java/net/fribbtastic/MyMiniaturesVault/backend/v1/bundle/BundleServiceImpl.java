@@ -0,0 +1,166 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.bundle;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeAction;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeEntity;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeFeed;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidParameterException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchService;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchType;
+import net.fribbtastic.MyMiniaturesVault.backend.tag.TagService;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.CreatorRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * All changes of Bundles are passed on to the {@link SearchService} and the {@link ChangeFeed},
+ * their Miniatures to the {@link TagService}.
+ *
+ * @author Frederic Eßer
+ */
+@Service
+public class BundleServiceImpl implements BundleService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BundleServiceImpl.class);
+
+    @Autowired
+    private BundleRepository repository;
+
+    @Autowired
+    private CreatorRepository creatorRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private SearchService search;
+
+    @Autowired
+    private TagService tags;
+
+    @Autowired
+    private ChangeFeed changes;
+
+    /**
+     * get the Bundles ordered by name and ID together with their Creators and Miniatures.
+     * The Bundles and Creators are loaded with one statement and the Miniatures of all of them with a second one.
+     *
+     * @param creatorId the ID of the Creator whose Bundles should be returned or 'null' for the Bundles of all Creators
+     * @param limit the maximum number of Bundles
+     * @return the list of {@link Bundle}s
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Bundle> getAll(UUID creatorId, int limit) {
+        LOGGER.debug("get {} Bundles of Creator with ID={}", limit, creatorId);
+
+        List<Bundle> bundles = creatorId == null
+                ? this.repository.findAllByOrderByNameAscIdAsc(Limit.of(limit))
+                : this.repository.findAllByCreatorIdOrderByNameAscIdAsc(creatorId, Limit.of(limit));
+
+        if (!bundles.isEmpty()) {
+            this.repository.fetchMiniatures(bundles.stream().map(Bundle::getId).toList());
+        }
+
+        return bundles;
+    }
+
+    /**
+     * get the Creators ordered by name and ID with the number of their Bundles
+     *
+     * @param limit the maximum number of Creators
+     * @return the list of {@link CreatorBundleCount}s
+     */
+    @Override
+    public List<CreatorBundleCount> getBundleCounts(int limit) {
+        LOGGER.debug("get the number of Bundles of {} Creators", limit);
+
+        return this.repository.countBundlesByCreator(Limit.of(limit));
+    }
+
+    /**
+     * get a Bundle by its ID together with its Creator and Miniatures
+     *
+     * @param id the ID of the Bundle
+     * @return the {@link Bundle}
+     */
+    @Override
+    public Bundle getOne(UUID id) {
+        LOGGER.debug("get Bundle with ID={}", id);
+
+        return this.repository.findWithMiniaturesById(id).orElseThrow(() -> new ResourceNotFoundException(id));
+    }
+
+    /**
+     * Add a new Bundle with its Miniatures to an existing Creator
+     *
+     * @param bundle the Bundle that should be added, the Creator only needs its ID
+     * @return the added {@link Bundle}
+     */
+    @Override
+    @Transactional
+    public Bundle addBundle(Bundle bundle) {
+        LOGGER.debug("add new Bundle with name={}", bundle.getName());
+
+        Set<ConstraintViolation<Bundle>> violations = this.validator.validate(bundle);
+
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        UUID creatorId = bundle.getCreator().getId();
+
+        if (creatorId == null) {
+            throw new InvalidParameterException("creator", null);
+        }
+
+        Creator creator = this.creatorRepository.findById(creatorId).orElseThrow(() -> new ResourceNotFoundException(creatorId));
+
+        bundle.setCreator(creator);
+
+        if (bundle.getMiniatures() == null) {
+            bundle.setMiniatures(new ArrayList<>());
+        }
+
+        bundle.getMiniatures().forEach(miniature -> miniature.setBundle(bundle));
+
+        Bundle added = this.repository.save(bundle);
+        this.search.put(SearchType.BUNDLE, added.getId(), added.getName(), creatorId);
+        added.getMiniatures().forEach(miniature -> this.tags.put(miniature.getId(), miniature.getName(), added.getId(), creatorId, List.of()));
+        this.changes.publish(ChangeEntity.BUNDLE, ChangeAction.CREATED, added.getId());
+
+        return added;
+    }
+
+    /**
+     * Delete a Bundle and its Miniatures by its ID with a single statement
+     *
+     * @param id the ID of the Bundle that should be deleted
+     */
+    @Override
+    @Transactional
+    public void deleteBundle(UUID id) {
+        LOGGER.debug("delete Bundle with ID={}", id);
+
+        if (this.repository.deleteOne(id) == 0) {
+            throw new ResourceNotFoundException(id);
+        }
+
+        this.search.remove(List.of(id));
+        this.tags.remove(List.of(id));
+        this.changes.publish(ChangeEntity.BUNDLE, ChangeAction.DELETED, id);
+    }
+}
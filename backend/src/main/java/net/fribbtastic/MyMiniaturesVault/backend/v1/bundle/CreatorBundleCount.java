@@ -0,0 +1,31 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.bundle;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * A Creator together with the number of its {@link Bundle}s, aggregated in the Database so that no Bundle has to be loaded.
+ *
+ * @author Frederic Eßer
+ */
+@Getter
+@AllArgsConstructor
+public class CreatorBundleCount {
+
+    /**
+     * the ID of the Creator
+     */
+    private final UUID id;
+
+    /**
+     * the name of the Creator
+     */
+    private final String name;
+
+    /**
+     * the number of Bundles of the Creator
+     */
+    private final long bundleCount;
+}
@@ -0,0 +1,49 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.bundle;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.UuidV7;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.UUID;
+
+/**
+ * A single Miniature that is part of a {@link Bundle}
+ *
+ * @author Frederic Eßer
+ */
+@Entity
+@Table(name = "MINIATURES", indexes = @Index(columnList = "bundle_id"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class Miniature {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @NotNull
+    @NotEmpty
+    private String name;
+
+    /**
+     * the Bundle the Miniature belongs to, deleting the Bundle deletes all of its Miniatures
+     */
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "bundle_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Bundle bundle;
+
+    public Miniature(UUID id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+}
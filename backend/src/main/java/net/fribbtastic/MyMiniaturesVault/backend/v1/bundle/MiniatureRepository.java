@@ -0,0 +1,22 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.bundle;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+public interface MiniatureRepository extends JpaRepository<Miniature, UUID> {
+
+    /**
+     * Get a Miniature by its ID together with its Bundle in a single statement
+     *
+     * @param id the ID of the Miniature
+     * @return an {@link Optional} with the {@link Miniature} or an empty one if there is no Miniature with the ID
+     */
+    @EntityGraph(attributePaths = "bundle")
+    Optional<Miniature> findWithBundleById(UUID id);
+}
@@ -1,17 +1,22 @@
 package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.UuidV7;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.util.UUID;
 
 /**
  * @author Frederic Eßer
  */
 @Entity
-@Table(name = "CREATORS")
+@Table(name = "CREATORS", indexes = @Index(name = Creator.NAME_INDEX, columnList = "name, id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -19,8 +24,13 @@ import java.util.UUID;
 @Builder
 public class Creator {
 
+    /**
+     * the name of the index on the name and ID, the order of the pages of Creators
+     */
+    public static final String NAME_INDEX = "IDX_CREATORS_NAME_ID";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @NotNull
@@ -28,7 +38,30 @@ public class Creator {
     @Column(unique = true)
     private String name;
 
+    /**
+     * incremented with every update, used for optimistic locking and the ETag of the Creator
+     */
+    @Version
+    @JsonIgnore
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
+    /**
+     * the time of the last insert or update, used for the Last-Modified header of the Creator
+     */
+    @UpdateTimestamp
+    @JsonIgnore
+    @Column(nullable = false)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    private Instant updatedAt;
+
     public Creator(@NonNull String name) {
         this.name = name;
     }
+
+    public Creator(UUID id, String name) {
+        this.id = id;
+        this.name = name;
+    }
 }
@@ -0,0 +1,60 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The result for a single item of a batch operation on {@link Creator}s.
+ * Either the {@link Creator} or the error is set.
+ *
+ * @author Frederic Eßer
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CreatorBatchResult {
+
+    /**
+     * the status of the item
+     */
+    private final HttpStatus status;
+
+    /**
+     * the Creator after the operation
+     */
+    private final Creator creator;
+
+    /**
+     * a short message of the error
+     */
+    private final String message;
+
+    /**
+     * the reason why the operation failed for this item
+     */
+    private final RuntimeException error;
+
+    /**
+     * Create the result for an item that was processed successfully
+     *
+     * @param status the {@link HttpStatus} of the item
+     * @param creator the {@link Creator} after the operation
+     * @return the {@link CreatorBatchResult}
+     */
+    public static CreatorBatchResult success(HttpStatus status, Creator creator) {
+        return new CreatorBatchResult(status, creator, null, null);
+    }
+
+    /**
+     * Create the result for an item that couldn't be processed
+     *
+     * @param status the {@link HttpStatus} of the item
+     * @param message a short message of the error
+     * @param error the reason why the item couldn't be processed
+     * @return the {@link CreatorBatchResult}
+     */
+    public static CreatorBatchResult failure(HttpStatus status, String message, RuntimeException error) {
+        return new CreatorBatchResult(status, null, message, error);
+    }
+}
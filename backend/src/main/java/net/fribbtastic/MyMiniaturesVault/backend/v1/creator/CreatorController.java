@@ -1,14 +1,26 @@
 package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.lkqm.spring.api.version.ApiVersion;
+import net.fribbtastic.MyMiniaturesVault.backend.cache.CachedResponse;
+import net.fribbtastic.MyMiniaturesVault.backend.cache.ResponseCache;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidParameterException;
 import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,36 +34,127 @@ public class CreatorController {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CreatorController.class);
 
+    public static final String NDJSON = "application/x-ndjson";
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
     @Autowired
     private CreatorServiceImpl service;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ResponseCache responses;
+
     /**
-     * Get all currently available Creators from the Service layer
-     * @return a {@link ResponseEntity} with the list of {@link Creator}s wrapped in a {@link ResponseEntity}
+     * Get one page of the currently available Creators (ordered by name) from the Service layer.
+     * The response contains the Cursor for the next page if there are more Creators available.
+     * The ETag and Last-Modified headers are derived from the version of the list of all Creators, when the request
+     * matches them a 304 without body is returned and no Creators are loaded. A page compressed with gzip has its own
+     * ETag, the ETags of both encodings match.
+     * The encoded page is kept in the {@link ResponseCache} until a Creator is changed, so the same page is sent
+     * again from its bytes without loading the version, the Creators or encoding them.
+     *
+     * @param cursor the Cursor of the page that should be returned, the first page is returned without it
+     * @param limit the maximum number of Creators on the page (between 1 and {@value #MAX_PAGE_SIZE})
+     * @param request the {@link WebRequest} with the conditional headers
+     * @return a {@link ResponseEntity} with the encoded {@link ApiResponse} with the list of {@link Creator}s
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Creator>>> getAllCreators() {
-        LOGGER.debug("get all Creators");
+    public ResponseEntity<byte[]> getAllCreators(@RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+                                                 WebRequest request) {
+        LOGGER.debug("get Creators with cursor='{}' and limit={}", cursor, limit);
 
-        List<Creator> creatorList = this.service.getAll();
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        String query = (cursor == null ? "" : cursor) + "&" + pageSize;
+        long cacheVersion = this.responses.getVersion(ResponseCache.CREATORS);
+        CachedResponse cached = this.responses.get(ResponseCache.CREATORS, cacheVersion, query);
 
-        ApiResponse<List<Creator>> response = ApiResponse.createSuccessResponse(HttpStatus.OK, creatorList);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        String[] ifNoneMatch = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
 
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        if (cached == null) {
+            CreatorCursor after = cursor == null ? null : CreatorCursor.decode(cursor);
+            CreatorListVersion version = this.service.getListVersion();
+
+            // the encoding and its ETag are only known after the page was encoded, but a client with either ETag has the current list
+            String matching = CachedResponse.matchingETag(eTag(version), ifNoneMatch);
+
+            if (matching != null && request.checkNotModified(matching, toMillis(version.getLastModified()))) {
+                LOGGER.debug("Creators were not modified");
+                return null;
+            }
+
+            CreatorPage page = this.service.getPage(after, pageSize);
+            String next = page.getNext() == null ? null : page.getNext().encode();
+
+            ApiResponse<List<Creator>> response = ApiResponse.createSuccessResponse(HttpStatus.OK, page.getCreators(), next);
+
+            cached = this.responses.put(ResponseCache.CREATORS, cacheVersion, query, response, eTag(version), toMillis(version.getLastModified()));
+        }
+
+        String matching = CachedResponse.matchingETag(cached.getETag(), ifNoneMatch);
+
+        if (request.checkNotModified(matching == null ? cached.getETag(acceptEncoding) : matching, cached.getLastModified())) {
+            LOGGER.debug("Creators were not modified");
+            return null;
+        }
+
+        return cached.toResponseEntity(acceptEncoding);
+    }
+
+    /**
+     * Stream all currently available Creators (ordered by name) as newline delimited JSON.
+     * The Creators are written one by one while they are read from the Database so the memory usage
+     * doesn't depend on the number of Creators.
+     *
+     * @return a {@link ResponseEntity} with the {@link StreamingResponseBody} writing one {@link Creator} per line
+     */
+    @GetMapping(produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllCreators() {
+        LOGGER.debug("stream all Creators");
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = this.objectMapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+
+                this.service.streamAll(creator -> {
+                    try {
+                        generator.writeObject(creator);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.parseMediaType(NDJSON)).body(body);
     }
 
     /**
      * Get a Creator by its unique ID from the Service Layer
+     * The ETag and Last-Modified headers are derived from the version of the Creator, when the request
+     * matches them a 304 without body is returned.
      *
      * @param id the {@link UUID} of the {@link Creator}
+     * @param request the {@link WebRequest} with the conditional headers
      * @return the {@link ApiResponse} with the {@link Creator} wrapped in a {@link ResponseEntity}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Creator>> getOneCreator(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<Creator>> getOneCreator(@PathVariable UUID id, WebRequest request) {
         LOGGER.debug("get Creator with ID={}", id);
 
         Creator creator = this.service.getOne(id);
 
+        if (request.checkNotModified(eTag(creator), toMillis(creator.getUpdatedAt()))) {
+            LOGGER.debug("Creator with ID={} was not modified", id);
+            return null;
+        }
+
         ApiResponse<Creator> response = ApiResponse.createSuccessResponse(HttpStatus.OK, creator);
 
         return ResponseEntity.status(HttpStatus.OK).body(response);
@@ -59,6 +162,7 @@ public class CreatorController {
 
     /**
      * Add a new {@link Creator} from the POSTed data and return the newly created Creator in the response
+     * A Creator with a name that is already taken is answered with a 409
      *
      * @param creator the {@link Creator} that should be added
      * @return the {@link ApiResponse} with the newly added {@link Creator} wrapped in a {@link ResponseEntity}
@@ -76,19 +180,44 @@ public class CreatorController {
 
     /**
      * Update the Creator with the provided ID and the {@link Creator} passed in the {@link RequestBody}
+     * With an If-Match header the Creator is only updated if it still has the version of the ETag, otherwise a 412 is returned.
      *
      * @param id the ID of the {@link Creator} that should be updated
      * @param creator the {@link Creator} with the updated data
+     * @param ifMatch the ETag of the Creator that the update is based on, 'null' to update any version
      * @return the {@link ApiResponse} with the updated {@link Creator} wrapped in a {@link ResponseEntity}
      */
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<Creator>> updateCreator(@PathVariable UUID id, @RequestBody Creator creator) {
+    public ResponseEntity<ApiResponse<Creator>> updateCreator(@PathVariable UUID id, @RequestBody Creator creator,
+                                                             @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         LOGGER.debug("update Creator with ID='{}'", id);
 
-        Creator updatedCreator = this.service.updateCreator(id, creator);
+        Creator updatedCreator = this.service.updateCreator(id, creator, expectedVersion(id, ifMatch));
 
         ApiResponse<Creator> response = ApiResponse.createSuccessResponse(HttpStatus.OK, updatedCreator);
 
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag(updatedCreator)).body(response);
+    }
+
+    /**
+     * Partially update the Creator with the provided ID, only the values that are set in the {@link RequestBody} are changed.
+     * With an If-Match header the Creator is only updated if it still has the version of the ETag, otherwise a 412 is returned.
+     * The Creator is not read again after the update, the response contains no data.
+     *
+     * @param id the ID of the {@link Creator} that should be updated
+     * @param creator the {@link Creator} with the changed data
+     * @param ifMatch the ETag of the Creator that the update is based on, 'null' to update any version
+     * @return the {@link ApiResponse} (with 'null' data) wrapped in a {@link ResponseEntity}
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<ApiResponse<?>> patchCreator(@PathVariable UUID id, @RequestBody Creator creator,
+                                                       @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        LOGGER.debug("patch Creator with ID='{}'", id);
+
+        this.service.patchCreator(id, creator, expectedVersion(id, ifMatch));
+
+        ApiResponse<?> response = ApiResponse.createSuccessResponse(HttpStatus.OK, null);
+
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
@@ -108,4 +237,129 @@ public class CreatorController {
 
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
+
+    /**
+     * Add multiple new Creators from the POSTed list in one transaction.
+     * Creators that can't be added (e.g. because their name is already taken) don't prevent the others from being added.
+     *
+     * @param creators the list of {@link Creator}s that should be added
+     * @return the {@link ApiResponse} with one {@link ApiResponse} per Creator (in the same order) wrapped in a {@link ResponseEntity}
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<ApiResponse<Creator>>>> addNewCreators(@RequestBody List<Creator> creators) {
+        LOGGER.debug("add {} new Creators", creators.size());
+
+        List<CreatorBatchResult> results = this.service.addCreators(creators);
+
+        ApiResponse<List<ApiResponse<Creator>>> response = ApiResponse.createSuccessResponse(HttpStatus.OK, toResponses(results));
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Update multiple Creators (identified by their ID) in one transaction.
+     * Creators that can't be updated (e.g. because they don't exist) don't prevent the others from being updated.
+     *
+     * @param creators the list of {@link Creator}s with the updated data
+     * @return the {@link ApiResponse} with one {@link ApiResponse} per Creator (in the same order) wrapped in a {@link ResponseEntity}
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<ApiResponse<List<ApiResponse<Creator>>>> updateCreators(@RequestBody List<Creator> creators) {
+        LOGGER.debug("update {} Creators", creators.size());
+
+        List<CreatorBatchResult> results = this.service.updateCreators(creators);
+
+        ApiResponse<List<ApiResponse<Creator>>> response = ApiResponse.createSuccessResponse(HttpStatus.OK, toResponses(results));
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Delete multiple Creators by the IDs passed with the {@link RequestBody} in one transaction.
+     * IDs that don't belong to a Creator don't prevent the others from being deleted.
+     *
+     * @param ids the list of IDs of the Creators that should be deleted
+     * @return the {@link ApiResponse} with one {@link ApiResponse} per ID (in the same order) wrapped in a {@link ResponseEntity}
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<ApiResponse<List<ApiResponse<Creator>>>> deleteCreators(@RequestBody List<UUID> ids) {
+        LOGGER.debug("delete {} Creators", ids.size());
+
+        List<CreatorBatchResult> results = this.service.deleteCreators(ids);
+
+        ApiResponse<List<ApiResponse<Creator>>> response = ApiResponse.createSuccessResponse(HttpStatus.OK, toResponses(results));
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Convert the results of a batch operation into one {@link ApiResponse} per item
+     *
+     * @param results the {@link CreatorBatchResult}s
+     * @return the list of {@link ApiResponse}s
+     */
+    private static List<ApiResponse<Creator>> toResponses(List<CreatorBatchResult> results) {
+        return results.stream()
+                .map(result -> result.getError() == null
+                        ? ApiResponse.createSuccessResponse(result.getStatus(), result.getCreator())
+                        : ApiResponse.<Creator>createFailureResponse(result.getStatus(), result.getMessage(), result.getError()))
+                .toList();
+    }
+
+    /**
+     * create the strong ETag of a single Creator from its ID and version
+     *
+     * @param creator the {@link Creator}
+     * @return the ETag
+     */
+    private static String eTag(Creator creator) {
+        return String.format("\"%s-%d\"", creator.getId(), creator.getVersion());
+    }
+
+    /**
+     * get the version of the Creator from the ETag in the If-Match header, which has to be the ETag of the same Creator
+     *
+     * @param id the ID of the Creator
+     * @param ifMatch the value of the If-Match header, may be 'null' or '*'
+     * @return the expected version or 'null' if any version can be updated
+     */
+    private static Long expectedVersion(UUID id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String prefix = "\"" + id + "-";
+        String eTag = ifMatch.trim();
+
+        try {
+            if (eTag.startsWith(prefix) && eTag.endsWith("\"") && eTag.length() > prefix.length() + 1) {
+                return Long.parseLong(eTag.substring(prefix.length(), eTag.length() - 1));
+            }
+        } catch (NumberFormatException exception) {
+            // reported below
+        }
+
+        throw new InvalidParameterException(HttpHeaders.IF_MATCH, ifMatch);
+    }
+
+    /**
+     * create the strong ETag of the list of all Creators from the number of Creators, the sum of their versions
+     * and the number of deletions, every committed insert, update or deletion changes one of them
+     *
+     * @param version the {@link CreatorListVersion}
+     * @return the ETag
+     */
+    private static String eTag(CreatorListVersion version) {
+        return String.format("\"%d-%d-%d\"", version.getCount(), version.getVersions(), version.getDeletions());
+    }
+
+    /**
+     * convert the time of the last modification to the milliseconds used by the Last-Modified header
+     *
+     * @param lastModified the time of the last modification, may be 'null'
+     * @return the milliseconds since the epoch or -1 if the time is unknown
+     */
+    private static long toMillis(Instant lastModified) {
+        return lastModified == null ? -1 : lastModified.toEpochMilli();
+    }
 }
@@ -0,0 +1,75 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * The position of a {@link Creator} in the list of all Creators (ordered by name and ID)
+ * that is handed to the client to request the next page.
+ *
+ * @author Frederic Eßer
+ */
+@Getter
+@AllArgsConstructor
+public class CreatorCursor {
+
+    private static final int UUID_LENGTH = 36;
+    private static final char SEPARATOR = ':';
+
+    /**
+     * the name of the last Creator of a page
+     */
+    private final String name;
+
+    /**
+     * the ID of the last Creator of a page
+     */
+    private final UUID id;
+
+    /**
+     * Create the Cursor pointing behind the given Creator
+     *
+     * @param creator the last {@link Creator} of a page
+     * @return the {@link CreatorCursor}
+     */
+    public static CreatorCursor of(Creator creator) {
+        return new CreatorCursor(creator.getName(), creator.getId());
+    }
+
+    /**
+     * Encode the Cursor into an opaque, URL-safe String
+     *
+     * @return the encoded Cursor
+     */
+    public String encode() {
+        String value = this.id.toString() + SEPARATOR + this.name;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a Cursor that was previously created with {@link #encode()}
+     *
+     * @param cursor the encoded Cursor
+     * @return the decoded {@link CreatorCursor}
+     * @throws InvalidCursorException when the Cursor can't be decoded
+     */
+    public static CreatorCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            if (value.length() <= UUID_LENGTH || value.charAt(UUID_LENGTH) != SEPARATOR) {
+                throw new InvalidCursorException(cursor);
+            }
+
+            return new CreatorCursor(value.substring(UUID_LENGTH + 1), UUID.fromString(value.substring(0, UUID_LENGTH)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.Deletion;
+
+import java.time.Instant;
+
+/**
+ * The version of the list of all {@link Creator}s, derived from aggregates so that no Creator has to be loaded.
+ * It changes whenever a Creator is added, updated or deleted, deletions are recorded in the {@link Deletion}s.
+ * The number of Creators, the sum of their versions and the number of deletions only change with a committed write,
+ * unlike the time of the last change that can stay the same when writes are committed out of order.
+ *
+ * @author Frederic Eßer
+ */
+@Getter
+@AllArgsConstructor
+public class CreatorListVersion {
+
+    /**
+     * the number of Creators
+     */
+    private final long count;
+
+    /**
+     * the sum of the versions of all Creators, incremented by every update
+     */
+    private final long versions;
+
+    /**
+     * the number of deletions of any Creator
+     */
+    private final long deletions;
+
+    /**
+     * the time of the last change to any Creator, 'null' if there never were any Creators
+     */
+    private final Instant lastModified;
+
+    /**
+     * create the version from the aggregates of the Creators and the recorded deletions,
+     * the later one of the last insert or update and the last deletion is the time of the last change
+     *
+     * @param count the number of Creators
+     * @param versions the sum of the versions of all Creators, 'null' if there are no Creators
+     * @param lastUpdate the time of the last insert or update of any Creator, 'null' if there are no Creators
+     * @param deletions the number of deletions of any Creator, 'null' if no Creator was ever deleted
+     * @param lastDeletion the time of the last deletion of any Creator, 'null' if no Creator was ever deleted
+     */
+    public CreatorListVersion(long count, Long versions, Instant lastUpdate, Long deletions, Instant lastDeletion) {
+        this.count = count;
+        this.versions = versions == null ? 0 : versions;
+        this.deletions = deletions == null ? 0 : deletions;
+        this.lastModified = lastUpdate == null || (lastDeletion != null && lastDeletion.isAfter(lastUpdate)) ? lastDeletion : lastUpdate;
+    }
+}
@@ -0,0 +1,26 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A page of {@link Creator}s together with the Cursor for the next page
+ *
+ * @author Frederic Eßer
+ */
+@Getter
+@AllArgsConstructor
+public class CreatorPage {
+
+    /**
+     * the Creators of this page
+     */
+    private final List<Creator> creators;
+
+    /**
+     * the Cursor of the next page, 'null' if this is the last page
+     */
+    private final CreatorCursor next;
+}
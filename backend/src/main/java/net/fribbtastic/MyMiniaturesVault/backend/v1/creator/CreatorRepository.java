@@ -1,11 +1,87 @@
 package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * @author Frederic Eßer
  */
 public interface CreatorRepository extends JpaRepository<Creator, UUID> {
+
+    /**
+     * Get all Creators that have one of the given names
+     *
+     * @param names the names of the Creators
+     * @return a {@link List} of {@link Creator}s
+     */
+    List<Creator> findAllByNameIn(Collection<String> names);
+
+    /**
+     * Get the first page of Creators ordered by name and ID
+     *
+     * @param limit the maximum number of Creators to return
+     * @return a {@link List} of {@link Creator}s
+     */
+    List<Creator> findAllByOrderByNameAscIdAsc(Limit limit);
+
+    /**
+     * Get the page of Creators that directly follows the Creator with the given name and ID (keyset pagination)
+     *
+     * @param name the name of the last Creator of the previous page
+     * @param id the ID of the last Creator of the previous page
+     * @param limit the maximum number of Creators to return
+     * @return a {@link List} of {@link Creator}s
+     */
+    @Query("SELECT c FROM Creator c WHERE c.name > :name OR (c.name = :name AND c.id > :id) ORDER BY c.name ASC, c.id ASC")
+    List<Creator> findAllAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Stream all Creators ordered by name and ID.
+     * The {@link Stream} has to be consumed inside a transaction and closed afterward.
+     *
+     * @return a {@link Stream} of {@link Creator}s
+     */
+    @Query("SELECT c FROM Creator c ORDER BY c.name ASC, c.id ASC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    Stream<Creator> streamAll();
+
+    /**
+     * Get the number of Creators, the sum of their versions and the number of deletions,
+     * together with the time of the latest insert, update or deletion of any Creator
+     *
+     * @return the {@link CreatorListVersion}
+     */
+    @Query("SELECT new net.fribbtastic.MyMiniaturesVault.backend.v1.creator.CreatorListVersion(COUNT(c), SUM(c.version), MAX(c.updatedAt), " +
+            "(SELECT d.total FROM Deletion d WHERE d.entity = net.fribbtastic.MyMiniaturesVault.backend.events.ChangeEntity.CREATOR), " +
+            "(SELECT d.deletedAt FROM Deletion d WHERE d.entity = net.fribbtastic.MyMiniaturesVault.backend.events.ChangeEntity.CREATOR)) FROM Creator c")
+    CreatorListVersion getListVersion();
+
+    /**
+     * Update a Creator with a single statement without loading it first.
+     * Values that are 'null' keep the current value of the Creator, the version is incremented in any case.
+     * With an expected version the Creator is only updated if it still has that version.
+     * Has to be called inside a transaction, the persistence context is cleared afterward so the Creator is read again.
+     *
+     * @param id the ID of the Creator
+     * @param name the new name of the Creator or 'null' to keep the current name
+     * @param version the expected version of the Creator or 'null' to update any version
+     * @param updatedAt the time of the update
+     * @return the number of updated Creators, '0' if there is no Creator with the ID (and the expected version)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Creator c SET c.name = COALESCE(:name, c.name), c.version = c.version + 1, c.updatedAt = :updatedAt " +
+            "WHERE c.id = :id AND (:version IS NULL OR c.version = :version)")
+    int update(@Param("id") UUID id, @Param("name") String name, @Param("version") Long version, @Param("updatedAt") Instant updatedAt);
 }
@@ -2,15 +2,22 @@ package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * @author Frederic Eßer
  */
 public interface CreatorService {
 
-    List<Creator> getAll();
+    CreatorPage getPage(CreatorCursor after, int limit);
+    void streamAll(Consumer<Creator> consumer);
+    CreatorListVersion getListVersion();
     Creator getOne(UUID id);
     Creator addCreator(Creator creator);
-    Creator updateCreator(UUID id, Creator creator);
+    Creator updateCreator(UUID id, Creator creator, Long version);
+    void patchCreator(UUID id, Creator creator, Long version);
     void deleteCreator(UUID id);
+    List<CreatorBatchResult> addCreators(List<Creator> creators);
+    List<CreatorBatchResult> updateCreators(List<Creator> creators);
+    List<CreatorBatchResult> deleteCreators(List<UUID> ids);
 }
@@ -1,16 +1,49 @@
 package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import net.fribbtastic.MyMiniaturesVault.backend.cache.CacheConfiguration;
+import net.fribbtastic.MyMiniaturesVault.backend.cache.ResponseCache;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeAction;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeEntity;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeFeed;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.DuplicateResourceException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.PreconditionFailedException;
 import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.DeletionRepository;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.Transactions;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchResult;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchService;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchType;
+import net.fribbtastic.MyMiniaturesVault.backend.tag.TagService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
+ * All changes of Creators are passed on to the {@link SearchService} and the {@link ChangeFeed} and invalidate the list
+ * of Creators in the {@link ResponseCache}, deleted Creators are passed on to the {@link TagService}.
+ * <p>
+ * Creators are cached by their ID in the {@value CacheConfiguration#CREATORS} Cache, this includes IDs that don't belong
+ * to any Creator. The cached Creators are never handed out, every caller gets its own copy that it can change. Changed
+ * Creators are evicted after their transaction was committed, so a concurrent lookup can't cache the old state again.
+ *
  * @author Frederic Eßer
  */
 @Service
@@ -21,33 +54,110 @@ public class CreatorServiceImpl implements CreatorService {
     @Autowired
     private CreatorRepository repository;
 
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private SearchService search;
+
+    @Autowired
+    private TagService tags;
+
+    @Autowired
+    private ChangeFeed changes;
+
+    @Autowired
+    private ResponseCache responses;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DeletionRepository deletions;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
-     * get all available Creators from the repository
+     * get one page of Creators ordered by name and ID.
+     * One more Creator than requested is loaded to find out if there is a next page.
      *
-     * @return an {@link ArrayList} of Creators
+     * @param after the {@link CreatorCursor} of the previous page or 'null' for the first page
+     * @param limit the maximum number of Creators on the page
+     * @return the {@link CreatorPage} with the Creators and the Cursor of the next page
      */
     @Override
-    public List<Creator> getAll() {
-        LOGGER.debug("get all Creators");
+    public CreatorPage getPage(CreatorCursor after, int limit) {
+        LOGGER.debug("get {} Creators after {}", limit, after == null ? null : after.getId());
 
-        return new ArrayList<>(this.repository.findAll());
+        List<Creator> creators = after == null
+                ? this.repository.findAllByOrderByNameAscIdAsc(Limit.of(limit + 1))
+                : this.repository.findAllAfter(after.getName(), after.getId(), Limit.of(limit + 1));
+
+        if (creators.size() <= limit) {
+            return new CreatorPage(creators, null);
+        }
+
+        List<Creator> page = creators.subList(0, limit);
+
+        return new CreatorPage(page, CreatorCursor.of(page.getLast()));
     }
 
     /**
-     * get a Creator by its ID
+     * pass all Creators one after another to the consumer without loading all of them into memory.
+     * Every Creator is detached from the persistence context after it was consumed.
+     *
+     * @param consumer the {@link Consumer} that handles each {@link Creator}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<Creator> consumer) {
+        LOGGER.debug("stream all Creators");
+
+        try (Stream<Creator> creators = this.repository.streamAll()) {
+            creators.forEach(creator -> {
+                consumer.accept(creator);
+                this.entityManager.detach(creator);
+            });
+        }
+    }
+
+    /**
+     * get the version of the list of all Creators from the number of Creators, the sum of their versions and the number of deletions.
+     * The time of the last change is either the latest insert or update of a Creator or the last recorded deletion.
+     *
+     * @return the {@link CreatorListVersion}
+     */
+    @Override
+    public CreatorListVersion getListVersion() {
+        LOGGER.debug("get the version of all Creators");
+
+        return this.repository.getListVersion();
+    }
+
+    /**
+     * get a Creator by its ID from the Cache.
+     * Concurrent lookups of the same ID only hit the Database once.
      *
      * @param id the ID of the Creator
-     * @return the {@link Creator}
+     * @return a copy of the cached {@link Creator}
      */
     @Override
     public Creator getOne(UUID id) {
         LOGGER.debug("get Creator with ID={}", id);
 
-        return this.repository.findById(id).orElseThrow(() -> new ResourceNotFoundException(id));
+        Creator creator = this.cache().get(id, () -> this.repository.findById(id).orElse(null));
+
+        if (creator == null) {
+            throw new ResourceNotFoundException(id);
+        }
+
+        return copy(creator);
     }
 
     /**
      * Add a new Creator
+     * A cached lookup for the ID of the new Creator is evicted.
      *
      * @param creator the Creator that should be added
      * @return the added {@link Creator}
@@ -56,37 +166,360 @@ public class CreatorServiceImpl implements CreatorService {
     public Creator addCreator(Creator creator) {
         LOGGER.debug("add new Creator with name={}", creator.getName());
 
-        return this.repository.save(creator);
+        this.checkName(null, creator.getName());
+
+        Creator added = this.repository.save(creator);
+        this.search.put(SearchType.CREATOR, added.getId(), added.getName(), null);
+        this.changes.publish(ChangeEntity.CREATOR, ChangeAction.CREATED, added.getId());
+        this.responses.invalidate(ResponseCache.CREATORS);
+        this.evict(List.of(added.getId()));
+
+        return added;
     }
 
     /**
-     * Update an existing Creator
+     * Update an existing Creator with a single statement, the Creator is not loaded before.
+     * The updated Creator is read afterward, so the response has the saved state.
+     * The cached Creator is evicted.
      *
      * @param id the ID of the Creator that should be updated
      * @param creator the {@link Creator} that should be used to update the existing Information
+     * @param version the expected version of the Creator (from the If-Match header) or 'null' to update any version
      * @return the updated {@link Creator}
      */
     @Override
-    public Creator updateCreator(UUID id, Creator creator) {
-        LOGGER.debug("update creator with ID={}", id);
+    @Transactional
+    public Creator updateCreator(UUID id, Creator creator, Long version) {
+        LOGGER.debug("update creator with ID={} and version={}", id, version);
+
+        Set<ConstraintViolation<Creator>> violations = this.validator.validate(creator);
+
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        this.checkName(id, creator.getName());
+        this.update(id, creator.getName(), version);
+
+        Creator updated = this.repository.findById(id).orElseThrow(() -> new ResourceNotFoundException(id));
+        this.search.put(SearchType.CREATOR, id, updated.getName(), null);
+        this.changes.publish(ChangeEntity.CREATOR, ChangeAction.UPDATED, id);
+        this.responses.invalidate(ResponseCache.CREATORS);
+        this.evict(List.of(id));
+
+        return updated;
+    }
+
+    /**
+     * Partially update an existing Creator with a single statement, the Creator is not loaded before.
+     * Only the values that are set in the passed Creator are changed.
+     * The cached Creator is evicted.
+     *
+     * @param id the ID of the Creator that should be updated
+     * @param creator the {@link Creator} with the values that should be changed
+     * @param version the expected version of the Creator (from the If-Match header) or 'null' to update any version
+     */
+    @Override
+    @Transactional
+    public void patchCreator(UUID id, Creator creator, Long version) {
+        LOGGER.debug("patch creator with ID={} and version={}", id, version);
+
+        if (creator.getName() != null) {
+            Set<ConstraintViolation<Creator>> violations = this.validator.validateProperty(creator, "name");
+
+            if (!violations.isEmpty()) {
+                throw new ConstraintViolationException(violations);
+            }
+
+            this.checkName(id, creator.getName());
+        }
+
+        this.update(id, creator.getName(), version);
 
-        return this.repository.findById(id).map(c -> {
-            creator.setId(id);
-            c = creator;
-            this.repository.save(c);
-            return c;
-        }).orElseThrow(() -> new ResourceNotFoundException(id));
+        if (creator.getName() != null) {
+            this.search.put(SearchType.CREATOR, id, creator.getName(), null);
+        }
+
+        this.changes.publish(ChangeEntity.CREATOR, ChangeAction.UPDATED, id);
+        this.responses.invalidate(ResponseCache.CREATORS);
+        this.evict(List.of(id));
     }
 
     /**
-     * Delete a Creator by its ID
+     * check that the name isn't used by another Creator yet.
+     * A concurrent request can still take the name before the save, the unique column rejects that one.
+     *
+     * @param id the ID of the Creator that gets the name or 'null' for a new Creator
+     * @param name the name of the Creator
+     */
+    private void checkName(UUID id, String name) {
+        boolean taken = this.repository.findAllByNameIn(List.of(name)).stream()
+                .anyMatch(existing -> !existing.getId().equals(id));
+
+        if (taken) {
+            throw new DuplicateResourceException(name);
+        }
+    }
+
+    /**
+     * update a Creator with a single statement and tell a missing Creator apart from one with another version
+     *
+     * @param id the ID of the Creator
+     * @param name the new name of the Creator or 'null' to keep the current name
+     * @param version the expected version of the Creator or 'null' to update any version
+     */
+    private void update(UUID id, String name, Long version) {
+        if (this.repository.update(id, name, version, Instant.now()) > 0) {
+            return;
+        }
+
+        if (version != null && this.repository.existsById(id)) {
+            throw new PreconditionFailedException(id, version);
+        }
+
+        throw new ResourceNotFoundException(id);
+    }
+
+    /**
+     * Delete a Creator by its ID and record the deletion in the same transaction.
+     * The cached Creator is evicted.
      *
      * @param id the ID of the Creator that should be deleted
      */
     @Override
+    @Transactional
     public void deleteCreator(UUID id) {
         LOGGER.debug("delete Creator with ID={}", id);
 
-        this.repository.delete(this.getOne(id));
+        this.repository.delete(this.repository.findById(id).orElseThrow(() -> new ResourceNotFoundException(id)));
+        this.deletions.record(ChangeEntity.CREATOR.name(), Instant.now());
+        this.search.remove(List.of(id));
+        this.tags.remove(List.of(id));
+        this.changes.publish(ChangeEntity.CREATOR, ChangeAction.DELETED, id);
+        this.responses.invalidate(ResponseCache.CREATORS);
+        this.evict(List.of(id));
+    }
+
+    /**
+     * Add multiple new Creators in one transaction.
+     * Creators that are invalid or whose name is already taken (by an existing Creator or an earlier one in the list)
+     * are skipped and reported in their result, all other Creators are inserted in JDBC batches.
+     * IDs are always generated for the new Creators, so there are no cached lookups of them to evict.
+     *
+     * @param creators the Creators that should be added
+     * @return a {@link CreatorBatchResult} for each Creator, in the same order
+     */
+    @Override
+    @Transactional
+    public List<CreatorBatchResult> addCreators(List<Creator> creators) {
+        LOGGER.debug("add {} new Creators", creators.size());
+
+        Set<String> takenNames = this.repository.findAllByNameIn(getNames(creators)).stream()
+                .map(Creator::getName)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<CreatorBatchResult> results = new ArrayList<>(creators.size());
+
+        for (Creator creator : creators) {
+            Set<ConstraintViolation<Creator>> violations = this.validator.validate(creator);
+
+            if (!violations.isEmpty()) {
+                results.add(invalid(violations));
+            } else if (!takenNames.add(creator.getName())) {
+                results.add(duplicate(creator.getName()));
+            } else {
+                creator.setId(null);
+                results.add(CreatorBatchResult.success(HttpStatus.CREATED, this.repository.save(creator)));
+            }
+        }
+
+        this.search.update(searchDocuments(results), List.of());
+        this.changes.publish(ChangeEntity.CREATOR, ChangeAction.CREATED, changedIds(results));
+        this.responses.invalidate(ResponseCache.CREATORS);
+
+        return results;
+    }
+
+    /**
+     * Update multiple existing Creators in one transaction.
+     * Creators that are invalid, don't exist or would take the name of another Creator are skipped and reported
+     * in their result, all other Creators are updated in JDBC batches.
+     *
+     * @param creators the Creators with their ID and the updated information
+     * @return a {@link CreatorBatchResult} for each Creator, in the same order
+     */
+    @Override
+    @Transactional
+    public List<CreatorBatchResult> updateCreators(List<Creator> creators) {
+        LOGGER.debug("update {} Creators", creators.size());
+
+        List<UUID> ids = creators.stream().map(Creator::getId).filter(Objects::nonNull).toList();
+
+        Map<UUID, Creator> existingCreators = this.repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Creator::getId, Function.identity()));
+        Map<String, UUID> takenNames = this.repository.findAllByNameIn(getNames(creators)).stream()
+                .collect(Collectors.toMap(Creator::getName, Creator::getId));
+
+        List<CreatorBatchResult> results = new ArrayList<>(creators.size());
+
+        for (Creator creator : creators) {
+            Set<ConstraintViolation<Creator>> violations = this.validator.validate(creator);
+            Creator existingCreator = creator.getId() == null ? null : existingCreators.get(creator.getId());
+
+            if (!violations.isEmpty()) {
+                results.add(invalid(violations));
+                continue;
+            }
+
+            if (existingCreator == null) {
+                results.add(CreatorBatchResult.failure(HttpStatus.NOT_FOUND, "Resource not found", new ResourceNotFoundException(creator.getId())));
+                continue;
+            }
+
+            UUID nameOwner = takenNames.putIfAbsent(creator.getName(), creator.getId());
+
+            if (nameOwner != null && !nameOwner.equals(creator.getId())) {
+                results.add(duplicate(creator.getName()));
+            } else {
+                existingCreator.setName(creator.getName());
+                results.add(CreatorBatchResult.success(HttpStatus.OK, existingCreator));
+            }
+        }
+
+        this.search.update(searchDocuments(results), List.of());
+        this.changes.publish(ChangeEntity.CREATOR, ChangeAction.UPDATED, changedIds(results));
+        this.responses.invalidate(ResponseCache.CREATORS);
+        this.evict(changedIds(results));
+
+        return results;
+    }
+
+    /**
+     * Delete multiple Creators by their ID with a single statement and record the deletion.
+     * IDs that don't belong to a Creator are reported in their result.
+     *
+     * @param ids the IDs of the Creators that should be deleted
+     * @return a {@link CreatorBatchResult} for each ID, in the same order
+     */
+    @Override
+    @Transactional
+    public List<CreatorBatchResult> deleteCreators(List<UUID> ids) {
+        LOGGER.debug("delete {} Creators", ids.size());
+
+        Set<UUID> existingIds = this.repository.findAllById(ids.stream().filter(Objects::nonNull).toList()).stream()
+                .map(Creator::getId)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<UUID> deletedIds = new ArrayList<>(existingIds.size());
+        List<CreatorBatchResult> results = new ArrayList<>(ids.size());
+
+        for (UUID id : ids) {
+            if (id != null && existingIds.remove(id)) {
+                deletedIds.add(id);
+                results.add(CreatorBatchResult.success(HttpStatus.OK, null));
+            } else {
+                results.add(CreatorBatchResult.failure(HttpStatus.NOT_FOUND, "Resource not found", new ResourceNotFoundException(id)));
+            }
+        }
+
+        if (!deletedIds.isEmpty()) {
+            this.repository.deleteAllByIdInBatch(deletedIds);
+            this.deletions.record(ChangeEntity.CREATOR.name(), Instant.now());
+            this.search.remove(deletedIds);
+            this.tags.remove(deletedIds);
+            this.changes.publish(ChangeEntity.CREATOR, ChangeAction.DELETED, deletedIds);
+            this.responses.invalidate(ResponseCache.CREATORS);
+            this.evict(deletedIds);
+        }
+
+        return results;
+    }
+
+    /**
+     * get the {@value CacheConfiguration#CREATORS} Cache
+     *
+     * @return the {@link Cache}
+     */
+    private Cache cache() {
+        return Objects.requireNonNull(this.cacheManager.getCache(CacheConfiguration.CREATORS));
+    }
+
+    /**
+     * evict the Creators from the Cache after the current transaction was committed
+     *
+     * @param ids the IDs of the Creators
+     */
+    private void evict(Collection<UUID> ids) {
+        Cache cache = this.cache();
+
+        Transactions.afterCommit(() -> ids.forEach(cache::evict));
+    }
+
+    /**
+     * copy a cached Creator, so the Creator in the Cache can't be changed by the caller
+     *
+     * @param creator the cached {@link Creator}
+     * @return the copy of the {@link Creator}
+     */
+    private static Creator copy(Creator creator) {
+        return new Creator(creator.getId(), creator.getName(), creator.getVersion(), creator.getUpdatedAt());
+    }
+
+    /**
+     * get the names of all Creators that have one
+     *
+     * @param creators the Creators
+     * @return a {@link List} of names
+     */
+    private static List<String> getNames(List<Creator> creators) {
+        return creators.stream().map(Creator::getName).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * get the names of the Creators of the successful results for the search index
+     *
+     * @param results the {@link CreatorBatchResult}s
+     * @return the {@link SearchResult}s of the Creators
+     */
+    private static List<SearchResult> searchDocuments(List<CreatorBatchResult> results) {
+        return results.stream()
+                .map(CreatorBatchResult::getCreator)
+                .filter(Objects::nonNull)
+                .map(creator -> new SearchResult(SearchType.CREATOR, creator.getId(), creator.getName(), null))
+                .toList();
+    }
+
+    /**
+     * get the IDs of the Creators of the successful results for the change feed
+     *
+     * @param results the {@link CreatorBatchResult}s
+     * @return the IDs of the Creators
+     */
+    private static List<UUID> changedIds(List<CreatorBatchResult> results) {
+        return results.stream()
+                .map(CreatorBatchResult::getCreator)
+                .filter(Objects::nonNull)
+                .map(Creator::getId)
+                .toList();
+    }
+
+    /**
+     * create the result for a Creator that failed the validation
+     *
+     * @param violations the {@link ConstraintViolation}s of the Creator
+     * @return the {@link CreatorBatchResult}
+     */
+    private static CreatorBatchResult invalid(Set<ConstraintViolation<Creator>> violations) {
+        return CreatorBatchResult.failure(HttpStatus.BAD_REQUEST, "Invalid resource", new ConstraintViolationException(violations));
+    }
+
+    /**
+     * create the result for a Creator with a name that is already taken
+     *
+     * @param name the name of the Creator
+     * @return the {@link CreatorBatchResult}
+     */
+    private static CreatorBatchResult duplicate(String name) {
+        return CreatorBatchResult.failure(HttpStatus.CONFLICT, "Resource already exists", new DuplicateResourceException(name));
     }
 }
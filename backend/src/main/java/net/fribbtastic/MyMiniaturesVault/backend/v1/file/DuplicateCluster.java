@@ -0,0 +1,49 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.file;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * A group of files with the same content
+ *
+ * @author Frederic Eßer
+ */
+@Getter
+public class DuplicateCluster {
+
+    /**
+     * the content hash of the files
+     */
+    private final String contentHash;
+
+    /**
+     * the size of each file in bytes
+     */
+    private final long size;
+
+    /**
+     * the number of files with this content
+     */
+    private final long count;
+
+    /**
+     * the files with this content ordered by their path
+     */
+    @Setter
+    private List<ModelFile> files = List.of();
+
+    public DuplicateCluster(String contentHash, long size, long count) {
+        this.contentHash = contentHash;
+        this.size = size;
+        this.count = count;
+    }
+
+    /**
+     * @return the bytes that would be freed by keeping only one of the files
+     */
+    public long getReclaimableBytes() {
+        return (this.count - 1) * this.size;
+    }
+}
@@ -0,0 +1,36 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.file;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * The duplicate files of the vault
+ *
+ * @author Frederic Eßer
+ */
+@Getter
+public class DuplicateReport {
+
+    /**
+     * the number of files that are a copy of another file
+     */
+    private final long duplicateFiles;
+
+    /**
+     * the bytes that would be freed by keeping only one file of every cluster
+     */
+    private final long reclaimableBytes;
+
+    /**
+     * the clusters of identical files, the ones with the most reclaimable bytes first
+     */
+    @Setter
+    private List<DuplicateCluster> clusters = List.of();
+
+    public DuplicateReport(long duplicateFiles, long reclaimableBytes) {
+        this.duplicateFiles = duplicateFiles;
+        this.reclaimableBytes = reclaimableBytes;
+    }
+}
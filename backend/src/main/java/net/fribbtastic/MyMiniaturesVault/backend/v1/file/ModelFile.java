@@ -0,0 +1,106 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.file;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import net.fribbtastic.MyMiniaturesVault.backend.archive.ArchiveEntry;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.MeshMetadata;
+import net.fribbtastic.MyMiniaturesVault.backend.storage.ContentHash;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.UuidV7;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.bundle.Bundle;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.UUID;
+
+/**
+ * A print file on disk that was found by the library scanner
+ *
+ * @author Frederic Eßer
+ */
+@Entity
+@Table(name = "MODEL_FILES", indexes = {
+        @Index(columnList = "bundle_id"),
+        @Index(name = ModelFile.HEIGHT_INDEX, columnList = "height"),
+        @Index(columnList = "size, partial_hash"),
+        @Index(columnList = "content_hash"),
+        @Index(columnList = "archive_path")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ModelFile {
+
+    /**
+     * the name of the index on the height of the meshes
+     */
+    public static final String HEIGHT_INDEX = "IDX_MODEL_FILES_HEIGHT";
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    /**
+     * the Bundle of the file, deleting the Bundle deletes all of its files
+     */
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "bundle_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Bundle bundle;
+
+    /**
+     * the absolute path of the file, files inside an archive have the path of the archive and their name
+     * in the archive separated by {@value ArchiveEntry#SEPARATOR}
+     */
+    @NotNull
+    @NotEmpty
+    @Column(unique = true, nullable = false, length = 4096)
+    private String path;
+
+    /**
+     * the size of the file in bytes when it was scanned
+     */
+    private long size;
+
+    /**
+     * the last modification time of the file in milliseconds since the epoch when it was scanned
+     */
+    private long lastModified;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ModelFormat format;
+
+    /**
+     * the geometry of the mesh in the file, 'null' when the format isn't supported or the file couldn't be read
+     */
+    @Embedded
+    private MeshMetadata mesh;
+
+    /**
+     * the location of the file in its archive, 'null' when the file is not inside an archive
+     */
+    @JsonIgnore
+    @Embedded
+    private ArchiveEntry entry;
+
+    /**
+     * the hash of the size and the first and last bytes of the file, only computed when another file has the same size
+     */
+    @JsonIgnore
+    @Column(length = 64)
+    private String partialHash;
+
+    /**
+     * the hash of the content of the file ({@link ContentHash}), only computed when another file has the same
+     * size and partial hash. Files with the same content hash are duplicates.
+     */
+    @Column(length = 64)
+    private String contentHash;
+}
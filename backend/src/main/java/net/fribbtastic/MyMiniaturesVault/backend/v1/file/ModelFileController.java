@@ -0,0 +1,109 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.file;
+
+import com.github.lkqm.spring.api.version.ApiVersion;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import net.fribbtastic.MyMiniaturesVault.backend.thumbnail.ThumbnailService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@RestController
+@RequestMapping(path = "/file", produces = "application/json")
+@ApiVersion("1")
+public class ModelFileController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModelFileController.class);
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    @Autowired
+    private ModelFileServiceImpl service;
+
+    /**
+     * Get the print files of the vault from the Service layer.
+     * With a maximum height (e.g. '?maxHeight=32' for all files up to 32mm) the files are ordered by their height.
+     *
+     * @param bundle the ID of the Bundle whose files should be returned, the files of all Bundles are returned without it
+     * @param maxHeight the maximum height of the meshes, files of any height are returned without it
+     * @param limit the maximum number of files (between 1 and {@value #MAX_LIMIT})
+     * @return a {@link ResponseEntity} with the list of {@link ModelFile}s wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ModelFile>>> getAllFiles(@RequestParam(required = false) UUID bundle,
+                                                                    @RequestParam(required = false) Double maxHeight,
+                                                                    @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        LOGGER.debug("get files of Bundle with ID={}, maxHeight={} and limit={}", bundle, maxHeight, limit);
+
+        List<ModelFile> files = this.service.getAll(bundle, maxHeight, Math.clamp(limit, 1, MAX_LIMIT));
+
+        ApiResponse<List<ModelFile>> response = ApiResponse.createSuccessResponse(HttpStatus.OK, files);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Get the files with the same content from the Service Layer, together with the bytes that could be reclaimed
+     *
+     * @param limit the maximum number of clusters (between 1 and {@value #MAX_LIMIT})
+     * @return the {@link ApiResponse} with the {@link DuplicateReport} wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping("/duplicates")
+    public ResponseEntity<ApiResponse<DuplicateReport>> getDuplicates(@RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit) {
+        LOGGER.debug("get duplicate files with limit={}", limit);
+
+        DuplicateReport report = this.service.getDuplicates(Math.clamp(limit, 1, MAX_LIMIT));
+
+        ApiResponse<DuplicateReport> response = ApiResponse.createSuccessResponse(HttpStatus.OK, report);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Get a print file by its unique ID from the Service Layer
+     *
+     * @param id the {@link UUID} of the {@link ModelFile}
+     * @return the {@link ApiResponse} with the {@link ModelFile} wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<ModelFile>> getOneFile(@PathVariable UUID id) {
+        LOGGER.debug("get file with ID={}", id);
+
+        ModelFile file = this.service.getOne(id);
+
+        ApiResponse<ModelFile> response = ApiResponse.createSuccessResponse(HttpStatus.OK, file);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Redirect to the thumbnail of a file by its content hash, so the thumbnail can be cached by the clients forever
+     * while this URL is checked again every time
+     *
+     * @param id the {@link UUID} of the {@link ModelFile}
+     * @param size the width and height of the thumbnail
+     * @return a redirect to the thumbnail wrapped in a {@link ResponseEntity}
+     */
+    @GetMapping("/{id}/thumbnail")
+    public ResponseEntity<Void> getThumbnail(@PathVariable UUID id, @RequestParam(defaultValue = "" + ThumbnailService.DEFAULT_SIZE) int size) {
+        LOGGER.debug("get thumbnail of file with ID={}", id);
+
+        String hash = this.service.getContentHash(id);
+
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create("../../thumbnail/" + hash + "?size=" + size))
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+}
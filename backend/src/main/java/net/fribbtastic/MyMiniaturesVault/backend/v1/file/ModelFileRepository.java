@@ -0,0 +1,114 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.file;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+public interface ModelFileRepository extends JpaRepository<ModelFile, UUID> {
+
+    /**
+     * Get a file by its absolute path
+     *
+     * @param path the absolute path of the file
+     * @return an {@link Optional} with the {@link ModelFile} or an empty one if the path is not known
+     */
+    Optional<ModelFile> findByPath(String path);
+
+    /**
+     * Get all files of a Bundle ordered by their path
+     *
+     * @param bundleId the ID of the Bundle
+     * @param limit the maximum number of files to return
+     * @return a {@link List} of {@link ModelFile}s
+     */
+    List<ModelFile> findAllByBundleIdOrderByPathAsc(UUID bundleId, Limit limit);
+
+    /**
+     * Get all files ordered by their path
+     *
+     * @param limit the maximum number of files to return
+     * @return a {@link List} of {@link ModelFile}s
+     */
+    List<ModelFile> findAllByOrderByPathAsc(Limit limit);
+
+    /**
+     * Get the files whose mesh is at most as high as the given height, ordered by their height.
+     * The query uses the index on the height.
+     *
+     * @param height the maximum height
+     * @param limit the maximum number of files to return
+     * @return a {@link List} of {@link ModelFile}s
+     */
+    List<ModelFile> findAllByMeshHeightLessThanEqualOrderByMeshHeightAscIdAsc(double height, Limit limit);
+
+    /**
+     * Get the files of a Bundle whose mesh is at most as high as the given height, ordered by their height
+     *
+     * @param bundleId the ID of the Bundle
+     * @param height the maximum height
+     * @param limit the maximum number of files to return
+     * @return a {@link List} of {@link ModelFile}s
+     */
+    List<ModelFile> findAllByBundleIdAndMeshHeightLessThanEqualOrderByMeshHeightAscIdAsc(UUID bundleId, double height, Limit limit);
+
+    /**
+     * Get the content hashes that are shared by more than one file, the ones with the most reclaimable bytes first
+     *
+     * @param limit the maximum number of clusters to return
+     * @return a {@link List} of {@link DuplicateCluster}s without their files
+     */
+    @Query("SELECT new net.fribbtastic.MyMiniaturesVault.backend.v1.file.DuplicateCluster(f.contentHash, f.size, COUNT(f)) " +
+            "FROM ModelFile f WHERE f.contentHash IS NOT NULL GROUP BY f.contentHash, f.size HAVING COUNT(f) > 1 " +
+            "ORDER BY (COUNT(f) - 1) * f.size DESC, f.contentHash ASC")
+    List<DuplicateCluster> findDuplicateClusters(Limit limit);
+
+    /**
+     * Get the number and the size of all files that have the same content as another file with a lower ID
+     *
+     * @return the {@link DuplicateReport} without clusters
+     */
+    @Query("SELECT new net.fribbtastic.MyMiniaturesVault.backend.v1.file.DuplicateReport(COUNT(f), COALESCE(SUM(f.size), 0)) " +
+            "FROM ModelFile f WHERE f.contentHash IS NOT NULL " +
+            "AND EXISTS (SELECT o.id FROM ModelFile o WHERE o.contentHash = f.contentHash AND o.id < f.id)")
+    DuplicateReport getDuplicateTotals();
+
+    /**
+     * Get all files with one of the content hashes
+     *
+     * @param contentHashes the content hashes
+     * @return a {@link List} of {@link ModelFile}s ordered by their path
+     */
+    List<ModelFile> findAllByContentHashInOrderByPathAsc(Collection<String> contentHashes);
+
+    /**
+     * Get any file with the content hash
+     *
+     * @param contentHash the content hash
+     * @return an {@link Optional} with one of the {@link ModelFile}s or an empty one if no file has this content
+     */
+    Optional<ModelFile> findFirstByContentHash(String contentHash);
+
+    /**
+     * Set the content hash of a file with a single statement in its own transaction, unless the file was changed since it was hashed
+     *
+     * @param id the ID of the file
+     * @param lastModified the modification time of the file that was hashed
+     * @param contentHash the content hash
+     * @return the number of updated files, '0' if the file was changed or deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ModelFile f SET f.contentHash = :contentHash WHERE f.id = :id AND f.lastModified = :lastModified")
+    int setContentHash(@Param("id") UUID id, @Param("lastModified") long lastModified, @Param("contentHash") String contentHash);
+}
@@ -0,0 +1,15 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.file;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+public interface ModelFileService {
+
+    List<ModelFile> getAll(UUID bundleId, Double maxHeight, int limit);
+    ModelFile getOne(UUID id);
+    DuplicateReport getDuplicates(int limit);
+    String getContentHash(UUID id);
+}
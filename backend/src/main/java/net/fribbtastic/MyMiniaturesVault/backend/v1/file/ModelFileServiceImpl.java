@@ -0,0 +1,127 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.file;
+
+import net.fribbtastic.MyMiniaturesVault.backend.archive.EntryExtractor;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.FileUnavailableException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.storage.ContentHash;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * @author Frederic Eßer
+ */
+@Service
+public class ModelFileServiceImpl implements ModelFileService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModelFileServiceImpl.class);
+
+    @Autowired
+    private ModelFileRepository repository;
+
+    @Autowired
+    private EntryExtractor extractor;
+
+    /**
+     * get the files of the vault.
+     * With a maximum height the files are ordered by their height, otherwise by their path.
+     *
+     * @param bundleId the ID of the Bundle whose files should be returned or 'null' for the files of all Bundles
+     * @param maxHeight the maximum height of the meshes or 'null' for files of any height
+     * @param limit the maximum number of files
+     * @return the list of {@link ModelFile}s
+     */
+    @Override
+    public List<ModelFile> getAll(UUID bundleId, Double maxHeight, int limit) {
+        LOGGER.debug("get {} files of Bundle with ID={} and maxHeight={}", limit, bundleId, maxHeight);
+
+        if (maxHeight != null) {
+            return bundleId == null
+                    ? this.repository.findAllByMeshHeightLessThanEqualOrderByMeshHeightAscIdAsc(maxHeight, Limit.of(limit))
+                    : this.repository.findAllByBundleIdAndMeshHeightLessThanEqualOrderByMeshHeightAscIdAsc(bundleId, maxHeight, Limit.of(limit));
+        }
+
+        return bundleId == null
+                ? this.repository.findAllByOrderByPathAsc(Limit.of(limit))
+                : this.repository.findAllByBundleIdOrderByPathAsc(bundleId, Limit.of(limit));
+    }
+
+    /**
+     * get a file by its ID
+     *
+     * @param id the ID of the file
+     * @return the {@link ModelFile}
+     */
+    @Override
+    public ModelFile getOne(UUID id) {
+        LOGGER.debug("get file with ID={}", id);
+
+        return this.repository.findById(id).orElseThrow(() -> new ResourceNotFoundException(id));
+    }
+
+    /**
+     * get the duplicate files of the vault, the files of all clusters are loaded with one query
+     *
+     * @param limit the maximum number of clusters
+     * @return the {@link DuplicateReport}
+     */
+    @Override
+    public DuplicateReport getDuplicates(int limit) {
+        LOGGER.debug("get {} clusters of duplicate files", limit);
+
+        DuplicateReport report = this.repository.getDuplicateTotals();
+        List<DuplicateCluster> clusters = this.repository.findDuplicateClusters(Limit.of(limit));
+
+        if (!clusters.isEmpty()) {
+            Map<String, List<ModelFile>> files = this.repository.findAllByContentHashInOrderByPathAsc(clusters.stream().map(DuplicateCluster::getContentHash).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(ModelFile::getContentHash));
+
+            clusters.forEach(cluster -> cluster.setFiles(files.getOrDefault(cluster.getContentHash(), List.of())));
+        }
+
+        report.setClusters(clusters);
+
+        return report;
+    }
+
+    /**
+     * get the content hash of a file, it is computed and stored when the scan didn't need it to find duplicates.
+     * The file is read outside a transaction so no connection is held while a large file is hashed.
+     * Files inside an archive are extracted for the hash.
+     *
+     * @param id the ID of the file
+     * @return the content hash
+     * @throws FileUnavailableException when the file can't be read
+     */
+    @Override
+    public String getContentHash(UUID id) {
+        ModelFile file = this.getOne(id);
+
+        if (file.getContentHash() != null) {
+            return file.getContentHash();
+        }
+
+        LOGGER.debug("hash the content of {}", file.getPath());
+
+        try {
+            String hash = file.getEntry() == null ? ContentHash.full(Path.of(file.getPath())) : this.extractor.extracted(file.getEntry(), file.getSize(), ContentHash::full);
+            this.repository.setContentHash(id, file.getLastModified(), hash);
+
+            return hash;
+        } catch (IOException e) {
+            LOGGER.warn("could not hash {}: {}", file.getPath(), e.getMessage());
+
+            throw new FileUnavailableException(id);
+        }
+    }
+}
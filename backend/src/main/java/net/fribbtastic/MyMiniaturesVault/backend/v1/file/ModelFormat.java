@@ -0,0 +1,76 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.file;
+
+import java.util.Locale;
+
+/**
+ * The formats of the print files that are part of the vault
+ *
+ * @author Frederic Eßer
+ */
+public enum ModelFormat {
+
+    STL("stl", "model/stl", false),
+    THREE_MF("3mf", "model/3mf", true),
+    OBJ("obj", "model/obj", false),
+    /**
+     * an archive of print files, its print files are indexed as files of their own without extracting them
+     */
+    ZIP("zip", "application/zip", true);
+
+    private final String extension;
+
+    private final String contentType;
+
+    private final boolean compressed;
+
+    ModelFormat(String extension, String contentType, boolean compressed) {
+        this.extension = extension;
+        this.contentType = contentType;
+        this.compressed = compressed;
+    }
+
+    /**
+     * @return the media type of the files
+     */
+    public String getContentType() {
+        return this.contentType;
+    }
+
+    /**
+     * @return 'true' if the files are already compressed (3MF files are ZIP archives) and can't be compressed any further
+     */
+    public boolean isCompressed() {
+        return this.compressed;
+    }
+
+    /**
+     * @return 'true' if the files are archives that contain other print files
+     */
+    public boolean isArchive() {
+        return this == ZIP;
+    }
+
+    /**
+     * get the format of a file by the extension of its name (ignoring the case)
+     *
+     * @param fileName the name of the file
+     * @return the {@link ModelFormat} or 'null' if the file is not a print file
+     */
+    public static ModelFormat fromFileName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+
+        if (dot < 0) {
+            return null;
+        }
+
+        String extension = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+
+        for (ModelFormat format : values()) {
+            if (format.extension.equals(extension)) {
+                return format;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,69 @@
+package net.fribbtastic.MyMiniaturesVault.backend;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@SpringBootTest(classes = BackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
+public class MetricsIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate template;
+
+    /**
+     * Integration Test for the Prometheus endpoint.
+     * The metrics of the API, the handled exceptions, the Database and the JVM are exported on the management port
+     */
+    @Test
+    @DisplayName("[Integration] scrape the Prometheus metrics")
+    public void testIntegrationPrometheus() {
+        this.template.getForEntity("http://localhost:" + this.port + "/api/v1/creator", String.class);
+        this.template.getForEntity("http://localhost:" + this.port + "/api/v1/creator/" + UUID.randomUUID(), String.class);
+
+        ResponseEntity<String> response = this.template.getForEntity("http://localhost:" + this.managementPort + "/actuator/prometheus", String.class);
+
+        Assertions.assertThat(this.managementPort).isNotEqualTo(this.port);
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(response.getBody()).isNotNull()
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/api/v1/creator/{id}\"")
+                .contains("api_exceptions_total{exception=\"" + ResourceNotFoundException.class.getSimpleName() + "\",status=\"404\"} 1.0")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_statements_total")
+                .contains("cache_gets_total{cache=\"creators\"")
+                .contains("jvm_gc_memory_allocated_bytes_total")
+                .contains("jvm_memory_used_bytes");
+    }
+
+    /**
+     * Integration Test for the Prometheus endpoint.
+     * The management endpoints are not available on the port of the API
+     */
+    @Test
+    @DisplayName("[Integration] Prometheus metrics are not available on the API port")
+    public void testIntegrationPrometheus_ApiPort() {
+        ResponseEntity<String> response = this.template.getForEntity("http://localhost:" + this.port + "/actuator/prometheus", String.class);
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(404);
+    }
+}
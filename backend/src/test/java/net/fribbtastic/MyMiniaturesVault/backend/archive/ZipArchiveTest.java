@@ -0,0 +1,202 @@
+package net.fribbtastic.MyMiniaturesVault.backend.archive;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * @author Frederic Eßer
+ */
+class ZipArchiveTest {
+
+    @TempDir
+    private Path directory;
+
+    private final byte[] content = "solid model01\n".repeat(1000).getBytes(StandardCharsets.US_ASCII);
+
+    private static ZipEntry stored(String name, byte[] content) {
+        ZipEntry entry = new ZipEntry(name);
+        CRC32 crc = new CRC32();
+        crc.update(content);
+
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCrc(crc.getValue());
+
+        return entry;
+    }
+
+    private Path writeArchive() throws IOException {
+        Path archive = this.directory.resolve("models.zip");
+
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            zip.putNextEntry(new ZipEntry("supported/"));
+            zip.putNextEntry(stored("supported/model01.stl", this.content));
+            zip.write(this.content);
+
+            ZipEntry deflated = new ZipEntry("Größe/model02.stl");
+            deflated.setTimeLocal(LocalDateTime.of(2025, 1, 1, 12, 0, 0));
+            zip.putNextEntry(deflated);
+            zip.write(this.content);
+        }
+
+        return archive;
+    }
+
+    private byte[] read(Path archive, ZipArchive.Entry entry) throws IOException {
+        try (FileChannel channel = FileChannel.open(archive);
+             InputStream input = ZipArchive.open(channel, entry.toArchiveEntry(archive.toString()))) {
+            return input.readAllBytes();
+        }
+    }
+
+    /**
+     * Folders are skipped, names are read as UTF-8 and the sizes of deflated entries are taken from the central directory
+     */
+    @Test
+    @DisplayName("read the entries of an archive")
+    public void testReadEntries() throws IOException {
+        Path archive = this.writeArchive();
+
+        List<ZipArchive.Entry> entries = ZipArchive.readEntries(archive);
+
+        Assertions.assertThat(entries).extracting(ZipArchive.Entry::name).containsExactly("supported/model01.stl", "Größe/model02.stl");
+        Assertions.assertThat(entries).allSatisfy(entry -> Assertions.assertThat(entry.size()).isEqualTo(this.content.length));
+        Assertions.assertThat(entries.get(0).method()).isEqualTo(ZipEntry.STORED);
+        Assertions.assertThat(entries.get(0).compressedSize()).isEqualTo(this.content.length);
+        Assertions.assertThat(entries.get(1).method()).isEqualTo(ZipEntry.DEFLATED);
+        Assertions.assertThat(entries.get(1).compressedSize()).isLessThan(this.content.length);
+        Assertions.assertThat(entries.get(1).lastModified())
+                .isEqualTo(LocalDateTime.of(2025, 1, 1, 12, 0, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("read the content of stored and deflated entries")
+    public void testOpen() throws IOException {
+        Path archive = this.writeArchive();
+
+        for (ZipArchive.Entry entry : ZipArchive.readEntries(archive)) {
+            Assertions.assertThat(this.read(archive, entry)).as(entry.name()).isEqualTo(this.content);
+        }
+    }
+
+    @Test
+    @DisplayName("find the data of an entry behind its local header")
+    public void testDataOffset() throws IOException {
+        Path archive = this.writeArchive();
+        ArchiveEntry entry = ZipArchive.readEntries(archive).getFirst().toArchiveEntry(archive.toString());
+
+        try (FileChannel channel = FileChannel.open(archive)) {
+            long offset = ZipArchive.dataOffset(channel, entry);
+            byte[] bytes = Files.readAllBytes(archive);
+
+            Assertions.assertThat(entry.isStored()).isTrue();
+            Assertions.assertThat(entry.getArchivePath()).isEqualTo(archive.toString());
+            Assertions.assertThat(new String(bytes, (int) offset, this.content.length, StandardCharsets.US_ASCII)).isEqualTo(new String(this.content, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    @DisplayName("extract an entry for a reader")
+    public void testExtracted() throws IOException {
+        Path archive = this.writeArchive();
+        ArchiveEntry entry = ZipArchive.readEntries(archive).getLast().toArchiveEntry(archive.toString());
+        Path[] extracted = new Path[1];
+
+        byte[] content = ZipArchive.extracted(entry, this.content.length, this.directory.resolve("extracted"), file -> {
+            extracted[0] = file;
+            return Files.readAllBytes(file);
+        });
+
+        Assertions.assertThat(content).isEqualTo(this.content);
+        Assertions.assertThat(extracted[0]).doesNotExist();
+        Assertions.assertThat(extracted[0].getParent()).isEqualTo(this.directory.resolve("extracted"));
+    }
+
+    /**
+     * An entry that is larger than its declared size isn't extracted further, e.g. a manipulated archive
+     */
+    @Test
+    @DisplayName("extract an entry that is larger than its size")
+    public void testExtracted_TooLarge() throws IOException {
+        Path archive = this.writeArchive();
+        ArchiveEntry entry = ZipArchive.readEntries(archive).getLast().toArchiveEntry(archive.toString());
+
+        Assertions.assertThatThrownBy(() -> ZipArchive.extracted(entry, 100, this.directory.resolve("extracted"), Files::size))
+                .isInstanceOf(ZipException.class)
+                .hasMessageContaining("larger than 100 bytes");
+        Assertions.assertThat(this.directory.resolve("extracted")).isEmptyDirectory();
+    }
+
+    /**
+     * An entry whose content doesn't match its CRC-32 is damaged
+     */
+    @Test
+    @DisplayName("extract an entry with a wrong CRC-32")
+    public void testExtracted_Damaged() throws IOException {
+        Path archive = this.writeArchive();
+        ArchiveEntry stored = ZipArchive.readEntries(archive).getFirst().toArchiveEntry(archive.toString());
+        ArchiveEntry entry = new ArchiveEntry(stored.getArchivePath(), stored.getMethod(), stored.getCompressedSize(), stored.getHeaderOffset(), stored.getCrc() ^ 1);
+
+        Assertions.assertThatThrownBy(() -> ZipArchive.extracted(entry, this.content.length, this.directory.resolve("extracted"), Files::size))
+                .isInstanceOf(ZipException.class)
+                .hasMessageContaining("is damaged");
+    }
+
+    /**
+     * More than 65535 entries need the ZIP64 end record
+     */
+    @Test
+    @DisplayName("read the entries of a ZIP64 archive")
+    public void testReadEntries_Zip64() throws IOException {
+        Path archive = this.directory.resolve("large.zip");
+        byte[] bytes = {1, 2, 3};
+
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            for (int i = 0; i < 70_000; i++) {
+                zip.putNextEntry(stored("model" + i + ".stl", bytes));
+                zip.write(bytes);
+            }
+        }
+
+        List<ZipArchive.Entry> entries = ZipArchive.readEntries(archive);
+
+        Assertions.assertThat(entries).hasSize(70_000);
+        Assertions.assertThat(entries.getLast().name()).isEqualTo("model69999.stl");
+        Assertions.assertThat(this.read(archive, entries.getLast())).isEqualTo(bytes);
+    }
+
+    @Test
+    @DisplayName("read the entries of a file that is not an archive")
+    public void testReadEntries_NoArchive() throws IOException {
+        Path file = Files.write(this.directory.resolve("model.zip"), this.content);
+
+        Assertions.assertThatThrownBy(() -> ZipArchive.readEntries(file)).isInstanceOf(ZipException.class);
+    }
+
+    @Test
+    @DisplayName("convert the date and time of an entry")
+    public void testDosTimeToMillis() {
+        // 2025-01-01 12:00:00
+        int date = ((2025 - 1980) << 9) | (1 << 5) | 1;
+        int time = 12 << 11;
+
+        Assertions.assertThat(ZipArchive.dosTimeToMillis(date, time))
+                .isEqualTo(LocalDateTime.of(2025, 1, 1, 12, 0, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
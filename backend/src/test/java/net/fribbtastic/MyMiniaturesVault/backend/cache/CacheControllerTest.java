@@ -0,0 +1,68 @@
+package net.fribbtastic.MyMiniaturesVault.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith({MockitoExtension.class, SpringExtension.class})
+@WebMvcTest(controllers = CacheController.class)
+class CacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CacheManager cacheManager;
+
+    private final String endpoint = "/api/v1/cache";
+
+    /**
+     * Test the MVC Cache Controller to return the statistics of the Caches
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get Cache statistics")
+    public void testMvcGetCacheStatistics() throws Exception {
+        Cache<Object, Object> nativeCache = Caffeine.newBuilder().recordStats().build();
+        nativeCache.put("key", "value");
+        nativeCache.getIfPresent("key");
+        nativeCache.getIfPresent("missing");
+
+        Mockito.when(this.cacheManager.getCacheNames()).thenReturn(List.of(CacheConfiguration.CREATORS));
+        Mockito.when(this.cacheManager.getCache(CacheConfiguration.CREATORS)).thenReturn(new CaffeineCache(CacheConfiguration.CREATORS, nativeCache));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(200))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].name").value(CacheConfiguration.CREATORS))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].size").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].hitCount").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].missCount").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].evictionCount").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].hitRate").value(0.5));
+    }
+}
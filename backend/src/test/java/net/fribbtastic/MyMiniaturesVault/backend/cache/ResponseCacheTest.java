@@ -0,0 +1,96 @@
+package net.fribbtastic.MyMiniaturesVault.backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author Frederic Eßer
+ */
+class ResponseCacheTest {
+
+    private final CacheManager cacheManager = new CacheConfiguration().cacheManager(10, Duration.ofMinutes(1), Duration.ofMinutes(1), DataSize.ofMegabytes(1));
+
+    private final ResponseCache cache = new ResponseCache(this.cacheManager, new ObjectMapper(), DataSize.ofBytes(100));
+
+    /**
+     * A response is found for the version and query it was stored with, until the data of its endpoint is changed
+     */
+    @Test
+    @DisplayName("invalidate the responses of an endpoint")
+    public void testInvalidate() {
+        long version = this.cache.getVersion(ResponseCache.CREATORS);
+
+        CachedResponse cached = this.cache.put(ResponseCache.CREATORS, version, "&10", Map.of("data", List.of("Lich")), "\"1-2\"", 2);
+
+        Assertions.assertThat(new String(cached.getBody())).isEqualTo("{\"data\":[\"Lich\"]}");
+        Assertions.assertThat(this.cache.get(ResponseCache.CREATORS, version, "&10")).isSameAs(cached);
+        Assertions.assertThat(this.cache.get(ResponseCache.CREATORS, version, "&20")).isNull();
+        Assertions.assertThat(this.cache.get("bundles", version, "&10")).isNull();
+
+        this.cache.invalidate("bundles");
+
+        Assertions.assertThat(this.cache.getVersion(ResponseCache.CREATORS)).isEqualTo(version);
+
+        this.cache.invalidate(ResponseCache.CREATORS);
+
+        Assertions.assertThat(this.cache.getVersion(ResponseCache.CREATORS)).isEqualTo(version + 1);
+        Assertions.assertThat(this.cache.get(ResponseCache.CREATORS, version, "&10")).isNull();
+        Assertions.assertThat(this.cache.get(ResponseCache.CREATORS, version + 1, "&10")).isNull();
+        Assertions.assertThat(((CaffeineCache) this.cacheManager.getCache(CacheConfiguration.RESPONSES)).getNativeCache().asMap()).isEmpty();
+    }
+
+    /**
+     * Only bodies from the minimum size on are compressed, and only if the client accepts gzip
+     */
+    @Test
+    @DisplayName("compress large responses with gzip")
+    public void testPut_Gzip() {
+        CachedResponse small = this.cache.put(ResponseCache.CREATORS, 0, "small", List.of("Lich"), "\"1-2\"", 2);
+        CachedResponse large = this.cache.put(ResponseCache.CREATORS, 0, "large", List.of("Lich".repeat(100)), "\"1-2\"", 2);
+
+        Assertions.assertThat(small.getGzipBody()).isNull();
+        Assertions.assertThat(small.toResponseEntity("gzip").getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+
+        Assertions.assertThat(large.getGzipBody()).hasSizeLessThan(large.getBody().length);
+        Assertions.assertThat(large.getSize()).isEqualTo(large.getBody().length + large.getGzipBody().length);
+        Assertions.assertThat(large.toResponseEntity("deflate, gzip;q=0.5").getBody()).isSameAs(large.getGzipBody());
+        Assertions.assertThat(large.toResponseEntity("deflate, gzip;q=0").getBody()).isSameAs(large.getBody());
+        Assertions.assertThat(large.toResponseEntity(null).getBody()).isSameAs(large.getBody());
+
+        Assertions.assertThat(small.getETag("gzip")).isEqualTo("\"1-2\"");
+        Assertions.assertThat(large.getETag("gzip")).isEqualTo("\"1-2-gzip\"");
+        Assertions.assertThat(large.getETag(null)).isEqualTo("\"1-2\"");
+    }
+
+    /**
+     * The If-None-Match header matches the ETags of both encodings of the data, weak or strong
+     */
+    @Test
+    @DisplayName("match the ETags of both encodings")
+    public void testMatchingETag() {
+        Assertions.assertThat(CachedResponse.matchingETag("\"1-2\"", new String[]{"\"1-2\""})).isEqualTo("\"1-2\"");
+        Assertions.assertThat(CachedResponse.matchingETag("\"1-2\"", new String[]{"\"0-1\", W/\"1-2-gzip\""})).isEqualTo("\"1-2-gzip\"");
+        Assertions.assertThat(CachedResponse.matchingETag("\"1-2\"", new String[]{"\"0-1\"", "\"1-3-gzip\""})).isNull();
+        Assertions.assertThat(CachedResponse.matchingETag("\"1-2\"", null)).isNull();
+    }
+
+    @Test
+    @DisplayName("parse the accepted encodings")
+    public void testAcceptsGzip() {
+        Assertions.assertThat(CachedResponse.acceptsGzip("gzip")).isTrue();
+        Assertions.assertThat(CachedResponse.acceptsGzip("br, GZIP;q=1.0")).isTrue();
+        Assertions.assertThat(CachedResponse.acceptsGzip("gzip;q=0.0")).isFalse();
+        Assertions.assertThat(CachedResponse.acceptsGzip("identity")).isFalse();
+        Assertions.assertThat(CachedResponse.acceptsGzip(null)).isFalse();
+    }
+}
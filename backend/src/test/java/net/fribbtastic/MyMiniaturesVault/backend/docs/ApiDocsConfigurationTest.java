@@ -0,0 +1,48 @@
+package net.fribbtastic.MyMiniaturesVault.backend.docs;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+/**
+ * @author Frederic Eßer
+ */
+class ApiDocsConfigurationTest {
+
+    /**
+     * The beans of springdoc are found by their class or by the class of the configuration that creates them,
+     * whatever the name of the configuration bean is
+     */
+    @Test
+    @DisplayName("mark the beans of springdoc as lazy")
+    public void testLazyApiDocs() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+        RootBeanDefinition configuration = new RootBeanDefinition();
+        configuration.setBeanClassName("org.springdoc.core.configuration.SpringDocConfiguration");
+        beanFactory.registerBeanDefinition("springDocConfiguration", configuration);
+
+        RootBeanDefinition created = new RootBeanDefinition();
+        created.setFactoryBeanName("springDocConfiguration");
+        created.setFactoryMethodName("openAPIBuilder");
+        beanFactory.registerBeanDefinition("openAPIBuilder", created);
+
+        RootBeanDefinition other = new RootBeanDefinition();
+        other.setBeanClassName("net.fribbtastic.MyMiniaturesVault.backend.cache.CacheConfiguration");
+        beanFactory.registerBeanDefinition("cacheConfiguration", other);
+
+        RootBeanDefinition otherCreated = new RootBeanDefinition();
+        otherCreated.setFactoryBeanName("cacheConfiguration");
+        otherCreated.setFactoryMethodName("cacheManager");
+        beanFactory.registerBeanDefinition("cacheManager", otherCreated);
+
+        ApiDocsConfiguration.lazyApiDocs().postProcessBeanFactory(beanFactory);
+
+        Assertions.assertThat(beanFactory.getBeanDefinition("springDocConfiguration").isLazyInit()).isTrue();
+        Assertions.assertThat(beanFactory.getBeanDefinition("openAPIBuilder").isLazyInit()).isTrue();
+        Assertions.assertThat(beanFactory.getBeanDefinition("cacheConfiguration").isLazyInit()).isFalse();
+        Assertions.assertThat(beanFactory.getBeanDefinition("cacheManager").isLazyInit()).isFalse();
+    }
+}
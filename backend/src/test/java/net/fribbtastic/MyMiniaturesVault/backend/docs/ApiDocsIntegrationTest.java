@@ -0,0 +1,53 @@
+package net.fribbtastic.MyMiniaturesVault.backend.docs;
+
+import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springdoc.webmvc.api.OpenApiWebMvcResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Requests the API documentation with the beans of springdoc initialized lazily
+ *
+ * @author Frederic Eßer
+ */
+@SpringBootTest(classes = BackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "api-docs.lazy-initialization=true")
+public class ApiDocsIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    /**
+     * Integration Test for the API documentation,
+     * the resource that generates it is created with the first request and documents the API
+     */
+    @Test
+    @DisplayName("[Integration] get the API documentation lazily")
+    public void testIntegrationGetApiDocs() throws Exception {
+        String[] names = this.beanFactory.getBeanNamesForType(OpenApiWebMvcResource.class, true, false);
+
+        Assertions.assertThat(names).hasSize(1);
+        Assertions.assertThat(this.beanFactory.containsSingleton(names[0])).isFalse();
+
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + this.port + "/api-docs")).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        Assertions.assertThat(response.statusCode()).isEqualTo(200);
+        Assertions.assertThat(response.body()).contains("\"openapi\"", "/api/v1/creator");
+        Assertions.assertThat(this.beanFactory.containsSingleton(names[0])).isTrue();
+    }
+}
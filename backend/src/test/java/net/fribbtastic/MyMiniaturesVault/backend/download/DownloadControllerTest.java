@@ -0,0 +1,70 @@
+package net.fribbtastic.MyMiniaturesVault.backend.download;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.RangeNotSatisfiableException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith({MockitoExtension.class, SpringExtension.class})
+@WebMvcTest(controllers = DownloadController.class)
+class DownloadControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DownloadService service;
+
+    private final UUID id = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8070");
+
+    /**
+     * Test the MVC Download Controller to answer a range outside of the file with the size of the file
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] download a range outside of a file")
+    public void testMvcDownloadFile_RangeNotSatisfiable() throws Exception {
+        Mockito.doThrow(new RangeNotSatisfiableException("bytes=200-", 100))
+                .when(this.service).sendFile(Mockito.eq(this.id), Mockito.any(), Mockito.any());
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/file/" + this.id + "/download").header("Range", "bytes=200-"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isRequestedRangeNotSatisfiable())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Range", "bytes */100"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(416))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(RangeNotSatisfiableException.class.getSimpleName()));
+    }
+
+    /**
+     * Test the MVC Download Controller to return a 404 for an unknown Bundle
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] download a Bundle (not found)")
+    public void testMvcDownloadBundle_NotFound() throws Exception {
+        Mockito.doThrow(new ResourceNotFoundException(this.id)).when(this.service).sendBundle(Mockito.eq(this.id), Mockito.any());
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/bundle/" + this.id + "/download"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(ResourceNotFoundException.class.getSimpleName()));
+    }
+}
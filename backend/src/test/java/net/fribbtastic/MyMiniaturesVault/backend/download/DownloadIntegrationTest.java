@@ -0,0 +1,119 @@
+package net.fribbtastic.MyMiniaturesVault.backend.download;
+
+import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.StlTestFiles;
+import net.fribbtastic.MyMiniaturesVault.backend.scanner.LibraryScanner;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFile;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFileRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Downloads the files of a scanned library through Tomcat, which sends single files with sendfile
+ *
+ * @author Frederic Eßer
+ */
+@SpringBootTest(classes = BackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql("classpath:bundle/truncate.sql")
+@Sql(scripts = "classpath:bundle/truncate.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_CLASS)
+public class DownloadIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate template;
+
+    @Autowired
+    private LibraryScanner scanner;
+
+    @Autowired
+    private ModelFileRepository fileRepository;
+
+    @TempDir
+    private Path root;
+
+    private Path stl;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        this.stl = StlTestFiles.writeBinary(this.root.resolve("Test Creator 01/Test Bundle 01/model01.stl"), StlTestFiles.cubes(1000, 10));
+        StlTestFiles.writeAscii(this.root.resolve("Test Creator 01/Test Bundle 01/supported/model02.stl"), StlTestFiles.cubes(2, 10));
+
+        this.scanner.scan(List.of(this.root));
+    }
+
+    private ResponseEntity<byte[]> get(String path, HttpHeaders headers) {
+        return this.template.exchange("http://localhost:" + this.port + "/api/v1" + path, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+    }
+
+    /**
+     * Integration Test to download a file and to resume the download with a range
+     */
+    @Test
+    @DisplayName("[Integration] download a file")
+    public void testIntegrationDownloadFile() throws IOException {
+        ModelFile file = this.fileRepository.findByPath(this.stl.toString()).orElseThrow();
+        byte[] content = Files.readAllBytes(this.stl);
+
+        ResponseEntity<byte[]> response = this.get("/file/" + file.getId() + "/download", new HttpHeaders());
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(response.getHeaders().getContentLength()).isEqualTo(content.length);
+        Assertions.assertThat(response.getBody()).isEqualTo(content);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=1000-");
+        headers.set(HttpHeaders.IF_RANGE, response.getHeaders().getETag());
+
+        ResponseEntity<byte[]> rest = this.get("/file/" + file.getId() + "/download", headers);
+
+        Assertions.assertThat(rest.getStatusCode().value()).isEqualTo(206);
+        Assertions.assertThat(rest.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 1000-" + (content.length - 1) + "/" + content.length);
+        Assertions.assertThat(rest.getBody()).isEqualTo(Arrays.copyOfRange(content, 1000, content.length));
+    }
+
+    /**
+     * Integration Test to download the files of a Bundle as a ZIP archive
+     */
+    @Test
+    @DisplayName("[Integration] download a Bundle")
+    public void testIntegrationDownloadBundle() throws IOException {
+        ModelFile file = this.fileRepository.findByPath(this.stl.toString()).orElseThrow();
+
+        ResponseEntity<byte[]> response = this.get("/bundle/" + file.getBundle().getId() + "/download", new HttpHeaders());
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+
+        Path archive = Files.write(this.root.resolve("bundle.zip"), response.getBody());
+
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            Assertions.assertThat(zip.stream().map(ZipEntry::getName)).containsExactly("Test Bundle 01/model01.stl", "Test Bundle 01/supported/model02.stl");
+
+            try (InputStream input = zip.getInputStream(zip.getEntry("Test Bundle 01/model01.stl"))) {
+                Assertions.assertThat(input.readAllBytes()).isEqualTo(Files.readAllBytes(this.stl));
+            }
+        }
+    }
+}
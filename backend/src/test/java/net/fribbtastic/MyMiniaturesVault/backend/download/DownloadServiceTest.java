@@ -0,0 +1,397 @@
+package net.fribbtastic.MyMiniaturesVault.backend.download;
+
+import net.fribbtastic.MyMiniaturesVault.backend.archive.ArchiveEntry;
+import net.fribbtastic.MyMiniaturesVault.backend.archive.ZipArchive;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.FileUnavailableException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.RangeNotSatisfiableException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.bundle.Bundle;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.bundle.BundleRepository;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFile;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFileRepository;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFormat;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith(MockitoExtension.class)
+class DownloadServiceTest {
+
+    @Mock
+    private ModelFileRepository fileRepository;
+
+    @Mock
+    private BundleRepository bundleRepository;
+
+    @InjectMocks
+    private DownloadService service;
+
+    @TempDir
+    private Path root;
+
+    private final UUID id = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8070");
+
+    private final byte[] content = new byte[100];
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/file/01890a5d-ac96-774b-bcce-b302099a8070/download");
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private Path path;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        for (int i = 0; i < this.content.length; i++) {
+            this.content[i] = (byte) i;
+        }
+
+        this.path = Files.write(this.root.resolve("model01.stl"), this.content);
+        Files.setLastModifiedTime(this.path, FileTime.from(Instant.parse("2025-01-01T12:00:00Z")));
+    }
+
+    private void mockFile() {
+        ModelFile file = ModelFile.builder().id(this.id).path(this.path.toString()).size(100).format(ModelFormat.STL).build();
+        Mockito.when(this.fileRepository.findById(this.id)).thenReturn(Optional.of(file));
+    }
+
+    private String etag() {
+        return "\"" + Long.toHexString(100) + "-" + Long.toHexString(Instant.parse("2025-01-01T12:00:00Z").toEpochMilli()) + "\"";
+    }
+
+    /**
+     * Test the Download Service to send the whole file with the headers to resume the download
+     */
+    @Test
+    @DisplayName("send a file")
+    void testSendFile() throws IOException {
+        this.mockFile();
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.response.getStatus()).isEqualTo(200);
+        Assertions.assertThat(this.response.getContentType()).isEqualTo("model/stl");
+        Assertions.assertThat(this.response.getContentLengthLong()).isEqualTo(100);
+        Assertions.assertThat(this.response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        Assertions.assertThat(this.response.getHeader("ETag")).isEqualTo(this.etag());
+        Assertions.assertThat(this.response.getHeader("Content-Disposition")).isEqualTo("attachment; filename=\"model01.stl\"");
+        Assertions.assertThat(this.response.getContentAsByteArray()).isEqualTo(this.content);
+    }
+
+    @Test
+    @DisplayName("send a range of a file")
+    void testSendFile_Range() throws IOException {
+        this.mockFile();
+        this.request.addHeader("Range", "bytes=10-19");
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.response.getStatus()).isEqualTo(206);
+        Assertions.assertThat(this.response.getHeader("Content-Range")).isEqualTo("bytes 10-19/100");
+        Assertions.assertThat(this.response.getContentLengthLong()).isEqualTo(10);
+        Assertions.assertThat(this.response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(this.content, 10, 20));
+    }
+
+    @Test
+    @DisplayName("send the rest of a file")
+    void testSendFile_OpenRange() throws IOException {
+        this.mockFile();
+        this.request.addHeader("Range", "bytes=90-");
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.response.getStatus()).isEqualTo(206);
+        Assertions.assertThat(this.response.getHeader("Content-Range")).isEqualTo("bytes 90-99/100");
+        Assertions.assertThat(this.response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(this.content, 90, 100));
+    }
+
+    @Test
+    @DisplayName("send the end of a file")
+    void testSendFile_SuffixRange() throws IOException {
+        this.mockFile();
+        this.request.addHeader("Range", "bytes=-5");
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.response.getHeader("Content-Range")).isEqualTo("bytes 95-99/100");
+        Assertions.assertThat(this.response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(this.content, 95, 100));
+    }
+
+    @Test
+    @DisplayName("send a range outside of a file")
+    void testSendFile_RangeNotSatisfiable() {
+        this.mockFile();
+        this.request.addHeader("Range", "bytes=100-");
+
+        Assertions.assertThatThrownBy(() -> this.service.sendFile(this.id, this.request, this.response))
+                .isInstanceOf(RangeNotSatisfiableException.class)
+                .extracting("size").isEqualTo(100L);
+    }
+
+    /**
+     * Multiple ranges and invalid ranges are answered with the whole file
+     */
+    @Test
+    @DisplayName("send a file for multiple ranges")
+    void testSendFile_MultipleRanges() throws IOException {
+        this.mockFile();
+        this.request.addHeader("Range", "bytes=0-9,20-29");
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.response.getStatus()).isEqualTo(200);
+        Assertions.assertThat(this.response.getContentAsByteArray()).isEqualTo(this.content);
+    }
+
+    /**
+     * A range of a file that changed since the first part was downloaded would corrupt the download,
+     * the whole file is sent instead
+     */
+    @Test
+    @DisplayName("send a range of a file that changed")
+    void testSendFile_IfRangeChanged() throws IOException {
+        this.mockFile();
+        this.request.addHeader("Range", "bytes=10-19");
+        this.request.addHeader("If-Range", "\"64-1\"");
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.response.getStatus()).isEqualTo(200);
+        Assertions.assertThat(this.response.getContentAsByteArray()).isEqualTo(this.content);
+    }
+
+    @Test
+    @DisplayName("send a range of a file that didn't change")
+    void testSendFile_IfRange() throws IOException {
+        this.mockFile();
+        this.request.addHeader("Range", "bytes=10-19");
+        this.request.addHeader("If-Range", this.etag());
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.response.getStatus()).isEqualTo(206);
+    }
+
+    @Test
+    @DisplayName("send a range of a file that didn't change since a date")
+    void testSendFile_IfRangeDate() throws IOException {
+        this.mockFile();
+        this.request.addHeader("Range", "bytes=10-19");
+        this.request.addHeader("If-Range", "Wed, 01 Jan 2025 12:00:00 GMT");
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.response.getStatus()).isEqualTo(206);
+    }
+
+    @Test
+    @DisplayName("send a file that is not modified")
+    void testSendFile_NotModified() throws IOException {
+        this.mockFile();
+        this.request.addHeader("If-None-Match", this.etag());
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.response.getStatus()).isEqualTo(304);
+        Assertions.assertThat(this.response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("send the headers of a file")
+    void testSendFile_Head() throws IOException {
+        this.mockFile();
+        this.request.setMethod("HEAD");
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.response.getContentLengthLong()).isEqualTo(100);
+        Assertions.assertThat(this.response.getContentAsByteArray()).isEmpty();
+    }
+
+    /**
+     * Tomcat sends the file itself with sendfile when it supports it, nothing is written to the response
+     */
+    @Test
+    @DisplayName("send a range of a file with sendfile")
+    void testSendFile_Sendfile() throws IOException {
+        this.mockFile();
+        this.request.setAttribute(DownloadService.SENDFILE_SUPPORT, Boolean.TRUE);
+        this.request.addHeader("Range", "bytes=10-19");
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.request.getAttribute(DownloadService.SENDFILE_FILENAME)).isEqualTo(this.path.toAbsolutePath().toString());
+        Assertions.assertThat(this.request.getAttribute(DownloadService.SENDFILE_START)).isEqualTo(10L);
+        Assertions.assertThat(this.request.getAttribute(DownloadService.SENDFILE_END)).isEqualTo(20L);
+        Assertions.assertThat(this.response.getContentLengthLong()).isEqualTo(10);
+        Assertions.assertThat(this.response.getContentAsByteArray()).isEmpty();
+    }
+
+    /**
+     * write an archive with the content stored and deflated, and mock the file of one of its entries
+     */
+    private void mockEntry(String name) throws IOException {
+        Path archive = this.root.resolve("models.zip");
+
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            ZipEntry stored = new ZipEntry("stored/model01.stl");
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(this.content.length);
+            CRC32 crc = new CRC32();
+            crc.update(this.content);
+            stored.setCrc(crc.getValue());
+            zip.putNextEntry(stored);
+            zip.write(this.content);
+            zip.putNextEntry(new ZipEntry("deflated/model01.stl"));
+            zip.write(this.content);
+        }
+
+        ZipArchive.Entry entry = ZipArchive.readEntries(archive).stream().filter(e -> e.name().equals(name)).findFirst().orElseThrow();
+        ModelFile file = ModelFile.builder().id(this.id).path(ArchiveEntry.path(archive.toString(), name)).size(entry.size())
+                .format(ModelFormat.STL).entry(entry.toArchiveEntry(archive.toString())).build();
+        Mockito.when(this.fileRepository.findById(this.id)).thenReturn(Optional.of(file));
+    }
+
+    /**
+     * A stored entry is a range of its archive, it is sent like a file
+     */
+    @Test
+    @DisplayName("send a range of a stored file in an archive")
+    void testSendFile_StoredEntry() throws IOException {
+        this.mockEntry("stored/model01.stl");
+        this.request.addHeader("Range", "bytes=10-19");
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.response.getStatus()).isEqualTo(206);
+        Assertions.assertThat(this.response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        Assertions.assertThat(this.response.getHeader("Content-Range")).isEqualTo("bytes 10-19/100");
+        Assertions.assertThat(this.response.getHeader("Content-Disposition")).isEqualTo("attachment; filename=\"model01.stl\"");
+        Assertions.assertThat(this.response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(this.content, 10, 20));
+    }
+
+    /**
+     * A compressed entry is decompressed while it is sent, a range is answered with the whole file
+     */
+    @Test
+    @DisplayName("send a compressed file in an archive")
+    void testSendFile_DeflatedEntry() throws IOException {
+        this.mockEntry("deflated/model01.stl");
+        this.request.addHeader("Range", "bytes=10-19");
+
+        this.service.sendFile(this.id, this.request, this.response);
+
+        Assertions.assertThat(this.response.getStatus()).isEqualTo(200);
+        Assertions.assertThat(this.response.getHeader("Accept-Ranges")).isEqualTo("none");
+        Assertions.assertThat(this.response.getContentLengthLong()).isEqualTo(100);
+        Assertions.assertThat(this.response.getContentAsByteArray()).isEqualTo(this.content);
+    }
+
+    @Test
+    @DisplayName("send a file that doesn't exist anymore")
+    void testSendFile_Unavailable() throws IOException {
+        this.mockFile();
+        Files.delete(this.path);
+
+        Assertions.assertThatThrownBy(() -> this.service.sendFile(this.id, this.request, this.response)).isInstanceOf(FileUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("send a file that is not in the library")
+    void testSendFile_NotFound() {
+        Mockito.when(this.fileRepository.findById(this.id)).thenReturn(Optional.empty());
+
+        Assertions.assertThatThrownBy(() -> this.service.sendFile(this.id, this.request, this.response)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    /**
+     * Test the Download Service to send the files of a Bundle as ZIP archive with their paths below the Bundle folder
+     */
+    @Test
+    @DisplayName("send a Bundle")
+    void testSendBundle() throws IOException {
+        UUID bundleId = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+        Bundle bundle = new Bundle(bundleId, "Test Bundle", new Creator(UUID.randomUUID(), "Test Creator"));
+        Path stl = Files.createDirectories(this.root.resolve("Test Creator/Test Bundle/supported")).resolve("model01.stl");
+        Files.write(stl, "solid model01\n".repeat(1000).getBytes());
+        Path threeMf = Files.write(this.root.resolve("Test Creator/Test Bundle/model02.3mf"), this.content);
+
+        Mockito.when(this.bundleRepository.findWithCreatorById(bundleId)).thenReturn(Optional.of(bundle));
+        Mockito.when(this.fileRepository.findAllByBundleIdOrderByPathAsc(bundleId, Limit.unlimited())).thenReturn(List.of(
+                ModelFile.builder().path(threeMf.toString()).format(ModelFormat.THREE_MF).build(),
+                ModelFile.builder().path(stl.toString()).format(ModelFormat.STL).build()));
+
+        this.service.sendBundle(bundleId, this.response);
+
+        Assertions.assertThat(this.response.getContentType()).isEqualTo("application/zip");
+        Assertions.assertThat(this.response.getHeader("Content-Disposition")).isEqualTo("attachment; filename=\"Test Bundle.zip\"");
+
+        Path archive = Files.write(this.root.resolve("bundle.zip"), this.response.getContentAsByteArray());
+
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            Assertions.assertThat(zip.stream().map(ZipEntry::getName)).containsExactly("Test Bundle/model02.3mf", "Test Bundle/supported/model01.stl");
+            Assertions.assertThat(zip.getEntry("Test Bundle/model02.3mf").getMethod()).isEqualTo(ZipEntry.STORED);
+            Assertions.assertThat(zip.getEntry("Test Bundle/supported/model01.stl").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+
+            try (InputStream input = zip.getInputStream(zip.getEntry("Test Bundle/supported/model01.stl"))) {
+                Assertions.assertThat(input.readAllBytes()).isEqualTo(Files.readAllBytes(stl));
+            }
+        }
+    }
+
+    /**
+     * A missing file is detected before the archive is written, so the client gets an error instead of an incomplete archive
+     */
+    @Test
+    @DisplayName("send a Bundle with a file that doesn't exist anymore")
+    void testSendBundle_Unavailable() {
+        UUID bundleId = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+        Bundle bundle = new Bundle(bundleId, "Test Bundle", new Creator(UUID.randomUUID(), "Test Creator"));
+
+        Mockito.when(this.bundleRepository.findWithCreatorById(bundleId)).thenReturn(Optional.of(bundle));
+        Mockito.when(this.fileRepository.findAllByBundleIdOrderByPathAsc(bundleId, Limit.unlimited())).thenReturn(List.of(
+                ModelFile.builder().id(this.id).path(this.root.resolve("missing.stl").toString()).format(ModelFormat.STL).build()));
+
+        Assertions.assertThatThrownBy(() -> this.service.sendBundle(bundleId, this.response)).isInstanceOf(FileUnavailableException.class);
+        Assertions.assertThat(this.response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("get the names of the files in the ZIP archive")
+    void testEntryName() {
+        Bundle bundle = new Bundle(UUID.randomUUID(), "Test Bundle", new Creator(UUID.randomUUID(), "Test Creator"));
+
+        Assertions.assertThat(DownloadService.entryName(bundle, Path.of("/library/Test Creator/Test Bundle/a/b/model.stl"))).isEqualTo("Test Bundle/a/b/model.stl");
+        Assertions.assertThat(DownloadService.entryName(bundle, Path.of("/library/Other/Test Bundle/model.stl"))).isEqualTo("Test Bundle/model.stl");
+        Assertions.assertThat(DownloadService.folderName("a/b\\c: d")).isEqualTo("a_b_c_ d");
+        Assertions.assertThat(DownloadService.folderName("..")).isEqualTo("_");
+    }
+}
@@ -0,0 +1,192 @@
+package net.fribbtastic.MyMiniaturesVault.backend.download;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * @author Frederic Eßer
+ */
+class ZipStreamWriterTest {
+
+    @TempDir
+    private Path directory;
+
+    private Path write(String name, byte[] content) throws IOException {
+        return Files.write(this.directory.resolve(name), content);
+    }
+
+    private byte[] read(ZipFile zip, ZipEntry entry) throws IOException {
+        try (InputStream input = zip.getInputStream(entry)) {
+            return input.readAllBytes();
+        }
+    }
+
+    /**
+     * Stored and compressed entries can be read with the CRC and sizes from the central directory
+     */
+    @Test
+    @DisplayName("write a ZIP archive")
+    public void testPutFile() throws IOException {
+        byte[] random = new byte[300_000];
+        new Random(42).nextBytes(random);
+        byte[] text = "solid cube\n".repeat(20_000).getBytes();
+
+        Path stored = this.write("model.3mf", random);
+        Path compressed = this.write("model.stl", text);
+        Path empty = this.write("empty.obj", new byte[0]);
+        Files.setLastModifiedTime(compressed, FileTime.from(Instant.parse("2025-01-01T12:30:20Z")));
+
+        Path archive = this.directory.resolve("archive.zip");
+        long written;
+
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+             ZipStreamWriter writer = new ZipStreamWriter(channel)) {
+            writer.putFile("Bundle/model.3mf", stored, false);
+            writer.putFile("Bundle/Größe/model.stl", compressed, true);
+            writer.putFile("Bundle/empty.obj", empty, true);
+            writer.finish();
+            written = writer.getWritten();
+        }
+
+        Assertions.assertThat(archive).hasSize(written);
+
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            Assertions.assertThat(zip.size()).isEqualTo(3);
+
+            ZipEntry storedEntry = zip.getEntry("Bundle/model.3mf");
+            Assertions.assertThat(storedEntry.getMethod()).isEqualTo(ZipEntry.STORED);
+            Assertions.assertThat(storedEntry.getCompressedSize()).isEqualTo(random.length);
+            Assertions.assertThat(this.read(zip, storedEntry)).isEqualTo(random);
+
+            ZipEntry compressedEntry = zip.getEntry("Bundle/Größe/model.stl");
+            Assertions.assertThat(compressedEntry.getMethod()).isEqualTo(ZipEntry.DEFLATED);
+            Assertions.assertThat(compressedEntry.getCompressedSize()).isLessThan(text.length / 10);
+            Assertions.assertThat(compressedEntry.getLastModifiedTime().toInstant()).isEqualTo(Instant.parse("2025-01-01T12:30:20Z"));
+            Assertions.assertThat(this.read(zip, compressedEntry)).isEqualTo(text);
+
+            Assertions.assertThat(this.read(zip, zip.getEntry("Bundle/empty.obj"))).isEmpty();
+        }
+    }
+
+    /**
+     * More than 65535 entries don't fit into the end record, the archive needs the ZIP64 end records
+     */
+    @Test
+    @DisplayName("write a ZIP64 archive with more than 65535 entries")
+    public void testFinish_Zip64() throws IOException {
+        Path file = this.write("model.stl", new byte[]{1, 2, 3});
+        Path archive = this.directory.resolve("archive.zip");
+
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+             ZipStreamWriter writer = new ZipStreamWriter(channel)) {
+            for (int i = 0; i < 70_000; i++) {
+                writer.putFile("Bundle/" + i + ".stl", file, false);
+            }
+
+            writer.finish();
+        }
+
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            Assertions.assertThat(zip.size()).isEqualTo(70_000);
+            Assertions.assertThat(this.read(zip, zip.getEntry("Bundle/69999.stl"))).containsExactly(1, 2, 3);
+        }
+    }
+
+    /**
+     * The sizes of an entry of 4 GB only fit into a ZIP64 data descriptor, which the local header has to announce with
+     * the ZIP64 extra field. The file is sparse and only the headers of the archive are kept.
+     */
+    @Test
+    @DisplayName("write the ZIP64 local header of a file with 4 GB")
+    public void testPutFile_Zip64() throws IOException {
+        Path file = this.directory.resolve("large.3mf");
+
+        try (RandomAccessFile access = new RandomAccessFile(file.toFile(), "rw")) {
+            access.setLength(0x100000000L);
+        }
+
+        ByteBuffer head = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer tail = ByteBuffer.allocate(24).order(ByteOrder.LITTLE_ENDIAN);
+
+        WritableByteChannel channel = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer source) {
+                int count = source.remaining();
+
+                if (head.hasRemaining()) {
+                    int length = Math.min(head.remaining(), count);
+                    head.put(source.slice(source.position(), length));
+                }
+
+                // keep the last bytes, which are the data descriptor at the end
+                int kept = Math.min(count, tail.capacity());
+                tail.put(0, tail, kept, tail.capacity() - kept);
+                tail.put(tail.capacity() - kept, source, source.limit() - kept, kept);
+                source.position(source.limit());
+
+                return count;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        try (ZipStreamWriter writer = new ZipStreamWriter(channel)) {
+            writer.putFile("large.3mf", file, false);
+        }
+
+        Assertions.assertThat(head.getInt(0)).isEqualTo(0x04034b50);
+        Assertions.assertThat(head.getShort(4)).isEqualTo((short) 45);
+        Assertions.assertThat(head.getInt(18)).isEqualTo(-1);
+        Assertions.assertThat(head.getInt(22)).isEqualTo(-1);
+        Assertions.assertThat(head.getShort(28)).isEqualTo((short) 20);
+        Assertions.assertThat(head.getShort(39)).isEqualTo((short) 0x0001);
+        Assertions.assertThat(head.getShort(41)).isEqualTo((short) 16);
+        Assertions.assertThat(head.getLong(43)).isZero();
+        Assertions.assertThat(head.getLong(51)).isZero();
+
+        Assertions.assertThat(tail.getInt(0)).isEqualTo(0x08074b50);
+        Assertions.assertThat(tail.getLong(8)).isEqualTo(0x100000000L);
+        Assertions.assertThat(tail.getLong(16)).isEqualTo(0x100000000L);
+    }
+
+    @Test
+    @DisplayName("convert a time into the MS-DOS format")
+    public void testDosTime() {
+        int time = ZipStreamWriter.dosTime(LocalDateTime.of(2025, 1, 2, 12, 30, 21));
+
+        Assertions.assertThat(time >>> 25).isEqualTo(45);
+        Assertions.assertThat(time >> 21 & 0xF).isEqualTo(1);
+        Assertions.assertThat(time >> 16 & 0x1F).isEqualTo(2);
+        Assertions.assertThat(time >> 11 & 0x1F).isEqualTo(12);
+        Assertions.assertThat(time >> 5 & 0x3F).isEqualTo(30);
+        Assertions.assertThat(time & 0x1F).isEqualTo(10);
+
+        Assertions.assertThat(ZipStreamWriter.dosTime(LocalDateTime.of(1970, 1, 1, 0, 0))).isEqualTo(ZipStreamWriter.dosTime(LocalDateTime.of(1980, 1, 1, 0, 0)));
+    }
+}
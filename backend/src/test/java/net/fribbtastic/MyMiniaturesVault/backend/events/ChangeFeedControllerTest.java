@@ -0,0 +1,78 @@
+package net.fribbtastic.MyMiniaturesVault.backend.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith({MockitoExtension.class, SpringExtension.class})
+@WebMvcTest(controllers = ChangeFeedController.class)
+class ChangeFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ChangeFeed feed;
+
+    /**
+     * Test the MVC Change Feed Controller to subscribe without a sequence number
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] subscribe to the changes")
+    public void testMvcSubscribe() throws Exception {
+        Mockito.when(this.feed.subscribe(null)).thenReturn(new SseEmitter());
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted());
+
+        Mockito.verify(this.feed).subscribe(null);
+    }
+
+    /**
+     * Test the MVC Change Feed Controller to resume with the Last-Event-ID header of an EventSource before the parameter
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] resume the changes")
+    public void testMvcSubscribe_Resume() throws Exception {
+        Mockito.when(this.feed.subscribe(Mockito.anyLong())).thenReturn(new SseEmitter());
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events").param("after", "7"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted());
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events").param("after", "7").header("Last-Event-ID", "42"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted());
+
+        Mockito.verify(this.feed).subscribe(7L);
+        Mockito.verify(this.feed).subscribe(42L);
+    }
+
+    /**
+     * Test the MVC Change Feed Controller to reject a sequence number that isn't a number
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] subscribe with an invalid sequence number")
+    public void testMvcSubscribe_Invalid() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events").param("after", "latest"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        Mockito.verifyNoInteractions(this.feed);
+    }
+}
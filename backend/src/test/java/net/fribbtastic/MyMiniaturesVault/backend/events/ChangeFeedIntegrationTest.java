@@ -0,0 +1,205 @@
+package net.fribbtastic.MyMiniaturesVault.backend.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Subscribes to the change feed over HTTP and changes Creators through the API
+ *
+ * @author Frederic Eßer
+ */
+@SpringBootTest(classes = BackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql("classpath:creator/truncate.sql")
+@Sql(scripts = "classpath:creator/truncate.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_CLASS)
+public class ChangeFeedIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeFeed feed;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    /**
+     * A received Server-Sent Event
+     */
+    private record Event(long id, String name, String data) {
+    }
+
+    /**
+     * An open subscription whose events are read in the background
+     */
+    private record Subscription(Stream<String> lines, BlockingQueue<Event> events) {
+
+        Event next() throws InterruptedException {
+            Event event = this.events.poll(10, TimeUnit.SECONDS);
+
+            Assertions.assertThat(event).as("no event received").isNotNull();
+
+            return event;
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.subscriptions.forEach(subscription -> subscription.lines().close());
+    }
+
+    private Subscription subscribe(String lastEventId) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + this.port + "/api/v1/events"));
+
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+
+        HttpResponse<Stream<String>> response = this.client.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+
+        Assertions.assertThat(response.statusCode()).isEqualTo(200);
+        Assertions.assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(type -> Assertions.assertThat(type).startsWith("text/event-stream"));
+
+        Subscription subscription = new Subscription(response.body(), new LinkedBlockingQueue<>());
+        this.subscriptions.add(subscription);
+
+        Thread.ofVirtual().start(() -> {
+            long id = 0;
+            String name = null;
+            StringBuilder data = new StringBuilder();
+
+            try {
+                for (String line : (Iterable<String>) subscription.lines()::iterator) {
+                    if (line.isEmpty()) {
+                        if (name != null) {
+                            subscription.events().add(new Event(id, name, data.toString()));
+                        }
+
+                        name = null;
+                        data.setLength(0);
+                    } else if (line.startsWith("id:")) {
+                        id = Long.parseLong(line.substring(3));
+                    } else if (line.startsWith("event:")) {
+                        name = line.substring(6);
+                    } else if (line.startsWith("data:")) {
+                        data.append(line.substring(5));
+                    }
+                }
+            } catch (RuntimeException exception) {
+                // the subscription was closed
+            }
+        });
+
+        return subscription;
+    }
+
+    private UUID send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<String> response = this.client.send(request.header("Content-Type", "application/json").build(), HttpResponse.BodyHandlers.ofString());
+
+        Assertions.assertThat(response.statusCode()).as(response.body()).isLessThan(300);
+
+        JsonNode data = this.objectMapper.readTree(response.body()).get("data");
+
+        return data == null || data.get("id") == null ? null : UUID.fromString(data.get("id").asText());
+    }
+
+    private HttpRequest.Builder creator(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + this.port + "/api/v1/creator" + path));
+    }
+
+    private void assertChange(Event event, long sequence, ChangeAction action, UUID id) throws IOException {
+        Assertions.assertThat(event.name()).isEqualTo(ChangeFeed.CHANGE_EVENT);
+        Assertions.assertThat(event.id()).isEqualTo(sequence);
+        Assertions.assertThat(this.objectMapper.readValue(event.data(), ChangeEvent.class)).isEqualTo(new ChangeEvent(sequence, ChangeEntity.CREATOR, action, id));
+    }
+
+    /**
+     * Integration Test for the change feed,
+     * a new subscriber gets a reset first and then every change of a Creator
+     */
+    @Test
+    @DisplayName("[Integration] subscribe to the changes of Creators")
+    public void testIntegrationSubscribe() throws Exception {
+        Subscription subscription = this.subscribe(null);
+
+        Event reset = subscription.next();
+
+        Assertions.assertThat(reset.name()).isEqualTo(ChangeFeed.RESET_EVENT);
+        Assertions.assertThat(reset.data()).isEqualTo(String.valueOf(reset.id()));
+
+        long start = reset.id();
+
+        UUID id = this.send(this.creator("").POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Wyrm Works\"}")));
+
+        this.assertChange(subscription.next(), start + 1, ChangeAction.CREATED, id);
+
+        // a burst of updates is sent as one event or a few, the last one is always sent
+        for (int i = 0; i < 3; i++) {
+            this.send(this.creator("/" + id).PUT(HttpRequest.BodyPublishers.ofString("{\"name\":\"Wyrm Works " + i + "\"}")));
+        }
+
+        Event update;
+
+        do {
+            update = subscription.next();
+            Assertions.assertThat(this.objectMapper.readValue(update.data(), ChangeEvent.class).action()).isEqualTo(ChangeAction.UPDATED);
+        } while (update.id() < start + 4);
+
+        this.assertChange(update, start + 4, ChangeAction.UPDATED, id);
+
+        this.send(this.creator("/" + id).DELETE());
+
+        this.assertChange(subscription.next(), start + 5, ChangeAction.DELETED, id);
+        Assertions.assertThat(this.feed.getSubscriberCount()).isPositive();
+    }
+
+    /**
+     * Integration Test for the change feed,
+     * a subscriber that reconnects gets the changes it missed coalesced, or a reset for an unknown sequence number
+     */
+    @Test
+    @DisplayName("[Integration] resume the changes of Creators")
+    public void testIntegrationResume() throws Exception {
+        long start = this.subscribe(null).next().id();
+
+        UUID id = this.send(this.creator("").POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Dragon Forge\"}")));
+        this.send(this.creator("/" + id).PUT(HttpRequest.BodyPublishers.ofString("{\"name\":\"Dragon Forge Studio\"}")));
+        UUID other = this.send(this.creator("").POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Lich Lair\"}")));
+        this.send(this.creator("/" + id).DELETE());
+
+        Subscription resumed = this.subscribe(String.valueOf(start + 1));
+
+        this.assertChange(resumed.next(), start + 3, ChangeAction.CREATED, other);
+        this.assertChange(resumed.next(), start + 4, ChangeAction.DELETED, id);
+
+        Event reset = this.subscribe(String.valueOf(start + 1000)).next();
+
+        Assertions.assertThat(reset.name()).isEqualTo(ChangeFeed.RESET_EVENT);
+        Assertions.assertThat(reset.id()).isEqualTo(start + 4);
+    }
+}
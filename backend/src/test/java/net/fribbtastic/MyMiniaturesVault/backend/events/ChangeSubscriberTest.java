@@ -0,0 +1,137 @@
+package net.fribbtastic.MyMiniaturesVault.backend.events;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+class ChangeSubscriberTest {
+
+    private final UUID first = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8001");
+    private final UUID second = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8002");
+
+    private final ChangeEvent[] history = new ChangeEvent[8];
+
+    private final ChangeSubscriber subscriber = new ChangeSubscriber(new SseEmitter(), 10, false);
+
+    private static ChangeEvent event(long sequence, ChangeAction action, UUID id) {
+        return new ChangeEvent(sequence, ChangeEntity.CREATOR, action, id);
+    }
+
+    private void append(long sequence, ChangeAction action, UUID id) {
+        this.history[(int) (sequence % this.history.length)] = event(sequence, action, id);
+    }
+
+    /**
+     * Only one batch is scheduled at a time, changes that arrive while it is sent schedule the next one
+     */
+    @Test
+    @DisplayName("schedule one batch at a time")
+    public void testSchedule() {
+        Assertions.assertThat(this.subscriber.schedule(10)).isFalse();
+        Assertions.assertThat(this.subscriber.drain(this.history, 10, 3)).isNull();
+
+        this.append(11, ChangeAction.CREATED, this.first);
+        this.append(12, ChangeAction.CREATED, this.second);
+
+        Assertions.assertThat(this.subscriber.schedule(12)).isTrue();
+        Assertions.assertThat(this.subscriber.schedule(12)).isFalse();
+
+        Assertions.assertThat(this.subscriber.drain(this.history, 12, 3)).isEqualTo(new ChangeBatch(false, 12, List.of(
+                event(11, ChangeAction.CREATED, this.first),
+                event(12, ChangeAction.CREATED, this.second))));
+        Assertions.assertThat(this.subscriber.finish(12)).isFalse();
+
+        this.append(13, ChangeAction.DELETED, this.first);
+
+        Assertions.assertThat(this.subscriber.schedule(13)).isTrue();
+        Assertions.assertThat(this.subscriber.drain(this.history, 13, 3).events()).containsExactly(event(13, ChangeAction.DELETED, this.first));
+
+        this.append(14, ChangeAction.CREATED, this.first);
+
+        Assertions.assertThat(this.subscriber.finish(14)).isTrue();
+    }
+
+    /**
+     * A scheduled subscriber with nothing left to send can be scheduled again once it is finished
+     */
+    @Test
+    @DisplayName("finish a subscriber without a batch")
+    public void testFinish_NothingPending() {
+        this.append(11, ChangeAction.CREATED, this.first);
+
+        Assertions.assertThat(this.subscriber.schedule(11)).isTrue();
+        Assertions.assertThat(this.subscriber.drain(this.history, 11, 3)).isNotNull();
+        Assertions.assertThat(this.subscriber.drain(this.history, 11, 3)).isNull();
+        Assertions.assertThat(this.subscriber.finish(11)).isFalse();
+
+        this.append(12, ChangeAction.UPDATED, this.first);
+
+        Assertions.assertThat(this.subscriber.schedule(12)).isTrue();
+    }
+
+    /**
+     * The latest change of an entity replaces the earlier one and moves it behind the other changes
+     */
+    @Test
+    @DisplayName("coalesce the changes of an entity")
+    public void testDrain_Coalesce() {
+        this.append(11, ChangeAction.UPDATED, this.first);
+        this.append(12, ChangeAction.CREATED, this.second);
+        this.append(13, ChangeAction.UPDATED, this.first);
+        this.append(14, ChangeAction.UPDATED, this.second);
+
+        // the second entity was created and updated in the same batch, for the subscriber it's still new
+        Assertions.assertThat(this.subscriber.drain(this.history, 14, 3).events()).containsExactly(
+                event(13, ChangeAction.UPDATED, this.first),
+                event(14, ChangeAction.CREATED, this.second));
+
+        this.append(15, ChangeAction.CREATED, this.first);
+        this.append(16, ChangeAction.DELETED, this.first);
+
+        Assertions.assertThat(this.subscriber.drain(this.history, 16, 3).events()).containsExactly(event(16, ChangeAction.DELETED, this.first));
+    }
+
+    /**
+     * More changed entities than a batch holds, or changes that aren't in the history anymore, are sent as a reset.
+     * The changes after it are sent again.
+     */
+    @Test
+    @DisplayName("reset a subscriber that fell behind")
+    public void testDrain_Overflow() {
+        for (int i = 1; i <= 4; i++) {
+            this.append(10 + i, ChangeAction.CREATED, UUID.randomUUID());
+        }
+
+        Assertions.assertThat(this.subscriber.drain(this.history, 14, 3)).isEqualTo(new ChangeBatch(true, 14, List.of()));
+
+        this.append(15, ChangeAction.UPDATED, this.second);
+
+        Assertions.assertThat(this.subscriber.drain(this.history, 15, 3)).isEqualTo(new ChangeBatch(false, 15, List.of(event(15, ChangeAction.UPDATED, this.second))));
+
+        for (int i = 16; i <= 24; i++) {
+            this.append(i, ChangeAction.UPDATED, this.first);
+        }
+
+        Assertions.assertThat(this.subscriber.drain(this.history, 24, 3)).isEqualTo(new ChangeBatch(true, 24, List.of()));
+    }
+
+    /**
+     * A new subscriber gets a reset first, even without changes
+     */
+    @Test
+    @DisplayName("reset a new subscriber")
+    public void testDrain_Reset() {
+        ChangeSubscriber subscriber = new ChangeSubscriber(new SseEmitter(), 10, true);
+
+        Assertions.assertThat(subscriber.schedule(10)).isTrue();
+        Assertions.assertThat(subscriber.drain(this.history, 10, 3)).isEqualTo(new ChangeBatch(true, 10, List.of()));
+        Assertions.assertThat(subscriber.finish(10)).isFalse();
+    }
+}
@@ -0,0 +1,28 @@
+package net.fribbtastic.MyMiniaturesVault.backend.exceptions;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+class ApiExceptionTest {
+
+    /**
+     * Test that the exceptions of the API don't capture a stack trace and build their message
+     */
+    @Test
+    @DisplayName("exceptions are stackless")
+    public void testStackless() {
+        UUID id = UUID.fromString("eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1");
+        ResourceNotFoundException exception = new ResourceNotFoundException(id);
+
+        Assertions.assertThat(exception.getStackTrace()).isEmpty();
+        Assertions.assertThat(exception.getMessage()).isEqualTo("Resource with the id 'eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1' could not be found");
+        Assertions.assertThat(exception.getMessage()).isSameAs(exception.getMessage());
+        Assertions.assertThat(new InvalidParameterException("id", "abc").getMessage()).isEqualTo("The value 'abc' is not valid for the parameter 'id'");
+    }
+}
@@ -0,0 +1,113 @@
+package net.fribbtastic.MyMiniaturesVault.backend.index;
+
+import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+/**
+ * Serves the test frontend in 'src/test/resources/frontend' (with compressed variants written by compress.mjs)
+ *
+ * @author Frederic Eßer
+ */
+@SpringBootTest(classes = BackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.web.resources.static-locations=classpath:/frontend/", "frontend.max-age=30s"})
+public class FrontendIntegrationTest {
+
+    private static final String BUNDLE = "main-ABCD1234.js";
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + this.port + path));
+
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+
+        return this.client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] read(String file) throws IOException {
+        return new ClassPathResource("frontend/" + file).getContentAsByteArray();
+    }
+
+    /**
+     * Integration Test for the frontend,
+     * a bundle with a hash in its name is sent precompressed in the best accepted encoding and cached for a year
+     */
+    @Test
+    @DisplayName("[Integration] get a precompressed bundle")
+    public void testIntegrationGetBundle() throws Exception {
+        HttpResponse<byte[]> brotli = this.get("/" + BUNDLE, "gzip, deflate, br");
+
+        Assertions.assertThat(brotli.statusCode()).isEqualTo(200);
+        Assertions.assertThat(brotli.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("br");
+        Assertions.assertThat(brotli.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValueSatisfying(type -> Assertions.assertThat(type).contains("javascript"));
+        Assertions.assertThat(brotli.headers().firstValue(HttpHeaders.CACHE_CONTROL)).hasValue("max-age=31536000, public, immutable");
+        Assertions.assertThat(brotli.headers().allValues(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        Assertions.assertThat(brotli.body()).isEqualTo(read(BUNDLE + ".br"));
+
+        HttpResponse<byte[]> gzip = this.get("/" + BUNDLE, "gzip");
+
+        Assertions.assertThat(gzip.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        Assertions.assertThat(gzip.body()).isEqualTo(read(BUNDLE + ".gz"));
+
+        HttpResponse<byte[]> identity = this.get("/" + BUNDLE, null);
+
+        Assertions.assertThat(identity.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+        Assertions.assertThat(identity.body()).isEqualTo(read(BUNDLE));
+
+        // a file without a compressed variant is sent as it is
+        HttpResponse<byte[]> styles = this.get("/styles-ABCD1234.css", "gzip, br");
+
+        Assertions.assertThat(styles.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+        Assertions.assertThat(styles.headers().firstValue(HttpHeaders.CACHE_CONTROL)).hasValue("max-age=31536000, public, immutable");
+        Assertions.assertThat(styles.body()).isEqualTo(read("styles-ABCD1234.css"));
+    }
+
+    /**
+     * Integration Test for the frontend,
+     * the index.html and the routes of the frontend are answered with the index.html, which is only cached shortly
+     */
+    @Test
+    @DisplayName("[Integration] get the index.html for the routes")
+    public void testIntegrationGetIndex() throws Exception {
+        byte[] index = read(SinglePageResourceResolver.INDEX);
+
+        for (String path : new String[]{"/", "/index.html", "/bundle", "/creator/01890a5d-ac96-774b-bcce-b302099a8057"}) {
+            HttpResponse<byte[]> response = this.get(path, "gzip, br");
+
+            Assertions.assertThat(response.statusCode()).as(path).isEqualTo(200);
+            Assertions.assertThat(response.headers().firstValue(HttpHeaders.CONTENT_TYPE)).as(path).hasValueSatisfying(type -> Assertions.assertThat(type).startsWith("text/html"));
+            Assertions.assertThat(response.headers().firstValue(HttpHeaders.CACHE_CONTROL)).as(path).hasValue("max-age=30, must-revalidate, public");
+            Assertions.assertThat(response.body()).as(path).isEqualTo(index);
+        }
+    }
+
+    /**
+     * Integration Test for the frontend,
+     * missing files and unknown API paths are not answered with the index.html
+     */
+    @Test
+    @DisplayName("[Integration] get missing files")
+    public void testIntegrationGetMissing() throws Exception {
+        Assertions.assertThat(this.get("/main-FFFFFFFF.js", null).statusCode()).isEqualTo(404);
+        Assertions.assertThat(this.get("/assets/logo.svg", null).statusCode()).isEqualTo(404);
+        Assertions.assertThat(this.get("/api/v1/unknown", null).statusCode()).isEqualTo(404);
+        Assertions.assertThat(this.get("/api", null).statusCode()).isEqualTo(404);
+    }
+}
@@ -0,0 +1,153 @@
+package net.fribbtastic.MyMiniaturesVault.backend.mesh;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+/**
+ * @author Frederic Eßer
+ */
+class StlParserTest {
+
+    private static final Offset<Double> PRECISION = Offset.offset(1e-6);
+
+    /**
+     * parses files in chunks of at least 1 KB so small files are split as well
+     */
+    private final StlParser chunked = new StlParser(4, 1024);
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * check the metadata of cubes with an edge of 10 placed along the X axis
+     *
+     * @param mesh the {@link MeshMetadata}
+     * @param cubes the number of cubes
+     */
+    private static void assertCubes(MeshMetadata mesh, int cubes) {
+        Assertions.assertThat(mesh.getTriangles()).isEqualTo(cubes * 12L);
+        Assertions.assertThat(mesh.getWidth()).isCloseTo(cubes * 20 - 10, PRECISION);
+        Assertions.assertThat(mesh.getDepth()).isCloseTo(10, PRECISION);
+        Assertions.assertThat(mesh.getHeight()).isCloseTo(10, PRECISION);
+        Assertions.assertThat(mesh.getSurfaceArea()).isCloseTo(cubes * 600.0, Offset.offset(cubes * 1e-6));
+        Assertions.assertThat(mesh.getVolume()).isCloseTo(cubes * 1000.0, Offset.offset(cubes * 1e-3));
+    }
+
+    /**
+     * A binary STL whose header starts with 'solid' is still read as binary
+     */
+    @Test
+    @DisplayName("parse a binary STL")
+    public void testParseBinary() throws IOException {
+        Path file = StlTestFiles.writeBinary(this.directory.resolve("cube.stl"), StlTestFiles.cubes(1, 10));
+
+        assertCubes(StlParser.SEQUENTIAL.parse(file), 1);
+    }
+
+    @Test
+    @DisplayName("parse an ASCII STL")
+    public void testParseAscii() throws IOException {
+        Path file = StlTestFiles.writeAscii(this.directory.resolve("cube.stl"), StlTestFiles.cubes(1, 10));
+
+        assertCubes(StlParser.SEQUENTIAL.parse(file), 1);
+    }
+
+    /**
+     * A binary STL that is split into chunks gives the same result as reading it in one pass
+     */
+    @Test
+    @DisplayName("parse a binary STL in chunks")
+    public void testParseBinary_Chunked() throws IOException {
+        Path file = StlTestFiles.writeBinary(this.directory.resolve("cubes.stl"), StlTestFiles.cubes(1000, 10));
+
+        assertCubes(this.chunked.parse(file), 1000);
+        assertCubes(StlParser.SEQUENTIAL.parse(file), 1000);
+    }
+
+    /**
+     * An ASCII STL that is split into chunks gives the same result as reading it in one pass
+     */
+    @Test
+    @DisplayName("parse an ASCII STL in chunks")
+    public void testParseAscii_Chunked() throws IOException {
+        Path file = StlTestFiles.writeAscii(this.directory.resolve("cubes.stl"), StlTestFiles.cubes(1000, 10));
+
+        assertCubes(this.chunked.parse(file), 1000);
+        assertCubes(StlParser.SEQUENTIAL.parse(file), 1000);
+    }
+
+    /**
+     * Triangles that are oriented inwards have a negative volume
+     */
+    @Test
+    @DisplayName("parse an STL with inverted triangles")
+    public void testParse_Inverted() throws IOException {
+        Path file = StlTestFiles.writeBinary(this.directory.resolve("inverted.stl"), StlTestFiles.cubes(1, 10).stream()
+                .map(triangle -> new float[]{triangle[0], triangle[1], triangle[2], triangle[6], triangle[7], triangle[8], triangle[3], triangle[4], triangle[5]})
+                .toList());
+
+        Assertions.assertThat(StlParser.SEQUENTIAL.parse(file).getVolume()).isCloseTo(-1000, PRECISION);
+    }
+
+    @Test
+    @DisplayName("parse an STL without triangles")
+    public void testParse_Empty() throws IOException {
+        Path file = StlTestFiles.writeBinary(this.directory.resolve("empty.stl"), Collections.emptyList());
+
+        MeshMetadata mesh = this.chunked.parse(file);
+
+        Assertions.assertThat(mesh.getTriangles()).isEqualTo(0);
+        Assertions.assertThat(mesh.getHeight()).isEqualTo(0);
+    }
+
+    /**
+     * Numbers in ASCII STLs can have signs, exponents or no fraction at all
+     */
+    @Test
+    @DisplayName("parse the numbers of an ASCII STL")
+    public void testParseAscii_Numbers() throws IOException {
+        Path file = Files.writeString(this.directory.resolve("numbers.stl"), """
+                solid numbers
+                facet normal 0 0 1
+                outer loop
+                vertex -1.5 +2 3
+                vertex 1.5E+1 2.0e0 3.
+                vertex 0.015e3 1e1 -30e-1
+                endloop
+                endfacet
+                endsolid numbers
+                """, StandardCharsets.US_ASCII);
+
+        MeshMetadata mesh = StlParser.SEQUENTIAL.parse(file);
+
+        Assertions.assertThat(mesh.getTriangles()).isEqualTo(1);
+        Assertions.assertThat(mesh.getWidth()).isCloseTo(16.5, PRECISION);
+        Assertions.assertThat(mesh.getDepth()).isCloseTo(8, PRECISION);
+        Assertions.assertThat(mesh.getHeight()).isCloseTo(6, PRECISION);
+    }
+
+    @Test
+    @DisplayName("parse a file that is not an STL")
+    public void testParse_Invalid() throws IOException {
+        Path file = Files.write(this.directory.resolve("invalid.stl"), new byte[100]);
+
+        Assertions.assertThatThrownBy(() -> StlParser.SEQUENTIAL.parse(file)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("parse an ASCII STL with an incomplete facet")
+    public void testParseAscii_Incomplete() throws IOException {
+        Path file = Files.writeString(this.directory.resolve("incomplete.stl"), "solid incomplete\nfacet normal 0 0 1\nouter loop\nvertex 1 2 3\nvertex 1 2", StandardCharsets.US_ASCII);
+
+        Assertions.assertThatThrownBy(() -> StlParser.SEQUENTIAL.parse(file)).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,122 @@
+package net.fribbtastic.MyMiniaturesVault.backend.mesh;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes STL files of cubes for tests
+ *
+ * @author Frederic Eßer
+ */
+public final class StlTestFiles {
+
+    /**
+     * the corners of the triangles of a unit cube, oriented outwards
+     */
+    private static final int[][] CUBE = {
+            {0, 2, 1}, {0, 3, 2}, {4, 5, 6}, {4, 6, 7}, {0, 1, 5}, {0, 5, 4},
+            {3, 7, 6}, {3, 6, 2}, {0, 4, 7}, {0, 7, 3}, {1, 2, 6}, {1, 6, 5}
+    };
+
+    private static final float[][] CORNERS = {
+            {0, 0, 0}, {1, 0, 0}, {1, 1, 0}, {0, 1, 0}, {0, 0, 1}, {1, 0, 1}, {1, 1, 1}, {0, 1, 1}
+    };
+
+    private StlTestFiles() {
+    }
+
+    /**
+     * create the triangles of cubes that are placed next to each other along the X axis with a gap of one edge
+     *
+     * @param count the number of cubes
+     * @param edge the length of the edges
+     * @return the triangles as 9 coordinates each
+     */
+    public static List<float[]> cubes(int count, float edge) {
+        List<float[]> triangles = new ArrayList<>(count * CUBE.length);
+
+        for (int cube = 0; cube < count; cube++) {
+            float offset = cube * 2 * edge;
+
+            for (int[] triangle : CUBE) {
+                float[] coordinates = new float[9];
+
+                for (int corner = 0; corner < 3; corner++) {
+                    float[] point = CORNERS[triangle[corner]];
+                    coordinates[corner * 3] = offset + point[0] * edge;
+                    coordinates[corner * 3 + 1] = point[1] * edge;
+                    coordinates[corner * 3 + 2] = point[2] * edge;
+                }
+
+                triangles.add(coordinates);
+            }
+        }
+
+        return triangles;
+    }
+
+    /**
+     * write a binary STL, the header starts with 'solid' like the ones of some exporters
+     *
+     * @param file the {@link Path} of the file
+     * @param triangles the triangles
+     * @return the {@link Path} of the file
+     */
+    public static Path writeBinary(Path file, List<float[]> triangles) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(84 + triangles.size() * 50).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("solid binary test file".getBytes(StandardCharsets.US_ASCII));
+        buffer.putInt(80, triangles.size());
+        buffer.position(84);
+
+        for (float[] triangle : triangles) {
+            buffer.putFloat(0).putFloat(0).putFloat(0);
+
+            for (float coordinate : triangle) {
+                buffer.putFloat(coordinate);
+            }
+
+            buffer.putShort((short) 0);
+        }
+
+        Files.createDirectories(file.getParent());
+
+        return Files.write(file, buffer.array());
+    }
+
+    /**
+     * write an ASCII STL
+     *
+     * @param file the {@link Path} of the file
+     * @param triangles the triangles
+     * @return the {@link Path} of the file
+     */
+    public static Path writeAscii(Path file, List<float[]> triangles) throws IOException {
+        Files.createDirectories(file.getParent());
+
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            writer.write("solid test\n");
+
+            for (float[] triangle : triangles) {
+                writer.write("  facet normal 0 0 0\n    outer loop\n");
+
+                for (int corner = 0; corner < 3; corner++) {
+                    writer.write(String.format(Locale.ROOT, "      vertex %e %e %e\n", triangle[corner * 3], triangle[corner * 3 + 1], triangle[corner * 3 + 2]));
+                }
+
+                writer.write("    endloop\n  endfacet\n");
+            }
+
+            writer.write("endsolid test\n");
+        }
+
+        return file;
+    }
+}
@@ -0,0 +1,101 @@
+package net.fribbtastic.MyMiniaturesVault.backend.persistence;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.BackupUnavailableException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Backs up H2 Databases in files and in memory
+ *
+ * @author Frederic Eßer
+ */
+public class DatabaseBackupTest {
+
+    @TempDir
+    private Path directory;
+
+    private DatabaseBackup backup(String url, int count) {
+        DatabaseBackup backup = new DatabaseBackup();
+
+        ReflectionTestUtils.setField(backup, "jdbcTemplate", new JdbcTemplate(new SingleConnectionDataSource(url, "sa", "", true)));
+        ReflectionTestUtils.setField(backup, "path", this.directory.resolve("backups"));
+        ReflectionTestUtils.setField(backup, "count", count);
+
+        return backup;
+    }
+
+    private List<String> listBackups() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory.resolve("backups"))) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    /**
+     * A Database file is backed up while another connection has an open transaction,
+     * only the latest archives are kept
+     */
+    @Test
+    @DisplayName("back up a Database file")
+    public void testBackup() throws Exception {
+        String url = "jdbc:h2:file:" + this.directory.resolve("vault") + ";DB_CLOSE_DELAY=-1";
+        DatabaseBackup backup = this.backup(url, 2);
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            Statement statement = connection.createStatement();
+            statement.execute("CREATE TABLE CREATORS (ID INT PRIMARY KEY, NAME VARCHAR(255))");
+            statement.execute("INSERT INTO CREATORS VALUES (1, 'Wyrm Works')");
+
+            connection.setAutoCommit(false);
+            statement.execute("INSERT INTO CREATORS VALUES (2, 'Dragon Forge')");
+
+            // the backup doesn't wait for the transaction
+            BackupResult result = assertTimeoutPreemptively(Duration.ofSeconds(10), backup::backup);
+
+            connection.commit();
+
+            Path archive = this.directory.resolve("backups").resolve(result.name());
+
+            Assertions.assertThat(result.name()).startsWith(DatabaseBackup.FILE_PREFIX).endsWith(DatabaseBackup.FILE_SUFFIX);
+            Assertions.assertThat(result.size()).isEqualTo(Files.size(archive));
+
+            try (ZipFile zip = new ZipFile(archive.toFile())) {
+                Assertions.assertThat(zip.stream().map(ZipEntry::getName).toList()).containsExactly("vault.mv.db");
+            }
+        }
+
+        backup.backup();
+        BackupResult latest = backup.backup();
+
+        Assertions.assertThat(this.listBackups()).hasSize(2).last().isEqualTo(latest.name());
+    }
+
+    /**
+     * A Database in memory has no file to back up
+     */
+    @Test
+    @DisplayName("back up a Database in memory")
+    public void testBackup_InMemory() {
+        DatabaseBackup backup = this.backup("jdbc:h2:mem:backup", 2);
+
+        Assertions.assertThatThrownBy(backup::backup).isInstanceOf(BackupUnavailableException.class);
+    }
+}
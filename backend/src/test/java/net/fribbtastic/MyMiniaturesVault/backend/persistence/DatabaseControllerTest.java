@@ -0,0 +1,70 @@
+package net.fribbtastic.MyMiniaturesVault.backend.persistence;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.BackupUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.Instant;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith({MockitoExtension.class, SpringExtension.class})
+@WebMvcTest(controllers = DatabaseController.class)
+class DatabaseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DatabaseBackup backup;
+
+    private final String endpoint = "/api/v1/database/backup";
+
+    /**
+     * Test the MVC Database Controller to back up the Database
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] back up the Database")
+    public void testMvcBackup() throws Exception {
+        Mockito.when(this.backup.backup()).thenReturn(new BackupResult("vault-20250101-120000-000.zip", 4096, Instant.parse("2025-01-01T12:00:00Z"), 15));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.post(this.endpoint).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(201))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.name").value("vault-20250101-120000-000.zip"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.size").value(4096))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.durationMillis").value(15));
+    }
+
+    /**
+     * Test the MVC Database Controller to reject a backup of a Database in memory
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] back up the Database in memory")
+    public void testMvcBackup_Unavailable() throws Exception {
+        Mockito.when(this.backup.backup()).thenThrow(new BackupUnavailableException("The Database is kept in memory and has no file to back up"));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.post(this.endpoint).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(409));
+    }
+}
@@ -0,0 +1,78 @@
+package net.fribbtastic.MyMiniaturesVault.backend.persistence;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * @author Frederic Eßer
+ */
+class UuidV7GeneratorTest {
+
+    /**
+     * Test that the generated UUIDs are version 7 UUIDs with the RFC variant
+     */
+    @Test
+    @DisplayName("generate a version 7 UUID")
+    public void testGenerateUuid_Version() {
+        UUID uuid = UuidV7Generator.generateUuid();
+
+        Assertions.assertThat(uuid.version()).isEqualTo(7);
+        Assertions.assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    /**
+     * Test that the first 48 bits of the generated UUID contain the current timestamp
+     */
+    @Test
+    @DisplayName("generate a UUID with the current timestamp")
+    public void testGenerateUuid_Timestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7Generator.generateUuid();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+
+        // the timestamp may run slightly ahead if other tests generated many UUIDs in the same millisecond
+        Assertions.assertThat(timestamp).isBetween(before, System.currentTimeMillis() + 1000);
+    }
+
+    /**
+     * Test that the generated UUIDs are strictly increasing, in their binary and their String representation
+     */
+    @Test
+    @DisplayName("generate strictly increasing UUIDs")
+    public void testGenerateUuid_Monotonic() {
+        List<UUID> uuids = IntStream.range(0, 100_000).mapToObj(i -> UuidV7Generator.generateUuid()).toList();
+
+        for (int i = 1; i < uuids.size(); i++) {
+            UUID previous = uuids.get(i - 1);
+            UUID current = uuids.get(i);
+
+            Assertions.assertThat(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits())).isPositive();
+            Assertions.assertThat(current.toString()).isGreaterThan(previous.toString());
+        }
+    }
+
+    /**
+     * Test that UUIDs generated concurrently by multiple threads are unique
+     */
+    @Test
+    @DisplayName("generate unique UUIDs concurrently")
+    public void testGenerateUuid_Concurrent() throws Exception {
+        Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int thread = 0; thread < 8; thread++) {
+                executor.submit(() -> IntStream.range(0, 50_000).forEach(i -> uuids.add(UuidV7Generator.generateUuid())));
+            }
+        }
+
+        Assertions.assertThat(uuids).hasSize(400_000);
+    }
+}
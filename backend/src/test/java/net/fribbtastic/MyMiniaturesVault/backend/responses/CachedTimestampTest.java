@@ -0,0 +1,76 @@
+package net.fribbtastic.MyMiniaturesVault.backend.responses;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * @author Frederic Eßer
+ */
+class CachedTimestampTest {
+
+    /**
+     * Test that the timestamp is formatted as ISO-8601 timestamp with offset in seconds precision
+     */
+    @Test
+    @DisplayName("format the timestamp")
+    public void testFormat() {
+        CachedTimestamp timestamp = new CachedTimestamp(Clock.fixed(Instant.parse("2025-01-01T12:00:00.750Z"), ZoneId.of("Europe/Berlin")));
+
+        Assertions.assertThat(timestamp.now().getValue()).isEqualTo("2025-01-01T13:00:00+01:00");
+    }
+
+    /**
+     * Test that the timestamp is only formatted once per second
+     */
+    @Test
+    @DisplayName("reuse the timestamp within the same second")
+    public void testReuse() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T12:00:00.100Z"));
+        CachedTimestamp timestamp = new CachedTimestamp(clock);
+
+        SerializedString first = timestamp.now();
+
+        clock.instant = Instant.parse("2025-01-01T12:00:00.900Z");
+
+        Assertions.assertThat(timestamp.now()).isSameAs(first);
+
+        clock.instant = Instant.parse("2025-01-01T12:00:01.000Z");
+
+        Assertions.assertThat(timestamp.now()).isNotSameAs(first);
+        Assertions.assertThat(timestamp.now().getValue()).isEqualTo("2025-01-01T12:00:01Z");
+    }
+
+    /**
+     * a {@link Clock} in UTC that can be moved forward
+     */
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package net.fribbtastic.MyMiniaturesVault.backend.responses;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.DuplicateResourceException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+/**
+ * @author Frederic Eßer
+ */
+class ErrorDetailsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Test that the pre-serialized parts and the details of the error are written as JSON
+     */
+    @Test
+    @DisplayName("serialize the Error Details")
+    public void testSerialize() throws Exception {
+        ApiResponse<?> response = ApiResponse.createFailureResponse(HttpStatus.CONFLICT, "Resource already exists", new DuplicateResourceException("Test \"Creator\""));
+
+        String json = this.objectMapper.writeValueAsString(response);
+
+        Assertions.assertThat(json).startsWith("{\"status\":409,\"error\":{\"exceptionType\":\"DuplicateResourceException\",\"message\":\"Resource already exists\","
+                + "\"details\":\"Resource with the name 'Test \\\"Creator\\\"' already exists\",\"timestamp\":\"");
+
+        JsonNode error = this.objectMapper.readTree(json).get("error");
+
+        Assertions.assertThat(error.get("details").asText()).isEqualTo("Resource with the name 'Test \"Creator\"' already exists");
+        Assertions.assertThat(error.get("timestamp").asText()).isEqualTo(response.getErrorDetails().getTimestamp());
+    }
+
+    /**
+     * Test that missing parts of the error are written as 'null' and a missing exception type is left out
+     */
+    @Test
+    @DisplayName("serialize the Error Details without exception type and details")
+    public void testSerialize_Null() throws Exception {
+        ErrorDetails errorDetails = new ErrorDetails("Error", null, null);
+
+        JsonNode json = this.objectMapper.readTree(this.objectMapper.writeValueAsString(errorDetails));
+
+        Assertions.assertThat(json.has("exceptionType")).isFalse();
+        Assertions.assertThat(json.get("message").asText()).isEqualTo("Error");
+        Assertions.assertThat(json.get("details").isNull()).isTrue();
+        Assertions.assertThat(json.get("timestamp").asText()).isNotEmpty();
+    }
+}
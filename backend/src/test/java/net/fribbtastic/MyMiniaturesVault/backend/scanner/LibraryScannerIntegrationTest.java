@@ -0,0 +1,373 @@
+package net.fribbtastic.MyMiniaturesVault.backend.scanner;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.StlTestFiles;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFile;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFileRepository;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFormat;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Scans a small library in a temporary folder: {@code <root>/<Creator>/<Bundle>/.../<file>}
+ *
+ * @author Frederic Eßer
+ */
+@SpringBootTest(classes = BackendApplication.class)
+@Sql("classpath:bundle/truncate.sql")
+@Sql(scripts = "classpath:bundle/truncate.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_CLASS)
+public class LibraryScannerIntegrationTest {
+
+    @Autowired
+    private LibraryScanner scanner;
+
+    @Autowired
+    private ModelFileRepository fileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @TempDir
+    private Path root;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        StlTestFiles.writeBinary(this.root.resolve("Test Creator 01/Test Bundle 01/model01.stl"), StlTestFiles.cubes(1, 10));
+        this.write("Test Creator 01/Test Bundle 01/supported/model02.3mf", 20);
+        this.write("Test Creator 01/Test Bundle 02/model03.obj", 30);
+        StlTestFiles.writeAscii(this.root.resolve("Test Creator 02/Test Bundle 03/model04.STL"), StlTestFiles.cubes(2, 32));
+
+        // not a print file
+        this.write("Test Creator 02/Test Bundle 03/readme.txt", 50);
+        // print files outside a Bundle folder
+        this.write("model05.stl", 60);
+        this.write("Test Creator 01/model06.stl", 70);
+    }
+
+    /**
+     * create a file with the given size below the root
+     *
+     * @param path the path relative to the root
+     * @param size the size of the file
+     * @return the {@link Path} of the file
+     */
+    private Path write(String path, int size) throws IOException {
+        Path file = this.root.resolve(path);
+        Files.createDirectories(file.getParent());
+
+        return Files.write(file, new byte[size]);
+    }
+
+    private int count(String table) {
+        return this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    /**
+     * The first scan adds all print files and creates their Creators and Bundles from the folders.
+     * An existing Creator with the same name is used.
+     */
+    @Test
+    @DisplayName("[Integration] scan a new library")
+    public void testScan() {
+        this.jdbcTemplate.update("INSERT INTO CREATORS (id, name) VALUES (?, ?)", UUID.fromString("0320a817-a06b-48d8-8d36-a55a95650a10"), "Test Creator 02");
+
+        ScanProgress progress = this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(progress.isRunning()).isFalse();
+        Assertions.assertThat(progress.getFiles()).isEqualTo(6);
+        Assertions.assertThat(progress.getNewFiles()).isEqualTo(4);
+        Assertions.assertThat(progress.getSkippedFiles()).isEqualTo(2);
+        Assertions.assertThat(progress.getDirectories()).isEqualTo(7);
+        Assertions.assertThat(progress.getErrors()).isEqualTo(0);
+
+        Assertions.assertThat(this.count("CREATORS")).isEqualTo(2);
+        Assertions.assertThat(this.count("BUNDLES")).isEqualTo(3);
+        Assertions.assertThat(this.count("MODEL_FILES")).isEqualTo(4);
+        Assertions.assertThat(this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BUNDLES WHERE creator_id = '0320a817-a06b-48d8-8d36-a55a95650a10'", Integer.class)).isEqualTo(1);
+
+        ModelFile file = this.fileRepository.findByPath(this.root.resolve("Test Creator 01/Test Bundle 01/supported/model02.3mf").toString()).orElseThrow();
+
+        Assertions.assertThat(file.getId().version()).isEqualTo(7);
+        Assertions.assertThat(file.getSize()).isEqualTo(20);
+        Assertions.assertThat(file.getFormat()).isEqualTo(ModelFormat.THREE_MF);
+        Assertions.assertThat(file.getMesh()).isNull();
+
+        ModelFile stl = this.fileRepository.findByPath(this.root.resolve("Test Creator 02/Test Bundle 03/model04.STL").toString()).orElseThrow();
+
+        Assertions.assertThat(stl.getMesh().getTriangles()).isEqualTo(24);
+        Assertions.assertThat(stl.getMesh().getWidth()).isEqualTo(96);
+        Assertions.assertThat(stl.getMesh().getHeight()).isEqualTo(32);
+        Assertions.assertThat(stl.getMesh().getVolume()).isCloseTo(2 * 32 * 32 * 32, Offset.offset(1e-6));
+    }
+
+    /**
+     * An STL that can't be read is counted as an error but still indexed without mesh metadata
+     */
+    @Test
+    @DisplayName("[Integration] scan an invalid STL")
+    public void testScan_InvalidStl() throws IOException {
+        Path invalid = this.write("Test Creator 01/Test Bundle 01/invalid.stl", 10);
+
+        ScanProgress progress = this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(progress.getNewFiles()).isEqualTo(5);
+        Assertions.assertThat(progress.getErrors()).isEqualTo(1);
+        Assertions.assertThat(this.fileRepository.findByPath(invalid.toString()).orElseThrow().getMesh()).isNull();
+    }
+
+    /**
+     * Only files with the same size are partially hashed and only files with the same partial hash get a content hash.
+     * A rescan doesn't hash the files again.
+     */
+    @Test
+    @DisplayName("[Integration] find duplicate files")
+    public void testScan_Duplicates() throws IOException {
+        Path original = this.root.resolve("Test Creator 01/Test Bundle 01/model01.stl");
+        Path copy = Files.copy(original, Files.createDirectories(this.root.resolve("Test Creator 01/Test Bundle 02")).resolve("copy of model01.stl"));
+        // same size and start as the cubes but a different end
+        byte[] different = Files.readAllBytes(original);
+        different[different.length - 1] = 1;
+        Path sameSize = Files.write(this.root.resolve("Test Creator 02/Test Bundle 03/model08.stl"), different);
+
+        ScanProgress progress = this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(progress.getPartiallyHashedFiles()).isEqualTo(3);
+        Assertions.assertThat(progress.getHashedFiles()).isEqualTo(2);
+        Assertions.assertThat(progress.getErrors()).isEqualTo(0);
+
+        String hash = this.fileRepository.findByPath(original.toString()).orElseThrow().getContentHash();
+
+        Assertions.assertThat(hash).isNotNull();
+        Assertions.assertThat(this.fileRepository.findByPath(copy.toString()).orElseThrow().getContentHash()).isEqualTo(hash);
+        Assertions.assertThat(this.fileRepository.findByPath(sameSize.toString()).orElseThrow().getContentHash()).isNull();
+        Assertions.assertThat(this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM MODEL_FILES WHERE partial_hash IS NOT NULL", Integer.class)).isEqualTo(3);
+
+        ScanProgress rescan = this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(rescan.getPartiallyHashedFiles()).isEqualTo(0);
+        Assertions.assertThat(rescan.getHashedFiles()).isEqualTo(0);
+    }
+
+    /**
+     * A second scan without any changes on disk doesn't change the index
+     */
+    @Test
+    @DisplayName("[Integration] rescan an unchanged library")
+    public void testRescan_Unchanged() {
+        this.scanner.scan(List.of(this.root));
+        List<UUID> ids = this.jdbcTemplate.queryForList("SELECT id FROM MODEL_FILES ORDER BY id", UUID.class);
+
+        ScanProgress progress = this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(progress.getUnchangedFiles()).isEqualTo(4);
+        Assertions.assertThat(progress.getNewFiles()).isEqualTo(0);
+        Assertions.assertThat(progress.getChangedFiles()).isEqualTo(0);
+        Assertions.assertThat(progress.getDeletedFiles()).isEqualTo(0);
+        Assertions.assertThat(this.jdbcTemplate.queryForList("SELECT id FROM MODEL_FILES ORDER BY id", UUID.class)).isEqualTo(ids);
+    }
+
+    /**
+     * A rescan picks up new, changed and deleted files
+     */
+    @Test
+    @DisplayName("[Integration] rescan a changed library")
+    public void testRescan_Changed() throws IOException {
+        this.scanner.scan(List.of(this.root));
+
+        Path changed = StlTestFiles.writeBinary(this.root.resolve("Test Creator 01/Test Bundle 01/model01.stl"), StlTestFiles.cubes(2, 10));
+        Files.setLastModifiedTime(changed, FileTime.from(Instant.parse("2025-01-01T12:00:00Z")));
+        Files.delete(this.root.resolve("Test Creator 01/Test Bundle 02/model03.obj"));
+        this.write("Test Creator 03/Test Bundle 04/model07.stl", 80);
+
+        ScanProgress progress = this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(progress.getNewFiles()).isEqualTo(1);
+        Assertions.assertThat(progress.getChangedFiles()).isEqualTo(1);
+        Assertions.assertThat(progress.getUnchangedFiles()).isEqualTo(2);
+        Assertions.assertThat(progress.getDeletedFiles()).isEqualTo(1);
+
+        ModelFile file = this.fileRepository.findByPath(changed.toString()).orElseThrow();
+
+        Assertions.assertThat(file.getSize()).isEqualTo(84 + 24 * 50);
+        Assertions.assertThat(file.getMesh().getTriangles()).isEqualTo(24);
+        Assertions.assertThat(file.getLastModified()).isEqualTo(Instant.parse("2025-01-01T12:00:00Z").toEpochMilli());
+        Assertions.assertThat(this.count("MODEL_FILES")).isEqualTo(4);
+        Assertions.assertThat(this.count("CREATORS")).isEqualTo(3);
+    }
+
+    /**
+     * New files of existing Bundles are added to them, the Bundles and Creators are only created once
+     */
+    @Test
+    @DisplayName("[Integration] rescan a library with new files in existing Bundles")
+    public void testRescan_ExistingBundles() throws IOException {
+        this.scanner.scan(List.of(this.root));
+
+        int bundles = this.count("BUNDLES");
+        UUID bundle = this.jdbcTemplate.queryForObject("SELECT b.id FROM BUNDLES b JOIN CREATORS c ON c.id = b.creator_id WHERE c.name = 'Test Creator 01' AND b.name = 'Test Bundle 01'", UUID.class);
+
+        this.write("Test Creator 01/Test Bundle 01/model08.stl", 80);
+        this.write("Test Creator 01/Test Bundle 01/model09.stl", 80);
+
+        ScanProgress progress = this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(progress.getNewFiles()).isEqualTo(2);
+        Assertions.assertThat(this.count("BUNDLES")).isEqualTo(bundles);
+        Assertions.assertThat(this.count("CREATORS")).isEqualTo(2);
+        Assertions.assertThat(this.fileRepository.findByPath(this.root.resolve("Test Creator 01/Test Bundle 01/model08.stl").toString()).orElseThrow().getBundle().getId())
+                .isEqualTo(bundle);
+    }
+
+    /**
+     * A single file is added like a new file of a scan, a following scan doesn't add it again
+     */
+    @Test
+    @DisplayName("[Integration] add a single file")
+    public void testAddFile() throws IOException {
+        this.scanner.scan(List.of(this.root));
+
+        Path added = StlTestFiles.writeBinary(this.root.resolve("Test Creator 03/Test Bundle 04/model07.stl"), StlTestFiles.cubes(1, 10));
+
+        Assertions.assertThat(this.scanner.addFile(this.root, added)).isTrue();
+        Assertions.assertThat(this.scanner.addFile(this.root, added)).isFalse();
+        Assertions.assertThat(this.scanner.addFile(this.root, this.root.resolve("Test Creator 02/Test Bundle 03/readme.txt"))).isFalse();
+        Assertions.assertThat(this.scanner.addFile(this.root, this.root.resolve("Test Creator 01/model06.stl"))).isFalse();
+
+        ModelFile file = this.fileRepository.findByPath(added.toString()).orElseThrow();
+
+        Assertions.assertThat(this.jdbcTemplate.queryForObject("SELECT name FROM BUNDLES WHERE id = ?", String.class, file.getBundle().getId())).isEqualTo("Test Bundle 04");
+        Assertions.assertThat(file.getMesh().getTriangles()).isEqualTo(12);
+
+        ScanProgress progress = this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(progress.getNewFiles()).isEqualTo(0);
+        Assertions.assertThat(progress.getUnchangedFiles()).isEqualTo(5);
+    }
+
+    /**
+     * create an archive below the root with the given entries, all entries have the same content
+     */
+    private Path writeArchive(String path, String... names) throws IOException {
+        Path archive = this.root.resolve(path);
+
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            for (String name : names) {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write(new byte[100]);
+            }
+        }
+
+        return archive;
+    }
+
+    private List<String> entries(Path archive) {
+        return this.jdbcTemplate.queryForList("SELECT path FROM MODEL_FILES WHERE archive_path = ? ORDER BY path", String.class, archive.toString());
+    }
+
+    /**
+     * The print files in an archive are indexed in the Bundle of the archive without extracting them.
+     * A changed archive replaces its entries, a deleted archive removes them.
+     */
+    @Test
+    @DisplayName("[Integration] scan an archive")
+    public void testScan_Archive() throws IOException {
+        Path archive = this.writeArchive("Test Creator 01/Test Bundle 01/models.zip", "model10.stl", "supported/model11.3mf", "readme.txt", "nested.zip");
+
+        ScanProgress progress = this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(progress.getNewFiles()).isEqualTo(5);
+        Assertions.assertThat(progress.getArchiveEntries()).isEqualTo(2);
+        Assertions.assertThat(this.count("MODEL_FILES")).isEqualTo(7);
+        Assertions.assertThat(this.entries(archive)).containsExactly(archive + "!/model10.stl", archive + "!/supported/model11.3mf");
+
+        ModelFile file = this.fileRepository.findByPath(archive + "!/model10.stl").orElseThrow();
+
+        Assertions.assertThat(file.getSize()).isEqualTo(100);
+        Assertions.assertThat(file.getFormat()).isEqualTo(ModelFormat.STL);
+        Assertions.assertThat(file.getEntry().getArchivePath()).isEqualTo(archive.toString());
+        Assertions.assertThat(file.getEntry().isStored()).isFalse();
+        Assertions.assertThat(this.jdbcTemplate.queryForObject("SELECT b.name FROM MODEL_FILES f JOIN BUNDLES b ON b.id = f.bundle_id WHERE f.path = ?", String.class, file.getPath()))
+                .isEqualTo("Test Bundle 01");
+
+        progress = this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(progress.getUnchangedFiles()).isEqualTo(5);
+        Assertions.assertThat(progress.getArchiveEntries()).isEqualTo(0);
+        Assertions.assertThat(this.count("MODEL_FILES")).isEqualTo(7);
+
+        this.writeArchive("Test Creator 01/Test Bundle 01/models.zip", "model12.stl");
+        Files.setLastModifiedTime(archive, FileTime.from(Instant.parse("2025-01-01T12:00:00Z")));
+
+        progress = this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(progress.getChangedFiles()).isEqualTo(1);
+        Assertions.assertThat(this.entries(archive)).containsExactly(archive + "!/model12.stl");
+
+        Files.delete(archive);
+
+        progress = this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(progress.getDeletedFiles()).isEqualTo(1);
+        Assertions.assertThat(this.entries(archive)).isEmpty();
+        Assertions.assertThat(this.count("MODEL_FILES")).isEqualTo(4);
+    }
+
+    /**
+     * A root that doesn't exist (e.g. an unmounted drive) is skipped, its files are not deleted from the index
+     */
+    @Test
+    @DisplayName("[Integration] scan a missing library root")
+    public void testScan_MissingRoot() throws IOException {
+        this.scanner.scan(List.of(this.root));
+
+        Path moved = this.root.resolveSibling(this.root.getFileName() + "-moved");
+        Files.move(this.root, moved);
+
+        try {
+            ScanProgress progress = this.scanner.scan(List.of(this.root));
+
+            Assertions.assertThat(progress.getErrors()).isEqualTo(1);
+            Assertions.assertThat(progress.getDeletedFiles()).isEqualTo(0);
+            Assertions.assertThat(this.count("MODEL_FILES")).isEqualTo(4);
+        } finally {
+            Files.move(moved, this.root);
+        }
+    }
+
+    /**
+     * The results of the scans are counted in the metrics
+     */
+    @Test
+    @DisplayName("[Integration] scan metrics")
+    public void testScan_Metrics() {
+        double before = this.meterRegistry.counter(LibraryScanner.FILES_METRIC, "result", "new").count();
+
+        this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(this.meterRegistry.counter(LibraryScanner.FILES_METRIC, "result", "new").count()).isEqualTo(before + 4);
+        Assertions.assertThat(this.meterRegistry.get(LibraryScanner.DURATION_METRIC).timer().count()).isGreaterThan(0);
+        Assertions.assertThat(this.meterRegistry.get(LibraryScanner.PROGRESS_METRIC).gauge().value()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,60 @@
+package net.fribbtastic.MyMiniaturesVault.backend.scanner;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith(MockitoExtension.class)
+class LibraryScannerTest {
+
+    @Mock
+    private LibraryIndex index;
+
+    @Mock
+    private TaskExecutor executor;
+
+    @InjectMocks
+    private LibraryScanner scanner;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(this.scanner, "roots", List.of(Path.of("library")));
+    }
+
+    /**
+     * A scan that the executor rejects is not running, the next scan can be started
+     */
+    @Test
+    @DisplayName("start a scan that the executor rejects")
+    public void testStartScan_Rejected() {
+        Mockito.doThrow(new TaskRejectedException("the executor is shut down")).doNothing()
+                .when(this.executor).execute(Mockito.any(Runnable.class));
+
+        Assertions.assertThatThrownBy(() -> this.scanner.startScan())
+                .isInstanceOf(TaskRejectedException.class);
+
+        Assertions.assertThat(this.scanner.getProgress()).isSameAs(ScanProgress.NONE);
+
+        ScanProgress started = this.scanner.startScan();
+
+        Assertions.assertThat(started.getRoots()).containsExactly("library");
+        Assertions.assertThat(this.scanner.getProgress()).isSameAs(started);
+
+        Mockito.verify(this.executor, Mockito.times(2)).execute(Mockito.any(Runnable.class));
+    }
+}
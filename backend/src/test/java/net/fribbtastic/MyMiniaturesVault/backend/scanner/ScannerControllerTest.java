@@ -0,0 +1,98 @@
+package net.fribbtastic.MyMiniaturesVault.backend.scanner;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ScanInProgressException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith({MockitoExtension.class, SpringExtension.class})
+@WebMvcTest(controllers = ScannerController.class)
+class ScannerControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private LibraryScanner scanner;
+
+    private final String endpoint = "/api/v1/scan";
+
+    /**
+     * Test the MVC Scanner Controller to return the progress of the running scan
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get the progress of the library scan")
+    public void testMvcGetProgress() throws Exception {
+        ScanProgress progress = new ScanProgress(List.of("/library"), Instant.parse("2025-01-01T12:00:00Z"));
+        progress.file();
+        progress.newFile();
+
+        Mockito.when(this.scanner.getProgress()).thenReturn(progress);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(200))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.roots[0]").value("/library"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.running").value(true))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.files").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.newFiles").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.finishedAt").doesNotExist());
+    }
+
+    /**
+     * Test the MVC Scanner Controller to start a scan in the background
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] start a library scan")
+    public void testMvcStartScan() throws Exception {
+        Mockito.when(this.scanner.startScan()).thenReturn(new ScanProgress(List.of("/library"), Instant.now()));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.post(this.endpoint).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isAccepted())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(202))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.running").value(true));
+
+        Mockito.verify(this.scanner, Mockito.times(1)).startScan();
+    }
+
+    /**
+     * Test the MVC Scanner Controller to reject a second scan while one is running
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] start a library scan while one is running")
+    public void testMvcStartScan_Running() throws Exception {
+        Mockito.when(this.scanner.startScan()).thenThrow(new ScanInProgressException());
+
+        this.mockMvc.perform(MockMvcRequestBuilders.post(this.endpoint).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(409))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(ScanInProgressException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.details").value("A scan of the library is already running"));
+    }
+}
@@ -0,0 +1,103 @@
+package net.fribbtastic.MyMiniaturesVault.backend.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith({MockitoExtension.class, SpringExtension.class})
+@WebMvcTest(controllers = SearchController.class)
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SearchService service;
+
+    private final SearchResult bundle = new SearchResult(SearchType.BUNDLE, UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8003"),
+            "Ancient Red Dragon", UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8001"));
+
+    /**
+     * Test the MVC Search Controller to search the names of some types
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] search names")
+    public void testMvcSearch() throws Exception {
+        Mockito.when(this.service.search("red dragon", Set.of(SearchType.BUNDLE, SearchType.FILE), 5)).thenReturn(List.of(this.bundle));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/search")
+                        .param("q", "red dragon")
+                        .param("type", "BUNDLE", "FILE")
+                        .param("limit", "5"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].type").value("BUNDLE"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].id").value("01890a5d-ac96-774b-bcce-b302099a8003"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].name").value("Ancient Red Dragon"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].parent").value("01890a5d-ac96-774b-bcce-b302099a8001"));
+    }
+
+    /**
+     * Test the MVC Search Controller to limit the number of results
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] search names (limit too large)")
+    public void testMvcSearch_MaxLimit() throws Exception {
+        Mockito.when(this.service.search("dragon", null, SearchController.MAX_LIMIT)).thenReturn(List.of());
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/search").param("q", "dragon").param("limit", "100000"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data").isEmpty());
+    }
+
+    /**
+     * Test the MVC Search Controller to reject an unknown type
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] search names (unknown type)")
+    public void testMvcSearch_UnknownType() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/search").param("q", "dragon").param("type", "MINIATURE"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    /**
+     * Test the MVC Search Controller to complete the words that were typed so far
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] autocomplete names")
+    public void testMvcAutocomplete() throws Exception {
+        Mockito.when(this.service.autocomplete("ancient dr", null, SearchController.DEFAULT_SUGGESTIONS)).thenReturn(List.of(this.bundle));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/search/autocomplete").param("q", "ancient dr"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].name").value("Ancient Red Dragon"));
+    }
+}
@@ -0,0 +1,165 @@
+package net.fribbtastic.MyMiniaturesVault.backend.search;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+class SearchIndexTest {
+
+    private final SearchIndex index = new SearchIndex();
+
+    private final UUID creator = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8001");
+    private final UUID otherCreator = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8002");
+    private final UUID bundle = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8003");
+    private final UUID file = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8004");
+    private final UUID otherFile = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8005");
+
+    @BeforeEach
+    public void setUp() {
+        this.index.put(SearchType.CREATOR, this.creator, "Dragon Forge", null);
+        this.index.put(SearchType.CREATOR, this.otherCreator, "Élite Miniatures", null);
+        this.index.put(SearchType.BUNDLE, this.bundle, "Ancient Red Dragon", this.creator);
+        this.index.put(SearchType.FILE, this.file, "dragon_head_01.stl", this.bundle);
+        this.index.put(SearchType.FILE, this.otherFile, "wyvern-body.3mf", this.bundle);
+    }
+
+    private List<UUID> search(String query) {
+        return this.index.search(query, null, 10).stream().map(SearchResult::id).toList();
+    }
+
+    /**
+     * Exact names first, then names that start with the query, then names with words that start with the terms
+     */
+    @Test
+    @DisplayName("search names by their words")
+    public void testSearch() {
+        Assertions.assertThat(this.search("dragon forge")).containsExactly(this.creator);
+        Assertions.assertThat(this.search("dragon")).containsExactly(this.creator, this.file, this.bundle);
+        Assertions.assertThat(this.search("red dragon")).containsExactly(this.bundle);
+        Assertions.assertThat(this.index.search("dragon", null, 1)).containsExactly(new SearchResult(SearchType.CREATOR, this.creator, "Dragon Forge", null));
+        Assertions.assertThat(this.index.search("forge", null, 1).getFirst().parent()).isNull();
+    }
+
+    /**
+     * Terms with three characters match anywhere in the names, shorter terms only the start of words
+     */
+    @Test
+    @DisplayName("search parts of words")
+    public void testSearch_Substring() {
+        Assertions.assertThat(this.search("rago")).containsExactlyInAnyOrder(this.creator, this.bundle, this.file);
+        Assertions.assertThat(this.search("ver")).containsExactly(this.otherFile);
+        Assertions.assertThat(this.search("an")).containsExactly(this.bundle);
+        Assertions.assertThat(this.search("ra")).isEmpty();
+        Assertions.assertThat(this.search("dargon")).isEmpty();
+    }
+
+    /**
+     * Names are compared in lower case, without accents and with letters and digits as separate words
+     */
+    @Test
+    @DisplayName("search normalized names")
+    public void testSearch_Normalized() {
+        Assertions.assertThat(this.search("ELITE")).containsExactly(this.otherCreator);
+        Assertions.assertThat(this.search("head 1")).isEmpty();
+        Assertions.assertThat(this.search("head01")).containsExactly(this.file);
+        Assertions.assertThat(this.search("  ")).isEmpty();
+        Assertions.assertThat(this.search(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("search names of some types")
+    public void testSearch_Types() {
+        Assertions.assertThat(this.index.search("dragon", Set.of(SearchType.BUNDLE, SearchType.CREATOR), 10))
+                .extracting(SearchResult::id).containsExactly(this.creator, this.bundle);
+    }
+
+    @Test
+    @DisplayName("complete the start of words")
+    public void testAutocomplete() {
+        Assertions.assertThat(this.index.autocomplete("d", null, 10)).extracting(SearchResult::id).containsExactly(this.creator, this.file, this.bundle);
+        Assertions.assertThat(this.index.autocomplete("ancient dr", null, 10)).extracting(SearchResult::id).containsExactly(this.bundle);
+        Assertions.assertThat(this.index.autocomplete("rago", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("replace a name")
+    public void testPut_Replace() {
+        this.index.put(SearchType.CREATOR, this.creator, "Wyrm Works", null);
+
+        Assertions.assertThat(this.search("forge")).isEmpty();
+        Assertions.assertThat(this.search("wyrm")).containsExactly(this.creator);
+        Assertions.assertThat(this.index.size()).isEqualTo(5);
+    }
+
+    /**
+     * Removing a Creator removes its Bundles and their files, like the Database does
+     */
+    @Test
+    @DisplayName("remove names with their children")
+    public void testRemove() {
+        this.index.remove(List.of(this.otherFile));
+
+        Assertions.assertThat(this.search("wyvern")).isEmpty();
+        Assertions.assertThat(this.index.size()).isEqualTo(4);
+
+        this.index.remove(List.of(this.creator, UUID.randomUUID()));
+
+        Assertions.assertThat(this.search("dragon")).isEmpty();
+        Assertions.assertThat(this.index.size()).isEqualTo(1);
+    }
+
+    /**
+     * The index is compacted when most documents were removed, the remaining documents are found as before
+     */
+    @Test
+    @DisplayName("compact the index")
+    public void testRemove_Compact() {
+        List<UUID> removed = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            UUID id = UUID.randomUUID();
+            this.index.put(SearchType.FILE, id, "part " + i + ".stl", this.bundle);
+            removed.add(id);
+        }
+
+        this.index.remove(removed);
+        this.index.put(SearchType.FILE, UUID.randomUUID(), "part 4999.stl", this.otherFile);
+
+        Assertions.assertThat(this.index.size()).isEqualTo(6);
+        Assertions.assertThat(this.search("part")).hasSize(1);
+        Assertions.assertThat(this.search("dragon")).containsExactly(this.creator, this.file, this.bundle);
+    }
+
+    /**
+     * Replaced documents count as removed, renaming the same documents again and again compacts the index as well
+     */
+    @Test
+    @DisplayName("compact the index after replacing names")
+    public void testPut_Compact() {
+        for (int i = 0; i < 5000; i++) {
+            this.index.put(SearchType.FILE, this.otherFile, "wyvern-body " + i + ".3mf", this.bundle);
+        }
+
+        Assertions.assertThat(this.index.size()).isEqualTo(5);
+        Assertions.assertThat(this.index.documentNumbers()).isLessThan(2000);
+        Assertions.assertThat(this.search("wyvern")).containsExactly(this.otherFile);
+        Assertions.assertThat(this.search("4999")).containsExactly(this.otherFile);
+    }
+
+    @Test
+    @DisplayName("normalize names")
+    public void testNormalize() {
+        Assertions.assertThat(SearchIndex.normalize("Ancient  Red-Dragon_v2 (Größe).stl")).isEqualTo("ancient red dragon v 2 große stl");
+        Assertions.assertThat(SearchIndex.normalize("Crème Brûlée")).isEqualTo("creme brulee");
+        Assertions.assertThat(SearchIndex.normalize("--")).isEmpty();
+    }
+}
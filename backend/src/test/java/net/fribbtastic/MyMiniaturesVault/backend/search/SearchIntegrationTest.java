@@ -0,0 +1,136 @@
+package net.fribbtastic.MyMiniaturesVault.backend.search;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import net.fribbtastic.MyMiniaturesVault.backend.scanner.LibraryScanner;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps the search index in sync with the Creators written through the API and the files found by a scan
+ *
+ * @author Frederic Eßer
+ */
+@SpringBootTest(classes = BackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql("classpath:bundle/truncate.sql")
+@Sql(scripts = "classpath:bundle/truncate.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_CLASS)
+public class SearchIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private LibraryScanner scanner;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path root;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        // the Database is truncated behind the index by the @Sql scripts
+        this.searchService.rebuild();
+
+        Files.createDirectories(this.root.resolve("Wyrm Works/Ancient Red Dragon"));
+        Files.write(this.root.resolve("Wyrm Works/Ancient Red Dragon/dragon_head.stl"), new byte[100]);
+        Files.write(this.root.resolve("Wyrm Works/Ancient Red Dragon/dragon_tail.stl"), new byte[100]);
+    }
+
+    private JsonNode send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<String> response = this.client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+
+        Assertions.assertThat(response.statusCode()).as(response.body()).isLessThan(300);
+
+        return this.objectMapper.readTree(response.body()).get("data");
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + this.port + "/api/v1" + path));
+    }
+
+    private List<String> search(String path, String query) throws IOException, InterruptedException {
+        List<String> names = new ArrayList<>();
+        this.send(this.request(path + "?q=" + URLEncoder.encode(query, StandardCharsets.UTF_8)).GET()).forEach(result -> names.add(result.get("name").asText()));
+
+        return names;
+    }
+
+    /**
+     * Integration Test to find the Creators, Bundles and files of a scan, the names change with the Creators
+     * that are updated and deleted through the API
+     */
+    @Test
+    @DisplayName("[Integration] search the names of a scanned library")
+    public void testIntegrationSearch() throws Exception {
+        this.scanner.scan(List.of(this.root));
+
+        Assertions.assertThat(this.search("/search", "dragon")).containsExactly("dragon_head.stl", "dragon_tail.stl", "Ancient Red Dragon");
+        Assertions.assertThat(this.search("/search/autocomplete", "wy")).containsExactly("Wyrm Works");
+
+        UUID creatorId = this.jdbcTemplate.queryForObject("SELECT id FROM CREATORS WHERE name = 'Wyrm Works'", UUID.class);
+
+        this.send(this.request("/creator/" + creatorId)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"name\":\"Dragon Forge\"}")));
+
+        Assertions.assertThat(this.search("/search", "wyrm")).isEmpty();
+        Assertions.assertThat(this.search("/search", "forge")).containsExactly("Dragon Forge");
+
+        this.send(this.request("/creator/" + creatorId).DELETE());
+
+        Assertions.assertThat(this.search("/search", "dragon")).isEmpty();
+    }
+
+    /**
+     * Integration Test to add a Creator that is found without a rebuild, and to rebuild the same index from the Database
+     */
+    @Test
+    @DisplayName("[Integration] search a new Creator")
+    public void testIntegrationSearch_NewCreator() throws Exception {
+        this.send(this.request("/creator")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"Élite Miniatures\"}")));
+        this.scanner.scan(List.of(this.root));
+
+        List<String> found = this.search("/search", "elite");
+
+        Assertions.assertThat(found).containsExactly("Élite Miniatures");
+
+        this.searchService.rebuild();
+
+        Assertions.assertThat(this.search("/search", "elite")).isEqualTo(found);
+        Assertions.assertThat(this.search("/search", "dragon")).hasSize(3);
+    }
+}
@@ -0,0 +1,105 @@
+package net.fribbtastic.MyMiniaturesVault.backend.storage;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * @author Frederic Eßer
+ */
+class ContentHashTest {
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * create random content that is the same for the same seed
+     */
+    private static byte[] content(int size, long seed) {
+        byte[] content = new byte[size];
+        new Random(seed).nextBytes(content);
+
+        return content;
+    }
+
+    private Path write(String name, byte[] content) throws IOException {
+        return Files.write(this.directory.resolve(name), content);
+    }
+
+    @Test
+    @DisplayName("hash files with the same content")
+    public void testFull_SameContent() throws IOException {
+        String hash = ContentHash.full(this.write("model01.stl", content(1000, 1)));
+
+        Assertions.assertThat(hash).hasSize(64).matches("[0-9a-f]+");
+        Assertions.assertThat(ContentHash.full(this.write("model02.stl", content(1000, 1)))).isEqualTo(hash);
+        Assertions.assertThat(ContentHash.full(this.write("model03.stl", content(1000, 2)))).isNotEqualTo(hash);
+    }
+
+    /**
+     * A change in any chunk of a file that is hashed in parallel changes the hash
+     */
+    @Test
+    @DisplayName("hash files with several chunks")
+    public void testFull_Chunks() throws IOException {
+        byte[] content = content(ContentHash.CHUNK_SIZE * 2 + 123, 1);
+        String hash = ContentHash.full(this.write("model01.stl", content));
+
+        Assertions.assertThat(ContentHash.full(this.write("model02.stl", content))).isEqualTo(hash);
+
+        content[ContentHash.CHUNK_SIZE + 1] ^= 1;
+
+        Assertions.assertThat(ContentHash.full(this.write("model03.stl", content))).isNotEqualTo(hash);
+    }
+
+    /**
+     * Files with zeros at the end have a different hash than the same files without them
+     */
+    @Test
+    @DisplayName("hash files of different sizes")
+    public void testFull_Size() throws IOException {
+        Assertions.assertThat(ContentHash.full(this.write("empty.stl", new byte[0])))
+                .isNotEqualTo(ContentHash.full(this.write("zero.stl", new byte[1])));
+    }
+
+    /**
+     * The partial hash only depends on the start and the end of a file
+     */
+    @Test
+    @DisplayName("partially hash files that differ in the middle")
+    public void testPartial() throws IOException {
+        byte[] content = content(ContentHash.PARTIAL_SIZE * 3, 1);
+        Path first = this.write("model01.stl", content);
+
+        content[ContentHash.PARTIAL_SIZE + 1] ^= 1;
+        Path second = this.write("model02.stl", content);
+
+        Assertions.assertThat(ContentHash.partial(second)).isEqualTo(ContentHash.partial(first));
+        Assertions.assertThat(ContentHash.full(second)).isNotEqualTo(ContentHash.full(first));
+
+        content[content.length - 1] ^= 1;
+
+        Assertions.assertThat(ContentHash.partial(this.write("model03.stl", content))).isNotEqualTo(ContentHash.partial(first));
+    }
+
+    @Test
+    @DisplayName("partially hash small files")
+    public void testPartial_SmallFiles() throws IOException {
+        Assertions.assertThat(ContentHash.partial(this.write("model01.stl", content(10, 1))))
+                .isEqualTo(ContentHash.partial(this.write("model02.stl", content(10, 1))))
+                .isNotEqualTo(ContentHash.partial(this.write("model03.stl", content(10, 2))));
+    }
+
+    @Test
+    @DisplayName("hash a missing file")
+    public void testFull_Missing() {
+        Assertions.assertThatThrownBy(() -> ContentHash.full(this.directory.resolve("missing.stl"))).isInstanceOf(IOException.class);
+        Assertions.assertThatThrownBy(() -> ContentHash.partial(this.directory.resolve("missing.stl"))).isInstanceOf(IOException.class);
+    }
+}
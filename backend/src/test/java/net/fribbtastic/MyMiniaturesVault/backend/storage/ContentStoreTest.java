@@ -0,0 +1,96 @@
+package net.fribbtastic.MyMiniaturesVault.backend.storage;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * @author Frederic Eßer
+ */
+class ContentStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private ContentStore store;
+
+    @BeforeEach
+    public void setUp() {
+        this.store = new ContentStore(this.directory.resolve("vault"));
+    }
+
+    /**
+     * A new content is moved into the store under its hash
+     */
+    @Test
+    @DisplayName("store a new file")
+    public void testStore() throws IOException {
+        Path file = Files.writeString(this.directory.resolve("upload01.stl"), "solid model01");
+
+        StoredContent stored = this.store.store(file);
+
+        Assertions.assertThat(stored.duplicate()).isFalse();
+        Assertions.assertThat(stored.size()).isEqualTo(13);
+        Assertions.assertThat(stored.path()).isEqualTo(this.directory.resolve("vault/content").resolve(stored.hash().substring(0, 2)).resolve(stored.hash()));
+        Assertions.assertThat(stored.path()).hasContent("solid model01");
+        Assertions.assertThat(file).doesNotExist();
+    }
+
+    /**
+     * A content that is already stored is linked to the stored file instead of being stored again
+     */
+    @Test
+    @DisplayName("store a duplicate file")
+    public void testStore_Duplicate() throws IOException {
+        StoredContent first = this.store.store(Files.writeString(this.directory.resolve("upload01.stl"), "solid model01"));
+        Path file = Files.writeString(this.directory.resolve("upload02.stl"), "solid model01");
+
+        StoredContent second = this.store.store(file);
+
+        Assertions.assertThat(second.duplicate()).isTrue();
+        Assertions.assertThat(second.hash()).isEqualTo(first.hash());
+        Assertions.assertThat(second.path()).isEqualTo(first.path());
+        Assertions.assertThat(file).doesNotExist();
+
+        try (Stream<Path> files = Files.list(first.path().getParent())) {
+            Assertions.assertThat(files).hasSize(1);
+        }
+    }
+
+    /**
+     * A stored content that no file of the library is linked to is deleted again
+     */
+    @Test
+    @DisplayName("delete an unreferenced content")
+    public void testDeleteUnreferenced() throws IOException {
+        StoredContent stored = this.store.store(Files.writeString(this.directory.resolve("upload01.stl"), "solid model01"));
+
+        Assertions.assertThat(this.store.deleteUnreferenced(stored)).isTrue();
+        Assertions.assertThat(stored.path()).doesNotExist();
+    }
+
+    /**
+     * A stored content that is linked into the library or was stored before is kept
+     */
+    @Test
+    @DisplayName("keep a referenced content")
+    public void testDeleteUnreferenced_Referenced() throws IOException {
+        StoredContent stored = this.store.store(Files.writeString(this.directory.resolve("upload01.stl"), "solid model01"));
+        StoredContent duplicate = this.store.store(Files.writeString(this.directory.resolve("upload02.stl"), "solid model01"));
+
+        Assertions.assertThat(this.store.deleteUnreferenced(duplicate)).isFalse();
+        Assertions.assertThat(stored.path()).exists();
+
+        Files.createLink(this.directory.resolve("model01.stl"), stored.path());
+
+        Assertions.assertThat(this.store.deleteUnreferenced(stored)).isFalse();
+        Assertions.assertThat(stored.path()).exists();
+    }
+}
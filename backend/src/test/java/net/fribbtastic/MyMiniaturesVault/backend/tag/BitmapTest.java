@@ -0,0 +1,148 @@
+package net.fribbtastic.MyMiniaturesVault.backend.tag;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the bitmaps with a {@link BitSet} of the same values
+ *
+ * @author Frederic Eßer
+ */
+class BitmapTest {
+
+    /**
+     * create a bitmap and a BitSet with the same random values: sparse chunks are kept in arrays, dense ones in bitmaps
+     */
+    private static Bitmap random(Random random, BitSet expected, int values, int bound) {
+        Bitmap bitmap = new Bitmap();
+
+        for (int i = 0; i < values; i++) {
+            int value = random.nextInt(bound);
+
+            bitmap.add(value);
+            expected.set(value);
+        }
+
+        return bitmap;
+    }
+
+    private static List<Integer> values(Bitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+
+        return values;
+    }
+
+    private static List<Integer> values(BitSet bitSet) {
+        return bitSet.stream().boxed().toList();
+    }
+
+    @Test
+    @DisplayName("add, remove and find values")
+    public void testAddRemove() {
+        Bitmap bitmap = new Bitmap();
+
+        bitmap.add(3);
+        bitmap.add(70_000);
+        bitmap.add(3);
+
+        Assertions.assertThat(bitmap.contains(3)).isTrue();
+        Assertions.assertThat(bitmap.contains(4)).isFalse();
+        Assertions.assertThat(bitmap.contains(70_000)).isTrue();
+        Assertions.assertThat(bitmap.cardinality()).isEqualTo(2);
+        Assertions.assertThat(values(bitmap)).containsExactly(3, 70_000);
+
+        bitmap.remove(3);
+        bitmap.remove(70_000);
+        bitmap.remove(5);
+
+        Assertions.assertThat(bitmap.isEmpty()).isTrue();
+        Assertions.assertThat(bitmap.cardinality()).isZero();
+    }
+
+    /**
+     * A chunk changes from an array to a bitmap above {@value Bitmap#MAX_ARRAY} values and back when values are removed
+     */
+    @Test
+    @DisplayName("convert chunks between arrays and bitmaps")
+    public void testConvert() {
+        Bitmap bitmap = new Bitmap();
+        BitSet expected = new BitSet();
+
+        for (int value = 0; value < 2 * Bitmap.MAX_ARRAY; value += 2) {
+            bitmap.add(value);
+            expected.set(value);
+        }
+
+        bitmap.add(1);
+        expected.set(1);
+
+        Assertions.assertThat(bitmap.cardinality()).isEqualTo(Bitmap.MAX_ARRAY + 1);
+        Assertions.assertThat(values(bitmap)).isEqualTo(values(expected));
+
+        for (int value = 0; value < 100; value += 2) {
+            bitmap.remove(value);
+            expected.clear(value);
+        }
+
+        Assertions.assertThat(bitmap.cardinality()).isEqualTo(expected.cardinality());
+        Assertions.assertThat(values(bitmap)).isEqualTo(values(expected));
+        Assertions.assertThat(bitmap.contains(1)).isTrue();
+        Assertions.assertThat(bitmap.contains(2)).isFalse();
+    }
+
+    /**
+     * Intersections and unions of sparse and dense chunks have the same values as the ones of BitSets
+     */
+    @Test
+    @DisplayName("intersect and unite bitmaps")
+    public void testAndOr() {
+        Random random = new Random(42);
+
+        for (int[] sizes : new int[][]{{100, 200}, {100, 50_000}, {50_000, 60_000}, {10, 10}}) {
+            BitSet first = new BitSet();
+            BitSet second = new BitSet();
+            Bitmap firstBitmap = random(random, first, sizes[0], 200_000);
+            Bitmap secondBitmap = random(random, second, sizes[1], 200_000);
+
+            BitSet and = (BitSet) first.clone();
+            and.and(second);
+            BitSet or = (BitSet) first.clone();
+            or.or(second);
+
+            Assertions.assertThat(values(firstBitmap.and(secondBitmap))).isEqualTo(values(and));
+            Assertions.assertThat(values(secondBitmap.and(firstBitmap))).isEqualTo(values(and));
+            Assertions.assertThat(firstBitmap.andCardinality(secondBitmap)).isEqualTo(and.cardinality());
+            Assertions.assertThat(values(firstBitmap.or(secondBitmap))).isEqualTo(values(or));
+            Assertions.assertThat(firstBitmap.or(secondBitmap).cardinality()).isEqualTo(or.cardinality());
+        }
+    }
+
+    /**
+     * The results of intersections and unions are new bitmaps that can be changed without changing their inputs
+     */
+    @Test
+    @DisplayName("change the results of intersections and unions")
+    public void testAndOr_Copy() {
+        Bitmap first = new Bitmap();
+        Bitmap second = new Bitmap();
+        first.add(1);
+        second.add(2);
+
+        Bitmap union = first.or(second);
+        union.add(3);
+        Bitmap intersection = first.and(second);
+        intersection.add(4);
+
+        Assertions.assertThat(values(first)).containsExactly(1);
+        Assertions.assertThat(values(second)).containsExactly(2);
+        Assertions.assertThat(values(union)).containsExactly(1, 2, 3);
+        Assertions.assertThat(values(intersection)).containsExactly(4);
+    }
+}
@@ -0,0 +1,145 @@
+package net.fribbtastic.MyMiniaturesVault.backend.tag;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidParameterException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith({MockitoExtension.class, SpringExtension.class})
+@WebMvcTest(controllers = TagController.class)
+class TagControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TagService service;
+
+    private final UUID id = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8060");
+
+    private final TaggedMiniature lich = new TaggedMiniature(this.id, "Lich", UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057"),
+            List.of("faction:undead", "scale:32mm"));
+
+    /**
+     * Test the MVC Tag Controller to filter the Miniatures by tags
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get Miniatures with tags")
+    public void testMvcGetMiniatures() throws Exception {
+        Mockito.when(this.service.getMiniatures(List.of("faction:undead", "scale:32mm"), 5)).thenReturn(List.of(this.lich));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/miniature").param("tags", "faction:undead,scale:32mm").param("limit", "5"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].id").value("01890a5d-ac96-774b-bcce-b302099a8060"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].name").value("Lich"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].bundle").value("01890a5d-ac96-774b-bcce-b302099a8057"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].tags[1]").value("scale:32mm"));
+    }
+
+    /**
+     * Test the MVC Tag Controller to get all Miniatures with the maximum limit
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get Miniatures (limit too large)")
+    public void testMvcGetMiniatures_MaxLimit() throws Exception {
+        Mockito.when(this.service.getMiniatures(null, TagController.MAX_LIMIT)).thenReturn(List.of());
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/miniature").param("limit", "100000"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data").isEmpty());
+    }
+
+    /**
+     * Test the MVC Tag Controller to reject an empty tag
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get Miniatures (empty tag)")
+    public void testMvcGetMiniatures_InvalidTag() throws Exception {
+        Mockito.when(this.service.getMiniatures(List.of("scale:"), TagController.DEFAULT_LIMIT)).thenThrow(new InvalidParameterException("tags", "scale:"));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/miniature").param("tags", "scale:"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    /**
+     * Test the MVC Tag Controller to replace the tags of a Miniature
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] set the tags of a Miniature")
+    public void testMvcSetTags() throws Exception {
+        Mockito.when(this.service.setTags(this.id, List.of("Faction: Undead", "scale:32mm"))).thenReturn(this.lich);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/miniature/" + this.id + "/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"Faction: Undead\", \"scale:32mm\"]"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.tags[0]").value("faction:undead"));
+    }
+
+    /**
+     * Test the MVC Tag Controller to set the tags of a Miniature that doesn't exist
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] set the tags of a Miniature (not found)")
+    public void testMvcSetTags_NotFound() throws Exception {
+        Mockito.when(this.service.setTags(this.id, List.of())).thenThrow(new ResourceNotFoundException(this.id));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/miniature/" + this.id + "/tags")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    /**
+     * Test the MVC Tag Controller to count the Miniatures by facet
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get the facets")
+    public void testMvcGetFacets() throws Exception {
+        Mockito.when(this.service.getFacets(List.of("faction:undead"))).thenReturn(new FacetCounts(2,
+                Map.of("faction", Map.of("orc", 1, "undead", 2), "scale", Map.of("32mm", 2))));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/facets").param("tags", "faction:undead"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.total").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.facets.faction.orc").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.facets.scale.32mm").value(2));
+    }
+}
@@ -0,0 +1,137 @@
+package net.fribbtastic.MyMiniaturesVault.backend.tag;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+class TagIndexTest {
+
+    private final TagIndex index = new TagIndex();
+
+    private final UUID creator = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8001");
+    private final UUID bundle = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8002");
+    private final UUID otherBundle = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8003");
+    private final UUID lich = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8004");
+    private final UUID warboss = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8005");
+    private final UUID skeleton = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8006");
+    private final UUID wizard = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8007");
+
+    @BeforeEach
+    public void setUp() {
+        this.index.put(this.lich, "Lich", this.bundle, this.creator, List.of("faction:undead", "scale:32mm", "supported"));
+        this.index.put(this.warboss, "Warboss", this.bundle, this.creator, List.of("faction:orc", "scale:32mm"));
+        this.index.put(this.skeleton, "Skeleton", this.otherBundle, this.creator, List.of("faction:undead", "scale:75mm", "supported"));
+        this.index.put(this.wizard, "Wizard", this.otherBundle, this.creator, List.of());
+    }
+
+    private List<UUID> find(String... tags) {
+        return this.index.find(List.of(tags), 10).stream().map(TaggedMiniature::id).toList();
+    }
+
+    /**
+     * Tags of the same facet are alternatives, tags of different facets all have to match
+     */
+    @Test
+    @DisplayName("filter Miniatures by tags")
+    public void testFind() {
+        Assertions.assertThat(this.find()).containsExactly(this.lich, this.skeleton, this.warboss, this.wizard);
+        Assertions.assertThat(this.find("faction:undead")).containsExactly(this.lich, this.skeleton);
+        Assertions.assertThat(this.find("faction:undead", "faction:orc", "scale:32mm")).containsExactly(this.lich, this.warboss);
+        Assertions.assertThat(this.find("faction:undead", "supported", "scale:75mm")).containsExactly(this.skeleton);
+        Assertions.assertThat(this.find("faction:elf")).isEmpty();
+        Assertions.assertThat(this.find("faction:elf", "faction:orc")).containsExactly(this.warboss);
+        Assertions.assertThat(this.index.find(List.of(), 2)).extracting(TaggedMiniature::name).containsExactly("Lich", "Skeleton");
+        Assertions.assertThat(this.index.find(List.of("faction:orc"), 10)).containsExactly(
+                new TaggedMiniature(this.warboss, "Warboss", this.bundle, List.of("faction:orc", "scale:32mm")));
+    }
+
+    /**
+     * The counts of a facet with selected tags ignore the selection of the same facet
+     */
+    @Test
+    @DisplayName("count the Miniatures of every tag")
+    public void testFacets() {
+        FacetCounts all = this.index.facets(List.of());
+
+        Assertions.assertThat(all.total()).isEqualTo(4);
+        Assertions.assertThat(all.facets()).isEqualTo(Map.of(
+                "faction", Map.of("orc", 1, "undead", 2),
+                "scale", Map.of("32mm", 2, "75mm", 1),
+                "tag", Map.of("supported", 2)));
+
+        FacetCounts undead = this.index.facets(List.of("faction:undead"));
+
+        Assertions.assertThat(undead.total()).isEqualTo(2);
+        Assertions.assertThat(undead.facets()).isEqualTo(Map.of(
+                "faction", Map.of("orc", 1, "undead", 2),
+                "scale", Map.of("32mm", 1, "75mm", 1),
+                "tag", Map.of("supported", 2)));
+
+        FacetCounts undead32mm = this.index.facets(List.of("faction:undead", "scale:32mm", "faction:elf"));
+
+        Assertions.assertThat(undead32mm.total()).isEqualTo(1);
+        Assertions.assertThat(undead32mm.facets()).isEqualTo(Map.of(
+                "faction", Map.of("orc", 1, "undead", 1),
+                "scale", Map.of("32mm", 1, "75mm", 1),
+                "tag", Map.of("supported", 1)));
+    }
+
+    @Test
+    @DisplayName("replace the tags of a Miniature")
+    public void testPut_Replace() {
+        this.index.put(this.warboss, "Warboss", this.bundle, this.creator, List.of("faction:undead"));
+
+        Assertions.assertThat(this.find("faction:orc")).isEmpty();
+        Assertions.assertThat(this.find("faction:undead")).containsExactly(this.lich, this.skeleton, this.warboss);
+        Assertions.assertThat(this.index.facets(List.of()).facets().get("faction")).isEqualTo(Map.of("undead", 3));
+        Assertions.assertThat(this.index.size()).isEqualTo(4);
+    }
+
+    /**
+     * Miniatures are removed by their ID or with their Bundle or Creator, the numbers of removed Miniatures are reused
+     */
+    @Test
+    @DisplayName("remove Miniatures")
+    public void testRemove() {
+        this.index.remove(List.of(this.otherBundle));
+
+        Assertions.assertThat(this.find()).containsExactly(this.lich, this.warboss);
+        Assertions.assertThat(this.index.facets(List.of()).total()).isEqualTo(2);
+
+        UUID ghoul = UUID.randomUUID();
+        this.index.put(ghoul, "Ghoul", this.otherBundle, this.creator, List.of("faction:undead"));
+
+        Assertions.assertThat(this.find("faction:undead")).containsExactly(ghoul, this.lich);
+
+        this.index.remove(List.of(this.lich));
+
+        Assertions.assertThat(this.find("faction:undead")).containsExactly(ghoul);
+
+        this.index.remove(List.of(this.creator));
+
+        Assertions.assertThat(this.find()).isEmpty();
+        Assertions.assertThat(this.index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("normalize tags")
+    public void testNormalize() {
+        Assertions.assertThat(TagIndex.normalize(" Faction :  Undead  Legion ")).isEqualTo("faction:undead legion");
+        Assertions.assertThat(TagIndex.normalize("Supported")).isEqualTo("supported");
+        Assertions.assertThat(TagIndex.normalize("tag:Supported")).isEqualTo("supported");
+        Assertions.assertThat(TagIndex.normalize(":supported")).isEqualTo("supported");
+        Assertions.assertThat(TagIndex.normalize("scale:")).isEmpty();
+        Assertions.assertThat(TagIndex.normalize(null)).isEmpty();
+        Assertions.assertThat(TagIndex.facet("faction:undead")).isEqualTo("faction");
+        Assertions.assertThat(TagIndex.facet("supported")).isEqualTo(TagIndex.DEFAULT_FACET);
+        Assertions.assertThat(TagIndex.value("faction:undead")).isEqualTo("undead");
+    }
+}
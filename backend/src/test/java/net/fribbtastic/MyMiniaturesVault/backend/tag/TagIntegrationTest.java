@@ -0,0 +1,147 @@
+package net.fribbtastic.MyMiniaturesVault.backend.tag;
+
+import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tags the Miniatures of the test data through the API and filters them by their tags.
+ * The Database is shared with the other integration tests, all Bundles and Creators are removed after the last test.
+ *
+ * @author Frederic Eßer
+ */
+@SpringBootTest(classes = BackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql("classpath:bundle/truncate.sql")
+@Sql("classpath:bundle/insert.sql")
+@Sql(scripts = "classpath:bundle/truncate.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_CLASS)
+public class TagIntegrationTest {
+
+    private static final String MINIATURE_01 = "01890a5d-ac96-774b-bcce-b302099a8060";
+    private static final String MINIATURE_02 = "01890a5d-ac96-774b-bcce-b302099a8061";
+    private static final String MINIATURE_03 = "01890a5d-ac96-774b-bcce-b302099a8062";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate template;
+
+    @Autowired
+    private TagService tagService;
+
+    private String url;
+
+    @BeforeEach
+    public void setUp() {
+        this.url = "http://localhost:" + this.port + "/api/v1";
+
+        // the Database is changed behind the index by the @Sql scripts
+        this.tagService.rebuild();
+    }
+
+    private ResponseEntity<ApiResponse<TaggedMiniature>> setTags(String id, List<String> tags) {
+        return this.template.exchange(this.url + "/miniature/" + id + "/tags", HttpMethod.PUT, new HttpEntity<>(tags), new ParameterizedTypeReference<>() {});
+    }
+
+    private int setInvalidTags(String id, List<String> tags) {
+        return this.template.exchange(this.url + "/miniature/" + id + "/tags", HttpMethod.PUT, new HttpEntity<>(tags), String.class).getStatusCode().value();
+    }
+
+    private List<String> getMiniatures(String tags) {
+        ResponseEntity<ApiResponse<List<TaggedMiniature>>> response = this.template.exchange(this.url + "/miniature?tags=" + tags,
+                HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+
+        return Objects.requireNonNull(response.getBody()).getData().stream().map(TaggedMiniature::name).toList();
+    }
+
+    private FacetCounts getFacets(String tags) {
+        ResponseEntity<ApiResponse<FacetCounts>> response = this.template.exchange(this.url + "/facets?tags=" + tags,
+                HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+
+        return Objects.requireNonNull(response.getBody()).getData();
+    }
+
+    /**
+     * Integration Test to tag Miniatures, filter them and count them by facet.
+     * The tags are stored in the Database and found again after the index is rebuilt.
+     */
+    @Test
+    @DisplayName("[Integration] filter Miniatures by their tags")
+    public void testIntegrationTags() {
+        ResponseEntity<ApiResponse<TaggedMiniature>> response = this.setTags(MINIATURE_01, List.of("Faction: Undead", "scale:32mm", "Supported", "supported"));
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(Objects.requireNonNull(response.getBody()).getData().tags()).containsExactly("faction:undead", "scale:32mm", "supported");
+
+        this.setTags(MINIATURE_02, List.of("faction:orc", "scale:32mm"));
+        this.setTags(MINIATURE_03, List.of("faction:undead", "scale:75mm"));
+
+        Assertions.assertThat(this.getMiniatures("faction:undead")).containsExactly("Test Miniature Name 01", "Test Miniature Name 03");
+        Assertions.assertThat(this.getMiniatures("faction:undead,faction:orc,scale:32mm")).containsExactly("Test Miniature Name 01", "Test Miniature Name 02");
+
+        FacetCounts facets = this.getFacets("scale:32mm");
+
+        Assertions.assertThat(facets.total()).isEqualTo(2);
+        Assertions.assertThat(facets.facets()).isEqualTo(Map.of(
+                "faction", Map.of("orc", 1, "undead", 1),
+                "scale", Map.of("32mm", 2, "75mm", 1),
+                "tag", Map.of("supported", 1)));
+
+        this.tagService.rebuild();
+
+        Assertions.assertThat(this.getMiniatures("scale:75mm")).containsExactly("Test Miniature Name 03");
+
+        // replace the tags
+        this.setTags(MINIATURE_03, List.of("faction:orc"));
+
+        Assertions.assertThat(this.getMiniatures("faction:orc")).containsExactly("Test Miniature Name 02", "Test Miniature Name 03");
+        Assertions.assertThat(this.getMiniatures("scale:75mm")).isEmpty();
+    }
+
+    /**
+     * Integration Test to delete a Bundle, its Miniatures are removed from the index
+     */
+    @Test
+    @DisplayName("[Integration] delete the Miniatures of a Bundle")
+    public void testIntegrationDeleteBundle() {
+        this.setTags(MINIATURE_01, List.of("faction:undead"));
+        this.setTags(MINIATURE_03, List.of("faction:undead"));
+
+        this.template.delete(this.url + "/bundle/01890a5d-ac96-774b-bcce-b302099a8057");
+
+        Assertions.assertThat(this.getMiniatures("faction:undead")).containsExactly("Test Miniature Name 03");
+        Assertions.assertThat(this.getFacets("").total()).isEqualTo(1);
+    }
+
+    /**
+     * Integration Test to reject invalid tags and unknown Miniatures
+     */
+    @Test
+    @DisplayName("[Integration] set invalid tags")
+    public void testIntegrationInvalidTags() {
+        Assertions.assertThat(this.setInvalidTags(MINIATURE_01, List.of("scale:"))).isEqualTo(400);
+        Assertions.assertThat(this.setInvalidTags(MINIATURE_01, List.of("x".repeat(MiniatureTag.MAX_LENGTH + 1)))).isEqualTo(400);
+        Assertions.assertThat(this.setInvalidTags("01890a5d-ac96-774b-bcce-b302099a8099", List.of("supported"))).isEqualTo(404);
+        Assertions.assertThat(this.getMiniatures("")).hasSize(3);
+    }
+}
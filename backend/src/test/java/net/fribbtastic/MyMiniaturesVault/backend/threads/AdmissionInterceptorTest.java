@@ -0,0 +1,85 @@
+package net.fribbtastic.MyMiniaturesVault.backend.threads;
+
+import jakarta.servlet.DispatcherType;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.AdmissionRejectedException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+/**
+ * @author Frederic Eßer
+ */
+class AdmissionInterceptorTest {
+
+    private final AdmissionInterceptor interceptor = new AdmissionInterceptor(1, Duration.ofMillis(10));
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    /**
+     * Test that a request holds its permit until it is completed
+     */
+    @Test
+    @DisplayName("admit a request until it is completed")
+    public void testAdmitRequest() throws InterruptedException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/creator");
+
+        Assertions.assertThat(this.interceptor.preHandle(request, this.response, null)).isTrue();
+        Assertions.assertThat(this.interceptor.getAvailablePermits()).isEqualTo(0);
+
+        this.interceptor.afterCompletion(request, this.response, null, null);
+
+        Assertions.assertThat(this.interceptor.getAvailablePermits()).isEqualTo(1);
+
+        // the permit is only released once
+        this.interceptor.afterCompletion(request, this.response, null, null);
+
+        Assertions.assertThat(this.interceptor.getAvailablePermits()).isEqualTo(1);
+    }
+
+    /**
+     * Test that a request is rejected when no permit becomes available within the timeout
+     */
+    @Test
+    @DisplayName("reject a request without an available permit")
+    public void testRejectRequest() throws InterruptedException {
+        MockHttpServletRequest first = new MockHttpServletRequest("GET", "/api/v1/creator");
+        MockHttpServletRequest second = new MockHttpServletRequest("GET", "/api/v1/creator");
+
+        this.interceptor.preHandle(first, this.response, null);
+
+        Assertions.assertThatThrownBy(() -> this.interceptor.preHandle(second, this.response, null))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .hasMessage("The request could not be admitted within 10 ms");
+
+        // the rejected request doesn't release a permit it never got
+        this.interceptor.afterCompletion(second, this.response, null, null);
+
+        Assertions.assertThat(this.interceptor.getAvailablePermits()).isEqualTo(0);
+    }
+
+    /**
+     * Test that the async dispatch of an admitted request doesn't need another permit
+     * and the permit is released after the async dispatch is completed
+     */
+    @Test
+    @DisplayName("keep the permit of an asynchronous request")
+    public void testAsyncRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/creator");
+
+        this.interceptor.preHandle(request, this.response, null);
+        this.interceptor.afterConcurrentHandlingStarted(request, this.response, null);
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+
+        Assertions.assertThat(this.interceptor.preHandle(request, this.response, null)).isTrue();
+        Assertions.assertThat(this.interceptor.getAvailablePermits()).isEqualTo(0);
+
+        this.interceptor.afterCompletion(request, this.response, null, null);
+
+        Assertions.assertThat(this.interceptor.getAvailablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,81 @@
+package net.fribbtastic.MyMiniaturesVault.backend.threads;
+
+import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+/**
+ * @author Frederic Eßer
+ */
+@SpringBootTest(classes = BackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.threads.virtual.enabled=true", "threads.admission.max-concurrent-requests=1"})
+public class VirtualThreadIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate template;
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private HandlerMapping handlerMapping;
+
+    /**
+     * Integration Test for the virtual thread mode.
+     * Tomcat handles the requests on virtual threads and the API requests are admitted one after another
+     */
+    @Test
+    @DisplayName("[Integration] handle requests on virtual threads")
+    public void testIntegrationVirtualThreads() {
+        TomcatWebServer webServer = (TomcatWebServer) this.context.getWebServer();
+
+        Assertions.assertThat(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor()).isInstanceOf(VirtualThreadExecutor.class);
+
+        for (int i = 0; i < 3; i++) {
+            ResponseEntity<String> response = this.template.getForEntity("http://localhost:" + this.port + "/api/v1/creator", String.class);
+
+            Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        }
+    }
+
+    /**
+     * Integration Test for the virtual thread mode.
+     * The API requests below the configured prefix are admitted, except the change feed that would hold a permit for minutes
+     *
+     * @throws Exception thrown by the {@link HandlerMapping}
+     */
+    @Test
+    @DisplayName("[Integration] admit the requests below the API prefix")
+    public void testIntegrationAdmittedPaths() throws Exception {
+        Assertions.assertThat(this.interceptors("/api/v1/creator")).hasAtLeastOneElementOfType(AdmissionInterceptor.class);
+        Assertions.assertThat(this.interceptors("/api/v1/events")).doesNotHaveAnyElementsOfTypes(AdmissionInterceptor.class);
+    }
+
+    private List<HandlerInterceptor> interceptors(String path) throws Exception {
+        HandlerExecutionChain chain = this.handlerMapping.getHandler(new MockHttpServletRequest("GET", path));
+
+        Assertions.assertThat(chain).isNotNull();
+
+        return chain.getInterceptorList();
+    }
+}
@@ -0,0 +1,84 @@
+package net.fribbtastic.MyMiniaturesVault.backend.thumbnail;
+
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.StlTestFiles;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * @author Frederic Eßer
+ */
+class MeshRendererTest {
+
+    @TempDir
+    private Path directory;
+
+    /**
+     * The cube fills the center of the image, the three visible sides are shaded differently
+     */
+    @Test
+    @DisplayName("render a cube")
+    public void testRender() throws IOException {
+        Path file = StlTestFiles.writeBinary(this.directory.resolve("cube.stl"), StlTestFiles.cubes(1, 10));
+
+        BufferedImage image = MeshRenderer.render(file, 64);
+
+        Assertions.assertThat(image.getWidth()).isEqualTo(64);
+        Assertions.assertThat(image.getHeight()).isEqualTo(64);
+        Assertions.assertThat(image.getRGB(32, 32) >>> 24).isEqualTo(255);
+        Assertions.assertThat(image.getRGB(0, 0) >>> 24).isEqualTo(0);
+
+        Set<Integer> colors = new HashSet<>();
+
+        for (int y = 0; y < 64; y++) {
+            for (int x = 0; x < 64; x++) {
+                if (image.getRGB(x, y) >>> 24 == 255) {
+                    colors.add(image.getRGB(x, y));
+                }
+            }
+        }
+
+        Assertions.assertThat(colors).hasSizeGreaterThanOrEqualTo(3);
+    }
+
+    /**
+     * ASCII files are rendered like binary files with the same triangles
+     */
+    @Test
+    @DisplayName("render an ASCII STL")
+    public void testRender_Ascii() throws IOException {
+        BufferedImage binary = MeshRenderer.render(StlTestFiles.writeBinary(this.directory.resolve("binary.stl"), StlTestFiles.cubes(2, 10)), 48);
+        BufferedImage ascii = MeshRenderer.render(StlTestFiles.writeAscii(this.directory.resolve("ascii.stl"), StlTestFiles.cubes(2, 10)), 48);
+
+        for (int y = 0; y < 48; y++) {
+            for (int x = 0; x < 48; x++) {
+                Assertions.assertThat(ascii.getRGB(x, y)).isEqualTo(binary.getRGB(x, y));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("render an STL without triangles")
+    public void testRender_Empty() throws IOException {
+        BufferedImage image = MeshRenderer.render(StlTestFiles.writeBinary(this.directory.resolve("empty.stl"), Collections.emptyList()), 32);
+
+        Assertions.assertThat(image.getRGB(16, 16)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("render a file that is not an STL")
+    public void testRender_Invalid() throws IOException {
+        Path file = Files.write(this.directory.resolve("invalid.stl"), new byte[10]);
+
+        Assertions.assertThatThrownBy(() -> MeshRenderer.render(file, 32)).isInstanceOf(IOException.class);
+    }
+}
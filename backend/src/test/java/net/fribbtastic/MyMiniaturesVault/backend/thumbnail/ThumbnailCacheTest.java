@@ -0,0 +1,100 @@
+package net.fribbtastic.MyMiniaturesVault.backend.thumbnail;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+/**
+ * @author Frederic Eßer
+ */
+class ThumbnailCacheTest {
+
+    @TempDir
+    private Path directory;
+
+    private Path put(ThumbnailCache cache, String name, int size) throws IOException {
+        return cache.put(name, Files.write(cache.createTempFile(name), new byte[size]));
+    }
+
+    @Test
+    @DisplayName("cache a thumbnail")
+    public void testPut() throws IOException {
+        ThumbnailCache cache = new ThumbnailCache(this.directory.resolve("thumbnails"), 1000);
+
+        Assertions.assertThat(cache.get("a-256.png")).isNull();
+
+        Path file = this.put(cache, "a-256.png", 100);
+
+        Assertions.assertThat(file).hasFileName("a-256.png").hasSize(100);
+        Assertions.assertThat(cache.get("a-256.png")).isEqualTo(file);
+        Assertions.assertThat(cache.getBytes()).isEqualTo(100);
+    }
+
+    /**
+     * The least recently used thumbnails are deleted when the cache gets too large
+     */
+    @Test
+    @DisplayName("evict the least recently used thumbnails")
+    public void testEvict() throws IOException {
+        ThumbnailCache cache = new ThumbnailCache(this.directory, 250);
+        Path a = this.put(cache, "a-256.png", 100);
+        Path b = this.put(cache, "b-256.png", 100);
+
+        // use a, so b is the least recently used thumbnail
+        cache.get("a-256.png");
+        this.put(cache, "c-256.png", 100);
+
+        Assertions.assertThat(cache.get("b-256.png")).isNull();
+        Assertions.assertThat(b).doesNotExist();
+        Assertions.assertThat(cache.get("a-256.png")).isEqualTo(a);
+        Assertions.assertThat(cache.getCount()).isEqualTo(2);
+        Assertions.assertThat(cache.getBytes()).isEqualTo(200);
+    }
+
+    /**
+     * A new cache continues with the existing thumbnails, the oldest ones are evicted first and unfinished renders are deleted
+     */
+    @Test
+    @DisplayName("restore the thumbnails from the folder")
+    public void testRestore() throws IOException {
+        Files.setLastModifiedTime(Files.write(this.directory.resolve("new-256.png"), new byte[100]), FileTime.from(Instant.parse("2025-01-02T00:00:00Z")));
+        Files.setLastModifiedTime(Files.write(this.directory.resolve("old-256.png"), new byte[100]), FileTime.from(Instant.parse("2025-01-01T00:00:00Z")));
+        Path temp = Files.write(this.directory.resolve("unfinished-256.png123.tmp"), new byte[100]);
+
+        ThumbnailCache cache = new ThumbnailCache(this.directory, 250);
+
+        Assertions.assertThat(cache.getCount()).isEqualTo(2);
+        Assertions.assertThat(temp).doesNotExist();
+
+        this.put(cache, "newest-256.png", 100);
+
+        Assertions.assertThat(cache.get("old-256.png")).isNull();
+        Assertions.assertThat(cache.get("new-256.png")).isNotNull();
+    }
+
+    /**
+     * A thumbnail is read as bytes, one whose file is gone is a cache miss and is removed from the cache
+     */
+    @Test
+    @DisplayName("read a thumbnail that was deleted")
+    public void testRead_Deleted() throws IOException {
+        ThumbnailCache cache = new ThumbnailCache(this.directory, 1000);
+        Path a = this.put(cache, "a-256.png", 100);
+
+        Assertions.assertThat(cache.read("a-256.png")).hasSize(100);
+        Assertions.assertThat(cache.read("b-256.png")).isNull();
+
+        Files.delete(a);
+
+        Assertions.assertThat(cache.read("a-256.png")).isNull();
+        Assertions.assertThat(cache.getCount()).isEqualTo(0);
+        Assertions.assertThat(cache.getBytes()).isEqualTo(0);
+    }
+}
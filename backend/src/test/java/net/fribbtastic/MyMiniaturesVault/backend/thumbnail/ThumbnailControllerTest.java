@@ -0,0 +1,138 @@
+package net.fribbtastic.MyMiniaturesVault.backend.thumbnail;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ThumbnailUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith({MockitoExtension.class, SpringExtension.class})
+@WebMvcTest(controllers = ThumbnailController.class)
+class ThumbnailControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ThumbnailService service;
+
+    private final String endpoint = "/api/v1/thumbnail/";
+
+    private final String hash = "0123456789abcdef".repeat(4);
+
+    /**
+     * Test the MVC Thumbnail Controller to return the PNG with an ETag and a Cache-Control header that allows clients
+     * to cache it forever
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get a thumbnail")
+    public void testMvcGetThumbnail() throws Exception {
+        Mockito.when(this.service.getThumbnail(this.hash, 128)).thenReturn(CompletableFuture.completedFuture(new byte[]{1, 2, 3}));
+
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + this.hash).param("size", "128"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(MockMvcResultMatchers.content().bytes(new byte[]{1, 2, 3}))
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"" + this.hash + "-128\""))
+                .andExpect(MockMvcResultMatchers.header().string("Cache-Control", "max-age=31536000, public, immutable"));
+    }
+
+    /**
+     * Test the MVC Thumbnail Controller to clamp the size of the thumbnail
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get a thumbnail that is too large")
+    public void testMvcGetThumbnail_Clamped() throws Exception {
+        Mockito.when(this.service.getThumbnail(this.hash, ThumbnailService.MAX_SIZE)).thenReturn(CompletableFuture.completedFuture(new byte[]{1, 2, 3}));
+
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + this.hash).param("size", "100000"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"" + this.hash + "-" + ThumbnailService.MAX_SIZE + "\""));
+    }
+
+    /**
+     * Test the MVC Thumbnail Controller to answer a request with a matching ETag without the service
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get a thumbnail that is not modified")
+    public void testMvcGetThumbnail_NotModified() throws Exception {
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + this.hash).header("If-None-Match", "\"" + this.hash + "-256\""))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"" + this.hash + "-256\""));
+
+        Mockito.verifyNoInteractions(this.service);
+    }
+
+    @Test
+    @DisplayName("[WebMVC] get a thumbnail with an invalid hash")
+    public void testMvcGetThumbnail_InvalidHash() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + "../etc"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().is4xxClientError());
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + "ABC"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        Mockito.verifyNoInteractions(this.service);
+    }
+
+    /**
+     * Test the MVC Thumbnail Controller to return a 404 when there is no STL file with the content
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get a thumbnail that can't be rendered")
+    public void testMvcGetThumbnail_Unavailable() throws Exception {
+        Mockito.when(this.service.getThumbnail(this.hash, ThumbnailService.DEFAULT_SIZE))
+                .thenReturn(CompletableFuture.failedFuture(new ThumbnailUnavailableException(this.hash, "only STL files can be rendered")));
+
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + this.hash).accept(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(404))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(ThumbnailUnavailableException.class.getSimpleName()));
+    }
+}
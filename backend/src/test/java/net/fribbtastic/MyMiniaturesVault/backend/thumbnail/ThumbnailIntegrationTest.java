@@ -0,0 +1,152 @@
+package net.fribbtastic.MyMiniaturesVault.backend.thumbnail;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.StlTestFiles;
+import net.fribbtastic.MyMiniaturesVault.backend.scanner.LibraryScanner;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFileRepository;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFileServiceImpl;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Renders the thumbnails of a scanned library through the API
+ *
+ * @author Frederic Eßer
+ */
+@SpringBootTest(classes = BackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql("classpath:bundle/truncate.sql")
+@Sql(scripts = "classpath:bundle/truncate.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_CLASS)
+public class ThumbnailIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate template;
+
+    @Autowired
+    private LibraryScanner scanner;
+
+    @Autowired
+    private ModelFileRepository fileRepository;
+
+    @Autowired
+    private ModelFileServiceImpl fileService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @TempDir
+    private Path root;
+
+    private Path stl;
+
+    private Path threeMf;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        // a new mesh for every run, so the thumbnail isn't cached from a previous run
+        float edge = ThreadLocalRandom.current().nextFloat(5, 50);
+
+        this.stl = StlTestFiles.writeBinary(this.root.resolve("Test Creator 01/Test Bundle 01/model01.stl"), StlTestFiles.cubes(3, edge));
+        this.threeMf = this.root.resolve("Test Creator 01/Test Bundle 01/model02.3mf");
+        Files.write(this.threeMf, new byte[]{(byte) edge});
+
+        this.scanner.scan(List.of(this.root));
+    }
+
+    private String hash(Path file) {
+        return this.fileService.getContentHash(this.fileRepository.findByPath(file.toString()).orElseThrow().getId());
+    }
+
+    private ResponseEntity<byte[]> get(String hash, HttpHeaders headers) {
+        return this.template.exchange("http://localhost:" + this.port + "/api/v1/thumbnail/" + hash + "?size=64",
+                HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+    }
+
+    /**
+     * Integration Test to render a thumbnail once for concurrent requests and to answer later requests from the cache
+     * or with '304 Not Modified'
+     */
+    @Test
+    @DisplayName("[Integration] get a thumbnail")
+    public void testIntegrationGetThumbnail() throws Exception {
+        String hash = this.hash(this.stl);
+        double rendered = this.meterRegistry.counter(ThumbnailService.REQUESTS_METRIC, "result", "render").count();
+
+        List<ResponseEntity<byte[]>> responses = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ResponseEntity<byte[]>>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+
+                    return this.get(hash, new HttpHeaders());
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<ResponseEntity<byte[]>> future : futures) {
+                responses.add(future.get());
+            }
+        }
+
+        for (ResponseEntity<byte[]> response : responses) {
+            Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+            Assertions.assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.IMAGE_PNG);
+            Assertions.assertThat(response.getHeaders().getCacheControl()).contains("immutable");
+            Assertions.assertThat(response.getBody()).isEqualTo(responses.getFirst().getBody());
+        }
+
+        Assertions.assertThat(this.meterRegistry.counter(ThumbnailService.REQUESTS_METRIC, "result", "render").count()).isEqualTo(rendered + 1);
+
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(responses.getFirst().getBody()));
+
+        Assertions.assertThat(image.getWidth()).isEqualTo(64);
+        Assertions.assertThat(image.getRGB(32, 32) >>> 24).isEqualTo(255);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(responses.getFirst().getHeaders().getETag());
+
+        Assertions.assertThat(this.get(hash, headers).getStatusCode().value()).isEqualTo(304);
+    }
+
+    /**
+     * Integration Test for a thumbnail of a file that isn't an STL file
+     */
+    @Test
+    @DisplayName("[Integration] get a thumbnail of a 3MF file")
+    public void testIntegrationGetThumbnail_NotStl() {
+        ResponseEntity<byte[]> response = this.get(this.hash(this.threeMf), new HttpHeaders());
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(404);
+    }
+}
@@ -0,0 +1,171 @@
+package net.fribbtastic.MyMiniaturesVault.backend.upload;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ChecksumMismatchException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InsufficientStorageException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.UploadConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith({MockitoExtension.class, SpringExtension.class})
+@WebMvcTest(controllers = UploadController.class)
+class UploadControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UploadService service;
+
+    @TempDir
+    private Path directory;
+
+    private final UUID id = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8070");
+
+    private UploadSession session;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        this.session = new UploadSession(this.id, new NewUpload("model01.stl", 10, "Test Creator 01", "Test Bundle 01"),
+                this.directory.resolve(this.id + ".part"), Duration.ofHours(1));
+    }
+
+    /**
+     * Test the MVC Upload Controller to create an upload
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] create an upload")
+    public void testMvcCreateUpload() throws Exception {
+        Mockito.when(this.service.create(new NewUpload("model01.stl", 10, "Test Creator 01", "Test Bundle 01"))).thenReturn(this.session);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/upload")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"model01.stl\",\"size\":10,\"creator\":\"Test Creator 01\",\"bundle\":\"Test Bundle 01\"}"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.header().string(UploadController.OFFSET_HEADER, "0"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.id").value(this.id.toString()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.size").value(10))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.status").value("UPLOADING"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.received").isEmpty());
+    }
+
+    /**
+     * Test the MVC Upload Controller to stream a chunk into the session
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] write a chunk")
+    public void testMvcWriteChunk() throws Exception {
+        Mockito.when(this.service.write(Mockito.eq(this.id), Mockito.eq(0L), Mockito.eq(4L), Mockito.any(), Mockito.eq("sha256 AQID")))
+                .thenAnswer(invocation -> {
+                    this.session.write(0, 4, invocation.getArgument(3, InputStream.class), null);
+                    return this.session;
+                });
+
+        this.mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/upload/" + this.id).param("offset", "0")
+                        .header(UploadController.CHECKSUM_HEADER, "sha256 AQID")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[]{1, 2, 3, 4}))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(UploadController.OFFSET_HEADER, "4"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.receivedBytes").value(4))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.received[0].start").value(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.received[0].end").value(4));
+    }
+
+    /**
+     * Test the MVC Upload Controller to answer a chunk with a wrong checksum
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] write a chunk with a wrong checksum")
+    public void testMvcWriteChunk_ChecksumMismatch() throws Exception {
+        Mockito.when(this.service.write(Mockito.eq(this.id), Mockito.eq(6L), Mockito.eq(4L), Mockito.any(), Mockito.any()))
+                .thenThrow(new ChecksumMismatchException("sha256", 6));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.put("/api/v1/upload/" + this.id).param("offset", "6")
+                        .header(UploadController.CHECKSUM_HEADER, "sha256 AQID")
+                        .content(new byte[]{1, 2, 3, 4}))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(ChecksumMismatchException.class.getSimpleName()));
+    }
+
+    /**
+     * Test the MVC Upload Controller to refuse an upload that doesn't fit on the disk
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] create an upload (insufficient storage)")
+    public void testMvcCreateUpload_InsufficientStorage() throws Exception {
+        Mockito.when(this.service.create(Mockito.any())).thenThrow(new InsufficientStorageException(1000, 10));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/upload")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"model01.stl\",\"size\":1000,\"creator\":\"Test Creator 01\",\"bundle\":\"Test Bundle 01\"}"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isInsufficientStorage())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(InsufficientStorageException.class.getSimpleName()));
+    }
+
+    /**
+     * Test the MVC Upload Controller to refuse completing an upload with missing bytes
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] complete an incomplete upload")
+    public void testMvcCompleteUpload_Conflict() throws Exception {
+        Mockito.when(this.service.complete(this.id)).thenThrow(new UploadConflictException(this.id, "10 bytes are missing"));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/upload/" + this.id + "/complete"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(UploadConflictException.class.getSimpleName()));
+    }
+
+    /**
+     * Test the MVC Upload Controller to return a 404 for an unknown upload
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] cancel an upload (not found)")
+    public void testMvcCancelUpload_NotFound() throws Exception {
+        Mockito.doThrow(new ResourceNotFoundException(this.id)).when(this.service).cancel(this.id);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.delete("/api/v1/upload/" + this.id))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+}
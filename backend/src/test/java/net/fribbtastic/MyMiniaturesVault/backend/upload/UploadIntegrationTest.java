@@ -0,0 +1,160 @@
+package net.fribbtastic.MyMiniaturesVault.backend.upload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.StlTestFiles;
+import net.fribbtastic.MyMiniaturesVault.backend.storage.ContentHash;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFile;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFileRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Uploads a file in chunks through Tomcat and completes it into the library of the vault
+ *
+ * @author Frederic Eßer
+ */
+@SpringBootTest(classes = BackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql("classpath:bundle/truncate.sql")
+@Sql(scripts = "classpath:bundle/truncate.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_CLASS)
+public class UploadIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ModelFileRepository fileRepository;
+
+    @TempDir
+    private Path directory;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + this.port + "/api/v1/upload" + path));
+    }
+
+    private JsonNode send(HttpRequest request, int status) throws IOException, InterruptedException {
+        HttpResponse<String> response = this.client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        Assertions.assertThat(response.statusCode()).as(response.body()).isEqualTo(status);
+
+        return this.objectMapper.readTree(response.body()).get("data");
+    }
+
+    private CompletableFuture<HttpResponse<String>> putChunk(String id, byte[] content, int start, int end) {
+        HttpRequest request = this.request("/" + id + "?offset=" + start)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(content, start, end - start))
+                .build();
+
+        return this.client.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Integration Test to upload an STL in chunks that are sent at the same time, one of them is interrupted and resumed.
+     * The completed file is linked into the library, indexed with its mesh and its content hash.
+     */
+    @Test
+    @DisplayName("[Integration] upload a file in chunks")
+    public void testIntegrationUpload() throws Exception {
+        Path stl = StlTestFiles.writeBinary(this.directory.resolve("model.stl"), StlTestFiles.cubes(5000, 10));
+        byte[] content = Files.readAllBytes(stl);
+        // a new name for every run, the library of the tests is kept in the target folder
+        String name = "model-" + UUID.randomUUID() + ".stl";
+
+        JsonNode created = this.send(this.request("")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"" + name + "\",\"size\":" + content.length + ",\"creator\":\"Test Creator 01\",\"bundle\":\"Test Bundle 01\"}"))
+                .build(), 201);
+        String id = created.get("id").asText();
+
+        int chunk = 100_000;
+        List<CompletableFuture<HttpResponse<String>>> chunks = new ArrayList<>();
+
+        for (int start = chunk; start < content.length; start += chunk) {
+            chunks.add(this.putChunk(id, content, start, Math.min(start + chunk, content.length)));
+        }
+
+        for (CompletableFuture<HttpResponse<String>> response : chunks) {
+            Assertions.assertThat(response.join().statusCode()).isEqualTo(200);
+        }
+
+        // the first chunk is missing, the upload can't be completed yet
+        this.send(this.request("/" + id + "/complete").POST(HttpRequest.BodyPublishers.noBody()).build(), 409);
+
+        JsonNode status = this.send(this.request("/" + id).GET().build(), 200);
+
+        Assertions.assertThat(status.get("offset").asLong()).isZero();
+        Assertions.assertThat(status.get("received").get(0).get("start").asLong()).isEqualTo(chunk);
+
+        HttpRequest wrongChecksum = this.request("/" + id + "?offset=0")
+                .header(UploadController.CHECKSUM_HEADER, "sha256 " + ContentHash.full(stl))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(content, 0, chunk))
+                .build();
+        this.send(wrongChecksum, 400);
+
+        Assertions.assertThat(this.putChunk(id, content, 0, chunk).join().statusCode()).isEqualTo(200);
+
+        JsonNode completed = this.send(this.request("/" + id + "/complete").POST(HttpRequest.BodyPublishers.noBody()).build(), 200);
+
+        Assertions.assertThat(completed.get("status").asText()).isEqualTo("COMPLETED");
+        Assertions.assertThat(completed.get("contentHash").asText()).isEqualTo(ContentHash.full(stl));
+
+        ModelFile file = this.fileRepository.findById(UUID.fromString(completed.get("fileId").asText())).orElseThrow();
+
+        Assertions.assertThat(file.getPath()).endsWith(Path.of("library", "Test Creator 01", "Test Bundle 01", name).toString());
+        Assertions.assertThat(file.getSize()).isEqualTo(content.length);
+        Assertions.assertThat(file.getMesh().getTriangles()).isEqualTo(5000 * 12);
+        Assertions.assertThat(file.getContentHash()).isEqualTo(ContentHash.full(stl));
+        Assertions.assertThat(Files.readAllBytes(Path.of(file.getPath()))).isEqualTo(content);
+
+        // the same name can't be uploaded into the Bundle again
+        this.send(this.request("")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"" + name + "\",\"size\":10,\"creator\":\"Test Creator 01\",\"bundle\":\"Test Bundle 01\"}"))
+                .build(), 409);
+    }
+
+    /**
+     * Integration Test to cancel an upload, its file is deleted
+     */
+    @Test
+    @DisplayName("[Integration] cancel an upload")
+    public void testIntegrationCancelUpload() throws Exception {
+        JsonNode created = this.send(this.request("")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"archive.zip\",\"size\":1000000,\"creator\":\"Test Creator 01\",\"bundle\":\"Test Bundle 01\"}"))
+                .build(), 201);
+        String id = created.get("id").asText();
+
+        byte[] chunk = new byte[1000];
+        Arrays.fill(chunk, (byte) 1);
+        Assertions.assertThat(this.putChunk(id, chunk, 0, chunk.length).join().statusCode()).isEqualTo(200);
+
+        this.send(this.request("/" + id).DELETE().build(), 200);
+        this.send(this.request("/" + id).GET().build(), 404);
+    }
+}
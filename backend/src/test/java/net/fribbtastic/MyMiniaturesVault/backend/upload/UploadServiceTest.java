@@ -0,0 +1,146 @@
+package net.fribbtastic.MyMiniaturesVault.backend.upload;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InsufficientStorageException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.UploadConflictException;
+import net.fribbtastic.MyMiniaturesVault.backend.scanner.LibraryScanner;
+import net.fribbtastic.MyMiniaturesVault.backend.storage.ContentStore;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.file.ModelFileRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * @author Frederic Eßer
+ */
+class UploadServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private final byte[] content = "solid model01".getBytes();
+
+    private final LibraryScanner scanner = Mockito.mock(LibraryScanner.class);
+
+    private UploadService service(Duration expireAfter) throws IOException {
+        UploadService service = new UploadService(this.directory.resolve("vault/uploads"), this.directory.resolve("vault/library"),
+                expireAfter, DataSize.ofTerabytes(1024));
+
+        ReflectionTestUtils.setField(service, "contentStore", new ContentStore(this.directory.resolve("vault")));
+        ReflectionTestUtils.setField(service, "scanner", this.scanner);
+        ReflectionTestUtils.setField(service, "fileRepository", Mockito.mock(ModelFileRepository.class));
+
+        return service;
+    }
+
+    private UploadSession upload(UploadService service) throws IOException {
+        UploadSession session = service.create(new NewUpload("model01.stl", this.content.length, "Test Creator 01", "Test Bundle 01"));
+
+        return service.write(session.getId(), 0, this.content.length, new ByteArrayInputStream(this.content), null);
+    }
+
+    private List<Path> files(String folder) throws IOException {
+        Path root = this.directory.resolve(folder);
+
+        if (Files.notExists(root)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    /**
+     * An upload that can't be linked into its Bundle folder is cancelled and its content is deleted from the store again
+     */
+    @Test
+    @DisplayName("complete an upload that can't be linked")
+    public void testComplete_LinkFailed() throws IOException {
+        UploadService service = this.service(Duration.ofHours(1));
+        UploadSession session = this.upload(service);
+
+        // the Bundle folder can't be created where a file with its name is
+        Files.createDirectories(this.directory.resolve("vault/library/Test Creator 01"));
+        Files.write(this.directory.resolve("vault/library/Test Creator 01/Test Bundle 01"), new byte[0]);
+
+        Assertions.assertThatThrownBy(() -> service.complete(session.getId()))
+                .isInstanceOf(UploadConflictException.class);
+
+        Assertions.assertThatThrownBy(() -> service.get(session.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        Assertions.assertThat(this.files("vault/content")).isEmpty();
+        Assertions.assertThat(this.files("vault/uploads")).isEmpty();
+
+        Mockito.verifyNoInteractions(this.scanner);
+    }
+
+    /**
+     * A complete upload keeps its content in the store and is linked into its Bundle folder
+     */
+    @Test
+    @DisplayName("complete an upload")
+    public void testComplete() throws IOException {
+        UploadService service = this.service(Duration.ofHours(1));
+        UploadSession session = this.upload(service);
+
+        Assertions.assertThat(service.complete(session.getId()).getStatus()).isEqualTo(UploadSession.Status.COMPLETED);
+
+        Assertions.assertThat(this.files("vault/content")).hasSize(1);
+        Assertions.assertThat(this.directory.resolve("vault/library/Test Creator 01/Test Bundle 01/model01.stl")).hasBinaryContent(this.content);
+    }
+
+    /**
+     * Expired uploads are removed with their files by the scheduled purge
+     */
+    @Test
+    @DisplayName("purge the expired uploads")
+    public void testPurgeExpired() throws IOException {
+        UploadService service = this.service(Duration.ZERO);
+        UploadSession session = service.create(new NewUpload("model01.stl", this.content.length, "Test Creator 01", "Test Bundle 01"));
+
+        Assertions.assertThat(this.files("vault/uploads")).hasSize(1);
+
+        service.purgeExpired();
+
+        Assertions.assertThatThrownBy(() -> service.get(session.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        Assertions.assertThat(this.files("vault/uploads")).isEmpty();
+    }
+
+    /**
+     * The bytes that an upload didn't receive yet stay reserved, a second upload that needs more than half of the
+     * disk doesn't fit next to the first one. The space is free again when the first upload is cancelled.
+     */
+    @Test
+    @DisplayName("reserve the space of an upload")
+    public void testCreate_Reservation() throws IOException {
+        UploadService service = this.service(Duration.ofHours(1));
+        long size = Files.getFileStore(this.directory).getUsableSpace() / 10 * 6;
+
+        UploadSession first = service.create(new NewUpload("model01.stl", size, "Test Creator 01", "Test Bundle 01"));
+
+        Assertions.assertThatThrownBy(() -> service.create(new NewUpload("model02.stl", size, "Test Creator 01", "Test Bundle 01")))
+                .isInstanceOf(InsufficientStorageException.class);
+
+        service.cancel(first.getId());
+
+        UploadSession second = service.create(new NewUpload("model02.stl", size, "Test Creator 01", "Test Bundle 01"));
+
+        Assertions.assertThat(service.get(second.getId())).isSameAs(second);
+
+        service.shutdown();
+    }
+}
@@ -0,0 +1,222 @@
+package net.fribbtastic.MyMiniaturesVault.backend.upload;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ChecksumMismatchException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidParameterException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.UploadConflictException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * @author Frederic Eßer
+ */
+class UploadSessionTest {
+
+    @TempDir
+    private Path directory;
+
+    private final byte[] content = new byte[300_000];
+
+    private final UUID id = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8070");
+
+    private Path part;
+
+    private UploadSession session;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        new Random(42).nextBytes(this.content);
+
+        this.part = this.directory.resolve("uploads/" + this.id + ".part");
+        this.session = new UploadSession(this.id, new NewUpload("model01.stl", this.content.length, "Test Creator 01", "Test Bundle 01"), this.part, Duration.ofHours(1));
+    }
+
+    private void write(int start, int end) throws IOException {
+        this.session.write(start, end - start, new ByteArrayInputStream(this.content, start, end - start), null);
+    }
+
+    private static String sha256(byte[] bytes, int start, int end) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(bytes, start, end - start);
+
+        return "sha256 " + Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    @Test
+    @DisplayName("create the file of an upload with its full size")
+    public void testCreate() {
+        Assertions.assertThat(this.part).hasSize(this.content.length);
+        Assertions.assertThat(this.session.getStatus()).isEqualTo(UploadSession.Status.UPLOADING);
+        Assertions.assertThat(this.session.getReceivedBytes()).isZero();
+        Assertions.assertThat(this.session.getReceived()).isEmpty();
+        Assertions.assertThat(this.session.getExpiresAt()).isAfter(Instant.now());
+    }
+
+    /**
+     * Chunks out of order are merged into ranges, the offset only moves when the start of the file is received
+     */
+    @Test
+    @DisplayName("write chunks in any order")
+    public void testWrite() throws IOException {
+        this.write(200_000, 300_000);
+
+        Assertions.assertThat(this.session.getOffset()).isZero();
+        Assertions.assertThat(this.session.getReceived()).containsExactly(new ReceivedRange(200_000, 300_000));
+
+        this.write(0, 100_000);
+        this.write(50_000, 150_000);
+
+        Assertions.assertThat(this.session.getOffset()).isEqualTo(150_000);
+        Assertions.assertThat(this.session.getReceived()).containsExactly(new ReceivedRange(0, 150_000), new ReceivedRange(200_000, 300_000));
+        Assertions.assertThat(this.session.getReceivedBytes()).isEqualTo(250_000);
+
+        this.write(150_000, 200_000);
+
+        Assertions.assertThat(this.session.getReceived()).containsExactly(new ReceivedRange(0, 300_000));
+        Assertions.assertThat(this.session.beginComplete()).isEqualTo(this.part);
+        Assertions.assertThat(Files.readAllBytes(this.part)).isEqualTo(this.content);
+    }
+
+    @Test
+    @DisplayName("write chunks at the same time")
+    public void testWrite_Concurrent() throws Exception {
+        List<Future<?>> chunks = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int start = 0; start < this.content.length; start += 30_000) {
+                int chunk = start;
+                chunks.add(executor.submit(() -> {
+                    this.write(chunk, chunk + 30_000);
+                    return null;
+                }));
+            }
+
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        }
+
+        Assertions.assertThat(this.session.getReceived()).containsExactly(new ReceivedRange(0, this.content.length));
+        Assertions.assertThat(Files.readAllBytes(this.session.beginComplete())).isEqualTo(this.content);
+    }
+
+    @Test
+    @DisplayName("write a chunk with a checksum")
+    public void testWrite_Checksum() throws Exception {
+        ChunkChecksum checksum = ChunkChecksum.parse(sha256(this.content, 0, 100_000));
+
+        this.session.write(0, 100_000, new ByteArrayInputStream(this.content, 0, 100_000), checksum);
+
+        Assertions.assertThat(this.session.getOffset()).isEqualTo(100_000);
+    }
+
+    /**
+     * A chunk that doesn't match its checksum is written but not recorded, so it has to be sent again
+     */
+    @Test
+    @DisplayName("write a chunk with a wrong checksum")
+    public void testWrite_ChecksumMismatch() throws Exception {
+        ChunkChecksum checksum = ChunkChecksum.parse(sha256(this.content, 1, 100_001));
+
+        Assertions.assertThatThrownBy(() -> this.session.write(0, 100_000, new ByteArrayInputStream(this.content, 0, 100_000), checksum))
+                .isInstanceOf(ChecksumMismatchException.class)
+                .hasMessage("The sha256 checksum of the chunk at offset 0 doesn't match its content");
+
+        Assertions.assertThat(this.session.getReceived()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("write a chunk that ends early")
+    public void testWrite_Interrupted() {
+        Assertions.assertThatThrownBy(() -> this.session.write(0, 100_000, new ByteArrayInputStream(this.content, 0, 70_000), null))
+                .isInstanceOf(EOFException.class);
+
+        Assertions.assertThat(this.session.getReceived()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("write a chunk outside of the file")
+    public void testWrite_OutsideOfFile() {
+        Assertions.assertThatThrownBy(() -> this.session.write(200_000, 100_001, new ByteArrayInputStream(this.content), null))
+                .isInstanceOf(InvalidParameterException.class);
+        Assertions.assertThatThrownBy(() -> this.session.write(-1, 10, new ByteArrayInputStream(this.content), null))
+                .isInstanceOf(InvalidParameterException.class);
+    }
+
+    @Test
+    @DisplayName("complete an upload with missing bytes")
+    public void testBeginComplete_Missing() throws IOException {
+        this.write(0, 100_000);
+
+        Assertions.assertThatThrownBy(() -> this.session.beginComplete())
+                .isInstanceOf(UploadConflictException.class)
+                .hasMessageEndingWith("200000 bytes are missing");
+
+        this.write(100_000, 300_000);
+        this.session.beginComplete();
+
+        Assertions.assertThatThrownBy(() -> this.write(0, 10)).isInstanceOf(UploadConflictException.class);
+        Assertions.assertThatThrownBy(() -> this.session.beginComplete()).isInstanceOf(UploadConflictException.class);
+    }
+
+    @Test
+    @DisplayName("expire an upload")
+    public void testIsExpired() {
+        Assertions.assertThat(this.session.isExpired(Instant.now())).isFalse();
+        Assertions.assertThat(this.session.isExpired(Instant.now().plus(Duration.ofHours(2)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("delete an upload")
+    public void testDelete() throws IOException {
+        this.session.delete();
+
+        Assertions.assertThat(this.part).doesNotExist();
+        Assertions.assertThatThrownBy(() -> this.write(0, 10)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("parse the checksum header")
+    public void testParseChecksum() {
+        ChunkChecksum checksum = ChunkChecksum.parse("SHA1 " + Base64.getEncoder().encodeToString(new byte[]{1, 2, 3}));
+
+        Assertions.assertThat(checksum.algorithm()).isEqualTo("SHA-1");
+        Assertions.assertThat(checksum.matches(new byte[]{1, 2, 3})).isTrue();
+        Assertions.assertThat(ChunkChecksum.parse(null)).isNull();
+
+        for (String header : Arrays.asList("crc32 AQID", "sha256", "sha256 not-base64!")) {
+            Assertions.assertThatThrownBy(() -> ChunkChecksum.parse(header)).isInstanceOf(InvalidParameterException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("validate the names of an upload")
+    public void testValidateName() {
+        UploadService.validateName("name", "Größe 01.stl");
+
+        for (String name : Arrays.asList(null, "", " ", ".", "..", "a/b.stl", "a\\b.stl", "a:b", "model.", "model ", "a\nb", "x".repeat(256))) {
+            Assertions.assertThatThrownBy(() -> UploadService.validateName("name", name)).isInstanceOf(InvalidParameterException.class);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.bundle;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The Database is shared with the other integration tests, all Bundles and Creators are removed after the last test.
+ *
+ * @author Frederic Eßer
+ */
+@SpringBootTest(classes = BackendApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Sql(scripts = "classpath:bundle/truncate.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_CLASS)
+public class BundleControllerIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate template;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private String url;
+
+    @BeforeEach
+    public void setUp() {
+        this.url = "http://localhost:" + this.port + "/api/v1/bundle";
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // the Database is changed behind the Cache by the @Sql scripts
+        this.cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(this.cacheManager.getCache(name)).clear());
+    }
+
+    /**
+     * Integration Test for the Bundle endpoint.
+     * Seed the Database with existing Data and get all the Bundles (3) with their Creators and Miniatures.
+     * The whole request (including the serialization) uses 2 statements.
+     */
+    @Test
+    @DisplayName("[Integration] get All Bundles (3 Results)")
+    @Sql({"classpath:bundle/truncate.sql"})
+    @Sql({"classpath:bundle/insert.sql"})
+    public void testIntegrationGetAllBundles() {
+        this.statistics.clear();
+
+        ResponseEntity<ApiResponse<List<Bundle>>> response = this.template.exchange(this.url, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(response.getBody()).isNotNull();
+        Assertions.assertThat(response.getBody().getData()).extracting(Bundle::getName).containsExactly("Test Bundle Name 01", "Test Bundle Name 02", "Test Bundle Name 03");
+        Assertions.assertThat(response.getBody().getData()).extracting(bundle -> bundle.getCreator().getName()).containsExactly("Test Creator Name 01", "Test Creator Name 01", "Test Creator Name 02");
+        Assertions.assertThat(response.getBody().getData()).extracting(bundle -> bundle.getMiniatures().size()).containsExactly(2, 1, 0);
+
+        Assertions.assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    /**
+     * Integration Test for the Bundle endpoint.
+     * Add 100 more Bundles, listing all of them still uses 2 statements.
+     */
+    @Test
+    @DisplayName("[Integration] get All Bundles (103 Results) with the same number of statements")
+    @Sql({"classpath:bundle/truncate.sql"})
+    @Sql({"classpath:bundle/insert.sql"})
+    public void testIntegrationGetAllBundles_StatementCount() {
+        for (int i = 0; i < 100; i++) {
+            UUID id = UUID.randomUUID();
+            this.jdbcTemplate.update("INSERT INTO BUNDLES (id, name, creator_id) VALUES (?, ?, ?)", id, "Test Bundle Name X" + i, UUID.fromString("6e169bf3-ac69-49b9-8e9c-38439b45e9bd"));
+            this.jdbcTemplate.update("INSERT INTO MINIATURES (id, name, bundle_id) VALUES (?, ?, ?)", UUID.randomUUID(), "Test Miniature Name X" + i, id);
+        }
+
+        this.statistics.clear();
+
+        ResponseEntity<ApiResponse<List<Bundle>>> response = this.template.exchange(this.url + "?limit=1000", HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(response.getBody()).isNotNull();
+        Assertions.assertThat(response.getBody().getData()).hasSize(103);
+
+        Assertions.assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    /**
+     * Integration Test for the Bundle endpoint.
+     * Get the number of Bundles per Creator with a single statement.
+     */
+    @Test
+    @DisplayName("[Integration] get the number of Bundles per Creator")
+    @Sql({"classpath:bundle/truncate.sql"})
+    @Sql({"classpath:bundle/insert.sql"})
+    public void testIntegrationGetBundleCounts() {
+        this.statistics.clear();
+
+        ResponseEntity<ApiResponse<List<CreatorBundleCount>>> response = this.template.exchange(this.url + "/counts", HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(response.getBody()).isNotNull();
+        Assertions.assertThat(response.getBody().getData()).extracting(CreatorBundleCount::getName).containsExactly("Test Creator Name 01", "Test Creator Name 02", "Test Creator Name 03");
+        Assertions.assertThat(response.getBody().getData()).extracting(CreatorBundleCount::getBundleCount).containsExactly(2L, 1L, 0L);
+
+        Assertions.assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /**
+     * Integration Test for the Bundle endpoint.
+     * Add a new Bundle with Miniatures to an existing Creator and read it again.
+     */
+    @Test
+    @DisplayName("[Integration] add a new Bundle")
+    @Sql({"classpath:bundle/truncate.sql"})
+    @Sql({"classpath:bundle/insert.sql"})
+    public void testIntegrationAddBundle() {
+        Bundle bundle = new Bundle(null, "Test Bundle Name 04", new Creator(UUID.fromString("6e169bf3-ac69-49b9-8e9c-38439b45e9bd"), null));
+        bundle.getMiniatures().add(new Miniature(null, "Test Miniature Name 04"));
+        bundle.getMiniatures().add(new Miniature(null, "Test Miniature Name 05"));
+
+        ResponseEntity<ApiResponse<Bundle>> response = this.template.exchange(this.url, HttpMethod.POST, new HttpEntity<>(bundle), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(201);
+        Assertions.assertThat(response.getBody()).isNotNull();
+        Assertions.assertThat(response.getBody().getData().getId()).isNotNull();
+        Assertions.assertThat(response.getBody().getData().getCreator().getName()).isEqualTo("Test Creator Name 03");
+
+        ResponseEntity<ApiResponse<Bundle>> stored = this.template.exchange(this.url + "/" + response.getBody().getData().getId(), HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(stored.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(stored.getBody()).isNotNull();
+        Assertions.assertThat(stored.getBody().getData().getMiniatures()).extracting(Miniature::getName).containsExactly("Test Miniature Name 04", "Test Miniature Name 05");
+    }
+
+    /**
+     * Integration Test for the Bundle endpoint.
+     * Add a new Bundle to a Creator that doesn't exist.
+     */
+    @Test
+    @DisplayName("[Integration] add a new Bundle for an unknown Creator")
+    @Sql({"classpath:bundle/truncate.sql"})
+    public void testIntegrationAddBundle_UnknownCreator() {
+        Bundle bundle = new Bundle(null, "Test Bundle Name 04", new Creator(UUID.randomUUID(), null));
+
+        ResponseEntity<ApiResponse<Bundle>> response = this.template.exchange(this.url, HttpMethod.POST, new HttpEntity<>(bundle), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(404);
+        Assertions.assertThat(this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BUNDLES", Integer.class)).isEqualTo(0);
+    }
+
+    /**
+     * Integration Test for the Bundle endpoint.
+     * Delete a Bundle, its Miniatures are deleted with it.
+     */
+    @Test
+    @DisplayName("[Integration] delete a Bundle")
+    @Sql({"classpath:bundle/truncate.sql"})
+    @Sql({"classpath:bundle/insert.sql"})
+    public void testIntegrationDeleteBundle() {
+        ResponseEntity<ApiResponse<?>> response = this.template.exchange(this.url + "/01890a5d-ac96-774b-bcce-b302099a8057", HttpMethod.DELETE, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BUNDLES", Integer.class)).isEqualTo(2);
+        Assertions.assertThat(this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM MINIATURES", Integer.class)).isEqualTo(1);
+
+        ResponseEntity<ApiResponse<?>> again = this.template.exchange(this.url + "/01890a5d-ac96-774b-bcce-b302099a8057", HttpMethod.DELETE, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(again.getStatusCode().value()).isEqualTo(404);
+    }
+}
@@ -0,0 +1,189 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.bundle;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith({MockitoExtension.class, SpringExtension.class})
+@WebMvcTest(controllers = BundleController.class)
+class BundleControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private BundleServiceImpl service;
+
+    private final String endpoint = "/api/v1/bundle";
+
+    private final Creator creator = new Creator(UUID.fromString("eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1"), "Test Creator Name 01");
+
+    private final Bundle bundle = new Bundle(UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057"), "Test Bundle Name 01", this.creator);
+
+    {
+        this.bundle.addMiniature(new Miniature(UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8060"), "Test Miniature Name 01"));
+    }
+
+    /**
+     * Test the MVC Bundle Controller to return a List of Bundles with their Creators and Miniatures
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get all Bundles (1 Result)")
+    public void testMvcGetAllBundles() throws Exception {
+        Mockito.when(this.service.getAll(null, BundleController.DEFAULT_LIMIT)).thenReturn(List.of(this.bundle));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(200))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].id").value("01890a5d-ac96-774b-bcce-b302099a8057"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].name").value("Test Bundle Name 01"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].creator.id").value("eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].creator.name").value("Test Creator Name 01"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].miniatures", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].miniatures[0].name").value("Test Miniature Name 01"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].miniatures[0].bundle").doesNotExist());
+
+        Mockito.verify(this.service, Mockito.times(1)).getAll(null, BundleController.DEFAULT_LIMIT);
+    }
+
+    /**
+     * Test the MVC Bundle Controller to return the Bundles of one Creator, the limit is clamped to the maximum
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get all Bundles of a Creator")
+    public void testMvcGetAllBundles_OfCreator() throws Exception {
+        Mockito.when(this.service.getAll(this.creator.getId(), BundleController.MAX_LIMIT)).thenReturn(List.of(this.bundle));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + "?creator=" + this.creator.getId() + "&limit=5000").accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(1)));
+
+        Mockito.verify(this.service, Mockito.times(1)).getAll(this.creator.getId(), BundleController.MAX_LIMIT);
+    }
+
+    /**
+     * Test the MVC Bundle Controller to return the number of Bundles per Creator
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get the number of Bundles per Creator")
+    public void testMvcGetBundleCounts() throws Exception {
+        Mockito.when(this.service.getBundleCounts(BundleController.DEFAULT_LIMIT)).thenReturn(List.of(new CreatorBundleCount(this.creator.getId(), this.creator.getName(), 3)));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + "/counts").accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].id").value("eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].name").value("Test Creator Name 01"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].bundleCount").value(3));
+    }
+
+    /**
+     * Test the MVC Bundle Controller to return one Bundle by its ID
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get one Bundle by ID")
+    public void testMvcGetOneBundle() throws Exception {
+        Mockito.when(this.service.getOne(this.bundle.getId())).thenReturn(this.bundle);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + "/" + this.bundle.getId()).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.name").value("Test Bundle Name 01"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.creator.name").value("Test Creator Name 01"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.miniatures", Matchers.hasSize(1)));
+    }
+
+    /**
+     * Test the MVC Bundle Controller to return a 404 for an unknown Bundle
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get one Bundle by ID (not found)")
+    public void testMvcGetOneBundle_NotFound() throws Exception {
+        UUID id = UUID.randomUUID();
+        Mockito.when(this.service.getOne(id)).thenThrow(new ResourceNotFoundException(id));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + "/" + id).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(404))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(ResourceNotFoundException.class.getSimpleName()));
+    }
+
+    /**
+     * Test the MVC Bundle Controller to add a new Bundle
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] add a new Bundle")
+    public void testMvcAddNewBundle() throws Exception {
+        Mockito.when(this.service.addBundle(Mockito.any(Bundle.class))).thenReturn(this.bundle);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.post(this.endpoint)
+                        .content(this.objectMapper.writeValueAsString(this.bundle))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(201))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.id").value("01890a5d-ac96-774b-bcce-b302099a8057"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.miniatures[0].name").value("Test Miniature Name 01"));
+
+        Mockito.verify(this.service, Mockito.times(1)).addBundle(Mockito.any(Bundle.class));
+    }
+
+    /**
+     * Test the MVC Bundle Controller to delete a Bundle
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] delete a Bundle")
+    public void testMvcDeleteBundle() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.delete(this.endpoint + "/" + this.bundle.getId()).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(200))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data").doesNotExist());
+
+        Mockito.verify(this.service, Mockito.times(1)).deleteBundle(this.bundle.getId());
+    }
+}
@@ -0,0 +1,246 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.bundle;
+
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.CreatorRepository;
+import org.assertj.core.api.Assertions;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The statement counts make sure that loading Bundles together with their Creators and Miniatures doesn't
+ * depend on the number of Bundles (N+1 selects).
+ *
+ * @author Frederic Eßer
+ */
+@DataJpaTest
+public class BundleJPATest {
+
+    @Autowired
+    private BundleRepository repository;
+
+    @Autowired
+    private CreatorRepository creatorRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUpEach() {
+        this.statistics = this.entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * persist Creators with Bundles and Miniatures, clear the persistence context and reset the statistics afterward
+     *
+     * @param creators the number of Creators
+     * @param bundles the number of Bundles per Creator
+     * @param miniatures the number of Miniatures per Bundle
+     * @return the persisted Creators
+     */
+    private List<Creator> persist(int creators, int bundles, int miniatures) {
+        List<Creator> persisted = new ArrayList<>();
+
+        for (int c = 0; c < creators; c++) {
+            Creator creator = this.entityManager.persist(new Creator(String.format("Test Creator Name %03d", c)));
+            persisted.add(creator);
+
+            for (int b = 0; b < bundles; b++) {
+                Bundle bundle = new Bundle(null, String.format("Test Bundle Name %03d-%03d", c, b), creator);
+
+                for (int m = 0; m < miniatures; m++) {
+                    bundle.addMiniature(new Miniature(null, String.format("Test Miniature Name %03d", m)));
+                }
+
+                this.entityManager.persist(bundle);
+            }
+        }
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+        this.statistics.clear();
+
+        return persisted;
+    }
+
+    /**
+     * load the Bundles with their Creators and then their Miniatures like the Service does
+     *
+     * @param limit the maximum number of Bundles
+     * @return the Bundles with initialized Creators and Miniatures
+     */
+    private List<Bundle> loadBundles(int limit) {
+        List<Bundle> bundles = this.repository.findAllByOrderByNameAscIdAsc(Limit.of(limit));
+        this.repository.fetchMiniatures(bundles.stream().map(Bundle::getId).toList());
+
+        return bundles;
+    }
+
+    @Test
+    @DisplayName("Injected Components are not Null")
+    public void testInjectComponentsNotNull() {
+        Assertions.assertThat(this.repository).isNotNull();
+        Assertions.assertThat(this.statistics.isStatisticsEnabled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Save a new Bundle with Miniatures in DB")
+    public void testSaveNewBundle() {
+        Creator creator = this.creatorRepository.save(new Creator("Test Creator Name 01"));
+        Bundle bundle = new Bundle(null, "Test Bundle Name 01", creator);
+        bundle.addMiniature(new Miniature(null, "Test Miniature Name 01"));
+
+        Bundle savedBundle = this.repository.save(bundle);
+
+        Assertions.assertThat(savedBundle.getId()).isNotNull();
+        Assertions.assertThat(savedBundle.getId().version()).isEqualTo(7);
+        Assertions.assertThat(savedBundle.getMiniatures()).hasSize(1);
+        Assertions.assertThat(savedBundle.getMiniatures().getFirst().getId()).isNotNull();
+        Assertions.assertThat(savedBundle.getMiniatures().getFirst().getBundle()).isSameAs(savedBundle);
+    }
+
+    @Test
+    @DisplayName("Get all Bundles with Creators and Miniatures in 2 statements (10 Bundles)")
+    public void testGetAllBundles_StatementCount() {
+        this.persist(2, 5, 3);
+
+        List<Bundle> bundles = this.loadBundles(100);
+
+        Assertions.assertThat(bundles).hasSize(10);
+        Assertions.assertThat(bundles.getFirst().getName()).isEqualTo("Test Bundle Name 000-000");
+        Assertions.assertThat(bundles).allMatch(bundle -> Hibernate.isInitialized(bundle.getCreator()));
+        Assertions.assertThat(bundles).allMatch(bundle -> Hibernate.isInitialized(bundle.getMiniatures()));
+        Assertions.assertThat(bundles).allSatisfy(bundle -> Assertions.assertThat(bundle.getMiniatures()).hasSize(3));
+        Assertions.assertThat(bundles.getLast().getCreator().getName()).isEqualTo("Test Creator Name 001");
+
+        Assertions.assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Get all Bundles with Creators and Miniatures in 2 statements (240 Bundles)")
+    public void testGetAllBundles_StatementCount_ManyBundles() {
+        this.persist(8, 30, 2);
+
+        List<Bundle> bundles = this.loadBundles(1000);
+
+        Assertions.assertThat(bundles).hasSize(240);
+        Assertions.assertThat(bundles).extracting(bundle -> bundle.getCreator().getName()).doesNotContainNull();
+        Assertions.assertThat(bundles).allSatisfy(bundle -> Assertions.assertThat(bundle.getMiniatures()).hasSize(2));
+
+        Assertions.assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Lazily loaded Miniatures are fetched in batches of 50 Bundles")
+    public void testGetAllBundles_BatchFetch() {
+        this.persist(4, 30, 1);
+
+        List<Bundle> bundles = this.repository.findAllByOrderByNameAscIdAsc(Limit.of(1000));
+        bundles.forEach(bundle -> Hibernate.initialize(bundle.getMiniatures()));
+
+        Assertions.assertThat(bundles).hasSize(120);
+        // 1 statement for the Bundles and their Creators and ceil(120 / 50) for the Miniatures
+        Assertions.assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Get the Bundles of one Creator in 1 statement")
+    public void testGetBundlesOfCreator() {
+        List<Creator> creators = this.persist(3, 4, 0);
+
+        List<Bundle> bundles = this.repository.findAllByCreatorIdOrderByNameAscIdAsc(creators.get(1).getId(), Limit.of(100));
+
+        Assertions.assertThat(bundles).hasSize(4);
+        Assertions.assertThat(bundles).extracting(bundle -> bundle.getCreator().getName()).containsOnly("Test Creator Name 001");
+        Assertions.assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Get a Bundle by ID with its Creator and Miniatures in 1 statement")
+    public void testGetBundleById() {
+        this.persist(1, 1, 5);
+        Bundle persisted = this.repository.findAll().getFirst();
+        this.entityManager.clear();
+        this.statistics.clear();
+
+        Bundle bundle = this.repository.findWithMiniaturesById(persisted.getId()).orElseThrow();
+
+        Assertions.assertThat(bundle.getCreator().getName()).isEqualTo("Test Creator Name 000");
+        Assertions.assertThat(bundle.getMiniatures()).extracting(Miniature::getName).containsExactly(
+                "Test Miniature Name 000", "Test Miniature Name 001", "Test Miniature Name 002", "Test Miniature Name 003", "Test Miniature Name 004");
+        Assertions.assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Count the Bundles of all Creators in 1 statement")
+    public void testCountBundlesByCreator() {
+        List<Creator> creators = this.persist(50, 3, 0);
+        this.entityManager.persist(new Creator("Test Creator without Bundles"));
+        this.entityManager.flush();
+        this.statistics.clear();
+
+        List<CreatorBundleCount> counts = this.repository.countBundlesByCreator(Limit.of(1000));
+
+        Assertions.assertThat(counts).hasSize(51);
+        Assertions.assertThat(counts.getFirst().getId()).isEqualTo(creators.getFirst().getId());
+        Assertions.assertThat(counts.getFirst().getName()).isEqualTo("Test Creator Name 000");
+        Assertions.assertThat(counts.getFirst().getBundleCount()).isEqualTo(3);
+        Assertions.assertThat(counts.getLast().getName()).isEqualTo("Test Creator without Bundles");
+        Assertions.assertThat(counts.getLast().getBundleCount()).isEqualTo(0);
+        Assertions.assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("delete Bundle with its Miniatures in 1 statement")
+    public void testDeleteBundle() {
+        this.persist(1, 2, 3);
+        List<Bundle> bundles = this.repository.findAll();
+        this.statistics.clear();
+
+        Assertions.assertThat(this.repository.deleteOne(bundles.getFirst().getId())).isEqualTo(1);
+        Assertions.assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(this.repository.deleteOne(bundles.getFirst().getId())).isEqualTo(0);
+
+        this.entityManager.clear();
+
+        Assertions.assertThat(this.repository.count()).isEqualTo(1);
+        Assertions.assertThat(this.entityManager.getEntityManager().createQuery("SELECT COUNT(m) FROM Miniature m", Long.class).getSingleResult()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("delete Creator deletes its Bundles and Miniatures")
+    public void testDeleteCreator() {
+        List<Creator> creators = this.persist(2, 2, 2);
+
+        this.creatorRepository.deleteAllByIdInBatch(List.of(creators.getFirst().getId()));
+        this.entityManager.clear();
+
+        Assertions.assertThat(this.repository.findAll()).extracting(bundle -> bundle.getCreator().getId()).containsOnly(creators.getLast().getId());
+        Assertions.assertThat(this.entityManager.getEntityManager().createQuery("SELECT COUNT(m) FROM Miniature m", Long.class).getSingleResult()).isEqualTo(4);
+    }
+
+    /**
+     * The database reads the pages of Bundles of a Creator in the order of the index instead of sorting them
+     */
+    @Test
+    @DisplayName("Page the Bundles of a Creator with the index")
+    public void testCreatorIndex() {
+        String plan = (String) this.entityManager.getEntityManager()
+                .createNativeQuery("EXPLAIN SELECT id FROM BUNDLES WHERE creator_id = RANDOM_UUID() ORDER BY name, id FETCH FIRST 50 ROWS ONLY")
+                .getSingleResult();
+
+        Assertions.assertThat(plan).contains(Bundle.CREATOR_INDEX);
+    }
+}
@@ -0,0 +1,200 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.bundle;
+
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeAction;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeEntity;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeFeed;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidParameterException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchService;
+import net.fribbtastic.MyMiniaturesVault.backend.tag.TagService;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.CreatorRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith(MockitoExtension.class)
+class BundleServiceTest {
+
+    @Mock
+    private BundleRepository repository;
+
+    @Mock
+    private CreatorRepository creatorRepository;
+
+    @Mock
+    private SearchService search;
+
+    @Mock
+    private TagService tags;
+
+    @Mock
+    private ChangeFeed changes;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private BundleServiceImpl service;
+
+    private final Creator testCreator = new Creator(UUID.fromString("eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1"), "Test Creator Name 01");
+
+    private final Bundle testBundle = new Bundle(UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057"), "Test Bundle Name 01", this.testCreator);
+
+    /**
+     * Test the Service Layer of the Bundle to get all Bundles, the Miniatures of all Bundles are fetched at once
+     */
+    @Test
+    @DisplayName("get all Bundles (1 Result)")
+    void testGetAll() {
+        Mockito.when(this.repository.findAllByOrderByNameAscIdAsc(Limit.of(10))).thenReturn(List.of(this.testBundle));
+
+        List<Bundle> bundles = this.service.getAll(null, 10);
+
+        Assertions.assertThat(bundles).containsExactly(this.testBundle);
+
+        Mockito.verify(this.repository, Mockito.times(1)).fetchMiniatures(List.of(this.testBundle.getId()));
+    }
+
+    /**
+     * Test the Service Layer of the Bundle to get the Bundles of one Creator
+     */
+    @Test
+    @DisplayName("get all Bundles of a Creator (1 Result)")
+    void testGetAll_OfCreator() {
+        Mockito.when(this.repository.findAllByCreatorIdOrderByNameAscIdAsc(this.testCreator.getId(), Limit.of(10))).thenReturn(List.of(this.testBundle));
+
+        List<Bundle> bundles = this.service.getAll(this.testCreator.getId(), 10);
+
+        Assertions.assertThat(bundles).containsExactly(this.testBundle);
+
+        Mockito.verify(this.repository, Mockito.never()).findAllByOrderByNameAscIdAsc(Mockito.any());
+    }
+
+    /**
+     * Test the Service Layer of the Bundle to get all Bundles when there are none, no Miniatures are fetched
+     */
+    @Test
+    @DisplayName("get all Bundles (0 Results)")
+    void testGetAll_Empty() {
+        Mockito.when(this.repository.findAllByOrderByNameAscIdAsc(Limit.of(10))).thenReturn(Collections.emptyList());
+
+        Assertions.assertThat(this.service.getAll(null, 10)).isEmpty();
+
+        Mockito.verify(this.repository, Mockito.never()).fetchMiniatures(Mockito.any());
+    }
+
+    /**
+     * Test the Service Layer of the Bundle to get a Bundle that doesn't exist
+     */
+    @Test
+    @DisplayName("get one Bundle (not found)")
+    void testGetOne_NotFound() {
+        UUID id = UUID.randomUUID();
+        Mockito.when(this.repository.findWithMiniaturesById(id)).thenReturn(Optional.empty());
+
+        Assertions.assertThatThrownBy(() -> this.service.getOne(id)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    /**
+     * Test the Service Layer of the Bundle to add a new Bundle, the Creator and the Miniatures are linked
+     */
+    @Test
+    @DisplayName("add a new Bundle")
+    void testAddBundle() {
+        Bundle bundle = new Bundle(null, "Test Bundle Name 01", new Creator(this.testCreator.getId(), null));
+        bundle.getMiniatures().add(new Miniature(null, "Test Miniature Name 01"));
+
+        Mockito.when(this.creatorRepository.findById(this.testCreator.getId())).thenReturn(Optional.of(this.testCreator));
+        Mockito.when(this.repository.save(bundle)).thenReturn(bundle);
+
+        Bundle savedBundle = this.service.addBundle(bundle);
+
+        Assertions.assertThat(savedBundle.getCreator()).isSameAs(this.testCreator);
+        Assertions.assertThat(savedBundle.getMiniatures().getFirst().getBundle()).isSameAs(bundle);
+    }
+
+    /**
+     * Test the Service Layer of the Bundle to add a new Bundle without a name
+     */
+    @Test
+    @DisplayName("add a new Bundle without a name")
+    void testAddBundle_NoName() {
+        Bundle bundle = new Bundle(null, "", this.testCreator);
+
+        Assertions.assertThatThrownBy(() -> this.service.addBundle(bundle)).isInstanceOf(ConstraintViolationException.class);
+
+        Mockito.verifyNoInteractions(this.repository, this.creatorRepository);
+    }
+
+    /**
+     * Test the Service Layer of the Bundle to add a new Bundle without the ID of its Creator
+     */
+    @Test
+    @DisplayName("add a new Bundle without a Creator ID")
+    void testAddBundle_NoCreatorId() {
+        Bundle bundle = new Bundle(null, "Test Bundle Name 01", new Creator("Test Creator Name 01"));
+
+        Assertions.assertThatThrownBy(() -> this.service.addBundle(bundle)).isInstanceOf(InvalidParameterException.class);
+
+        Mockito.verifyNoInteractions(this.repository, this.creatorRepository);
+    }
+
+    /**
+     * Test the Service Layer of the Bundle to add a new Bundle for a Creator that doesn't exist
+     */
+    @Test
+    @DisplayName("add a new Bundle for an unknown Creator")
+    void testAddBundle_UnknownCreator() {
+        Mockito.when(this.creatorRepository.findById(this.testCreator.getId())).thenReturn(Optional.empty());
+
+        Assertions.assertThatThrownBy(() -> this.service.addBundle(this.testBundle)).isInstanceOf(ResourceNotFoundException.class);
+
+        Mockito.verifyNoInteractions(this.repository);
+    }
+
+    /**
+     * Test the Service Layer of the Bundle to delete a Bundle
+     */
+    @Test
+    @DisplayName("delete a Bundle")
+    void testDeleteBundle() {
+        Mockito.when(this.repository.deleteOne(this.testBundle.getId())).thenReturn(1);
+
+        this.service.deleteBundle(this.testBundle.getId());
+
+        Mockito.verify(this.repository, Mockito.times(1)).deleteOne(this.testBundle.getId());
+        Mockito.verify(this.tags).remove(List.of(this.testBundle.getId()));
+        Mockito.verify(this.changes).publish(ChangeEntity.BUNDLE, ChangeAction.DELETED, this.testBundle.getId());
+    }
+
+    /**
+     * Test the Service Layer of the Bundle to delete a Bundle that doesn't exist
+     */
+    @Test
+    @DisplayName("delete a Bundle (not found)")
+    void testDeleteBundle_NotFound() {
+        UUID id = UUID.randomUUID();
+        Mockito.when(this.repository.deleteOne(id)).thenReturn(0);
+
+        Assertions.assertThatThrownBy(() -> this.service.deleteBundle(id)).isInstanceOf(ResourceNotFoundException.class);
+    }
+}
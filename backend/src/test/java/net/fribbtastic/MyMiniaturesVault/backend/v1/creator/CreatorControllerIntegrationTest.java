@@ -1,6 +1,10 @@
 package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import net.fribbtastic.MyMiniaturesVault.backend.cache.CacheConfiguration;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.DuplicateResourceException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.PreconditionFailedException;
 import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
 import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
 import org.assertj.core.api.Assertions;
@@ -11,13 +15,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -32,11 +42,20 @@ public class CreatorControllerIntegrationTest {
     @Autowired
     private TestRestTemplate template;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     private String url;
 
     @BeforeEach
     public void setUp() {
         this.url = "http://localhost:" + this.port + "/api/v1/creator";
+
+        // the Database is changed behind the Cache by the @Sql scripts
+        this.cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(this.cacheManager.getCache(name)).clear());
     }
 
     /**
@@ -66,6 +85,53 @@ public class CreatorControllerIntegrationTest {
         Assertions.assertThat(response.getBody().getData().get(2).getName()).isEqualTo("Test Creator Name 03");
     }
 
+    /**
+     * Integration Test for the Creator endpoint.
+     * Seed the Database with existing Data and get all the Creators page by page (2 + 1)
+     */
+    @Test
+    @DisplayName("[Integration] get All Creators page by page")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationGetAllCreators_Paginated() {
+        ResponseEntity<ApiResponse<List<Creator>>> firstPage = this.template.exchange(this.url + "?limit=2", HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(firstPage.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(firstPage.getBody()).isNotNull();
+        Assertions.assertThat(firstPage.getBody().getData()).extracting(Creator::getName).containsExactly("Test Creator Name 01", "Test Creator Name 02");
+        Assertions.assertThat(firstPage.getBody().getNext()).isNotEmpty();
+
+        ResponseEntity<ApiResponse<List<Creator>>> secondPage = this.template.exchange(this.url + "?limit=2&cursor=" + firstPage.getBody().getNext(), HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(secondPage.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(secondPage.getBody()).isNotNull();
+        Assertions.assertThat(secondPage.getBody().getData()).extracting(Creator::getName).containsExactly("Test Creator Name 03");
+        Assertions.assertThat(secondPage.getBody().getNext()).isNull();
+    }
+
+    /**
+     * Integration Test for the Creator endpoint.
+     * Seed the Database with existing Data and stream all the Creators as newline delimited JSON
+     */
+    @Test
+    @DisplayName("[Integration] stream All Creators")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationStreamAllCreators() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.parseMediaType(CreatorController.NDJSON)));
+
+        ResponseEntity<String> response = this.template.exchange(this.url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(response.getBody()).isNotNull();
+        Assertions.assertThat(response.getBody().split("\n")).containsExactly(
+                "{\"id\":\"0320a817-a06b-48d8-8d36-a55a95650a10\",\"name\":\"Test Creator Name 01\"}",
+                "{\"id\":\"596202da-948a-4d9d-bb87-0bae675f7336\",\"name\":\"Test Creator Name 02\"}",
+                "{\"id\":\"6e169bf3-ac69-49b9-8e9c-38439b45e9bd\",\"name\":\"Test Creator Name 03\"}"
+        );
+    }
+
     /**
      * Integration Test for the Creator endpoint.
      * The returned List should be empty and not contain any Creators
@@ -132,6 +198,49 @@ public class CreatorControllerIntegrationTest {
         Assertions.assertThat(response.getBody().getData().getName()).isEqualTo("Test Updated Name 01");
     }
 
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that a Creator is only updated with the If-Match header of its current version
+     * and the response has the saved Creator with its new ETag
+     */
+    @Test
+    @DisplayName("[Integration] Update Creator with If-Match")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationUpdateCreator_IfMatch() {
+        UUID id = UUID.fromString("0320a817-a06b-48d8-8d36-a55a95650a10");
+        String eTag = this.template.exchange(this.url + "/" + id, HttpMethod.GET, null, String.class).getHeaders().getETag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(eTag);
+
+        ResponseEntity<ApiResponse<Creator>> response = this.template.exchange(this.url + "/" + id, HttpMethod.PUT,
+                new HttpEntity<>(new Creator("Test Updated Name 01"), headers), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(response.getHeaders().getETag()).isEqualTo("\"" + id + "-1\"");
+        Assertions.assertThat(response.getBody()).isNotNull();
+        Assertions.assertThat(response.getBody().getData().getName()).isEqualTo("Test Updated Name 01");
+
+        ResponseEntity<ApiResponse<Creator>> conflict = this.template.exchange(this.url + "/" + id, HttpMethod.PUT,
+                new HttpEntity<>(new Creator("Test Updated Name 02"), headers), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(conflict.getStatusCode().value()).isEqualTo(412);
+        Assertions.assertThat(conflict.getBody()).isNotNull();
+        Assertions.assertThat(conflict.getBody().getErrorDetails().getMessage()).isEqualTo("Precondition failed");
+        Assertions.assertThat(conflict.getBody().getErrorDetails().getExceptionType()).isEqualTo(PreconditionFailedException.class.getSimpleName());
+
+        ResponseEntity<String> patchConflict = this.template.exchange(this.url + "/" + id, HttpMethod.PATCH,
+                new HttpEntity<>(new Creator("Test Updated Name 02"), headers), String.class);
+
+        Assertions.assertThat(patchConflict.getStatusCode().value()).isEqualTo(412);
+
+        ResponseEntity<ApiResponse<Creator>> current = this.template.exchange(this.url + "/" + id, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(current.getBody()).isNotNull();
+        Assertions.assertThat(current.getBody().getData().getName()).isEqualTo("Test Updated Name 01");
+    }
+
     /**
      * Integration Test for the Creator Endpoint,
      * Test that the missing Creator cannot be Updated and shows an error message
@@ -158,6 +267,100 @@ public class CreatorControllerIntegrationTest {
         Assertions.assertThat(response.getBody().getErrorDetails().getTimestamp()).isNotEmpty();
     }
 
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that the Creator can be partially updated and values that were not sent are kept
+     */
+    @Test
+    @DisplayName("[Integration] Patch Creator")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationPatchCreator() {
+        UUID id = UUID.fromString("0320a817-a06b-48d8-8d36-a55a95650a10");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<ApiResponse<Creator>> response = this.template.exchange(this.url + "/" + id, HttpMethod.PATCH, new HttpEntity<>("{}", headers), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(this.jdbcTemplate.queryForObject("SELECT name FROM CREATORS WHERE id = ?", String.class, id)).isEqualTo("Test Creator Name 01");
+
+        response = this.template.exchange(this.url + "/" + id, HttpMethod.PATCH, new HttpEntity<>("{\"name\":\"Test Patched Name 01\"}", headers), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(this.jdbcTemplate.queryForObject("SELECT name FROM CREATORS WHERE id = ?", String.class, id)).isEqualTo("Test Patched Name 01");
+        Assertions.assertThat(this.jdbcTemplate.queryForObject("SELECT version FROM CREATORS WHERE id = ?", Long.class, id)).isEqualTo(2L);
+
+        ResponseEntity<ApiResponse<Creator>> missing = this.template.exchange(this.url + "/" + UUID.randomUUID(), HttpMethod.PATCH, new HttpEntity<>("{}", headers), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(missing.getStatusCode().value()).isEqualTo(404);
+    }
+
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that a Creator with an empty name is rejected when it is added or updated
+     */
+    @Test
+    @DisplayName("[Integration] add and update an invalid Creator")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationInvalidCreator() {
+        UUID id = UUID.fromString("0320a817-a06b-48d8-8d36-a55a95650a10");
+
+        ResponseEntity<ApiResponse<Creator>> added = this.template.exchange(this.url, HttpMethod.POST, new HttpEntity<>(new Creator("")), new ParameterizedTypeReference<>() {});
+        ResponseEntity<ApiResponse<Creator>> updated = this.template.exchange(this.url + "/" + id, HttpMethod.PUT, new HttpEntity<>(new Creator("")), new ParameterizedTypeReference<>() {});
+
+        for (ResponseEntity<ApiResponse<Creator>> response : List.of(added, updated)) {
+            Assertions.assertThat(response.getStatusCode().value()).isEqualTo(400);
+            Assertions.assertThat(response.getBody()).isNotNull();
+            Assertions.assertThat(response.getBody().getErrorDetails().getExceptionType()).isEqualTo("ConstraintViolationException");
+            Assertions.assertThat(response.getBody().getErrorDetails().getMessage()).isEqualTo("Invalid resource");
+            Assertions.assertThat(response.getBody().getErrorDetails().getDetails()).isEqualTo("name: must not be empty");
+        }
+    }
+
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that a Creator can't be added or renamed to the name of another Creator
+     */
+    @Test
+    @DisplayName("[Integration] add and update a Creator with a duplicate name")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationDuplicateCreator() {
+        UUID id = UUID.fromString("0320a817-a06b-48d8-8d36-a55a95650a10");
+
+        ResponseEntity<ApiResponse<Creator>> added = this.template.exchange(this.url, HttpMethod.POST, new HttpEntity<>(new Creator("Test Creator Name 02")), new ParameterizedTypeReference<>() {});
+        ResponseEntity<ApiResponse<Creator>> updated = this.template.exchange(this.url + "/" + id, HttpMethod.PUT, new HttpEntity<>(new Creator("Test Creator Name 02")), new ParameterizedTypeReference<>() {});
+
+        for (ResponseEntity<ApiResponse<Creator>> response : List.of(added, updated)) {
+            Assertions.assertThat(response.getStatusCode().value()).isEqualTo(409);
+            Assertions.assertThat(response.getBody()).isNotNull();
+            Assertions.assertThat(response.getBody().getErrorDetails().getExceptionType()).isEqualTo("DuplicateResourceException");
+            Assertions.assertThat(response.getBody().getErrorDetails().getMessage()).isEqualTo("Resource already exists");
+        }
+
+        ResponseEntity<ApiResponse<Creator>> renamed = this.template.exchange(this.url + "/" + id, HttpMethod.PUT, new HttpEntity<>(new Creator("Test Creator Name 01")), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(renamed.getStatusCode().value()).isEqualTo(200);
+    }
+
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that an ID that isn't a UUID is answered with an error message
+     */
+    @Test
+    @DisplayName("[Integration] get Creator with a malformed ID")
+    public void testIntegrationGetOneCreator_MalformedId() {
+        ResponseEntity<ApiResponse<Creator>> response = this.template.exchange(this.url + "/not-a-uuid", HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(400);
+        Assertions.assertThat(response.getBody()).isNotNull();
+        Assertions.assertThat(response.getBody().getErrorDetails().getExceptionType()).isEqualTo("InvalidParameterException");
+        Assertions.assertThat(response.getBody().getErrorDetails().getDetails()).isEqualTo("The value 'not-a-uuid' is not valid for the parameter 'id'");
+    }
+
     /**
      * Integration Test for the Creator Endpoint,
      * Test that we can delete an existing Creator
@@ -227,4 +430,243 @@ public class CreatorControllerIntegrationTest {
         Assertions.assertThat(deletionErrorResponse.getBody().getErrorDetails().getDetails()).isEqualTo("Resource with the id '" + id + "' could not be found");
         Assertions.assertThat(deletionErrorResponse.getBody().getErrorDetails().getTimestamp()).isNotEmpty();
     }
+
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that a Creator is served from the Cache and that the Cache is invalidated when the Creator is updated
+     */
+    @Test
+    @DisplayName("[Integration] get cached Creator")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationGetOneCreator_Cached() {
+        UUID id = UUID.fromString("0320a817-a06b-48d8-8d36-a55a95650a10");
+
+        ResponseEntity<ApiResponse<Creator>> response = this.template.exchange(this.url + "/" + id, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(response.getBody()).isNotNull();
+        Assertions.assertThat(response.getBody().getData().getName()).isEqualTo("Test Creator Name 01");
+
+        // change the Creator behind the Cache, the cached Creator is still returned
+        this.jdbcTemplate.update("UPDATE CREATORS SET name = 'Changed Name 01' WHERE id = ?", id);
+
+        ResponseEntity<ApiResponse<Creator>> cachedResponse = this.template.exchange(this.url + "/" + id, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(cachedResponse.getBody()).isNotNull();
+        Assertions.assertThat(cachedResponse.getBody().getData().getName()).isEqualTo("Test Creator Name 01");
+
+        // updating the Creator through the API invalidates the Cache
+        HttpEntity<Creator> httpEntity = new HttpEntity<>(new Creator("Test Updated Name 01"));
+        this.template.exchange(this.url + "/" + id, HttpMethod.PUT, httpEntity, new ParameterizedTypeReference<ApiResponse<Creator>>() {});
+
+        ResponseEntity<ApiResponse<Creator>> updatedResponse = this.template.exchange(this.url + "/" + id, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(updatedResponse.getBody()).isNotNull();
+        Assertions.assertThat(updatedResponse.getBody().getData().getName()).isEqualTo("Test Updated Name 01");
+    }
+
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that a missing Creator is cached as well
+     */
+    @Test
+    @DisplayName("[Integration] get cached missing Creator")
+    @Sql({"classpath:creator/truncate.sql"})
+    public void testIntegrationGetOneCreator_CachedMissing() {
+        UUID id = UUID.fromString("0320a817-a06b-48d8-8d36-a55a95650a10");
+        CaffeineCache cache = (CaffeineCache) this.cacheManager.getCache(CacheConfiguration.CREATORS);
+
+        Assertions.assertThat(cache).isNotNull();
+
+        CacheStats statsBefore = cache.getNativeCache().stats();
+
+        ResponseEntity<ApiResponse<Creator>> response = this.template.exchange(this.url + "/" + id, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(404);
+
+        // add the Creator behind the Cache, the missing Creator is still cached
+        this.jdbcTemplate.update("INSERT INTO CREATORS (id, name) VALUES (?, 'Test Creator Name 01')", id);
+
+        ResponseEntity<ApiResponse<Creator>> cachedResponse = this.template.exchange(this.url + "/" + id, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(cachedResponse.getStatusCode().value()).isEqualTo(404);
+
+        CacheStats stats = cache.getNativeCache().stats().minus(statsBefore);
+
+        Assertions.assertThat(stats.hitCount()).isEqualTo(1);
+        Assertions.assertThat(stats.missCount()).isEqualTo(1);
+    }
+
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that multiple Creators are added at once and that a taken name doesn't prevent the others from being added
+     */
+    @Test
+    @DisplayName("[Integration] add multiple Creators")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationAddNewCreators() {
+        List<Creator> creators = List.of(new Creator("Test New Creator 01"), new Creator("Test Creator Name 01"), new Creator("Test New Creator 02"));
+
+        ResponseEntity<ApiResponse<List<ApiResponse<Creator>>>> response = this.template.exchange(this.url + "/batch", HttpMethod.POST, new HttpEntity<>(creators), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(response.getBody()).isNotNull();
+        Assertions.assertThat(response.getBody().getData()).extracting(ApiResponse::getStatusCode).containsExactly(201, 409, 201);
+        Assertions.assertThat(response.getBody().getData().getFirst().getData().getId()).isNotNull();
+        Assertions.assertThat(response.getBody().getData().get(1).getErrorDetails().getExceptionType()).isEqualTo(DuplicateResourceException.class.getSimpleName());
+
+        Integer count = this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM CREATORS", Integer.class);
+
+        Assertions.assertThat(count).isEqualTo(5);
+    }
+
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that multiple Creators are updated at once and that a missing Creator doesn't prevent the others from being updated
+     */
+    @Test
+    @DisplayName("[Integration] update multiple Creators")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationUpdateCreators() {
+        UUID missingId = UUID.randomUUID();
+        List<Creator> creators = List.of(
+                new Creator(UUID.fromString("0320a817-a06b-48d8-8d36-a55a95650a10"), "Test Updated Name 01"),
+                new Creator(missingId, "Test Updated Name 02"),
+                new Creator(UUID.fromString("596202da-948a-4d9d-bb87-0bae675f7336"), "Test Creator Name 03")
+        );
+
+        ResponseEntity<ApiResponse<List<ApiResponse<Creator>>>> response = this.template.exchange(this.url + "/batch", HttpMethod.PUT, new HttpEntity<>(creators), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(response.getBody()).isNotNull();
+        Assertions.assertThat(response.getBody().getData()).extracting(ApiResponse::getStatusCode).containsExactly(200, 404, 409);
+
+        List<String> names = this.jdbcTemplate.queryForList("SELECT name FROM CREATORS ORDER BY name", String.class);
+
+        Assertions.assertThat(names).containsExactly("Test Creator Name 02", "Test Creator Name 03", "Test Updated Name 01");
+    }
+
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that multiple Creators are deleted at once and that a missing Creator doesn't prevent the others from being deleted
+     */
+    @Test
+    @DisplayName("[Integration] delete multiple Creators")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationDeleteCreators() {
+        List<UUID> ids = List.of(
+                UUID.fromString("0320a817-a06b-48d8-8d36-a55a95650a10"),
+                UUID.randomUUID(),
+                UUID.fromString("6e169bf3-ac69-49b9-8e9c-38439b45e9bd")
+        );
+
+        ResponseEntity<ApiResponse<List<ApiResponse<Creator>>>> response = this.template.exchange(this.url + "/batch", HttpMethod.DELETE, new HttpEntity<>(ids), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(response.getBody()).isNotNull();
+        Assertions.assertThat(response.getBody().getData()).extracting(ApiResponse::getStatusCode).containsExactly(200, 404, 200);
+
+        List<String> names = this.jdbcTemplate.queryForList("SELECT name FROM CREATORS ORDER BY name", String.class);
+
+        Assertions.assertThat(names).containsExactly("Test Creator Name 02");
+    }
+
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that a Creator is only returned again when it was modified since the last request
+     */
+    @Test
+    @DisplayName("[Integration] get Creator not modified")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationGetOneCreator_NotModified() {
+        UUID id = UUID.fromString("0320a817-a06b-48d8-8d36-a55a95650a10");
+
+        ResponseEntity<String> response = this.template.exchange(this.url + "/" + id, HttpMethod.GET, null, String.class);
+        String eTag = response.getHeaders().getETag();
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(eTag).isEqualTo("\"" + id + "-0\"");
+        Assertions.assertThat(response.getHeaders().getLastModified()).isPositive();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+
+        ResponseEntity<String> notModified = this.template.exchange(this.url + "/" + id, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        Assertions.assertThat(notModified.getStatusCode().value()).isEqualTo(304);
+        Assertions.assertThat(notModified.getBody()).isNull();
+
+        this.template.exchange(this.url + "/" + id, HttpMethod.PUT, new HttpEntity<>(new Creator("Test Updated Name 01")), String.class);
+
+        ResponseEntity<ApiResponse<Creator>> modified = this.template.exchange(this.url + "/" + id, HttpMethod.GET, new HttpEntity<>(headers), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(modified.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(modified.getHeaders().getETag()).isEqualTo("\"" + id + "-1\"");
+        Assertions.assertThat(modified.getBody()).isNotNull();
+        Assertions.assertThat(modified.getBody().getData().getName()).isEqualTo("Test Updated Name 01");
+    }
+
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that the list of Creators is only returned again when a Creator was added, updated or deleted
+     */
+    @Test
+    @DisplayName("[Integration] get all Creators not modified")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationGetAllCreators_NotModified() {
+        ResponseEntity<String> response = this.template.exchange(this.url, HttpMethod.GET, null, String.class);
+        String eTag = response.getHeaders().getETag();
+
+        Assertions.assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(eTag).startsWith("\"3-");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+
+        ResponseEntity<String> notModified = this.template.exchange(this.url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        Assertions.assertThat(notModified.getStatusCode().value()).isEqualTo(304);
+        Assertions.assertThat(notModified.getBody()).isNull();
+
+        this.template.exchange(this.url + "/6e169bf3-ac69-49b9-8e9c-38439b45e9bd", HttpMethod.DELETE, null, String.class);
+
+        ResponseEntity<ApiResponse<List<Creator>>> modified = this.template.exchange(this.url, HttpMethod.GET, new HttpEntity<>(headers), new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(modified.getStatusCode().value()).isEqualTo(200);
+        Assertions.assertThat(modified.getHeaders().getETag()).startsWith("\"2-");
+        Assertions.assertThat(modified.getBody()).isNotNull();
+        Assertions.assertThat(modified.getBody().getData()).hasSize(2);
+    }
+
+    /**
+     * Integration Test for the Creator Endpoint,
+     * Test that the encoded list of Creators is sent again until a Creator is updated or added
+     */
+    @Test
+    @DisplayName("[Integration] get all Creators from the response Cache")
+    @Sql({"classpath:creator/truncate.sql"})
+    @Sql({"classpath:creator/insert.sql"})
+    public void testIntegrationGetAllCreators_Cached() {
+        String body = this.template.getForObject(this.url, String.class);
+
+        Assertions.assertThat(this.template.getForObject(this.url, String.class)).isEqualTo(body);
+
+        this.template.put(this.url + "/0320a817-a06b-48d8-8d36-a55a95650a10", new Creator("Test Cached Name 01"));
+
+        ResponseEntity<ApiResponse<List<Creator>>> updated = this.template.exchange(this.url, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(Objects.requireNonNull(updated.getBody()).getData()).extracting(Creator::getName).contains("Test Cached Name 01");
+
+        this.template.exchange(this.url + "/batch", HttpMethod.POST, new HttpEntity<>(List.of(new Creator("Test Cached Name 04"))), String.class);
+
+        ResponseEntity<ApiResponse<List<Creator>>> added = this.template.exchange(this.url, HttpMethod.GET, null, new ParameterizedTypeReference<>() {});
+
+        Assertions.assertThat(Objects.requireNonNull(added.getBody()).getData()).hasSize(4).extracting(Creator::getName).contains("Test Cached Name 04");
+    }
 }
@@ -1,9 +1,18 @@
 package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import net.fribbtastic.MyMiniaturesVault.backend.cache.CacheConfiguration;
+import net.fribbtastic.MyMiniaturesVault.backend.cache.ResponseCache;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.DuplicateResourceException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.PreconditionFailedException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidCursorException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.InvalidParameterException;
 import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
 import org.assertj.core.api.Assertions;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,29 +20,47 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
 /**
  * @author Frederic Eßer
  */
 @ExtendWith({MockitoExtension.class, SpringExtension.class})
 @WebMvcTest(controllers =  CreatorController.class)
+@Import({CacheConfiguration.class, ResponseCache.class})
 class CreatorControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -47,7 +74,15 @@ class CreatorControllerTest {
             new Creator(UUID.randomUUID(), "Test Creator Name 02")
     );
 
-    private final Creator creator = new Creator(UUID.fromString("eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1"), "Test Creator Name 01");
+    private final Creator creator = new Creator(UUID.fromString("eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1"), "Test Creator Name 01", 3L, Instant.parse("2025-01-01T12:00:00Z"));
+
+    private final CreatorListVersion listVersion = new CreatorListVersion(2, 5, 0, Instant.parse("2025-01-01T12:00:00Z"));
+
+    @BeforeEach
+    public void setUp() {
+        // the encoded responses of the mocked Service must not be sent to the next test
+        this.cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(this.cacheManager.getCache(name)).clear());
+    }
 
     /**
      * Test the MVC Creator Controller to return a List of Creators
@@ -57,7 +92,8 @@ class CreatorControllerTest {
     @Test
     @DisplayName("[WebMVC] get all Creators (2 Results)")
     public void testMvcGetAllCreators() throws Exception {
-        Mockito.when(this.service.getAll()).thenReturn(this.creatorList);
+        Mockito.when(this.service.getListVersion()).thenReturn(this.listVersion);
+        Mockito.when(this.service.getPage(null, CreatorController.DEFAULT_PAGE_SIZE)).thenReturn(new CreatorPage(this.creatorList, null));
 
         this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint).accept(MediaType.APPLICATION_JSON)))
                 .andDo(MockMvcResultHandlers.print())
@@ -70,9 +106,10 @@ class CreatorControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].name").value("Test Creator Name 01"))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data[1]").exists())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].id").exists())
-                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].name").value("Test Creator Name 02"));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].name").value("Test Creator Name 02"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next").doesNotExist());
 
-        Mockito.verify(this.service, Mockito.times(1)).getAll();
+        Mockito.verify(this.service, Mockito.times(1)).getPage(null, CreatorController.DEFAULT_PAGE_SIZE);
     }
 
     /**
@@ -83,7 +120,8 @@ class CreatorControllerTest {
     @Test
     @DisplayName("[WebMVC] get all Creators (0 Results")
     public void testMvcGetAllCreators_Empty() throws Exception {
-        Mockito.when(this.service.getAll()).thenReturn(Collections.emptyList());
+        Mockito.when(this.service.getListVersion()).thenReturn(this.listVersion);
+        Mockito.when(this.service.getPage(null, CreatorController.DEFAULT_PAGE_SIZE)).thenReturn(new CreatorPage(Collections.emptyList(), null));
 
         this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint).accept(MediaType.APPLICATION_JSON)))
                 .andDo(MockMvcResultHandlers.print())
@@ -92,7 +130,263 @@ class CreatorControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data").exists())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data").isEmpty());
 
-        Mockito.verify(this.service, Mockito.times(1)).getAll();
+        Mockito.verify(this.service, Mockito.times(1)).getPage(null, CreatorController.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Test the MVC Creator Controller to return a page of Creators with the Cursor for the next page
+     * and to pass the Cursor back to the Service when requesting the next page
+     *
+     * @throws Exception Thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get a page of Creators with a next page")
+    public void testMvcGetAllCreators_WithNext() throws Exception {
+        CreatorCursor next = CreatorCursor.of(this.creatorList.getFirst());
+
+        Mockito.when(this.service.getListVersion()).thenReturn(this.listVersion);
+        Mockito.when(this.service.getPage(null, 1)).thenReturn(new CreatorPage(this.creatorList.subList(0, 1), next));
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint).param("limit", "1").accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].name").value("Test Creator Name 01"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next").value(next.encode()));
+
+        Mockito.when(this.service.getPage(Mockito.any(CreatorCursor.class), Mockito.eq(1))).thenReturn(new CreatorPage(this.creatorList.subList(1, 2), null));
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint).param("limit", "1").param("cursor", next.encode()).accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].name").value("Test Creator Name 02"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next").doesNotExist());
+
+        Mockito.verify(this.service, Mockito.times(1)).getPage(Mockito.argThat(cursor ->
+                cursor != null && cursor.getId().equals(next.getId()) && cursor.getName().equals(next.getName())), Mockito.eq(1));
+    }
+
+    /**
+     * Test the MVC Creator Controller to limit the requested page size
+     *
+     * @throws Exception Thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get all Creators with a too large limit")
+    public void testMvcGetAllCreators_LimitTooLarge() throws Exception {
+        Mockito.when(this.service.getListVersion()).thenReturn(this.listVersion);
+        Mockito.when(this.service.getPage(null, CreatorController.MAX_PAGE_SIZE)).thenReturn(new CreatorPage(this.creatorList, null));
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint).param("limit", "1000000").accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(this.service, Mockito.times(1)).getPage(null, CreatorController.MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Test the MVC Creator Controller with a Cursor that can't be decoded.
+     * The response should be that a {@link InvalidCursorException} is being thrown
+     *
+     * @throws Exception Thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get all Creators with an invalid Cursor")
+    public void testMvcGetAllCreators_InvalidCursor() throws Exception {
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint).param("cursor", "invalid").accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(result -> Assertions.assertThat(result.getResolvedException()).isInstanceOf(InvalidCursorException.class))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(400))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(InvalidCursorException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.message").value("Invalid cursor"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.details").value("The cursor 'invalid' is not valid"));
+
+        Mockito.verifyNoInteractions(this.service);
+    }
+
+    /**
+     * Test the MVC Creator Controller to return the ETag and Last-Modified header of the list of Creators
+     *
+     * @throws Exception Thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get all Creators with ETag and Last-Modified")
+    public void testMvcGetAllCreators_ETag() throws Exception {
+        Mockito.when(this.service.getListVersion()).thenReturn(this.listVersion);
+        Mockito.when(this.service.getPage(null, CreatorController.DEFAULT_PAGE_SIZE)).thenReturn(new CreatorPage(this.creatorList, null));
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint).accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"2-5-0\""))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LAST_MODIFIED, "Wed, 01 Jan 2025 12:00:00 GMT"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(2)));
+    }
+
+    /**
+     * Test the MVC Creator Controller to return 304 without loading any Creators when the ETag matches
+     *
+     * @throws Exception Thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get all Creators not modified (If-None-Match)")
+    public void testMvcGetAllCreators_NotModified() throws Exception {
+        Mockito.when(this.service.getListVersion()).thenReturn(this.listVersion);
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2-5-0\"")
+                        .accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"2-5-0\""))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        Mockito.verify(this.service, Mockito.never()).getPage(Mockito.any(), Mockito.anyInt());
+    }
+
+    /**
+     * Test the MVC Creator Controller to return the Creators again when a Creator was updated
+     * without moving the time of the last change forward
+     *
+     * @throws Exception Thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get all Creators after an update of an older Creator")
+    public void testMvcGetAllCreators_OlderUpdate() throws Exception {
+        CreatorListVersion updated = new CreatorListVersion(2, 6, 0, this.listVersion.getLastModified());
+
+        Mockito.when(this.service.getListVersion()).thenReturn(updated);
+        Mockito.when(this.service.getPage(null, CreatorController.DEFAULT_PAGE_SIZE)).thenReturn(new CreatorPage(this.creatorList, null));
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2-5-0\"")
+                        .accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"2-6-0\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(2)));
+    }
+
+    /**
+     * Test the MVC Creator Controller to send the same page again from the encoded response,
+     * without looking up the version of the list or loading the Creators
+     *
+     * @throws Exception Thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get all Creators from the response Cache")
+    public void testMvcGetAllCreators_Cached() throws Exception {
+        Mockito.when(this.service.getListVersion()).thenReturn(this.listVersion);
+        Mockito.when(this.service.getPage(null, CreatorController.DEFAULT_PAGE_SIZE)).thenReturn(new CreatorPage(this.creatorList, null));
+
+        String body = this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint).accept(MediaType.APPLICATION_JSON)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint).accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"2-5-0\""))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(MockMvcResultMatchers.content().string(body))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].name").value("Test Creator Name 02"));
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2-5-0\"")
+                        .accept(MediaType.APPLICATION_JSON)))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        // another page is a different response
+        Mockito.when(this.service.getPage(null, 1)).thenReturn(new CreatorPage(this.creatorList.subList(0, 1), null));
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint).param("limit", "1").accept(MediaType.APPLICATION_JSON)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(1)));
+
+        Mockito.verify(this.service, Mockito.times(2)).getListVersion();
+        Mockito.verify(this.service, Mockito.times(1)).getPage(null, CreatorController.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Test the MVC Creator Controller to send a large page compressed with gzip when the client accepts it
+     *
+     * @throws Exception Thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get all Creators compressed with gzip")
+    public void testMvcGetAllCreators_Gzip() throws Exception {
+        List<Creator> creators = IntStream.range(0, 100).mapToObj(i -> new Creator(UUID.randomUUID(), "Test Creator Name " + i)).toList();
+
+        Mockito.when(this.service.getListVersion()).thenReturn(this.listVersion);
+        Mockito.when(this.service.getPage(null, CreatorController.DEFAULT_PAGE_SIZE)).thenReturn(new CreatorPage(creators, null));
+
+        byte[] compressed = this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                        .accept(MediaType.APPLICATION_JSON)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(MockMvcResultMatchers.header().stringValues(HttpHeaders.ETAG, "\"2-5-0-gzip\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String body = this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint).accept(MediaType.APPLICATION_JSON)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(MockMvcResultMatchers.header().stringValues(HttpHeaders.ETAG, "\"2-5-0\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(100)))
+                .andReturn().getResponse().getContentAsString();
+
+        // the ETags of both encodings belong to the same list of Creators
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2-5-0-gzip\"")
+                        .accept(MediaType.APPLICATION_JSON)))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"2-5-0-gzip\""));
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2-5-0\"")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .accept(MediaType.APPLICATION_JSON)))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"2-5-0\""));
+
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            Assertions.assertThat(compressed.length).isLessThan(body.length());
+            Assertions.assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(body);
+        }
+    }
+
+    /**
+     * Test the MVC Creator Controller to stream all Creators as newline delimited JSON
+     *
+     * @throws Exception Thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] stream all Creators")
+    public void testMvcStreamAllCreators() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            Consumer<Creator> consumer = invocation.getArgument(0);
+            this.creatorList.forEach(consumer);
+            return null;
+        }).when(this.service).streamAll(Mockito.any());
+
+        MvcResult result = this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint).accept(CreatorController.NDJSON)))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        String expected = this.objectMapper.writeValueAsString(this.creatorList.getFirst()) + "\n"
+                + this.objectMapper.writeValueAsString(this.creatorList.get(1)) + "\n";
+
+        this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(CreatorController.NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(expected));
+
+        Mockito.verify(this.service, Mockito.times(1)).streamAll(Mockito.any());
     }
 
     /**
@@ -117,6 +411,45 @@ class CreatorControllerTest {
         Mockito.verify(this.service, Mockito.times(1)).getOne(this.creator.getId());
     }
 
+    /**
+     * Test the MVC Creator Controller to return the ETag and Last-Modified header of a single {@link Creator}
+     * and 304 when the request matches them
+     *
+     * @throws Exception Thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get a single Creator not modified")
+    public void testMvcGetOneCreator_NotModified() throws Exception {
+        Mockito.when(this.service.getOne(this.creator.getId())).thenReturn(this.creator);
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint + "/" + this.creator.getId()).accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1-3\""))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LAST_MODIFIED, "Wed, 01 Jan 2025 12:00:00 GMT"));
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint + "/" + this.creator.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1-3\"")
+                        .accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint + "/" + this.creator.getId())
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 01 Jan 2025 12:00:00 GMT")
+                        .accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint + "/" + this.creator.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1-2\"")
+                        .accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.name").value("Test Creator Name 01"));
+    }
+
     /**
      * Test the MVC Creator Controller with an ID that doesn't exist.
      * The response should be that a {@link ResourceNotFoundException} is being thrown
@@ -146,6 +479,27 @@ class CreatorControllerTest {
         Mockito.verify(this.service, Mockito.times(1)).getOne(id);
     }
 
+    /**
+     * Test the MVC Creator Controller with an ID that isn't a valid UUID.
+     * The response should be that the parameter is invalid
+     *
+     * @throws Exception Thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get a Creator with a malformed ID")
+    public void testMvcGetOneCreator_MalformedId() throws Exception {
+        this.mockMvc.perform((MockMvcRequestBuilders.get(this.endpoint + "/not-a-uuid").accept(MediaType.APPLICATION_JSON)))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(400))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(InvalidParameterException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.message").value("Invalid parameter"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.details").value("The value 'not-a-uuid' is not valid for the parameter 'id'"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.timestamp").isNotEmpty());
+
+        Mockito.verifyNoInteractions(this.service);
+    }
+
     /**
      * Test the MVC Creator Controller to add a new Creator
      *
@@ -170,6 +524,54 @@ class CreatorControllerTest {
         Mockito.verify(this.service, Mockito.times(1)).addCreator(Mockito.any(Creator.class));
     }
 
+    /**
+     * Test the MVC Creator Controller to add a Creator with a name that is already taken
+     *
+     * @throws Exception Thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] add a Creator with a duplicate name")
+    public void testMvcAddNewCreator_Duplicate() throws Exception {
+        Mockito.when(this.service.addCreator(Mockito.any(Creator.class))).thenThrow(new DuplicateResourceException("Test Creator Name 01"));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.post(this.endpoint)
+                        .content(this.objectMapper.writeValueAsString(this.creator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(409))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(DuplicateResourceException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.message").value("Resource already exists"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.details").value("Resource with the name 'Test Creator Name 01' already exists"));
+    }
+
+    /**
+     * Test the MVC Creator Controller to update a Creator with a name that a concurrent request took first.
+     * The message of the database is not part of the response
+     *
+     * @throws Exception Thrown by the MockMVC perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] update a Creator rejected by the database")
+    public void testMvcUpdateCreator_DataIntegrityViolation() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        Mockito.when(this.service.updateCreator(Mockito.eq(id), Mockito.any(Creator.class), Mockito.isNull()))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement [Unique index or primary key violation: PUBLIC.CONSTRAINT_INDEX_2]"));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.put(this.endpoint + "/{id}", id)
+                        .content(this.objectMapper.writeValueAsString(new Creator("Test Creator Name 02")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(409))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(DataIntegrityViolationException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.message").value("Resource conflicts with the stored data"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.details").value("The resource conflicts with an existing resource"));
+    }
+
     /**
      * Test the MVC Creator Controller to update an existing Creator
      *
@@ -182,7 +584,7 @@ class CreatorControllerTest {
         UUID id = UUID.randomUUID();
         Creator updatedCreator = new Creator(id, "Test Updated Creator Name 01");
 
-        Mockito.when(this.service.updateCreator(Mockito.any(UUID.class), Mockito.any(Creator.class))).thenReturn(updatedCreator);
+        Mockito.when(this.service.updateCreator(Mockito.any(UUID.class), Mockito.any(Creator.class), Mockito.isNull())).thenReturn(updatedCreator);
 
         this.mockMvc.perform(MockMvcRequestBuilders.put(this.endpoint + "/{id}", id)
                         .content(this.objectMapper.writeValueAsString(updatedCreator))
@@ -195,7 +597,7 @@ class CreatorControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data.id").value(id.toString()))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data.name").value("Test Updated Creator Name 01"));
 
-        Mockito.verify(this.service, Mockito.times(1)).updateCreator(Mockito.any(UUID.class), Mockito.any(Creator.class));
+        Mockito.verify(this.service, Mockito.times(1)).updateCreator(Mockito.any(UUID.class), Mockito.any(Creator.class), Mockito.isNull());
     }
 
     /**
@@ -210,7 +612,7 @@ class CreatorControllerTest {
         UUID id = UUID.randomUUID();
         Creator updatedCreator = new Creator(id, "Test Updated Creator Name 01");
 
-        Mockito.when(this.service.updateCreator(Mockito.any(UUID.class), Mockito.any(Creator.class))).thenThrow(new ResourceNotFoundException(id));
+        Mockito.when(this.service.updateCreator(Mockito.any(UUID.class), Mockito.any(Creator.class), Mockito.isNull())).thenThrow(new ResourceNotFoundException(id));
 
         this.mockMvc.perform(MockMvcRequestBuilders.put(this.endpoint + "/{id}", id)
                         .content(this.objectMapper.writeValueAsString(updatedCreator))
@@ -228,7 +630,174 @@ class CreatorControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.error.details").value("Resource with the id '" + id + "' could not be found"))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.error.timestamp").isNotEmpty());
 
-        Mockito.verify(this.service, Mockito.times(1)).updateCreator(Mockito.any(UUID.class), Mockito.any(Creator.class));
+        Mockito.verify(this.service, Mockito.times(1)).updateCreator(Mockito.any(UUID.class), Mockito.any(Creator.class), Mockito.isNull());
+    }
+
+    /**
+     * Test the MVC Creator Controller to partially update an existing Creator
+     *
+     * @throws Exception Thrown by the MockMVC Perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] patch an existing Creator")
+    public void testMvcPatchCreator() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.patch(this.endpoint + "/{id}", id)
+                        .content("{\"name\":\"Test Patched Creator Name 01\"}")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(200))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data").doesNotExist());
+
+        Mockito.verify(this.service, Mockito.times(1)).patchCreator(Mockito.eq(id), Mockito.argThat(creator -> "Test Patched Creator Name 01".equals(creator.getName())), Mockito.isNull());
+    }
+
+    /**
+     * Test the MVC Creator Controller to partially update a missing Creator
+     *
+     * @throws Exception Thrown by the MockMVC Perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] patch a missing Creator")
+    public void testMvcPatchCreator_missing() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        Mockito.doThrow(new ResourceNotFoundException(id)).when(this.service).patchCreator(Mockito.eq(id), Mockito.any(Creator.class), Mockito.isNull());
+
+        this.mockMvc.perform(MockMvcRequestBuilders.patch(this.endpoint + "/{id}", id)
+                        .content("{}")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(404))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(ResourceNotFoundException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.details").value("Resource with the id '" + id + "' could not be found"));
+    }
+
+    /**
+     * Test the MVC Creator controller to update a Creator with an invalid name
+     *
+     * @throws Exception Thrown by the MockMVC perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] update a Creator with an invalid name")
+    public void testMvcUpdateCreator_Invalid() throws Exception {
+        UUID id = UUID.randomUUID();
+        Creator updatedCreator = new Creator(id, "");
+
+        Mockito.when(this.service.updateCreator(Mockito.any(UUID.class), Mockito.any(Creator.class), Mockito.isNull()))
+                .thenThrow(new ConstraintViolationException(Validation.buildDefaultValidatorFactory().getValidator().validate(updatedCreator)));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.put(this.endpoint + "/{id}", id)
+                        .content(this.objectMapper.writeValueAsString(updatedCreator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(400))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(ConstraintViolationException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.message").value("Invalid resource"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.details").value("name: must not be empty"));
+    }
+
+    /**
+     * Test the MVC Creator controller to update a Creator that was updated concurrently
+     *
+     * @throws Exception Thrown by the MockMVC perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] update a concurrently modified Creator")
+    public void testMvcUpdateCreator_Conflict() throws Exception {
+
+        UUID id = UUID.randomUUID();
+        Creator updatedCreator = new Creator(id, "Test Updated Creator Name 01");
+
+        Mockito.when(this.service.updateCreator(Mockito.any(UUID.class), Mockito.any(Creator.class), Mockito.isNull())).thenThrow(new OptimisticLockingFailureException("Row was updated"));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.put(this.endpoint + "/{id}", id)
+                        .content(this.objectMapper.writeValueAsString(updatedCreator))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(409))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(OptimisticLockingFailureException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.message").value("Resource was modified concurrently"));
+    }
+
+    /**
+     * Test the MVC Creator controller to update a Creator with the ETag of its version in the If-Match header
+     *
+     * @throws Exception Thrown by the MockMVC perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] update a Creator with If-Match")
+    public void testMvcUpdateCreator_IfMatch() throws Exception {
+        UUID id = UUID.randomUUID();
+        Creator updatedCreator = new Creator(id, "Test Updated Creator Name 01", 4L, Instant.parse("2025-01-01T12:00:00Z"));
+
+        Mockito.when(this.service.updateCreator(Mockito.eq(id), Mockito.any(Creator.class), Mockito.eq(3L))).thenReturn(updatedCreator);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.put(this.endpoint + "/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"" + id + "-3\"")
+                        .content("{\"name\":\"Test Updated Creator Name 01\"}")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"" + id + "-4\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.name").value("Test Updated Creator Name 01"));
+    }
+
+    /**
+     * Test the MVC Creator controller to update a Creator with the ETag of an older version in the If-Match header
+     *
+     * @throws Exception Thrown by the MockMVC perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] update a Creator with an outdated If-Match")
+    public void testMvcUpdateCreator_PreconditionFailed() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        Mockito.when(this.service.updateCreator(Mockito.eq(id), Mockito.any(Creator.class), Mockito.eq(3L))).thenThrow(new PreconditionFailedException(id, 3L));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.put(this.endpoint + "/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"" + id + "-3\"")
+                        .content("{\"name\":\"Test Updated Creator Name 01\"}")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(412))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(PreconditionFailedException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.message").value("Precondition failed"));
+    }
+
+    /**
+     * Test the MVC Creator controller to update a Creator with the ETag of another Creator in the If-Match header
+     *
+     * @throws Exception Thrown by the MockMVC perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] update a Creator with an invalid If-Match")
+    public void testMvcUpdateCreator_InvalidIfMatch() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        this.mockMvc.perform(MockMvcRequestBuilders.patch(this.endpoint + "/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"" + UUID.randomUUID() + "-3\"")
+                        .content("{\"name\":\"Test Updated Creator Name 01\"}")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(InvalidParameterException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.message").value("Invalid parameter"));
+
+        Mockito.verifyNoInteractions(this.service);
     }
 
     /**
@@ -278,4 +847,142 @@ class CreatorControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.error.timestamp").isNotEmpty());
     }
 
-}
\ No newline at end of file
+    /**
+     * Test the MVC Creator Controller to add multiple Creators
+     * Each Creator gets its own result with a status
+     *
+     * @throws Exception Thrown by the MockMVC perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] add multiple Creators")
+    public void testMvcAddNewCreators() throws Exception {
+        Mockito.when(this.service.addCreators(Mockito.anyList())).thenReturn(List.of(
+                CreatorBatchResult.success(HttpStatus.CREATED, this.creator),
+                CreatorBatchResult.failure(HttpStatus.CONFLICT, "Resource already exists", new DuplicateResourceException("Test Creator Name 02"))
+        ));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.post(this.endpoint + "/batch")
+                        .content(this.objectMapper.writeValueAsString(this.creatorList))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(200))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].status").value(201))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].data.id").value("eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].error").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].status").value(409))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].data").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].error.exceptionType").value(DuplicateResourceException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].error.message").value("Resource already exists"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].error.details").value("Resource with the name 'Test Creator Name 02' already exists"));
+
+        Mockito.verify(this.service, Mockito.times(1)).addCreators(Mockito.anyList());
+    }
+
+    /**
+     * Test the MVC Creator Controller to update multiple Creators
+     *
+     * @throws Exception Thrown by the MockMVC perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] update multiple Creators")
+    public void testMvcUpdateCreators() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        Mockito.when(this.service.updateCreators(Mockito.anyList())).thenReturn(List.of(
+                CreatorBatchResult.success(HttpStatus.OK, this.creator),
+                CreatorBatchResult.failure(HttpStatus.NOT_FOUND, "Resource not found", new ResourceNotFoundException(id))
+        ));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.put(this.endpoint + "/batch")
+                        .content(this.objectMapper.writeValueAsString(List.of(this.creator, new Creator(id, "Test Creator Name 02"))))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].status").value(200))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].data.name").value("Test Creator Name 01"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].status").value(404))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].error.details").value("Resource with the id '" + id + "' could not be found"));
+
+        Mockito.verify(this.service, Mockito.times(1)).updateCreators(Mockito.anyList());
+    }
+
+    /**
+     * Test the MVC Creator Controller to delete multiple Creators
+     *
+     * @throws Exception Thrown by the MockMVC perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] delete multiple Creators")
+    public void testMvcDeleteCreators() throws Exception {
+        UUID id = UUID.randomUUID();
+        List<UUID> ids = List.of(this.creator.getId(), id);
+
+        Mockito.when(this.service.deleteCreators(ids)).thenReturn(List.of(
+                CreatorBatchResult.success(HttpStatus.OK, null),
+                CreatorBatchResult.failure(HttpStatus.NOT_FOUND, "Resource not found", new ResourceNotFoundException(id))
+        ));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.delete(this.endpoint + "/batch")
+                        .content(this.objectMapper.writeValueAsString(ids))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].status").value(200))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].data").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[1].status").value(404));
+
+        Mockito.verify(this.service, Mockito.times(1)).deleteCreators(ids);
+    }
+
+    /**
+     * Test to delete multiple Creators with an ID that isn't a valid UUID.
+     * The response should be that the value at its position in the body is invalid
+     *
+     * @throws Exception Thrown by the MockMVC perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] delete multiple Creators with a malformed ID")
+    public void testMvcDeleteCreators_MalformedId() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.delete(this.endpoint + "/batch")
+                        .content("[\"" + this.creator.getId() + "\", \"not-a-uuid\"]")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(400))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(InvalidParameterException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.message").value("Invalid parameter"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.details").value("The value 'not-a-uuid' is not valid for the parameter '[1]'"));
+
+        Mockito.verifyNoInteractions(this.service);
+    }
+
+    /**
+     * Test to add a Creator with a body that isn't valid JSON.
+     * The response should be that the body is invalid
+     *
+     * @throws Exception Thrown by the MockMVC perform method
+     */
+    @Test
+    @DisplayName("[WebMVC] add a Creator with a malformed body")
+    public void testMvcAddCreator_MalformedBody() throws Exception {
+        this.mockMvc.perform(MockMvcRequestBuilders.post(this.endpoint)
+                        .content("{\"name\":")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(400))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(InvalidParameterException.class.getSimpleName()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.details").value("The value 'null' is not valid for the parameter 'body'"));
+
+        Mockito.verifyNoInteractions(this.service);
+    }
+}
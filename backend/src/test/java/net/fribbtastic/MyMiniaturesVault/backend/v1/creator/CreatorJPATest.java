@@ -1,16 +1,24 @@
 package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
 
 import jakarta.validation.ConstraintViolationException;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeEntity;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.DeletionRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * @author Frederic Eßer
@@ -21,6 +29,12 @@ public class CreatorJPATest {
     @Autowired
     private CreatorRepository repository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DeletionRepository deletions;
+
     private Creator creator;
 
     @BeforeEach
@@ -41,6 +55,7 @@ public class CreatorJPATest {
 
         Assertions.assertThat(savedCreator).isNotNull();
         Assertions.assertThat(savedCreator.getId()).isNotNull();
+        Assertions.assertThat(savedCreator.getId().version()).isEqualTo(7);
         Assertions.assertThat(savedCreator.getName()).isEqualTo("Test Creator Name 01");
     }
 
@@ -71,6 +86,35 @@ public class CreatorJPATest {
         Assertions.assertThat(creatorList.get(1).getName()).isEqualTo("Test Creator Name 02");
     }
 
+    @Test
+    @DisplayName("Get Creators page by page")
+    public void testGetCreatorPages() {
+        // save creators in a different order than their names
+        this.repository.save(Creator.builder().name("Test Creator Name 03").build());
+        this.repository.save(this.creator);
+        this.repository.save(Creator.builder().name("Test Creator Name 02").build());
+
+        List<Creator> firstPage = this.repository.findAllByOrderByNameAscIdAsc(Limit.of(2));
+
+        Assertions.assertThat(firstPage).extracting(Creator::getName).containsExactly("Test Creator Name 01", "Test Creator Name 02");
+
+        Creator last = firstPage.getLast();
+        List<Creator> secondPage = this.repository.findAllAfter(last.getName(), last.getId(), Limit.of(2));
+
+        Assertions.assertThat(secondPage).extracting(Creator::getName).containsExactly("Test Creator Name 03");
+    }
+
+    @Test
+    @DisplayName("Stream all Creators")
+    public void testStreamAllCreators() {
+        this.repository.save(Creator.builder().name("Test Creator Name 02").build());
+        this.repository.save(this.creator);
+
+        try (Stream<Creator> creators = this.repository.streamAll()) {
+            Assertions.assertThat(creators).extracting(Creator::getName).containsExactly("Test Creator Name 01", "Test Creator Name 02");
+        }
+    }
+
     @Test
     @DisplayName("get Creator by ID")
     public void testGetCreatorById() {
@@ -106,6 +150,124 @@ public class CreatorJPATest {
         Assertions.assertThat(updatedCreator.getName()).isEqualTo("New Creator Name 01");
     }
 
+    @Test
+    @DisplayName("update Creator increments the version")
+    public void testUpdateCreator_Version() {
+        Creator dbCreator = this.repository.saveAndFlush(this.creator);
+
+        Assertions.assertThat(dbCreator.getVersion()).isEqualTo(0L);
+        Assertions.assertThat(dbCreator.getUpdatedAt()).isNotNull();
+
+        Instant createdAt = dbCreator.getUpdatedAt();
+
+        dbCreator.setName("New Creator Name 01");
+        Creator updatedCreator = this.repository.saveAndFlush(dbCreator);
+
+        Assertions.assertThat(updatedCreator.getVersion()).isEqualTo(1L);
+        Assertions.assertThat(updatedCreator.getUpdatedAt()).isAfterOrEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("get the version of all Creators")
+    public void testGetListVersion() {
+        CreatorListVersion emptyVersion = this.repository.getListVersion();
+
+        Assertions.assertThat(emptyVersion.getCount()).isEqualTo(0);
+        Assertions.assertThat(emptyVersion.getLastModified()).isNull();
+
+        Creator first = this.repository.saveAndFlush(this.creator);
+        Creator second = this.repository.saveAndFlush(new Creator("Test Creator Name 02"));
+
+        CreatorListVersion version = this.repository.getListVersion();
+
+        Assertions.assertThat(version.getCount()).isEqualTo(2);
+        Assertions.assertThat(version.getLastModified()).isEqualTo(first.getUpdatedAt().isAfter(second.getUpdatedAt()) ? first.getUpdatedAt() : second.getUpdatedAt());
+    }
+
+    /**
+     * A recorded deletion changes the version of all Creators even though it leaves no row behind
+     */
+    @Test
+    @DisplayName("get the version of all Creators after a deletion")
+    @Transactional
+    public void testGetListVersion_Deletion() {
+        Creator first = this.repository.saveAndFlush(this.creator);
+        Instant deletedAt = first.getUpdatedAt().plusSeconds(60);
+        Instant earlierDeletedAt = first.getUpdatedAt().plusSeconds(30);
+
+        Assertions.assertThat(this.deletions.record(ChangeEntity.CREATOR.name(), deletedAt)).isEqualTo(1);
+        Assertions.assertThat(this.deletions.record(ChangeEntity.CREATOR.name(), earlierDeletedAt)).isEqualTo(1);
+
+        CreatorListVersion version = this.repository.getListVersion();
+
+        Assertions.assertThat(version.getCount()).isEqualTo(1);
+        Assertions.assertThat(version.getDeletions()).isEqualTo(2);
+        Assertions.assertThat(version.getLastModified()).isEqualTo(deletedAt);
+
+        this.repository.deleteAllInBatch();
+
+        Assertions.assertThat(this.repository.getListVersion().getCount()).isEqualTo(0);
+        Assertions.assertThat(this.repository.getListVersion().getLastModified()).isEqualTo(deletedAt);
+    }
+
+    /**
+     * An update that is committed with an earlier time than the latest change still changes the version of all Creators
+     */
+    @Test
+    @DisplayName("get the version of all Creators after updating an older Creator")
+    @Transactional
+    public void testGetListVersion_OlderUpdate() {
+        Creator first = this.repository.saveAndFlush(this.creator);
+        Creator second = this.repository.saveAndFlush(new Creator("Test Creator Name 02"));
+        Instant olderUpdatedAt = first.getUpdatedAt().minusSeconds(60);
+
+        CreatorListVersion before = this.repository.getListVersion();
+
+        Assertions.assertThat(this.repository.update(first.getId(), "New Creator Name 01", null, olderUpdatedAt)).isEqualTo(1);
+
+        CreatorListVersion after = this.repository.getListVersion();
+
+        Assertions.assertThat(after.getCount()).isEqualTo(before.getCount());
+        Assertions.assertThat(after.getDeletions()).isEqualTo(before.getDeletions());
+        Assertions.assertThat(after.getLastModified()).isEqualTo(before.getLastModified()).isEqualTo(second.getUpdatedAt());
+        Assertions.assertThat(after.getVersions()).isEqualTo(before.getVersions() + 1);
+    }
+
+    @Test
+    @DisplayName("update Creator with a single statement")
+    public void testUpdateCreator_SingleStatement() {
+        Creator dbCreator = this.repository.saveAndFlush(this.creator);
+        Instant updatedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        Assertions.assertThat(this.repository.update(dbCreator.getId(), "New Creator Name 01", null, updatedAt)).isEqualTo(1);
+        Assertions.assertThat(this.repository.update(dbCreator.getId(), null, null, updatedAt)).isEqualTo(1);
+        Assertions.assertThat(this.repository.update(UUID.randomUUID(), "New Creator Name 02", null, updatedAt)).isEqualTo(0);
+
+        this.entityManager.clear();
+
+        Creator updatedCreator = this.repository.findById(dbCreator.getId()).orElseThrow();
+
+        Assertions.assertThat(updatedCreator.getName()).isEqualTo("New Creator Name 01");
+        Assertions.assertThat(updatedCreator.getVersion()).isEqualTo(2L);
+        Assertions.assertThat(updatedCreator.getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    @Test
+    @DisplayName("update Creator with a single statement and an expected version")
+    public void testUpdateCreator_ExpectedVersion() {
+        Creator dbCreator = this.repository.saveAndFlush(this.creator);
+        Instant updatedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        Assertions.assertThat(this.repository.update(dbCreator.getId(), "New Creator Name 01", 1L, updatedAt)).isEqualTo(0);
+        Assertions.assertThat(this.repository.update(dbCreator.getId(), "New Creator Name 02", 0L, updatedAt)).isEqualTo(1);
+        Assertions.assertThat(this.repository.update(dbCreator.getId(), "New Creator Name 03", 0L, updatedAt)).isEqualTo(0);
+
+        Creator updatedCreator = this.repository.findById(dbCreator.getId()).orElseThrow();
+
+        Assertions.assertThat(updatedCreator.getName()).isEqualTo("New Creator Name 02");
+        Assertions.assertThat(updatedCreator.getVersion()).isEqualTo(1L);
+    }
+
     @Test
     @DisplayName("delete Creator")
     public void testDeleteCreator() {
@@ -124,4 +286,17 @@ public class CreatorJPATest {
 
         Assertions.assertThat(creatorOptional).isEmpty();
     }
+
+    /**
+     * The database reads the pages of Creators in the order of the index instead of sorting the whole table
+     */
+    @Test
+    @DisplayName("Page the Creators with the index")
+    public void testNameIndex() {
+        String plan = (String) this.entityManager.getEntityManager()
+                .createNativeQuery("EXPLAIN SELECT id FROM CREATORS WHERE name > 'A' OR (name = 'A' AND id > RANDOM_UUID()) ORDER BY name, id FETCH FIRST 50 ROWS ONLY")
+                .getSingleResult();
+
+        Assertions.assertThat(plan).contains(Creator.NAME_INDEX);
+    }
 }
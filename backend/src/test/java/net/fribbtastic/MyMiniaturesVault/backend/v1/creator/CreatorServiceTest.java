@@ -1,6 +1,21 @@
 package net.fribbtastic.MyMiniaturesVault.backend.v1.creator;
 
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import net.fribbtastic.MyMiniaturesVault.backend.cache.CacheConfiguration;
+import net.fribbtastic.MyMiniaturesVault.backend.cache.ResponseCache;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeAction;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeEntity;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeFeed;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.DuplicateResourceException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.PreconditionFailedException;
 import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.DeletionRepository;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchService;
+import net.fribbtastic.MyMiniaturesVault.backend.tag.TagService;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchType;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,8 +23,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 
+import java.time.Instant;
 import java.util.*;
 
 /**
@@ -21,6 +42,30 @@ class CreatorServiceTest {
     @Mock
     private CreatorRepository repository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private SearchService search;
+
+    @Mock
+    private TagService tags;
+
+    @Mock
+    private ChangeFeed changes;
+
+    @Mock
+    private ResponseCache responses;
+
+    @Mock
+    private DeletionRepository deletions;
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfiguration.CREATORS);
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private CreatorServiceImpl service;
 
@@ -32,42 +77,125 @@ class CreatorServiceTest {
     );
 
     /**
-     * Test the Service Layer of the Creator to get all Creators
+     * Test the Service Layer of the Creator to get the first page of Creators
+     * The page holds all Creators so there is no next page
      */
     @Test
-    @DisplayName("get all Creators (2 Results)")
-    void testGetAll_WithResults() {
-        Mockito.when(this.repository.findAll()).thenReturn(this.testCreatorList);
+    @DisplayName("get first page of Creators (2 Results)")
+    void testGetPage_WithResults() {
+        Mockito.when(this.repository.findAllByOrderByNameAscIdAsc(Limit.of(11))).thenReturn(this.testCreatorList);
 
-        List<Creator> creators = this.service.getAll();
+        CreatorPage page = this.service.getPage(null, 10);
 
-        Assertions.assertThat(creators).isNotNull();
-        Assertions.assertThat(creators.size()).isEqualTo(2);
+        Assertions.assertThat(page).isNotNull();
+        Assertions.assertThat(page.getNext()).isNull();
+        Assertions.assertThat(page.getCreators().size()).isEqualTo(2);
 
-        Assertions.assertThat(creators.getFirst().getId().toString()).isEqualTo("eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1");
-        Assertions.assertThat(creators.getFirst().getName()).isEqualTo("Test Creator Name 01");
+        Assertions.assertThat(page.getCreators().getFirst().getId().toString()).isEqualTo("eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1");
+        Assertions.assertThat(page.getCreators().getFirst().getName()).isEqualTo("Test Creator Name 01");
 
-        Assertions.assertThat(creators.get(1).getId().toString()).isEqualTo("1eeaabc2-1093-4692-858b-e21cdee7ead6");
-        Assertions.assertThat(creators.get(1).getName()).isEqualTo("Test Creator Name 02");
+        Assertions.assertThat(page.getCreators().get(1).getId().toString()).isEqualTo("1eeaabc2-1093-4692-858b-e21cdee7ead6");
+        Assertions.assertThat(page.getCreators().get(1).getName()).isEqualTo("Test Creator Name 02");
 
-        Mockito.verify(this.repository, Mockito.times(1)).findAll();
+        Mockito.verify(this.repository, Mockito.times(1)).findAllByOrderByNameAscIdAsc(Limit.of(11));
     }
 
     /**
-     * Test the Service Layer of the Creator to get all Creators
+     * Test the Service Layer of the Creator to get the first page of Creators
      * This case will assume that the returned list is empty
      */
     @Test
-    @DisplayName("get all Creators (0 Results)")
-    void testGetAll_Empty() {
-        Mockito.when(this.repository.findAll()).thenReturn(Collections.emptyList());
+    @DisplayName("get first page of Creators (0 Results)")
+    void testGetPage_Empty() {
+        Mockito.when(this.repository.findAllByOrderByNameAscIdAsc(Limit.of(11))).thenReturn(Collections.emptyList());
 
-        List<Creator> creators = this.service.getAll();
+        CreatorPage page = this.service.getPage(null, 10);
 
-        Assertions.assertThat(creators).isNotNull();
-        Assertions.assertThat(creators).isEmpty();
+        Assertions.assertThat(page).isNotNull();
+        Assertions.assertThat(page.getCreators()).isEmpty();
+        Assertions.assertThat(page.getNext()).isNull();
 
-        Mockito.verify(this.repository, Mockito.times(1)).findAll();
+        Mockito.verify(this.repository, Mockito.times(1)).findAllByOrderByNameAscIdAsc(Limit.of(11));
+    }
+
+    /**
+     * Test the Service Layer of the Creator to get a page that is followed by another page
+     * The Cursor of the next page has to point at the last Creator of the page
+     */
+    @Test
+    @DisplayName("get page of Creators with a next page")
+    void testGetPage_WithNext() {
+        Mockito.when(this.repository.findAllByOrderByNameAscIdAsc(Limit.of(2))).thenReturn(this.testCreatorList);
+
+        CreatorPage page = this.service.getPage(null, 1);
+
+        Assertions.assertThat(page.getCreators().size()).isEqualTo(1);
+        Assertions.assertThat(page.getCreators().getFirst().getName()).isEqualTo("Test Creator Name 01");
+        Assertions.assertThat(page.getNext()).isNotNull();
+        Assertions.assertThat(page.getNext().getId().toString()).isEqualTo("eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1");
+        Assertions.assertThat(page.getNext().getName()).isEqualTo("Test Creator Name 01");
+    }
+
+    /**
+     * Test the Service Layer of the Creator to get the page after a Cursor
+     */
+    @Test
+    @DisplayName("get page of Creators after a Cursor")
+    void testGetPage_AfterCursor() {
+        CreatorCursor cursor = CreatorCursor.of(this.testCreatorList.getFirst());
+
+        Mockito.when(this.repository.findAllAfter("Test Creator Name 01", UUID.fromString("eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1"), Limit.of(11)))
+                .thenReturn(List.of(this.testCreatorList.get(1)));
+
+        CreatorPage page = this.service.getPage(cursor, 10);
+
+        Assertions.assertThat(page.getCreators().size()).isEqualTo(1);
+        Assertions.assertThat(page.getCreators().getFirst().getName()).isEqualTo("Test Creator Name 02");
+        Assertions.assertThat(page.getNext()).isNull();
+
+        Mockito.verify(this.repository, Mockito.never()).findAllByOrderByNameAscIdAsc(Mockito.any(Limit.class));
+    }
+
+    /**
+     * Test the Service Layer of the Creator to stream all Creators
+     * Every Creator has to be passed to the consumer and detached afterward
+     */
+    @Test
+    @DisplayName("stream all Creators")
+    void testStreamAll() {
+        Mockito.when(this.repository.streamAll()).thenReturn(this.testCreatorList.stream());
+
+        List<Creator> consumed = new ArrayList<>();
+        this.service.streamAll(consumed::add);
+
+        Assertions.assertThat(consumed).containsExactlyElementsOf(this.testCreatorList);
+
+        Mockito.verify(this.entityManager, Mockito.times(1)).detach(this.testCreatorList.getFirst());
+        Mockito.verify(this.entityManager, Mockito.times(1)).detach(this.testCreatorList.get(1));
+    }
+
+    /**
+     * Test the Service Layer of the Creator to get the version of all Creators
+     * The last modification is the latest update or, if it happened later, the last deletion
+     */
+    @Test
+    @DisplayName("get the version of all Creators")
+    void testGetListVersion() {
+        Instant lastUpdate = Instant.now().plusSeconds(60);
+
+        Mockito.when(this.repository.getListVersion()).thenReturn(new CreatorListVersion(2, 5, 0, lastUpdate));
+
+        CreatorListVersion version = this.service.getListVersion();
+
+        Assertions.assertThat(version.getCount()).isEqualTo(2);
+        Assertions.assertThat(version.getLastModified()).isEqualTo(lastUpdate);
+
+        Mockito.when(this.repository.findById(this.testCreator.getId())).thenReturn(Optional.of(this.testCreator));
+
+        Instant beforeDeletion = Instant.now();
+        this.service.deleteCreator(this.testCreator.getId());
+
+        Mockito.verify(this.deletions).record(Mockito.eq("CREATOR"), Mockito.argThat(deletedAt -> !deletedAt.isBefore(beforeDeletion)));
     }
 
     /**
@@ -87,6 +215,43 @@ class CreatorServiceTest {
         Mockito.verify(this.repository, Mockito.times(1)).findById(this.testCreator.getId());
     }
 
+    /**
+     * Test the Service Layer of the Creator to get one specific Creator twice.
+     * The second lookup is answered by the Cache and every caller gets its own copy of the Creator
+     */
+    @Test
+    @DisplayName("get one cached Creator")
+    public void testGetOne_Cached() {
+        Mockito.when(this.repository.findById(this.testCreator.getId())).thenReturn(Optional.of(this.testCreator));
+
+        Creator first = this.service.getOne(this.testCreator.getId());
+        first.setName("Changed by the caller");
+
+        Creator second = this.service.getOne(this.testCreator.getId());
+
+        Assertions.assertThat(second).isNotSameAs(first).isNotSameAs(this.testCreator);
+        Assertions.assertThat(second.getName()).isEqualTo("Test Creator Name 01");
+
+        Mockito.verify(this.repository, Mockito.times(1)).findById(this.testCreator.getId());
+    }
+
+    /**
+     * Test the Service Layer of the Creator to get one specific Creator after it was updated.
+     * The update evicts the cached Creator
+     */
+    @Test
+    @DisplayName("get one Creator after an update")
+    public void testGetOne_Evicted() {
+        Mockito.when(this.repository.findById(this.testCreator.getId())).thenReturn(Optional.of(this.testCreator));
+        Mockito.when(this.repository.update(Mockito.eq(this.testCreator.getId()), Mockito.eq("Test Updated Name 01"), Mockito.isNull(), Mockito.any(Instant.class))).thenReturn(1);
+
+        this.service.getOne(this.testCreator.getId());
+        this.service.patchCreator(this.testCreator.getId(), new Creator("Test Updated Name 01"), null);
+        this.service.getOne(this.testCreator.getId());
+
+        Mockito.verify(this.repository, Mockito.times(2)).findById(this.testCreator.getId());
+    }
+
     /**
      * Test the Service Layer of the Creator to get one non-existing Creator.
      * Assert that there is a {@link ResourceNotFoundException} being thrown
@@ -121,25 +286,82 @@ class CreatorServiceTest {
         Assertions.assertThat(savedCreator.getName()).isEqualTo("Test Creator Name 01");
 
         Mockito.verify(this.repository, Mockito.times(1)).save(Mockito.any(Creator.class));
+        Mockito.verify(this.search).put(SearchType.CREATOR, this.testCreator.getId(), "Test Creator Name 01", null);
+        Mockito.verify(this.changes).publish(ChangeEntity.CREATOR, ChangeAction.CREATED, this.testCreator.getId());
+        Mockito.verify(this.responses).invalidate(ResponseCache.CREATORS);
+    }
+
+    /**
+     * Test the Service Layer of the Creator to add a Creator with the name of another Creator.
+     * Assert that there is a {@link DuplicateResourceException} being thrown and nothing is saved
+     */
+    @Test
+    @DisplayName("add a Creator with a duplicate name")
+    public void testAddCreator_duplicate() {
+        Creator existing = new Creator(UUID.randomUUID(), "Test Creator Name 01");
+
+        Mockito.when(this.repository.findAllByNameIn(List.of("Test Creator Name 01"))).thenReturn(List.of(existing));
+
+        Assertions.assertThatThrownBy(() -> this.service.addCreator(this.testCreator))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("Resource with the name 'Test Creator Name 01' already exists");
+
+        Mockito.verify(this.repository, Mockito.never()).save(Mockito.any(Creator.class));
+        Mockito.verifyNoInteractions(this.search, this.changes, this.responses);
     }
 
     /**
-     * Test the Service Layer of the Creator to update an existing Creator
+     * Test the Service Layer of the Creator to update an existing Creator with a single statement.
+     * The saved Creator is read afterward and returned
      */
     @Test
     @DisplayName("update an existing Creator")
     public void testUpdateCreator() {
-        Mockito.when(this.repository.findById(this.testCreator.getId())).thenReturn(Optional.of(this.testCreator));
-        Mockito.when(this.repository.save(this.testCreator)).thenReturn(this.testCreator);
+        Creator savedCreator = new Creator(this.testCreator.getId(), "Test Updated Name 01", 4L, Instant.now());
+
+        Mockito.when(this.repository.update(Mockito.eq(this.testCreator.getId()), Mockito.eq("Test Updated Name 01"), Mockito.eq(3L), Mockito.any(Instant.class))).thenReturn(1);
+        Mockito.when(this.repository.findById(this.testCreator.getId())).thenReturn(Optional.of(savedCreator));
 
-        Creator updatedCreator = this.service.updateCreator(this.testCreator.getId(), this.testCreator);
+        Creator updatedCreator = this.service.updateCreator(this.testCreator.getId(), new Creator("Test Updated Name 01"), 3L);
 
-        Assertions.assertThat(updatedCreator).isNotNull();
+        Assertions.assertThat(updatedCreator).isSameAs(savedCreator);
         Assertions.assertThat(updatedCreator.getId()).isEqualTo(this.testCreator.getId());
-        Assertions.assertThat(updatedCreator.getName()).isEqualTo(this.testCreator.getName());
+        Assertions.assertThat(updatedCreator.getName()).isEqualTo("Test Updated Name 01");
+        Assertions.assertThat(updatedCreator.getVersion()).isEqualTo(4L);
 
-        Mockito.verify(this.repository, Mockito.times(1)).findById(this.testCreator.getId());
-        Mockito.verify(this.repository, Mockito.times(1)).save(Mockito.any(Creator.class));
+        Mockito.verify(this.repository, Mockito.times(1)).update(Mockito.eq(this.testCreator.getId()), Mockito.eq("Test Updated Name 01"), Mockito.eq(3L), Mockito.any(Instant.class));
+        Mockito.verify(this.repository, Mockito.never()).save(Mockito.any(Creator.class));
+    }
+
+    /**
+     * Test the Service Layer of the Creator to update a Creator that has another version than the expected one.
+     * Assert that there is a {@link PreconditionFailedException} being thrown
+     */
+    @Test
+    @DisplayName("update a Creator with another version")
+    public void testUpdateCreator_conflict() {
+        Mockito.when(this.repository.update(Mockito.eq(this.testCreator.getId()), Mockito.anyString(), Mockito.eq(3L), Mockito.any(Instant.class))).thenReturn(0);
+        Mockito.when(this.repository.existsById(this.testCreator.getId())).thenReturn(true);
+
+        Assertions.assertThatThrownBy(() -> this.service.updateCreator(this.testCreator.getId(), this.testCreator, 3L))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        Mockito.verify(this.repository, Mockito.never()).findById(Mockito.any());
+        Mockito.verifyNoInteractions(this.search, this.changes, this.responses);
+    }
+
+    /**
+     * Test the Service Layer of the Creator to update a non-existing Creator with an expected version.
+     * Assert that there is a {@link ResourceNotFoundException} being thrown
+     */
+    @Test
+    @DisplayName("update a missing Creator with a version")
+    public void testUpdateCreator_missingVersion() {
+        Mockito.when(this.repository.update(Mockito.eq(this.testCreator.getId()), Mockito.anyString(), Mockito.eq(3L), Mockito.any(Instant.class))).thenReturn(0);
+        Mockito.when(this.repository.existsById(this.testCreator.getId())).thenReturn(false);
+
+        Assertions.assertThatThrownBy(() -> this.service.updateCreator(this.testCreator.getId(), this.testCreator, 3L))
+                .isInstanceOf(ResourceNotFoundException.class);
     }
 
     /**
@@ -149,13 +371,68 @@ class CreatorServiceTest {
     @Test
     @DisplayName("update a missing Creator")
     public void testUpdateCreator_missing() {
-        Mockito.when(this.repository.findById(this.testCreator.getId())).thenReturn(Optional.empty());
+        Mockito.when(this.repository.update(Mockito.eq(this.testCreator.getId()), Mockito.anyString(), Mockito.isNull(), Mockito.any(Instant.class))).thenReturn(0);
 
-        Assertions.assertThatThrownBy(() -> this.service.updateCreator(this.testCreator.getId(), this.testCreator))
+        Assertions.assertThatThrownBy(() -> this.service.updateCreator(this.testCreator.getId(), this.testCreator, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage("Resource with the id 'eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1' could not be found");
 
-        Mockito.verify(this.repository, Mockito.times(1)).findById(this.testCreator.getId());
+        Mockito.verify(this.repository, Mockito.times(1)).update(Mockito.eq(this.testCreator.getId()), Mockito.anyString(), Mockito.isNull(), Mockito.any(Instant.class));
+    }
+
+    /**
+     * Test the Service Layer of the Creator to update a Creator with an empty name
+     * Assert that there is a {@link ConstraintViolationException} being thrown and nothing is updated
+     */
+    @Test
+    @DisplayName("update a Creator with an empty name")
+    public void testUpdateCreator_invalid() {
+        Assertions.assertThatThrownBy(() -> this.service.updateCreator(this.testCreator.getId(), new Creator(""), null))
+                .isInstanceOf(ConstraintViolationException.class);
+
+        Mockito.verify(this.repository, Mockito.never()).update(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    /**
+     * Test the Service Layer of the Creator to partially update an existing Creator.
+     * A missing name keeps the current name
+     */
+    @Test
+    @DisplayName("patch an existing Creator")
+    public void testPatchCreator() {
+        Mockito.when(this.repository.update(Mockito.eq(this.testCreator.getId()), Mockito.isNull(), Mockito.isNull(), Mockito.any(Instant.class))).thenReturn(1);
+
+        this.service.patchCreator(this.testCreator.getId(), new Creator(), null);
+
+        Mockito.verify(this.repository, Mockito.times(1)).update(Mockito.eq(this.testCreator.getId()), Mockito.isNull(), Mockito.isNull(), Mockito.any(Instant.class));
+        Mockito.verify(this.repository, Mockito.never()).findById(Mockito.any());
+    }
+
+    /**
+     * Test the Service Layer of the Creator to partially update a non-existing Creator
+     * Assert that there is a {@link ResourceNotFoundException} being thrown
+     */
+    @Test
+    @DisplayName("patch a missing Creator")
+    public void testPatchCreator_missing() {
+        Mockito.when(this.repository.update(Mockito.eq(this.testCreator.getId()), Mockito.eq("Test Updated Name 01"), Mockito.isNull(), Mockito.any(Instant.class))).thenReturn(0);
+
+        Assertions.assertThatThrownBy(() -> this.service.patchCreator(this.testCreator.getId(), new Creator("Test Updated Name 01"), null))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Resource with the id 'eeb41c5f-9026-4cf1-9da1-23a2ef0cd9c1' could not be found");
+    }
+
+    /**
+     * Test the Service Layer of the Creator to partially update a Creator with an empty name
+     * Assert that there is a {@link ConstraintViolationException} being thrown and nothing is updated
+     */
+    @Test
+    @DisplayName("patch a Creator with an empty name")
+    public void testPatchCreator_invalid() {
+        Assertions.assertThatThrownBy(() -> this.service.patchCreator(this.testCreator.getId(), new Creator(""), null))
+                .isInstanceOf(ConstraintViolationException.class);
+
+        Mockito.verify(this.repository, Mockito.never()).update(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
     }
 
     /**
@@ -170,6 +447,9 @@ class CreatorServiceTest {
 
         Mockito.verify(this.repository, Mockito.times(1)).findById(this.testCreator.getId());
         Mockito.verify(this.repository, Mockito.times(1)).delete(this.testCreator);
+        Mockito.verify(this.search).remove(List.of(this.testCreator.getId()));
+        Mockito.verify(this.tags).remove(List.of(this.testCreator.getId()));
+        Mockito.verify(this.changes).publish(ChangeEntity.CREATOR, ChangeAction.DELETED, this.testCreator.getId());
     }
 
     /**
@@ -189,4 +469,86 @@ class CreatorServiceTest {
 
         Mockito.verify(this.repository, Mockito.times(1)).findById(id);
     }
-}
\ No newline at end of file
+
+    /**
+     * Test the Service Layer of the Creator to add multiple Creators
+     * Creators with a taken name or without a name are reported, all others are saved
+     */
+    @Test
+    @DisplayName("add multiple Creators")
+    public void testAddCreators() {
+        List<Creator> creators = List.of(
+                new Creator("Test Creator Name 01"),
+                new Creator("Test Creator Name 02"),
+                new Creator("Test Creator Name 03"),
+                new Creator("Test Creator Name 03"),
+                new Creator("")
+        );
+
+        Mockito.when(this.repository.findAllByNameIn(Mockito.anyCollection())).thenReturn(List.of(this.testCreator));
+        Mockito.when(this.repository.save(Mockito.any(Creator.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<CreatorBatchResult> results = this.service.addCreators(creators);
+
+        Assertions.assertThat(results).extracting(CreatorBatchResult::getStatus)
+                .containsExactly(HttpStatus.CONFLICT, HttpStatus.CREATED, HttpStatus.CREATED, HttpStatus.CONFLICT, HttpStatus.BAD_REQUEST);
+        Assertions.assertThat(results.getFirst().getError())
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessage("Resource with the name 'Test Creator Name 01' already exists");
+        Assertions.assertThat(results.get(1).getCreator().getName()).isEqualTo("Test Creator Name 02");
+        Assertions.assertThat(results.get(4).getError()).isInstanceOf(ConstraintViolationException.class);
+
+        Mockito.verify(this.repository, Mockito.times(2)).save(Mockito.any(Creator.class));
+    }
+
+    /**
+     * Test the Service Layer of the Creator to update multiple Creators
+     * Missing Creators and Creators that would take the name of another Creator are reported, all others are updated
+     */
+    @Test
+    @DisplayName("update multiple Creators")
+    public void testUpdateCreators() {
+        Creator existingCreator = new Creator(UUID.fromString("1eeaabc2-1093-4692-858b-e21cdee7ead6"), "Test Creator Name 02");
+        UUID missingId = UUID.randomUUID();
+
+        List<Creator> creators = List.of(
+                new Creator(existingCreator.getId(), "Test Updated Name 02"),
+                new Creator(missingId, "Test Updated Name 03"),
+                new Creator(this.testCreator.getId(), "Test Updated Name 02")
+        );
+
+        Mockito.when(this.repository.findAllById(Mockito.anyList())).thenReturn(List.of(
+                new Creator(this.testCreator.getId(), this.testCreator.getName()), existingCreator));
+        Mockito.when(this.repository.findAllByNameIn(Mockito.anyCollection())).thenReturn(Collections.emptyList());
+
+        List<CreatorBatchResult> results = this.service.updateCreators(creators);
+
+        Assertions.assertThat(results).extracting(CreatorBatchResult::getStatus)
+                .containsExactly(HttpStatus.OK, HttpStatus.NOT_FOUND, HttpStatus.CONFLICT);
+        Assertions.assertThat(results.getFirst().getCreator()).isSameAs(existingCreator);
+        Assertions.assertThat(existingCreator.getName()).isEqualTo("Test Updated Name 02");
+        Assertions.assertThat(results.get(1).getError())
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Resource with the id '" + missingId + "' could not be found");
+        Assertions.assertThat(results.get(2).getError()).isInstanceOf(DuplicateResourceException.class);
+    }
+
+    /**
+     * Test the Service Layer of the Creator to delete multiple Creators
+     * Missing Creators are reported, all others are deleted with one statement
+     */
+    @Test
+    @DisplayName("delete multiple Creators")
+    public void testDeleteCreators() {
+        UUID missingId = UUID.randomUUID();
+
+        Mockito.when(this.repository.findAllById(Mockito.anyList())).thenReturn(List.of(this.testCreator));
+
+        List<CreatorBatchResult> results = this.service.deleteCreators(List.of(this.testCreator.getId(), missingId, this.testCreator.getId()));
+
+        Assertions.assertThat(results).extracting(CreatorBatchResult::getStatus)
+                .containsExactly(HttpStatus.OK, HttpStatus.NOT_FOUND, HttpStatus.NOT_FOUND);
+
+        Mockito.verify(this.repository, Mockito.times(1)).deleteAllByIdInBatch(List.of(this.testCreator.getId()));
+    }
+}
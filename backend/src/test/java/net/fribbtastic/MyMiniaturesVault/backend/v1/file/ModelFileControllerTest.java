@@ -0,0 +1,183 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.file;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.FileUnavailableException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.MeshMetadata;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith({MockitoExtension.class, SpringExtension.class})
+@WebMvcTest(controllers = ModelFileController.class)
+class ModelFileControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ModelFileServiceImpl service;
+
+    private final String endpoint = "/api/v1/file";
+
+    private final ModelFile file = ModelFile.builder()
+            .id(UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8070"))
+            .path("/library/Test Creator Name 01/Test Bundle Name 01/model01.stl")
+            .size(684)
+            .lastModified(1735732800000L)
+            .format(ModelFormat.STL)
+            .mesh(new MeshMetadata(12, 10, 20, 30, 2200, 6000))
+            .build();
+
+    /**
+     * Test the MVC File Controller to return a List of files with their mesh metadata
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get all files (1 Result)")
+    public void testMvcGetAllFiles() throws Exception {
+        Mockito.when(this.service.getAll(null, null, ModelFileController.DEFAULT_LIMIT)).thenReturn(List.of(this.file));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(200))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].id").value("01890a5d-ac96-774b-bcce-b302099a8070"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].format").value("STL"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].bundle").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].mesh.triangles").value(12))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].mesh.width").value(10.0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].mesh.depth").value(20.0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].mesh.height").value(30.0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data[0].mesh.volume").value(6000.0));
+    }
+
+    /**
+     * Test the MVC File Controller to return the files of a Bundle up to a height, the limit is clamped to the maximum
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get all files of a Bundle up to a height")
+    public void testMvcGetAllFiles_MaxHeight() throws Exception {
+        UUID bundle = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+        Mockito.when(this.service.getAll(bundle, 32.0, ModelFileController.MAX_LIMIT)).thenReturn(List.of(this.file));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + "?bundle=" + bundle + "&maxHeight=32&limit=5000").accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data", Matchers.hasSize(1)));
+
+        Mockito.verify(this.service, Mockito.times(1)).getAll(bundle, 32.0, ModelFileController.MAX_LIMIT);
+    }
+
+    /**
+     * Test the MVC File Controller to return the duplicate files
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get the duplicate files")
+    public void testMvcGetDuplicates() throws Exception {
+        DuplicateCluster cluster = new DuplicateCluster("a".repeat(64), 684, 2);
+        cluster.setFiles(List.of(this.file, this.file));
+        DuplicateReport report = new DuplicateReport(1, 684);
+        report.setClusters(List.of(cluster));
+
+        Mockito.when(this.service.getDuplicates(ModelFileController.DEFAULT_LIMIT)).thenReturn(report);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + "/duplicates").accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.duplicateFiles").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.reclaimableBytes").value(684))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.clusters", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.clusters[0].contentHash").value("a".repeat(64)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.clusters[0].count").value(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.clusters[0].reclaimableBytes").value(684))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.clusters[0].files", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.clusters[0].files[0].partialHash").doesNotExist());
+    }
+
+    /**
+     * Test the MVC File Controller to return one file by its ID
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get one file by ID")
+    public void testMvcGetOneFile() throws Exception {
+        Mockito.when(this.service.getOne(this.file.getId())).thenReturn(this.file);
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + "/" + this.file.getId()).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.path").value("/library/Test Creator Name 01/Test Bundle Name 01/model01.stl"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.size").value(684));
+    }
+
+    /**
+     * Test the MVC File Controller to return a 404 for an unknown ID
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get one file by ID (not found)")
+    public void testMvcGetOneFile_NotFound() throws Exception {
+        UUID id = UUID.randomUUID();
+        Mockito.when(this.service.getOne(id)).thenThrow(new ResourceNotFoundException(id));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + "/" + id).accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value(404))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(ResourceNotFoundException.class.getSimpleName()));
+    }
+
+    /**
+     * Test the MVC File Controller to redirect to the thumbnail by the content hash of the file
+     *
+     * @throws Exception thrown through the {@link MockMvc} perform
+     */
+    @Test
+    @DisplayName("[WebMVC] get the thumbnail of a file")
+    public void testMvcGetThumbnail() throws Exception {
+        Mockito.when(this.service.getContentHash(this.file.getId())).thenReturn("a".repeat(64));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + "/" + this.file.getId() + "/thumbnail").param("size", "128"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isFound())
+                .andExpect(MockMvcResultMatchers.header().string("Location", "../../thumbnail/" + "a".repeat(64) + "?size=128"))
+                .andExpect(MockMvcResultMatchers.header().string("Cache-Control", "no-cache"));
+    }
+
+    @Test
+    @DisplayName("[WebMVC] get the thumbnail of a file that can't be read")
+    public void testMvcGetThumbnail_Unavailable() throws Exception {
+        Mockito.when(this.service.getContentHash(this.file.getId())).thenThrow(new FileUnavailableException(this.file.getId()));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get(this.endpoint + "/" + this.file.getId() + "/thumbnail").accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.error.exceptionType").value(FileUnavailableException.class.getSimpleName()));
+    }
+}
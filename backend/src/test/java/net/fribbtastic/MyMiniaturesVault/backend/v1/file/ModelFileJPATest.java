@@ -0,0 +1,163 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.file;
+
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.MeshMetadata;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.bundle.Bundle;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+/**
+ * @author Frederic Eßer
+ */
+@DataJpaTest
+public class ModelFileJPATest {
+
+    @Autowired
+    private ModelFileRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Bundle bundle;
+
+    private Bundle otherBundle;
+
+    @BeforeEach
+    public void setUpEach() {
+        Creator creator = this.entityManager.persist(new Creator("Test Creator Name 01"));
+        this.bundle = this.entityManager.persist(new Bundle(null, "Test Bundle Name 01", creator));
+        this.otherBundle = this.entityManager.persist(new Bundle(null, "Test Bundle Name 02", creator));
+
+        this.persist(this.bundle, "/library/a/model01.stl", 28.0);
+        this.persist(this.bundle, "/library/a/model02.stl", 54.0);
+        this.persist(this.bundle, "/library/a/model03.stl", 32.0);
+        this.persist(this.otherBundle, "/library/b/model04.stl", 12.5);
+        this.persist(this.otherBundle, "/library/b/model05.3mf", null);
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    /**
+     * persist a file, the mesh is a cube with the given height
+     *
+     * @param bundle the {@link Bundle} of the file
+     * @param path the path of the file
+     * @param height the height of the mesh or 'null' for a file without mesh
+     */
+    private void persist(Bundle bundle, String path, Double height) {
+        MeshMetadata mesh = height == null ? null : new MeshMetadata(12, height, height, height, 6 * height * height, height * height * height);
+
+        this.entityManager.persist(ModelFile.builder()
+                .bundle(bundle)
+                .path(path)
+                .size(684)
+                .lastModified(0)
+                .format(ModelFormat.fromFileName(path))
+                .mesh(mesh)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Get all files ordered by their path")
+    public void testGetAllFiles() {
+        List<ModelFile> files = this.repository.findAllByOrderByPathAsc(Limit.of(10));
+
+        Assertions.assertThat(files).extracting(ModelFile::getPath).containsExactly(
+                "/library/a/model01.stl", "/library/a/model02.stl", "/library/a/model03.stl", "/library/b/model04.stl", "/library/b/model05.3mf");
+        Assertions.assertThat(files.getLast().getMesh()).isNull();
+    }
+
+    @Test
+    @DisplayName("Get the files of a Bundle")
+    public void testGetFilesOfBundle() {
+        List<ModelFile> files = this.repository.findAllByBundleIdOrderByPathAsc(this.otherBundle.getId(), Limit.of(10));
+
+        Assertions.assertThat(files).extracting(ModelFile::getPath).containsExactly("/library/b/model04.stl", "/library/b/model05.3mf");
+    }
+
+    /**
+     * Files without a mesh are not returned when filtering by the height
+     */
+    @Test
+    @DisplayName("Get the files up to a height")
+    public void testGetFilesUpToHeight() {
+        List<ModelFile> files = this.repository.findAllByMeshHeightLessThanEqualOrderByMeshHeightAscIdAsc(32, Limit.of(10));
+
+        Assertions.assertThat(files).extracting(ModelFile::getPath).containsExactly("/library/b/model04.stl", "/library/a/model01.stl", "/library/a/model03.stl");
+        Assertions.assertThat(files.getFirst().getMesh().getVolume()).isEqualTo(12.5 * 12.5 * 12.5);
+
+        Assertions.assertThat(this.repository.findAllByMeshHeightLessThanEqualOrderByMeshHeightAscIdAsc(32, Limit.of(1))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Get the files of a Bundle up to a height")
+    public void testGetFilesOfBundleUpToHeight() {
+        List<ModelFile> files = this.repository.findAllByBundleIdAndMeshHeightLessThanEqualOrderByMeshHeightAscIdAsc(this.bundle.getId(), 32, Limit.of(10));
+
+        Assertions.assertThat(files).extracting(ModelFile::getPath).containsExactly("/library/a/model01.stl", "/library/a/model03.stl");
+    }
+
+    /**
+     * The clusters of duplicates are ordered by their reclaimable bytes, files without a content hash are never duplicates
+     */
+    @Test
+    @DisplayName("Get the duplicate files")
+    public void testGetDuplicates() {
+        this.setContentHash("/library/a/model01.stl", "a".repeat(64));
+        this.setContentHash("/library/b/model04.stl", "a".repeat(64));
+        this.setContentHash("/library/a/model02.stl", "b".repeat(64));
+        this.setContentHash("/library/a/model03.stl", "b".repeat(64));
+        this.setContentHash("/library/b/model05.3mf", "b".repeat(64));
+
+        List<DuplicateCluster> clusters = this.repository.findDuplicateClusters(Limit.of(10));
+
+        Assertions.assertThat(clusters).extracting(DuplicateCluster::getContentHash).containsExactly("b".repeat(64), "a".repeat(64));
+        Assertions.assertThat(clusters.getFirst().getCount()).isEqualTo(3);
+        Assertions.assertThat(clusters.getFirst().getReclaimableBytes()).isEqualTo(2 * 684);
+
+        DuplicateReport totals = this.repository.getDuplicateTotals();
+
+        Assertions.assertThat(totals.getDuplicateFiles()).isEqualTo(3);
+        Assertions.assertThat(totals.getReclaimableBytes()).isEqualTo(3 * 684);
+
+        Assertions.assertThat(this.repository.findAllByContentHashInOrderByPathAsc(List.of("a".repeat(64))))
+                .extracting(ModelFile::getPath).containsExactly("/library/a/model01.stl", "/library/b/model04.stl");
+    }
+
+    @Test
+    @DisplayName("Get the duplicate files without duplicates")
+    public void testGetDuplicates_None() {
+        this.setContentHash("/library/a/model01.stl", "a".repeat(64));
+
+        Assertions.assertThat(this.repository.findDuplicateClusters(Limit.of(10))).isEmpty();
+        Assertions.assertThat(this.repository.getDuplicateTotals().getReclaimableBytes()).isEqualTo(0);
+    }
+
+    private void setContentHash(String path, String hash) {
+        ModelFile file = this.repository.findByPath(path).orElseThrow();
+        file.setContentHash(hash);
+        this.repository.saveAndFlush(file);
+    }
+
+    /**
+     * The database answers the height filter from the index instead of reading the whole table
+     */
+    @Test
+    @DisplayName("Filter the height with the index")
+    public void testHeightIndex() {
+        String plan = (String) this.entityManager.getEntityManager()
+                .createNativeQuery("EXPLAIN SELECT id FROM MODEL_FILES WHERE height <= 32 ORDER BY height")
+                .getSingleResult();
+
+        Assertions.assertThat(plan).contains(ModelFile.HEIGHT_INDEX);
+    }
+}
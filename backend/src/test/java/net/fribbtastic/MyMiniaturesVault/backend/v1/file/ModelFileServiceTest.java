@@ -0,0 +1,168 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.file;
+
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.FileUnavailableException;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.MeshMetadata;
+import net.fribbtastic.MyMiniaturesVault.backend.storage.ContentHash;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * @author Frederic Eßer
+ */
+@ExtendWith(MockitoExtension.class)
+class ModelFileServiceTest {
+
+    @Mock
+    private ModelFileRepository repository;
+
+    @InjectMocks
+    private ModelFileServiceImpl service;
+
+    private final UUID bundleId = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+
+    private final ModelFile testFile = ModelFile.builder()
+            .id(UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8070"))
+            .path("/library/Test Creator Name 01/Test Bundle Name 01/model01.stl")
+            .size(684)
+            .format(ModelFormat.STL)
+            .mesh(new MeshMetadata(12, 10, 10, 10, 600, 1000))
+            .build();
+
+    /**
+     * Test the Service Layer of the files to get all files ordered by their path
+     */
+    @Test
+    @DisplayName("get all files")
+    void testGetAll() {
+        Mockito.when(this.repository.findAllByOrderByPathAsc(Limit.of(10))).thenReturn(List.of(this.testFile));
+
+        Assertions.assertThat(this.service.getAll(null, null, 10)).containsExactly(this.testFile);
+    }
+
+    @Test
+    @DisplayName("get all files of a Bundle")
+    void testGetAll_OfBundle() {
+        Mockito.when(this.repository.findAllByBundleIdOrderByPathAsc(this.bundleId, Limit.of(10))).thenReturn(List.of(this.testFile));
+
+        Assertions.assertThat(this.service.getAll(this.bundleId, null, 10)).containsExactly(this.testFile);
+    }
+
+    /**
+     * Test the Service Layer of the files to get the files up to a height, they are filtered with the index on the height
+     */
+    @Test
+    @DisplayName("get all files up to a height")
+    void testGetAll_MaxHeight() {
+        Mockito.when(this.repository.findAllByMeshHeightLessThanEqualOrderByMeshHeightAscIdAsc(32, Limit.of(10))).thenReturn(List.of(this.testFile));
+
+        Assertions.assertThat(this.service.getAll(null, 32.0, 10)).containsExactly(this.testFile);
+    }
+
+    @Test
+    @DisplayName("get all files of a Bundle up to a height")
+    void testGetAll_OfBundleMaxHeight() {
+        Mockito.when(this.repository.findAllByBundleIdAndMeshHeightLessThanEqualOrderByMeshHeightAscIdAsc(this.bundleId, 32, Limit.of(10))).thenReturn(List.of(this.testFile));
+
+        Assertions.assertThat(this.service.getAll(this.bundleId, 32.0, 10)).containsExactly(this.testFile);
+    }
+
+    @Test
+    @DisplayName("get one file by ID")
+    void testGetOne() {
+        Mockito.when(this.repository.findById(this.testFile.getId())).thenReturn(Optional.of(this.testFile));
+
+        Assertions.assertThat(this.service.getOne(this.testFile.getId())).isEqualTo(this.testFile);
+    }
+
+    @Test
+    @DisplayName("get one file by ID (not found)")
+    void testGetOne_NotFound() {
+        UUID id = UUID.randomUUID();
+        Mockito.when(this.repository.findById(id)).thenReturn(Optional.empty());
+
+        Assertions.assertThatThrownBy(() -> this.service.getOne(id)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    /**
+     * Test the Service Layer of the files to get the duplicates, the files of all clusters are loaded at once
+     */
+    @Test
+    @DisplayName("get the duplicate files")
+    void testGetDuplicates() {
+        ModelFile copy = ModelFile.builder().path("/library/copy of model01.stl").contentHash("a".repeat(64)).build();
+        this.testFile.setContentHash("a".repeat(64));
+
+        Mockito.when(this.repository.getDuplicateTotals()).thenReturn(new DuplicateReport(1, 684));
+        Mockito.when(this.repository.findDuplicateClusters(Limit.of(10))).thenReturn(List.of(new DuplicateCluster("a".repeat(64), 684, 2)));
+        Mockito.when(this.repository.findAllByContentHashInOrderByPathAsc(List.of("a".repeat(64)))).thenReturn(List.of(copy, this.testFile));
+
+        DuplicateReport report = this.service.getDuplicates(10);
+
+        Assertions.assertThat(report.getReclaimableBytes()).isEqualTo(684);
+        Assertions.assertThat(report.getClusters()).hasSize(1);
+        Assertions.assertThat(report.getClusters().getFirst().getFiles()).containsExactly(copy, this.testFile);
+    }
+
+    @Test
+    @DisplayName("get the duplicate files without duplicates")
+    void testGetDuplicates_None() {
+        Mockito.when(this.repository.getDuplicateTotals()).thenReturn(new DuplicateReport(0, 0));
+        Mockito.when(this.repository.findDuplicateClusters(Limit.of(10))).thenReturn(List.of());
+
+        Assertions.assertThat(this.service.getDuplicates(10).getClusters()).isEmpty();
+
+        Mockito.verify(this.repository, Mockito.never()).findAllByContentHashInOrderByPathAsc(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("get the stored content hash of a file")
+    void testGetContentHash() {
+        this.testFile.setContentHash("a".repeat(64));
+        Mockito.when(this.repository.findById(this.testFile.getId())).thenReturn(Optional.of(this.testFile));
+
+        Assertions.assertThat(this.service.getContentHash(this.testFile.getId())).isEqualTo("a".repeat(64));
+
+        Mockito.verify(this.repository, Mockito.never()).setContentHash(Mockito.any(), Mockito.anyLong(), Mockito.any());
+    }
+
+    /**
+     * Test the Service Layer of the files to hash a file that wasn't hashed by the scan and store the hash
+     */
+    @Test
+    @DisplayName("get the content hash of a file that wasn't hashed yet")
+    void testGetContentHash_Compute(@TempDir Path directory) throws IOException {
+        Path path = Files.write(directory.resolve("model01.stl"), new byte[684]);
+        ModelFile file = ModelFile.builder().id(this.testFile.getId()).path(path.toString()).size(684).lastModified(1735732800000L).build();
+        Mockito.when(this.repository.findById(file.getId())).thenReturn(Optional.of(file));
+
+        String hash = this.service.getContentHash(file.getId());
+
+        Assertions.assertThat(hash).isEqualTo(ContentHash.full(path));
+        Mockito.verify(this.repository).setContentHash(file.getId(), 1735732800000L, hash);
+    }
+
+    @Test
+    @DisplayName("get the content hash of a file that doesn't exist anymore")
+    void testGetContentHash_Unavailable(@TempDir Path directory) {
+        ModelFile file = ModelFile.builder().id(this.testFile.getId()).path(directory.resolve("missing.stl").toString()).build();
+        Mockito.when(this.repository.findById(file.getId())).thenReturn(Optional.of(file));
+
+        Assertions.assertThatThrownBy(() -> this.service.getContentHash(file.getId())).isInstanceOf(FileUnavailableException.class);
+    }
+}
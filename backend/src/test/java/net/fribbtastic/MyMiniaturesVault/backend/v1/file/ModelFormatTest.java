@@ -0,0 +1,36 @@
+package net.fribbtastic.MyMiniaturesVault.backend.v1.file;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frederic Eßer
+ */
+class ModelFormatTest {
+
+    /**
+     * The format is found by the extension of the file name, ignoring the case
+     */
+    @Test
+    @DisplayName("get the format of print files")
+    public void testFromFileName() {
+        Assertions.assertThat(ModelFormat.fromFileName("model.stl")).isEqualTo(ModelFormat.STL);
+        Assertions.assertThat(ModelFormat.fromFileName("Model.STL")).isEqualTo(ModelFormat.STL);
+        Assertions.assertThat(ModelFormat.fromFileName("model.v2.3mf")).isEqualTo(ModelFormat.THREE_MF);
+        Assertions.assertThat(ModelFormat.fromFileName("model.obj")).isEqualTo(ModelFormat.OBJ);
+        Assertions.assertThat(ModelFormat.fromFileName("models.zip")).isEqualTo(ModelFormat.ZIP);
+        Assertions.assertThat(ModelFormat.ZIP.isArchive()).isTrue();
+    }
+
+    /**
+     * Other files have no format
+     */
+    @Test
+    @DisplayName("get the format of other files")
+    public void testFromFileName_Other() {
+        Assertions.assertThat(ModelFormat.fromFileName("readme.txt")).isNull();
+        Assertions.assertThat(ModelFormat.fromFileName("stl")).isNull();
+        Assertions.assertThat(ModelFormat.fromFileName("model.")).isNull();
+    }
+}
@@ -0,0 +1,14 @@
+INSERT INTO CREATORS (id, name) VALUES
+    ('0320a817-a06b-48d8-8d36-a55a95650a10', 'Test Creator Name 01'),
+    ('596202da-948a-4d9d-bb87-0bae675f7336', 'Test Creator Name 02'),
+    ('6e169bf3-ac69-49b9-8e9c-38439b45e9bd', 'Test Creator Name 03');
+
+INSERT INTO BUNDLES (id, name, creator_id) VALUES
+    ('01890a5d-ac96-774b-bcce-b302099a8057', 'Test Bundle Name 01', '0320a817-a06b-48d8-8d36-a55a95650a10'),
+    ('01890a5d-ac96-774b-bcce-b302099a8058', 'Test Bundle Name 02', '0320a817-a06b-48d8-8d36-a55a95650a10'),
+    ('01890a5d-ac96-774b-bcce-b302099a8059', 'Test Bundle Name 03', '596202da-948a-4d9d-bb87-0bae675f7336');
+
+INSERT INTO MINIATURES (id, name, bundle_id) VALUES
+    ('01890a5d-ac96-774b-bcce-b302099a8060', 'Test Miniature Name 01', '01890a5d-ac96-774b-bcce-b302099a8057'),
+    ('01890a5d-ac96-774b-bcce-b302099a8061', 'Test Miniature Name 02', '01890a5d-ac96-774b-bcce-b302099a8057'),
+    ('01890a5d-ac96-774b-bcce-b302099a8062', 'Test Miniature Name 03', '01890a5d-ac96-774b-bcce-b302099a8058');
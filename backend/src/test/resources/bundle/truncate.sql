@@ -0,0 +1,7 @@
+SET REFERENTIAL_INTEGRITY FALSE;
+TRUNCATE TABLE MODEL_FILES;
+TRUNCATE TABLE MINIATURE_TAGS;
+TRUNCATE TABLE MINIATURES;
+TRUNCATE TABLE BUNDLES;
+TRUNCATE TABLE CREATORS;
+SET REFERENTIAL_INTEGRITY TRUE;
@@ -1 +1,7 @@
-TRUNCATE TABLE CREATORS;
\ No newline at end of file
+SET REFERENTIAL_INTEGRITY FALSE;
+TRUNCATE TABLE MODEL_FILES;
+TRUNCATE TABLE MINIATURE_TAGS;
+TRUNCATE TABLE MINIATURES;
+TRUNCATE TABLE BUNDLES;
+TRUNCATE TABLE CREATORS;
+SET REFERENTIAL_INTEGRITY TRUE;
@@ -0,0 +1,61 @@
+// test bundle with a hash in its name, large enough to be compressed by compress.mjs
+export const creator00 = { id: '00', name: 'Test Creator Name 00' };
+export const creator01 = { id: '01', name: 'Test Creator Name 01' };
+export const creator02 = { id: '02', name: 'Test Creator Name 02' };
+export const creator03 = { id: '03', name: 'Test Creator Name 03' };
+export const creator04 = { id: '04', name: 'Test Creator Name 04' };
+export const creator05 = { id: '05', name: 'Test Creator Name 05' };
+export const creator06 = { id: '06', name: 'Test Creator Name 06' };
+export const creator07 = { id: '07', name: 'Test Creator Name 07' };
+export const creator08 = { id: '08', name: 'Test Creator Name 08' };
+export const creator09 = { id: '09', name: 'Test Creator Name 09' };
+export const creator10 = { id: '10', name: 'Test Creator Name 10' };
+export const creator11 = { id: '11', name: 'Test Creator Name 11' };
+export const creator12 = { id: '12', name: 'Test Creator Name 12' };
+export const creator13 = { id: '13', name: 'Test Creator Name 13' };
+export const creator14 = { id: '14', name: 'Test Creator Name 14' };
+export const creator15 = { id: '15', name: 'Test Creator Name 15' };
+export const creator16 = { id: '16', name: 'Test Creator Name 16' };
+export const creator17 = { id: '17', name: 'Test Creator Name 17' };
+export const creator18 = { id: '18', name: 'Test Creator Name 18' };
+export const creator19 = { id: '19', name: 'Test Creator Name 19' };
+export const creator20 = { id: '20', name: 'Test Creator Name 20' };
+export const creator21 = { id: '21', name: 'Test Creator Name 21' };
+export const creator22 = { id: '22', name: 'Test Creator Name 22' };
+export const creator23 = { id: '23', name: 'Test Creator Name 23' };
+export const creator24 = { id: '24', name: 'Test Creator Name 24' };
+export const creator25 = { id: '25', name: 'Test Creator Name 25' };
+export const creator26 = { id: '26', name: 'Test Creator Name 26' };
+export const creator27 = { id: '27', name: 'Test Creator Name 27' };
+export const creator28 = { id: '28', name: 'Test Creator Name 28' };
+export const creator29 = { id: '29', name: 'Test Creator Name 29' };
+export const creator30 = { id: '30', name: 'Test Creator Name 30' };
+export const creator31 = { id: '31', name: 'Test Creator Name 31' };
+export const creator32 = { id: '32', name: 'Test Creator Name 32' };
+export const creator33 = { id: '33', name: 'Test Creator Name 33' };
+export const creator34 = { id: '34', name: 'Test Creator Name 34' };
+export const creator35 = { id: '35', name: 'Test Creator Name 35' };
+export const creator36 = { id: '36', name: 'Test Creator Name 36' };
+export const creator37 = { id: '37', name: 'Test Creator Name 37' };
+export const creator38 = { id: '38', name: 'Test Creator Name 38' };
+export const creator39 = { id: '39', name: 'Test Creator Name 39' };
+export const creator40 = { id: '40', name: 'Test Creator Name 40' };
+export const creator41 = { id: '41', name: 'Test Creator Name 41' };
+export const creator42 = { id: '42', name: 'Test Creator Name 42' };
+export const creator43 = { id: '43', name: 'Test Creator Name 43' };
+export const creator44 = { id: '44', name: 'Test Creator Name 44' };
+export const creator45 = { id: '45', name: 'Test Creator Name 45' };
+export const creator46 = { id: '46', name: 'Test Creator Name 46' };
+export const creator47 = { id: '47', name: 'Test Creator Name 47' };
+export const creator48 = { id: '48', name: 'Test Creator Name 48' };
+export const creator49 = { id: '49', name: 'Test Creator Name 49' };
+export const creator50 = { id: '50', name: 'Test Creator Name 50' };
+export const creator51 = { id: '51', name: 'Test Creator Name 51' };
+export const creator52 = { id: '52', name: 'Test Creator Name 52' };
+export const creator53 = { id: '53', name: 'Test Creator Name 53' };
+export const creator54 = { id: '54', name: 'Test Creator Name 54' };
+export const creator55 = { id: '55', name: 'Test Creator Name 55' };
+export const creator56 = { id: '56', name: 'Test Creator Name 56' };
+export const creator57 = { id: '57', name: 'Test Creator Name 57' };
+export const creator58 = { id: '58', name: 'Test Creator Name 58' };
+export const creator59 = { id: '59', name: 'Test Creator Name 59' };
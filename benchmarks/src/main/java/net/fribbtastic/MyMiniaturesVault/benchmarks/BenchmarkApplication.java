@@ -0,0 +1,44 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks;
+
+import net.fribbtastic.MyMiniaturesVault.backend.BackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the backend for benchmarks that need the Spring context
+ *
+ * @author Frederic Eßer
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Start the backend with an in-memory H2 Database and without any logging below WARN,
+     * so the benchmarks don't measure writing log messages.
+     * The management server is disabled.
+     *
+     * @param databaseName the name of the in-memory Database
+     * @param properties additional properties in the form 'key=value'
+     * @return the started {@link ConfigurableApplicationContext}
+     */
+    public static ConfigurableApplicationContext start(String databaseName, String... properties) {
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "management.server.port=-1",
+                        "spring.main.banner-mode=off",
+                        // the URL in the application.properties is taken from DATABASE_URL, properties set here can't override it
+                        "DATABASE_URL=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driverClassName=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=password",
+                        "api.version.uri-prefix=/api",
+                        "logging.level.root=WARN",
+                        "logging.level.net.fribbtastic=WARN"
+                )
+                .properties(properties)
+                .run();
+    }
+}
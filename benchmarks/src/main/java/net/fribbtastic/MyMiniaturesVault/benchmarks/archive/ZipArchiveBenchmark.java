@@ -0,0 +1,69 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.archive;
+
+import net.fribbtastic.MyMiniaturesVault.backend.archive.ZipArchive;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Benchmark for listing the entries of archives with 1k to 20k deflated files from their central directory,
+ * compared with {@link ZipFile} of the JDK. Nothing is decompressed, so the time only depends on the number of entries.
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ZipArchiveBenchmark {
+
+    /**
+     * the number of files in the archive
+     */
+    @Param({"1000", "20000"})
+    public int entries;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.file = Files.createTempFile("archive-benchmark", ".zip");
+        byte[] content = new byte[4096];
+        Random random = new Random(42);
+
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(this.file))) {
+            for (int i = 0; i < this.entries; i++) {
+                random.nextBytes(content);
+                zip.putNextEntry(new ZipEntry("Bundle/parts/part" + i + ".stl"));
+                zip.write(content);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Benchmark
+    public List<ZipArchive.Entry> readEntries() throws IOException {
+        return ZipArchive.readEntries(this.file);
+    }
+
+    @Benchmark
+    public long zipFile() throws IOException {
+        try (ZipFile zip = new ZipFile(this.file.toFile())) {
+            return zip.stream().mapToLong(ZipEntry::getSize).sum();
+        }
+    }
+}
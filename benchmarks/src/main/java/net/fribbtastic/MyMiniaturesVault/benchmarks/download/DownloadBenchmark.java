@@ -0,0 +1,173 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.download;
+
+import net.fribbtastic.MyMiniaturesVault.backend.scanner.LibraryScanner;
+import net.fribbtastic.MyMiniaturesVault.benchmarks.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for downloading a large file, the last MB of it (a resumed download) and the ZIP archive of its Bundle
+ * through Tomcat on a local connection. The file is sent with sendfile, the archive is written while it is sent.
+ * The MB per second of the downloads are reported as the secondary result 'megabytesPerSecond'.
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx256m")
+@State(Scope.Benchmark)
+public class DownloadBenchmark {
+
+    /**
+     * the number of triangles that are written at once
+     */
+    private static final int TRIANGLES_PER_BLOCK = 4096;
+
+    /**
+     * the size of the file in MB, larger than the heap of the benchmark
+     */
+    @Param({"64", "1024"})
+    public int size;
+
+    private Path root;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient client;
+
+    private URI file;
+
+    private URI bundle;
+
+    /**
+     * The MB per second of the downloads.
+     * The counters of the measurement iterations are summed up, so every download only adds its share of the average.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Downloads {
+
+        public double megabytesPerSecond;
+
+        private int iterations;
+
+        @Setup(Level.Iteration)
+        public void setUp(BenchmarkParams params) {
+            this.megabytesPerSecond = 0;
+            this.iterations = params.getMeasurement().getCount();
+        }
+
+        void add(long bytes, long nanos) {
+            this.megabytesPerSecond += bytes / (nanos / 1e9) / (1 << 20) / this.iterations;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.root = Files.createTempDirectory("download-benchmark");
+        Path bundleFolder = Files.createDirectories(this.root.resolve("Creator").resolve("Bundle"));
+        writeBinary(bundleFolder.resolve("model.stl"), (this.size * (1L << 20) - 84) / 50);
+
+        this.context = BenchmarkApplication.start("download", "VAULT_PATH=" + this.root.resolve("vault"));
+        this.context.getBean(LibraryScanner.class).scan(List.of(this.root));
+
+        JdbcTemplate jdbcTemplate = this.context.getBean(JdbcTemplate.class);
+        String fileId = jdbcTemplate.queryForObject("SELECT CAST(id AS VARCHAR) FROM MODEL_FILES", String.class);
+        String bundleId = jdbcTemplate.queryForObject("SELECT CAST(id AS VARCHAR) FROM BUNDLES", String.class);
+
+        int port = ((WebServerApplicationContext) this.context).getWebServer().getPort();
+        this.file = URI.create("http://localhost:" + port + "/api/v1/file/" + fileId + "/download");
+        this.bundle = URI.create("http://localhost:" + port + "/api/v1/bundle/" + bundleId + "/download");
+        this.client = HttpClient.newHttpClient();
+    }
+
+    /**
+     * write a binary STL with triangles that are moved a bit each, so the file can be compressed like a real one
+     */
+    private static void writeBinary(Path file, long triangles) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(84).order(ByteOrder.LITTLE_ENDIAN).putInt(80, (int) triangles));
+
+            ByteBuffer block = ByteBuffer.allocate(TRIANGLES_PER_BLOCK * 50).order(ByteOrder.LITTLE_ENDIAN);
+
+            for (long written = 0; written < triangles; ) {
+                block.clear();
+
+                for (int i = 0; i < TRIANGLES_PER_BLOCK && written < triangles; i++, written++) {
+                    float offset = (written % 100_000) * 0.001f;
+
+                    block.putFloat(0).putFloat(0).putFloat(1)
+                            .putFloat(offset).putFloat(0).putFloat(0)
+                            .putFloat(offset + 1).putFloat(0).putFloat(0)
+                            .putFloat(offset).putFloat(1).putFloat(1)
+                            .putShort((short) 0);
+                }
+
+                channel.write(block.flip());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.context.close();
+        FileSystemUtils.deleteRecursively(this.root);
+    }
+
+    /**
+     * download a URI and count the bytes of the response
+     */
+    private long download(HttpRequest request, Downloads downloads) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = this.client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+        byte[] buffer = new byte[64 << 10];
+        long count = 0;
+
+        try (InputStream body = response.body()) {
+            for (int read = body.read(buffer); read >= 0; read = body.read(buffer)) {
+                count += read;
+            }
+        }
+
+        downloads.add(count, System.nanoTime() - start);
+
+        return count;
+    }
+
+    @Benchmark
+    public long downloadFile(Downloads downloads) throws IOException, InterruptedException {
+        return this.download(HttpRequest.newBuilder(this.file).build(), downloads);
+    }
+
+    @Benchmark
+    public long downloadLastMegabyte(Downloads downloads) throws IOException, InterruptedException {
+        return this.download(HttpRequest.newBuilder(this.file).header("Range", "bytes=-" + (1 << 20)).build(), downloads);
+    }
+
+    @Benchmark
+    public long downloadBundle(Downloads downloads) throws IOException, InterruptedException {
+        return this.download(HttpRequest.newBuilder(this.bundle).build(), downloads);
+    }
+}
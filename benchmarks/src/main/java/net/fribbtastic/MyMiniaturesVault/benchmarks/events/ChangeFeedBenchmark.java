@@ -0,0 +1,62 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.events;
+
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeAction;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeEntity;
+import net.fribbtastic.MyMiniaturesVault.backend.events.ChangeFeed;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for publishing a burst of updates of the same Creators to many idle subscribers.
+ * The coalescing window is longer than the benchmark, so this is the cost a write adds while the batches are collected,
+ * it should be the same for any number of subscribers.
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@State(Scope.Benchmark)
+public class ChangeFeedBenchmark {
+
+    private static final int CREATORS = 100;
+
+    @Param({"100", "10000"})
+    public int subscribers;
+
+    private ChangeFeed feed;
+
+    private final UUID[] creators = new UUID[CREATORS];
+
+    private final Random random = new Random(42);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.feed = new ChangeFeed(10_000, 1000, Duration.ofHours(1), Duration.ofHours(1), Duration.ofHours(1));
+
+        for (int i = 0; i < this.subscribers; i++) {
+            this.feed.subscribe(null);
+        }
+
+        for (int i = 0; i < CREATORS; i++) {
+            this.creators[i] = UUID.randomUUID();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.feed.close();
+        this.feed.shutdown();
+    }
+
+    @Benchmark
+    public void publish() {
+        this.feed.publish(ChangeEntity.CREATOR, ChangeAction.UPDATED, this.creators[this.random.nextInt(CREATORS)]);
+    }
+}
@@ -0,0 +1,156 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.mesh;
+
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.MeshMetadata;
+import net.fribbtastic.MyMiniaturesVault.backend.mesh.StlParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reading the mesh metadata of binary and ASCII STL files between 1 MB and 500 MB,
+ * in chunks on all processors and in one pass on a single thread.
+ * The file is written once per trial, the first iterations read it from the disk and the later ones from the page cache.
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StlParserBenchmark {
+
+    public enum Format {
+        BINARY, ASCII
+    }
+
+    public enum Parser {
+        PARALLEL(StlParser.PARALLEL), SEQUENTIAL(StlParser.SEQUENTIAL);
+
+        private final StlParser parser;
+
+        Parser(StlParser parser) {
+            this.parser = parser;
+        }
+    }
+
+    /**
+     * the number of triangles that are written at once
+     */
+    private static final int TRIANGLES_PER_BLOCK = 4096;
+
+    /**
+     * the size of the file in MB
+     */
+    @Param({"1", "16", "128", "500"})
+    public int size;
+
+    @Param({"BINARY", "ASCII"})
+    public Format format;
+
+    @Param({"PARALLEL", "SEQUENTIAL"})
+    public Parser parser;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.file = Files.createTempFile("stl-parser-benchmark", ".stl");
+        long bytes = this.size * (1L << 20);
+
+        if (this.format == Format.BINARY) {
+            writeBinary(this.file, (bytes - 84) / 50);
+        } else {
+            writeAscii(this.file, bytes);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    /**
+     * the coordinates of a triangle, every triangle is moved a bit so the bounding box grows with the file
+     *
+     * @param index the index of the triangle
+     * @return the 9 coordinates of the corners
+     */
+    private static float[] triangle(long index) {
+        float offset = (index % 100_000) * 0.001f;
+
+        return new float[]{offset, 0, 0, offset + 1, 0, 0, offset, 1, 1};
+    }
+
+    private static void writeBinary(Path file, long triangles) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(84).order(ByteOrder.LITTLE_ENDIAN).putInt(80, (int) triangles);
+            channel.write(header);
+
+            ByteBuffer block = ByteBuffer.allocate(TRIANGLES_PER_BLOCK * 50).order(ByteOrder.LITTLE_ENDIAN);
+
+            for (long written = 0; written < triangles; ) {
+                block.clear();
+
+                for (int i = 0; i < TRIANGLES_PER_BLOCK && written < triangles; i++, written++) {
+                    block.putFloat(0).putFloat(0).putFloat(1);
+
+                    for (float coordinate : triangle(written)) {
+                        block.putFloat(coordinate);
+                    }
+
+                    block.putShort((short) 0);
+                }
+
+                block.flip();
+                channel.write(block);
+            }
+        }
+    }
+
+    private static void writeAscii(Path file, long bytes) throws IOException {
+        try (OutputStream output = Files.newOutputStream(file)) {
+            output.write("solid benchmark\n".getBytes(StandardCharsets.US_ASCII));
+
+            StringBuilder block = new StringBuilder();
+            long written = 0;
+
+            for (long index = 0; written < bytes; index++) {
+                float[] triangle = triangle(index);
+
+                block.append("  facet normal 0 0 1\n    outer loop\n");
+
+                for (int corner = 0; corner < 3; corner++) {
+                    block.append(String.format(Locale.ROOT, "      vertex %e %e %e\n", triangle[corner * 3], triangle[corner * 3 + 1], triangle[corner * 3 + 2]));
+                }
+
+                block.append("    endloop\n  endfacet\n");
+
+                if (block.length() > 1 << 20) {
+                    written += block.length();
+                    output.write(block.toString().getBytes(StandardCharsets.US_ASCII));
+                    block.setLength(0);
+                }
+            }
+
+            output.write(block.toString().getBytes(StandardCharsets.US_ASCII));
+            output.write("endsolid benchmark\n".getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Benchmark
+    public MeshMetadata parse() throws IOException {
+        return this.parser.parser.parse(this.file);
+    }
+}
@@ -0,0 +1,108 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.persistence;
+
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.CreatorRepository;
+import net.fribbtastic.MyMiniaturesVault.benchmarks.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark for reading and writing Creators through the repository with the H2 Database in memory and in a file.
+ * The file is written by the MVStore in the background, so the writes should only be a little slower than in memory
+ * and the reads as fast as long as the tables fit into the page cache ('database.cache-size').
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DatabaseModeBenchmark {
+
+    private static final int CREATOR_COUNT = 10000;
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"mem", "file"})
+    public String mode;
+
+    private Path directory;
+
+    private ConfigurableApplicationContext context;
+
+    private CreatorRepository repository;
+
+    private List<Creator> creators;
+
+    private final AtomicLong inserted = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("database-mode-benchmark");
+
+        String url = this.mode.equals("file")
+                ? "jdbc:h2:file:" + this.directory.resolve("database").resolve("vault")
+                : "jdbc:h2:mem:databaseModeBenchmark;DB_CLOSE_DELAY=-1";
+
+        this.context = BenchmarkApplication.start("databaseModeBenchmark", "DATABASE_URL=" + url);
+        this.repository = this.context.getBean(CreatorRepository.class);
+
+        this.creators = this.repository.saveAll(IntStream.range(0, CREATOR_COUNT)
+                .mapToObj(i -> new Creator(String.format("Benchmark Creator %05d", i)))
+                .toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    /**
+     * insert a batch of new Creators in one transaction
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Creator> insertCreators() {
+        long batch = this.inserted.getAndIncrement();
+
+        return this.repository.saveAll(IntStream.range(0, BATCH_SIZE)
+                .mapToObj(i -> new Creator("Inserted Creator " + batch + "-" + i))
+                .toList());
+    }
+
+    /**
+     * read the page of Creators after a random Creator
+     */
+    @Benchmark
+    public List<Creator> readPageOfCreators() {
+        Creator after = this.creators.get(ThreadLocalRandom.current().nextInt(this.creators.size()));
+
+        return this.repository.findAllAfter(after.getName(), after.getId(), Limit.of(PAGE_SIZE));
+    }
+
+    /**
+     * read Creators by their names, which aren't cached like the Creators by their IDs
+     */
+    @Benchmark
+    public List<Creator> readCreatorsByName() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        return this.repository.findAllByNameIn(List.of(
+                this.creators.get(random.nextInt(this.creators.size())).getName(),
+                this.creators.get(random.nextInt(this.creators.size())).getName()));
+    }
+}
@@ -0,0 +1,43 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.persistence;
+
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for generating random (version 4) and time-ordered (version 7) UUIDs,
+ * single threaded and with concurrent threads
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidGeneratorBenchmark {
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID uuidV7() {
+        return UuidV7Generator.generateUuid();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID randomUuidConcurrent() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID uuidV7Concurrent() {
+        return UuidV7Generator.generateUuid();
+    }
+}
@@ -0,0 +1,143 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.persistence;
+
+import net.fribbtastic.MyMiniaturesVault.backend.persistence.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark for inserting rows with random (version 4) and time-ordered (version 7) UUID primary keys
+ * into a file based H2 Database.
+ * The table keeps growing over all iterations, so later iterations show the effect of the key order on a large index.
+ * The size of the table (including its primary key index) per row is reported as the secondary result 'bytesPerRow'.
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * the strategy that generates the primary keys
+     */
+    public enum Strategy {
+        RANDOM(UUID::randomUUID),
+        V7(UuidV7Generator::generateUuid);
+
+        private final Supplier<UUID> generator;
+
+        Strategy(Supplier<UUID> generator) {
+            this.generator = generator;
+        }
+    }
+
+    @Param({"RANDOM", "V7"})
+    public Strategy strategy;
+
+    private Path directory;
+
+    private Connection connection;
+
+    private PreparedStatement insert;
+
+    private long rows;
+
+    /**
+     * The size of the table per row at the end of the trial.
+     * The counters of the measurement iterations are summed up, so only the last measurement iteration reports the size.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Size {
+
+        public double bytesPerRow;
+
+        private int measurements;
+
+        @Setup(Level.Iteration)
+        public void setUp(IterationParams params) {
+            this.bytesPerRow = 0;
+
+            if (params.getType() == IterationType.MEASUREMENT) {
+                this.measurements++;
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown(IterationParams params, UuidInsertBenchmark benchmark) throws SQLException {
+            if (params.getType() == IterationType.MEASUREMENT && this.measurements == params.getCount()) {
+                this.bytesPerRow = (double) benchmark.diskSpaceUsed() / benchmark.rows;
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        this.directory = Files.createTempDirectory("uuid-insert-benchmark");
+        this.connection = DriverManager.getConnection("jdbc:h2:file:" + this.directory.resolve("benchmark"), "sa", "password");
+        this.connection.setAutoCommit(false);
+
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("CREATE TABLE BENCHMARK_ROWS (id UUID PRIMARY KEY, name VARCHAR(255) NOT NULL)");
+        }
+
+        this.insert = this.connection.prepareStatement("INSERT INTO BENCHMARK_ROWS (id, name) VALUES (?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        this.insert.close();
+
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS DELETE FILES");
+        }
+
+        this.connection.close();
+        Files.deleteIfExists(this.directory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insert(Size size) throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.insert.setObject(1, this.strategy.generator.get());
+            this.insert.setString(2, "Benchmark Row " + this.rows++);
+            this.insert.addBatch();
+        }
+
+        this.insert.executeBatch();
+        this.connection.commit();
+    }
+
+    /**
+     * get the space used by the table and its index, after all changes were written to the file
+     *
+     * @return the used space in bytes
+     */
+    private long diskSpaceUsed() throws SQLException {
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("CHECKPOINT");
+        }
+
+        try (Statement statement = this.connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT DISK_SPACE_USED('BENCHMARK_ROWS')")) {
+            resultSet.next();
+
+            return resultSet.getLong(1);
+        }
+    }
+}
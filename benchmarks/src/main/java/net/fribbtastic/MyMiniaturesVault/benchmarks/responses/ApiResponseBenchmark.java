@@ -0,0 +1,73 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.responses;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks for creating and serializing successful {@link ApiResponse}s
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private Creator creator;
+
+    /**
+     * The list of Creators that is serialized, with a configurable size
+     */
+    @State(Scope.Benchmark)
+    public static class CreatorList {
+
+        @Param({"1", "100", "1000"})
+        public int size;
+
+        public List<Creator> creators;
+
+        @Setup
+        public void setUp() {
+            this.creators = IntStream.range(0, this.size)
+                    .mapToObj(i -> new Creator(UUID.randomUUID(), String.format("Benchmark Creator %05d", i)))
+                    .toList();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // same defaults as the ObjectMapper that is created by Spring Boot
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.creator = new Creator(UUID.randomUUID(), "Benchmark Creator");
+    }
+
+    @Benchmark
+    public ApiResponse<Creator> createSuccessResponse() {
+        return ApiResponse.createSuccessResponse(HttpStatus.OK, this.creator);
+    }
+
+    @Benchmark
+    public byte[] serializeSuccessResponse() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(ApiResponse.createSuccessResponse(HttpStatus.OK, this.creator));
+    }
+
+    @Benchmark
+    public byte[] serializeSuccessResponseList(CreatorList list) throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(ApiResponse.createSuccessResponse(HttpStatus.OK, list.creators));
+    }
+}
@@ -0,0 +1,63 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.responses;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ApiResponse;
+import net.fribbtastic.MyMiniaturesVault.backend.responses.ErrorDetails;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the error path, from the exception to the serialized {@link ApiResponse}
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorDetailsBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private UUID id;
+
+    private ResourceNotFoundException exception;
+
+    @Setup
+    public void setUp() {
+        // same defaults as the ObjectMapper that is created by Spring Boot
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.id = UUID.randomUUID();
+        this.exception = new ResourceNotFoundException(this.id);
+    }
+
+    @Benchmark
+    public ErrorDetails createErrorDetails() {
+        return new ErrorDetails("Resource not found", this.exception.getMessage(), this.exception.getClass().getSimpleName());
+    }
+
+    @Benchmark
+    public ResourceNotFoundException createException() {
+        return new ResourceNotFoundException(this.id);
+    }
+
+    @Benchmark
+    public ApiResponse<?> createFailureResponse() {
+        return ApiResponse.createFailureResponse(HttpStatus.NOT_FOUND, "Resource not found", this.exception);
+    }
+
+    @Benchmark
+    public byte[] serializeFailureResponse() throws JsonProcessingException {
+        ResourceNotFoundException exception = new ResourceNotFoundException(this.id);
+
+        return this.objectMapper.writeValueAsBytes(ApiResponse.createFailureResponse(HttpStatus.NOT_FOUND, "Resource not found", exception));
+    }
+}
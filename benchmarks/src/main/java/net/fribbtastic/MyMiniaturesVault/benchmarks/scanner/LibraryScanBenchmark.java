@@ -0,0 +1,135 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.scanner;
+
+import net.fribbtastic.MyMiniaturesVault.backend.scanner.LibraryScanner;
+import net.fribbtastic.MyMiniaturesVault.backend.scanner.ScanProgress;
+import net.fribbtastic.MyMiniaturesVault.benchmarks.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for scanning a generated library of {@code <Creator>/<Bundle>/<file>} folders.
+ * The initial scan adds every file to the empty index, the rescan compares an unchanged library with the index.
+ * The files per second of the scans are reported as the secondary result 'filesPerSecond'.
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LibraryScanBenchmark {
+
+    private static final int CREATORS = 20;
+    private static final int BUNDLES_PER_CREATOR = 10;
+
+    @Param({"20000"})
+    public int files;
+
+    private Path root;
+
+    private ConfigurableApplicationContext context;
+
+    private LibraryScanner scanner;
+
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * The files per second of the scans.
+     * The counters of the measurement iterations are summed up, so every scan only adds its share of the average.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Scans {
+
+        public double filesPerSecond;
+
+        private int iterations;
+
+        @Setup(Level.Iteration)
+        public void setUp(BenchmarkParams params) {
+            this.filesPerSecond = 0;
+            this.iterations = params.getMeasurement().getCount();
+        }
+
+        ScanProgress add(ScanProgress progress) {
+            this.filesPerSecond += progress.getFilesPerSecond() / this.iterations;
+
+            return progress;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.root = Files.createTempDirectory("library-scan-benchmark");
+
+        int filesPerBundle = Math.max(1, this.files / (CREATORS * BUNDLES_PER_CREATOR));
+
+        for (int c = 0; c < CREATORS; c++) {
+            for (int b = 0; b < BUNDLES_PER_CREATOR; b++) {
+                Path bundle = Files.createDirectories(this.root.resolve("Creator " + c).resolve("Bundle " + b));
+
+                for (int f = 0; f < filesPerBundle; f++) {
+                    Files.write(bundle.resolve("model" + f + ".stl"), stl(f % 4));
+                }
+            }
+        }
+
+        this.context = BenchmarkApplication.start("scan");
+        this.scanner = this.context.getBean(LibraryScanner.class);
+        this.jdbcTemplate = this.context.getBean(JdbcTemplate.class);
+
+        // index the library once so the rescan finds every file
+        this.scanner.scan(List.of(this.root));
+    }
+
+    /**
+     * create a binary STL whose triangles all lie in the origin, the scan reads its mesh metadata
+     *
+     * @param triangles the number of triangles
+     * @return the content of the file
+     */
+    private static byte[] stl(int triangles) {
+        return ByteBuffer.allocate(84 + triangles * 50).order(ByteOrder.LITTLE_ENDIAN).putInt(80, triangles).array();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.context.close();
+        FileSystemUtils.deleteRecursively(this.root);
+    }
+
+    /**
+     * State that empties the index before every invocation, so every scan is an initial one
+     */
+    @State(Scope.Thread)
+    public static class EmptyIndex {
+
+        @Setup(Level.Invocation)
+        public void setUp(LibraryScanBenchmark benchmark) {
+            benchmark.jdbcTemplate.execute("DELETE FROM CREATORS");
+        }
+    }
+
+    @Benchmark
+    public ScanProgress initialScan(EmptyIndex emptyIndex, Scans scans) {
+        return scans.add(this.scanner.scan(List.of(this.root)));
+    }
+
+    @Benchmark
+    public ScanProgress rescanUnchanged(Scans scans) {
+        return scans.add(this.scanner.scan(List.of(this.root)));
+    }
+}
@@ -0,0 +1,87 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.search;
+
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchIndex;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchResult;
+import net.fribbtastic.MyMiniaturesVault.backend.search.SearchType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for searching an index with 10k Creators, 50k Bundles and 300k files with names made of random words.
+ * Samples every call, so the percentiles of the results show the worst searches as well.
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@State(Scope.Benchmark)
+public class SearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "ancient", "red", "dragon", "knight", "orc", "warrior", "elf", "archer", "goblin", "wizard", "tower", "ruins",
+            "skeleton", "army", "base", "bust", "cavalry", "demon", "dwarf", "forge", "giant", "hero", "lich", "mage",
+            "owlbear", "paladin", "queen", "rogue", "spider", "troll", "undead", "vampire", "wyvern", "zombie", "beholder"
+    };
+
+    private static final int CREATORS = 10_000;
+    private static final int BUNDLES = 50_000;
+    private static final int FILES = 300_000;
+
+    @Param({"dragon", "ancient dragon", "vampire queen", "ruin"})
+    public String query;
+
+    private final SearchIndex index = new SearchIndex();
+
+    private String prefix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        UUID[] creators = new UUID[CREATORS];
+        UUID[] bundles = new UUID[BUNDLES];
+
+        for (int i = 0; i < CREATORS; i++) {
+            creators[i] = UUID.randomUUID();
+            this.index.put(SearchType.CREATOR, creators[i], name(random, 2) + " Studio " + i, null);
+        }
+
+        for (int i = 0; i < BUNDLES; i++) {
+            bundles[i] = UUID.randomUUID();
+            this.index.put(SearchType.BUNDLE, bundles[i], name(random, 3), creators[random.nextInt(CREATORS)]);
+        }
+
+        for (int i = 0; i < FILES; i++) {
+            this.index.put(SearchType.FILE, UUID.randomUUID(), name(random, 2).replace(' ', '_') + "_" + i + ".stl", bundles[random.nextInt(BUNDLES)]);
+        }
+
+        // an autocomplete of the last word while it is typed
+        this.prefix = this.query.substring(0, this.query.length() - 2);
+    }
+
+    private static String name(Random random, int words) {
+        StringBuilder name = new StringBuilder();
+
+        for (int i = 0; i < words; i++) {
+            name.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+
+        return name.toString();
+    }
+
+    @Benchmark
+    public List<SearchResult> search() {
+        return this.index.search(this.query, null, 20);
+    }
+
+    @Benchmark
+    public List<SearchResult> autocomplete() {
+        return this.index.autocomplete(this.prefix, null, 10);
+    }
+}
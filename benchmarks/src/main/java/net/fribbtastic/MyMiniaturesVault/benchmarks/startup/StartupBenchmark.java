@@ -0,0 +1,176 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.startup;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the cold start of the packaged backend, from starting a new JVM until the first successful
+ * request of the Creators, and the resident memory of the process at that time.
+ * <p>
+ * Every invocation starts the extracted jar of the 'aot' profile of the backend (see its pom.xml) in one of the variants:
+ * 'default' without AOT processing, 'aot' with the AOT processed context and 'aot-cds' with the class data sharing
+ * archive of the training run as well. Build it first with 'mvn -pl backend -am package -Paot -DskipTests', the jar is
+ * expected in '../backend/target/cds' or the folder in the environment variable 'STARTUP_PATH'.
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    private static final long TIMEOUT = TimeUnit.MINUTES.toNanos(2);
+
+    @Param({"default", "aot", "aot-cds"})
+    public String variant;
+
+    private Path folder;
+
+    private Path storage;
+
+    private HttpClient client;
+
+    /**
+     * The resident memory of the backend when it answered the first request.
+     * The counters of the measurement iterations are summed up, so every start only adds its share of the average.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Memory {
+
+        public double rssMegabytes;
+
+        private int iterations;
+
+        @Setup(Level.Iteration)
+        public void setUp(BenchmarkParams params) {
+            this.rssMegabytes = 0;
+            this.iterations = params.getMeasurement().getCount();
+        }
+
+        void add(long rssKilobytes) {
+            this.rssMegabytes += rssKilobytes / 1024.0 / this.iterations;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.folder = Path.of(System.getenv().getOrDefault("STARTUP_PATH", "../backend/target/cds")).toAbsolutePath().normalize();
+
+        if (!Files.isRegularFile(this.folder.resolve("backend.jar")) || !Files.isRegularFile(this.folder.resolve("backend.jsa"))) {
+            throw new IllegalStateException("No backend.jar and backend.jsa in " + this.folder + ", package the backend with -Paot first");
+        }
+
+        this.storage = Files.createTempDirectory("startup-benchmark");
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.client.close();
+    }
+
+    @Benchmark
+    public int startUntilFirstRequest(Memory memory) throws IOException, InterruptedException {
+        int port = freePort();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(this.command(port))
+                .directory(this.folder.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/creator")).GET().build();
+
+            while (System.nanoTime() - start < TIMEOUT) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("The backend exited with " + process.exitValue());
+                }
+
+                try {
+                    HttpResponse<Void> response = this.client.send(request, HttpResponse.BodyHandlers.discarding());
+
+                    if (response.statusCode() == 200) {
+                        memory.add(residentMemory(process.pid()));
+
+                        return response.statusCode();
+                    }
+                } catch (ConnectException exception) {
+                    // the web server isn't started yet
+                }
+
+                Thread.sleep(5);
+            }
+
+            throw new IllegalStateException("The backend didn't answer within " + TimeUnit.NANOSECONDS.toSeconds(TIMEOUT) + "s");
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private List<String> command(int port) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+
+        if (this.variant.equals("aot-cds")) {
+            command.add("-XX:SharedArchiveFile=backend.jsa");
+        }
+
+        if (!this.variant.equals("default")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+
+        command.addAll(List.of("-jar", "backend.jar",
+                "--server.port=" + port,
+                "--management.server.port=-1",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--storage.path=" + this.storage));
+
+        return command;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * read the resident memory of a process from '/proc/<pid>/status', only available on Linux
+     *
+     * @return the resident memory in KB, or 0 if it is unknown
+     */
+    private static long residentMemory(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+
+        if (!Files.isReadable(status)) {
+            return 0;
+        }
+
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.replaceAll("\\D", ""))
+                .mapToLong(Long::parseLong)
+                .findFirst()
+                .orElse(0);
+    }
+}
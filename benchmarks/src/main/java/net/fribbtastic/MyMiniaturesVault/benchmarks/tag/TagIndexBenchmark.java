@@ -0,0 +1,103 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.tag;
+
+import net.fribbtastic.MyMiniaturesVault.backend.tag.FacetCounts;
+import net.fribbtastic.MyMiniaturesVault.backend.tag.TagIndex;
+import net.fribbtastic.MyMiniaturesVault.backend.tag.TaggedMiniature;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for filtering and counting 300k Miniatures of 50k Bundles by their tags.
+ * Every Miniature has a faction and a scale, some are supported, printed or painted.
+ * The Miniatures are ordered by their names made of random words.
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+@State(Scope.Benchmark)
+public class TagIndexBenchmark {
+
+    private static final String[] FACTIONS = {
+            "undead", "orc", "elf", "dwarf", "human", "demon", "goblin", "lizardfolk", "vampire", "giant", "dragon", "beast"
+    };
+
+    private static final String[] SCALES = {"28mm", "32mm", "54mm", "75mm"};
+
+    private static final String[] WORDS = {
+            "ancient", "red", "dragon", "knight", "warrior", "archer", "wizard", "skeleton", "cavalry", "hero", "lich",
+            "mage", "owlbear", "paladin", "queen", "rogue", "spider", "troll", "wyvern", "zombie", "beholder", "captain"
+    };
+
+    private static final int CREATORS = 10_000;
+    private static final int BUNDLES = 50_000;
+    private static final int MINIATURES = 300_000;
+
+    @Param({"", "faction:undead", "faction:undead,scale:32mm,supported", "faction:undead,faction:orc,scale:32mm,scale:28mm,printed"})
+    public String tags;
+
+    private final TagIndex index = new TagIndex();
+
+    private List<String> selection;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        UUID[] creators = new UUID[CREATORS];
+
+        for (int i = 0; i < CREATORS; i++) {
+            creators[i] = UUID.randomUUID();
+        }
+
+        UUID bundle = null;
+        UUID creator = null;
+
+        for (int i = 0; i < MINIATURES; i++) {
+            if (i % (MINIATURES / BUNDLES) == 0) {
+                bundle = UUID.randomUUID();
+                creator = creators[random.nextInt(CREATORS)];
+            }
+
+            List<String> tags = new ArrayList<>();
+            tags.add("faction:" + FACTIONS[random.nextInt(FACTIONS.length)]);
+            tags.add("scale:" + SCALES[random.nextInt(SCALES.length)]);
+
+            if (random.nextInt(3) == 0) {
+                tags.add("supported");
+            }
+
+            if (random.nextInt(10) == 0) {
+                tags.add("printed");
+            }
+
+            if (random.nextInt(50) == 0) {
+                tags.add("painted");
+            }
+
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+
+            this.index.put(UUID.randomUUID(), name, bundle, creator, tags);
+        }
+
+        this.selection = this.tags.isEmpty() ? List.of() : Arrays.asList(this.tags.split(","));
+    }
+
+    @Benchmark
+    public List<TaggedMiniature> find() {
+        return this.index.find(this.selection, 100);
+    }
+
+    @Benchmark
+    public FacetCounts facets() {
+        return this.index.facets(this.selection);
+    }
+}
@@ -0,0 +1,116 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.v1.creator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.CreatorController;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.CreatorRepository;
+import net.fribbtastic.MyMiniaturesVault.benchmarks.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks for full {@link MockMvc} round trips through each endpoint of the {@link CreatorController}
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreatorControllerBenchmark {
+
+    private static final String ENDPOINT = "/api/v1/creator";
+
+    @Param({"100", "10000"})
+    public int creatorCount;
+
+    private ConfigurableApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    private ObjectMapper objectMapper;
+
+    private Creator creator;
+
+    private final UUID missingId = UUID.randomUUID();
+
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start("creatorControllerBenchmark");
+        this.mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) this.context).build();
+        this.objectMapper = this.context.getBean(ObjectMapper.class);
+
+        CreatorRepository repository = this.context.getBean(CreatorRepository.class);
+        List<Creator> creators = repository.saveAll(IntStream.range(0, this.creatorCount)
+                .mapToObj(i -> new Creator(String.format("Benchmark Creator %05d", i)))
+                .toList());
+
+        this.creator = creators.getFirst();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public MvcResult getAllCreators() throws Exception {
+        return this.mockMvc.perform(MockMvcRequestBuilders.get(ENDPOINT).accept(MediaType.APPLICATION_JSON)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult streamAllCreators() throws Exception {
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders.get(ENDPOINT).accept(CreatorController.NDJSON)).andReturn();
+
+        return this.mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getOneCreator() throws Exception {
+        return this.mockMvc.perform(MockMvcRequestBuilders.get(ENDPOINT + "/{id}", this.creator.getId()).accept(MediaType.APPLICATION_JSON)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getOneCreatorMissing() throws Exception {
+        return this.mockMvc.perform(MockMvcRequestBuilders.get(ENDPOINT + "/{id}", this.missingId).accept(MediaType.APPLICATION_JSON)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult updateCreator() throws Exception {
+        Creator updatedCreator = new Creator("Benchmark Updated Creator " + this.counter++);
+
+        return this.mockMvc.perform(MockMvcRequestBuilders.put(ENDPOINT + "/{id}", this.creator.getId())
+                .content(this.objectMapper.writeValueAsBytes(updatedCreator))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult addAndDeleteCreator() throws Exception {
+        Creator newCreator = new Creator("Benchmark New Creator " + this.counter++);
+
+        MvcResult result = this.mockMvc.perform(MockMvcRequestBuilders.post(ENDPOINT)
+                .content(this.objectMapper.writeValueAsBytes(newCreator))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)).andReturn();
+
+        String id = this.objectMapper.readTree(result.getResponse().getContentAsByteArray()).at("/data/id").asText();
+
+        return this.mockMvc.perform(MockMvcRequestBuilders.delete(ENDPOINT + "/{id}", id)).andReturn();
+    }
+}
@@ -0,0 +1,73 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.v1.creator;
+
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.CreatorRepository;
+import net.fribbtastic.MyMiniaturesVault.benchmarks.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Load test of the Creator endpoints over HTTP with many concurrent clients,
+ * comparing request handling on platform threads (Tomcat thread pool) and on virtual threads.
+ * Each request runs two Database queries, so the requests compete for the connections of the datasource pool.
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class CreatorLoadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient client;
+
+    private HttpRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start("creatorLoadBenchmark", "spring.threads.virtual.enabled=" + this.virtualThreads);
+
+        this.context.getBean(CreatorRepository.class).saveAll(IntStream.range(0, 1000)
+                .mapToObj(i -> new Creator(String.format("Benchmark Creator %05d", i)))
+                .toList());
+
+        int port = ((WebServerApplicationContext) this.context).getWebServer().getPort();
+
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.pageRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/creator?limit=20")).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.client.close();
+        this.context.close();
+    }
+
+    @Benchmark
+    public int getPageOfCreators() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = this.client.send(this.pageRequest, HttpResponse.BodyHandlers.ofByteArray());
+
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status code " + response.statusCode());
+        }
+
+        return response.body().length;
+    }
+}
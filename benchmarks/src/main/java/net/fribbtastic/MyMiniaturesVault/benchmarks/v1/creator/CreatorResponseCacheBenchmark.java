@@ -0,0 +1,90 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.v1.creator;
+
+import net.fribbtastic.MyMiniaturesVault.backend.cache.ResponseCache;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.Creator;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.CreatorController;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.CreatorRepository;
+import net.fribbtastic.MyMiniaturesVault.benchmarks.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark for the largest page of Creators over HTTP, sent from the {@link ResponseCache} or loaded and encoded
+ * again because the cached responses were invalidated before every request.
+ * A cached page should cost the same for any number of Creators, a compressed one less.
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreatorResponseCacheBenchmark {
+
+    @Param({"100", "10000"})
+    public int creatorCount;
+
+    @Param({"true", "false"})
+    public boolean cached;
+
+    @Param({"identity", "gzip"})
+    public String encoding;
+
+    private ConfigurableApplicationContext context;
+
+    private ResponseCache responses;
+
+    private HttpClient client;
+
+    private HttpRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start("creatorResponseCacheBenchmark");
+        this.responses = this.context.getBean(ResponseCache.class);
+
+        this.context.getBean(CreatorRepository.class).saveAll(IntStream.range(0, this.creatorCount)
+                .mapToObj(i -> new Creator(String.format("Benchmark Creator %05d", i)))
+                .toList());
+
+        int port = ((WebServerApplicationContext) this.context).getWebServer().getPort();
+
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.pageRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/creator?limit=" + CreatorController.MAX_PAGE_SIZE))
+                .header("Accept-Encoding", this.encoding)
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.client.close();
+        this.context.close();
+    }
+
+    @Benchmark
+    public int getLargestPageOfCreators() throws IOException, InterruptedException {
+        if (!this.cached) {
+            this.responses.invalidate(ResponseCache.CREATORS);
+        }
+
+        HttpResponse<byte[]> response = this.client.send(this.pageRequest, HttpResponse.BodyHandlers.ofByteArray());
+
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status code " + response.statusCode());
+        }
+
+        return response.body().length;
+    }
+}
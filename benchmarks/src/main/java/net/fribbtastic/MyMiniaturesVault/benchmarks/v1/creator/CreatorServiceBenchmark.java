@@ -0,0 +1,116 @@
+package net.fribbtastic.MyMiniaturesVault.benchmarks.v1.creator;
+
+import net.fribbtastic.MyMiniaturesVault.backend.cache.CacheConfiguration;
+import net.fribbtastic.MyMiniaturesVault.backend.exceptions.ResourceNotFoundException;
+import net.fribbtastic.MyMiniaturesVault.backend.v1.creator.*;
+import net.fribbtastic.MyMiniaturesVault.benchmarks.BenchmarkApplication;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks for the {@link CreatorServiceImpl} against the in-memory H2 Database
+ *
+ * @author Frederic Eßer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreatorServiceBenchmark {
+
+    @Param({"100", "10000"})
+    public int creatorCount;
+
+    private ConfigurableApplicationContext context;
+
+    private CreatorServiceImpl service;
+
+    private Cache cache;
+
+    private Creator creator;
+
+    private CreatorCursor middle;
+
+    private final UUID missingId = UUID.randomUUID();
+
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start("creatorServiceBenchmark");
+        this.service = this.context.getBean(CreatorServiceImpl.class);
+        this.cache = this.context.getBean(CacheManager.class).getCache(CacheConfiguration.CREATORS);
+
+        CreatorRepository repository = this.context.getBean(CreatorRepository.class);
+        List<Creator> creators = repository.saveAll(IntStream.range(0, this.creatorCount)
+                .mapToObj(i -> new Creator(String.format("Benchmark Creator %05d", i)))
+                .toList());
+
+        this.creator = creators.getFirst();
+        this.middle = CreatorCursor.of(creators.get(this.creatorCount / 2));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Creator getOne() {
+        return this.service.getOne(this.creator.getId());
+    }
+
+    @Benchmark
+    public Creator getOneUncached() {
+        this.cache.evict(this.creator.getId());
+
+        return this.service.getOne(this.creator.getId());
+    }
+
+    @Benchmark
+    public Object getOneMissing() {
+        try {
+            return this.service.getOne(this.missingId);
+        } catch (ResourceNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public CreatorPage getFirstPage() {
+        return this.service.getPage(null, 100);
+    }
+
+    @Benchmark
+    public CreatorPage getMiddlePage() {
+        return this.service.getPage(this.middle, 100);
+    }
+
+    @Benchmark
+    public void streamAll(Blackhole blackhole) {
+        this.service.streamAll(blackhole::consume);
+    }
+
+    @Benchmark
+    public Creator updateCreator() {
+        return this.service.updateCreator(this.creator.getId(), new Creator("Benchmark Updated Creator " + this.counter++), null);
+    }
+
+    @Benchmark
+    public Creator addAndDeleteCreator() {
+        Creator newCreator = this.service.addCreator(new Creator("Benchmark New Creator " + this.counter++));
+        this.service.deleteCreator(newCreator.getId());
+
+        return newCreator;
+    }
+}
@@ -0,0 +1,40 @@
+// Writes gzip and brotli variants next to the files of the production build, so the backend can send them
+// precompressed instead of compressing on every request. Runs after `npm run build` (postbuild).
+import { readdir, readFile, stat, writeFile } from 'node:fs/promises';
+import { join } from 'node:path';
+import { promisify } from 'node:util';
+import { brotliCompress, constants, gzip } from 'node:zlib';
+
+const OUTPUT = 'dist/frontend-angular/browser';
+const COMPRESSIBLE = /\.(html|js|mjs|css|json|svg|txt|ico|webmanifest)$/;
+const MIN_SIZE = 1024;
+
+const brotli = promisify(brotliCompress);
+const gz = promisify(gzip);
+
+const files = (await readdir(OUTPUT, { recursive: true })).filter((file) => COMPRESSIBLE.test(file));
+let written = 0;
+
+for (const file of files) {
+  const path = join(OUTPUT, file);
+
+  if ((await stat(path)).size < MIN_SIZE) {
+    continue;
+  }
+
+  const content = await readFile(path);
+  const variants = {
+    br: await brotli(content, { params: { [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY } }),
+    gz: await gz(content, { level: constants.Z_BEST_COMPRESSION }),
+  };
+
+  for (const [extension, compressed] of Object.entries(variants)) {
+    // a variant that isn't smaller would only be sent instead of the original for nothing
+    if (compressed.length < content.length) {
+      await writeFile(`${path}.${extension}`, compressed);
+      written++;
+    }
+  }
+}
+
+console.log(`compressed ${files.length} files into ${written} variants`);